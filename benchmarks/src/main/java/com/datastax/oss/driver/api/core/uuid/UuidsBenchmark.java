@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.api.core.uuid;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of time-based UUID generation when all the available processors generate
+ * UUIDs concurrently.
+ *
+ * <p>{@link #singleCounter()} reproduces the previous implementation, where all threads competed
+ * for a single timestamp counter, for comparison.
+ *
+ * <p>To run it, launch {@code org.openjdk.jmh.Main UuidsBenchmark} with the classpath of the
+ * benchmarks module, as explained in its README (use {@code -t} to change the number of threads).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+public class UuidsBenchmark {
+
+  private static final int BATCH_SIZE = 100;
+
+  private final AtomicLong lastTimestamp = new AtomicLong();
+  private final long clockSeqAndNode = Uuids.timeBased().getLeastSignificantBits();
+
+  @Benchmark
+  public UUID timeBased() {
+    return Uuids.timeBased();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public List<UUID> timeBasedBatch() {
+    return Uuids.timeBased(BATCH_SIZE);
+  }
+
+  @Benchmark
+  public UUID singleCounter() {
+    return new UUID(Uuids.makeMsb(nextTimestamp()), clockSeqAndNode);
+  }
+
+  private long nextTimestamp() {
+    while (true) {
+      long now = Uuids.fromUnixTimestamp(System.currentTimeMillis());
+      long last = lastTimestamp.get();
+      if (now > last) {
+        if (lastTimestamp.compareAndSet(last, now)) {
+          return now;
+        }
+      } else {
+        long candidate = last + 1;
+        if (candidate / 10000 == last / 10000 && lastTimestamp.compareAndSet(last, candidate)) {
+          return candidate;
+        }
+      }
+    }
+  }
+}
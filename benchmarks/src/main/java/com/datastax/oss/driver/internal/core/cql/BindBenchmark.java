@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.cql;
+
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.detach.AttachmentPoint;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
+import com.datastax.oss.protocol.internal.response.result.ColumnSpec;
+import com.datastax.oss.protocol.internal.response.result.RawType;
+import com.datastax.oss.protocol.internal.util.Bytes;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of binding all the variables of a prepared statement one by one, depending on
+ * the number of variables.
+ *
+ * <p>To run it, launch {@code org.openjdk.jmh.Main BindBenchmark} with the classpath of the
+ * benchmarks module, as explained in its README.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BindBenchmark {
+
+  @Param({"1", "5", "10", "20", "50"})
+  public int columnCount;
+
+  private PreparedStatement preparedStatement;
+
+  @Setup
+  public void setup() {
+    ImmutableList.Builder<ColumnDefinition> definitions = ImmutableList.builder();
+    for (int i = 0; i < columnCount; i++) {
+      definitions.add(
+          new DefaultColumnDefinition(
+              new ColumnSpec(
+                  "ks", "foo", "c" + i, i, RawType.PRIMITIVES.get(ProtocolConstants.DataType.INT)),
+              AttachmentPoint.NONE));
+    }
+    preparedStatement =
+        new DefaultPreparedStatement(
+            Bytes.fromHexString("0xcafebabe"),
+            "mock query",
+            DefaultColumnDefinitions.valueOf(definitions.build()),
+            Collections.emptyList(),
+            null,
+            DefaultColumnDefinitions.valueOf(ImmutableList.of()),
+            null,
+            Collections.emptyMap(),
+            null,
+            null,
+            null,
+            null,
+            null,
+            Collections.emptyMap(),
+            null,
+            null,
+            null,
+            Integer.MIN_VALUE,
+            null,
+            null,
+            false,
+            CodecRegistry.DEFAULT,
+            ProtocolVersion.DEFAULT);
+  }
+
+  /** Chains the setters of the immutable statement: every call copies all the values. */
+  @Benchmark
+  public BoundStatement immutableSetters() {
+    BoundStatement statement = preparedStatement.bind();
+    for (int i = 0; i < columnCount; i++) {
+      statement = statement.setInt(i, i);
+    }
+    return statement;
+  }
+
+  @Benchmark
+  public BoundStatement builder() {
+    BoundStatementBuilder builder = preparedStatement.boundStatementBuilder();
+    for (int i = 0; i < columnCount; i++) {
+      builder.setInt(i, i);
+    }
+    return builder.build();
+  }
+
+  @Benchmark
+  public BoundStatement consumer() {
+    return preparedStatement.bind(
+        builder -> {
+          for (int i = 0; i < columnCount; i++) {
+            builder.setInt(i, i);
+          }
+        });
+  }
+
+  /** For reference: positional values, encoded in a single pass. */
+  @Benchmark
+  public BoundStatement varargs() {
+    Object[] values = new Object[columnCount];
+    for (int i = 0; i < columnCount; i++) {
+      values[i] = i;
+    }
+    return preparedStatement.bind(values);
+  }
+}
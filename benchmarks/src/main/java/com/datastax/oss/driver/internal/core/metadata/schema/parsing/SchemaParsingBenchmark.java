@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.metadata.schema.parsing;
+
+import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.driver.internal.core.metadata.schema.queries.SchemaRows;
+import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefresh;
+import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to parse a {@linkplain SyntheticSchema synthetic schema} of 10,000 tables,
+ * sequentially on the calling thread ({@code threads = 0}) or in parallel on a pool of the given
+ * size.
+ *
+ * <p>To run it, launch {@code org.openjdk.jmh.Main SchemaParsingBenchmark} with the classpath of
+ * the benchmarks module, as explained in its README.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SchemaParsingBenchmark {
+
+  @Param({"0", "1", "2", "4", "8"})
+  public int threads;
+
+  private InternalDriverContext context;
+  private SchemaRows rows;
+  private ExecutorService executor;
+
+  @Setup
+  public void setup() {
+    context = SyntheticSchema.context();
+    rows = SyntheticSchema.rows(10_000, SyntheticSchema.node());
+    executor = (threads == 0) ? null : Executors.newFixedThreadPool(threads);
+  }
+
+  @TearDown
+  public void teardown() {
+    if (executor != null) {
+      executor.shutdown();
+    }
+  }
+
+  @Benchmark
+  public SchemaRefresh parse() {
+    CassandraSchemaParser parser = new CassandraSchemaParser(rows, context);
+    return (executor == null)
+        ? parser.parse()
+        : CompletableFutures.getUninterruptibly(parser.parseAsync(executor));
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.metadata.token;
+
+import com.datastax.oss.driver.api.core.metadata.token.Token;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of {@link Murmur3TokenFactory#hash(ByteBuffer)} depending on the size of the
+ * partition key.
+ *
+ * <p>To run it, launch {@code org.openjdk.jmh.Main Murmur3Benchmark} with the classpath of the
+ * benchmarks module, as explained in its README.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Murmur3Benchmark {
+
+  @Param({"8", "16", "24", "32", "64", "128", "256"})
+  public int keySize;
+
+  @Param({"heap", "direct"})
+  public String bufferType;
+
+  private final Murmur3TokenFactory tokenFactory = new Murmur3TokenFactory();
+  private ByteBuffer key;
+
+  @Setup
+  public void setup() {
+    byte[] bytes = new byte[keySize];
+    new Random(0).nextBytes(bytes);
+    key =
+        bufferType.equals("direct")
+            ? ByteBuffer.allocateDirect(keySize)
+            : ByteBuffer.allocate(keySize);
+    key.put(bytes);
+    key.flip();
+  }
+
+  @Benchmark
+  public Token hash() {
+    return tokenFactory.hash(key);
+  }
+}
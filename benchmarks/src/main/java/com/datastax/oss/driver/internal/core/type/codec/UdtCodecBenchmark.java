@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.data.UdtValue;
+import com.datastax.oss.driver.api.core.detach.AttachmentPoint;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.UserDefinedType;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.internal.core.type.UserDefinedTypeBuilder;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of decoding UDT values, depending on the number of fields and how many of them
+ * are read, for a single value and for a list of values.
+ *
+ * <p>The {@code eager*} benchmarks replicate the previous implementation of {@link UdtCodec}, which
+ * sliced every field as soon as the value was decoded.
+ *
+ * <p>To run it, launch {@code org.openjdk.jmh.Main UdtCodecBenchmark} with the classpath of the
+ * benchmarks module, as explained in its README.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UdtCodecBenchmark {
+
+  @Param({"5", "40"})
+  public int fieldCount;
+
+  @Param({"100"})
+  public int listSize;
+
+  private UserDefinedType userType;
+  private TypeCodec<UdtValue> udtCodec;
+  private TypeCodec<List<UdtValue>> listCodec;
+  private ByteBuffer encodedUdt;
+  private ByteBuffer encodedList;
+
+  @Setup
+  public void setup() {
+    UserDefinedTypeBuilder builder =
+        new UserDefinedTypeBuilder(
+            CqlIdentifier.fromInternal("ks"), CqlIdentifier.fromInternal("wide"));
+    for (int i = 0; i < fieldCount; i++) {
+      // Alternate fixed-length and variable-length fields
+      builder.withField(
+          CqlIdentifier.fromInternal("f" + i), (i % 2 == 0) ? DataTypes.INT : DataTypes.TEXT);
+    }
+    userType = builder.build();
+    userType.attach(AttachmentPoint.NONE);
+
+    UdtValue value = userType.newValue();
+    for (int i = 0; i < fieldCount; i++) {
+      value = (i % 2 == 0) ? value.setInt(i, i) : value.setString(i, "value of field " + i);
+    }
+    udtCodec = TypeCodecs.udtOf(userType);
+    listCodec = TypeCodecs.listOf(udtCodec);
+    encodedUdt = udtCodec.encode(value, ProtocolVersion.DEFAULT);
+
+    List<UdtValue> values = new ArrayList<>(listSize);
+    for (int i = 0; i < listSize; i++) {
+      values.add(value);
+    }
+    encodedList = listCodec.encode(values, ProtocolVersion.DEFAULT);
+  }
+
+  @Benchmark
+  public int readOneField() {
+    return udtCodec.decode(encodedUdt, ProtocolVersion.DEFAULT).getInt(0);
+  }
+
+  @Benchmark
+  public int eagerReadOneField() {
+    return eagerDecode(encodedUdt).getInt(0);
+  }
+
+  @Benchmark
+  public int readAllFields() {
+    return readAll(udtCodec.decode(encodedUdt, ProtocolVersion.DEFAULT));
+  }
+
+  @Benchmark
+  public int eagerReadAllFields() {
+    return readAll(eagerDecode(encodedUdt));
+  }
+
+  /** Reads one field of each element in a {@code list<udt>}. */
+  @Benchmark
+  public int readOneFieldInList() {
+    int sum = 0;
+    for (UdtValue element : listCodec.decode(encodedList, ProtocolVersion.DEFAULT)) {
+      sum += element.getInt(0);
+    }
+    return sum;
+  }
+
+  private int readAll(UdtValue value) {
+    int result = 0;
+    for (int i = 0; i < fieldCount; i++) {
+      result += (i % 2 == 0) ? value.getInt(i) : value.getString(i).length();
+    }
+    return result;
+  }
+
+  private UdtValue eagerDecode(ByteBuffer bytes) {
+    ByteBuffer input = bytes.duplicate();
+    UdtValue value = userType.newValue();
+    int i = 0;
+    while (input.hasRemaining()) {
+      int elementSize = input.getInt();
+      ByteBuffer element;
+      if (elementSize < 0) {
+        element = null;
+      } else {
+        element = input.slice();
+        element.limit(elementSize);
+        input.position(input.position() + elementSize);
+      }
+      value = value.setBytesUnsafe(i, element);
+      i += 1;
+    }
+    return value;
+  }
+}
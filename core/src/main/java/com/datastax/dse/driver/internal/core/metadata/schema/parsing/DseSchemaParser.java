@@ -34,17 +34,24 @@ import com.datastax.oss.driver.api.core.type.UserDefinedType;
 import com.datastax.oss.driver.internal.core.adminrequest.AdminRow;
 import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
 import com.datastax.oss.driver.internal.core.metadata.schema.parsing.CassandraSchemaParser;
+import com.datastax.oss.driver.internal.core.metadata.schema.parsing.SchemaInterner;
 import com.datastax.oss.driver.internal.core.metadata.schema.parsing.SchemaParser;
 import com.datastax.oss.driver.internal.core.metadata.schema.parsing.SimpleJsonParser;
 import com.datastax.oss.driver.internal.core.metadata.schema.parsing.UserDefinedTypeParser;
 import com.datastax.oss.driver.internal.core.metadata.schema.queries.SchemaRows;
 import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefresh;
 import com.datastax.oss.driver.internal.core.util.NanoTime;
+import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
 import com.datastax.oss.driver.shaded.guava.common.base.MoreObjects;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
 import com.datastax.oss.driver.shaded.guava.common.collect.Multimap;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import net.jcip.annotations.ThreadSafe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -61,6 +68,7 @@ public class DseSchemaParser implements SchemaParser {
   private static final Logger LOG = LoggerFactory.getLogger(CassandraSchemaParser.class);
 
   private final SchemaRows rows;
+  private final SchemaInterner interner;
   private final UserDefinedTypeParser userDefinedTypeParser;
   private final DseTableParser tableParser;
   private final DseViewParser viewParser;
@@ -70,12 +78,18 @@ public class DseSchemaParser implements SchemaParser {
   private final long startTimeNs = System.nanoTime();
 
   public DseSchemaParser(SchemaRows rows, InternalDriverContext context) {
+    this(rows, context, new SchemaInterner());
+  }
+
+  public DseSchemaParser(
+      SchemaRows rows, InternalDriverContext context, SchemaInterner interner) {
     this.rows = rows;
+    this.interner = interner;
     this.logPrefix = context.getSessionName();
 
     this.userDefinedTypeParser = new UserDefinedTypeParser(rows.dataTypeParser(), context);
-    this.tableParser = new DseTableParser(rows, context);
-    this.viewParser = new DseViewParser(rows, context);
+    this.tableParser = new DseTableParser(rows, context, interner);
+    this.viewParser = new DseViewParser(rows, context, interner);
     this.functionParser = new DseFunctionParser(rows.dataTypeParser(), context);
     this.aggregateParser = new DseAggregateParser(rows.dataTypeParser(), context);
   }
@@ -91,7 +105,35 @@ public class DseSchemaParser implements SchemaParser {
       DseKeyspaceMetadata keyspace = parseVirtualKeyspace(row);
       keyspacesBuilder.put(keyspace.getName(), keyspace);
     }
-    SchemaRefresh refresh = new SchemaRefresh(keyspacesBuilder.build());
+    return newRefresh(keyspacesBuilder.build());
+  }
+
+  @Override
+  public CompletionStage<SchemaRefresh> parseAsync(Executor executor) {
+    // Keyspaces are independent from each other, parse each one in a separate task
+    List<CompletionStage<DseKeyspaceMetadata>> keyspaceStages = new ArrayList<>();
+    for (AdminRow row : rows.keyspaces()) {
+      keyspaceStages.add(CompletableFuture.supplyAsync(() -> parseKeyspace(row), executor));
+    }
+    for (AdminRow row : rows.virtualKeyspaces()) {
+      keyspaceStages.add(CompletableFuture.supplyAsync(() -> parseVirtualKeyspace(row), executor));
+    }
+    return CompletableFutures.allSuccessful(keyspaceStages)
+        .thenApply(
+            v -> {
+              // Assemble in the original order
+              ImmutableMap.Builder<CqlIdentifier, KeyspaceMetadata> keyspacesBuilder =
+                  ImmutableMap.builder();
+              for (CompletionStage<DseKeyspaceMetadata> stage : keyspaceStages) {
+                DseKeyspaceMetadata keyspace = CompletableFutures.getCompleted(stage);
+                keyspacesBuilder.put(keyspace.getName(), keyspace);
+              }
+              return newRefresh(keyspacesBuilder.build());
+            });
+  }
+
+  private SchemaRefresh newRefresh(Map<CqlIdentifier, KeyspaceMetadata> keyspaces) {
+    SchemaRefresh refresh = new SchemaRefresh(keyspaces, rows.scope());
     LOG.debug("[{}] Schema parsing took {}", logPrefix, NanoTime.formatTimeSince(startTimeNs));
     return refresh;
   }
@@ -114,7 +156,7 @@ public class DseSchemaParser implements SchemaParser {
     // )
     //
     // DSE >= 6.8: same as Cassandra 3 + graph_engine text
-    CqlIdentifier keyspaceId = CqlIdentifier.fromInternal(keyspaceRow.getString("keyspace_name"));
+    CqlIdentifier keyspaceId = interner.identifier(keyspaceRow.getString("keyspace_name"));
     boolean durableWrites =
         MoreObjects.firstNonNull(keyspaceRow.getBoolean("durable_writes"), false);
     String graphEngine = keyspaceRow.getString("graph_engine");
@@ -125,12 +167,13 @@ public class DseSchemaParser implements SchemaParser {
       Map<String, String> strategyOptions =
           SimpleJsonParser.parseStringMap(keyspaceRow.getString("strategy_options"));
       replicationOptions =
-          ImmutableMap.<String, String>builder()
-              .putAll(strategyOptions)
-              .put("class", strategyClass)
-              .build();
+          interner.intern(
+              ImmutableMap.<String, String>builder()
+                  .putAll(strategyOptions)
+                  .put("class", strategyClass)
+                  .build());
     } else {
-      replicationOptions = keyspaceRow.getMapOfStringToString("replication");
+      replicationOptions = interner.internMap(keyspaceRow.getMapOfStringToString("replication"));
     }
 
     Map<CqlIdentifier, UserDefinedType> types = parseTypes(keyspaceId);
@@ -207,7 +250,7 @@ public class DseSchemaParser implements SchemaParser {
 
   private DseKeyspaceMetadata parseVirtualKeyspace(AdminRow keyspaceRow) {
 
-    CqlIdentifier keyspaceId = CqlIdentifier.fromInternal(keyspaceRow.getString("keyspace_name"));
+    CqlIdentifier keyspaceId = interner.identifier(keyspaceRow.getString("keyspace_name"));
     boolean durableWrites =
         MoreObjects.firstNonNull(keyspaceRow.getBoolean("durable_writes"), false);
 
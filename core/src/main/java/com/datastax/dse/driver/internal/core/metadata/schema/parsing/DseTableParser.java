@@ -43,6 +43,7 @@ import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
 import com.datastax.oss.driver.internal.core.metadata.schema.parsing.DataTypeClassNameCompositeParser;
 import com.datastax.oss.driver.internal.core.metadata.schema.parsing.RawColumn;
 import com.datastax.oss.driver.internal.core.metadata.schema.parsing.RelationParser;
+import com.datastax.oss.driver.internal.core.metadata.schema.parsing.SchemaInterner;
 import com.datastax.oss.driver.internal.core.metadata.schema.parsing.TableParser;
 import com.datastax.oss.driver.internal.core.metadata.schema.queries.SchemaRows;
 import com.datastax.oss.driver.internal.core.util.Loggers;
@@ -69,6 +70,10 @@ public class DseTableParser extends RelationParser {
     super(rows, context);
   }
 
+  public DseTableParser(SchemaRows rows, InternalDriverContext context, SchemaInterner interner) {
+    super(rows, context, interner);
+  }
+
   public DseTableMetadata parseTable(
       AdminRow tableRow,
       CqlIdentifier keyspaceId,
@@ -135,15 +140,14 @@ public class DseTableParser extends RelationParser {
     //     PRIMARY KEY (keyspace_name, table_name)
     // ) WITH CLUSTERING ORDER BY (table_name ASC)
     CqlIdentifier tableId =
-        CqlIdentifier.fromInternal(
+        interner.identifier(
             tableRow.getString(
                 tableRow.contains("table_name") ? "table_name" : "columnfamily_name"));
 
     UUID uuid = tableRow.contains("id") ? tableRow.getUuid("id") : tableRow.getUuid("cf_id");
 
     List<RawColumn> rawColumns =
-        RawColumn.toRawColumns(
-            rows.columns().getOrDefault(keyspaceId, ImmutableMultimap.of()).get(tableId));
+        toRawColumns(rows.columns().getOrDefault(keyspaceId, ImmutableMultimap.of()).get(tableId));
     if (rawColumns.isEmpty()) {
       LOG.warn(
           "[{}] Processing TABLE refresh for {}.{} but found no matching rows, skipping",
@@ -185,7 +189,7 @@ public class DseTableParser extends RelationParser {
     ImmutableMap.Builder<CqlIdentifier, IndexMetadata> indexesBuilder = ImmutableMap.builder();
 
     for (RawColumn raw : rawColumns) {
-      DataType dataType = rows.dataTypeParser().parse(keyspaceId, raw.dataType, userTypes, context);
+      DataType dataType = parseColumnType(keyspaceId, raw.dataType, userTypes);
       DseColumnMetadata column =
           new DefaultDseColumnMetadata(
               keyspaceId, tableId, raw.name, dataType, raw.kind.equals(RawColumn.KIND_STATIC));
@@ -247,10 +251,10 @@ public class DseTableParser extends RelationParser {
 
   DseTableMetadata parseVirtualTable(AdminRow tableRow, CqlIdentifier keyspaceId) {
 
-    CqlIdentifier tableId = CqlIdentifier.fromInternal(tableRow.getString("table_name"));
+    CqlIdentifier tableId = interner.identifier(tableRow.getString("table_name"));
 
     List<RawColumn> rawColumns =
-        RawColumn.toRawColumns(
+        toRawColumns(
             rows.virtualColumns().getOrDefault(keyspaceId, ImmutableMultimap.of()).get(tableId));
     if (rawColumns.isEmpty()) {
       LOG.warn(
@@ -310,7 +314,7 @@ public class DseTableParser extends RelationParser {
     return new DefaultDseIndexMetadata(
         column.getKeyspace(),
         column.getParent(),
-        CqlIdentifier.fromInternal(raw.indexName),
+        interner.identifier(raw.indexName),
         IndexKind.valueOf(raw.indexType),
         buildLegacyIndexTarget(column, raw.indexOptions),
         raw.indexOptions);
@@ -345,9 +349,9 @@ public class DseTableParser extends RelationParser {
   // ) WITH CLUSTERING ORDER BY (table_name ASC, index_name ASC)
   private DseIndexMetadata buildModernIndex(
       CqlIdentifier keyspaceId, CqlIdentifier tableId, AdminRow row) {
-    CqlIdentifier name = CqlIdentifier.fromInternal(row.getString("index_name"));
+    CqlIdentifier name = interner.identifier(row.getString("index_name"));
     IndexKind kind = IndexKind.valueOf(row.getString("kind"));
-    Map<String, String> options = row.getMapOfStringToString("options");
+    Map<String, String> options = interner.internMap(row.getMapOfStringToString("options"));
     String target = options.get("target");
     return new DefaultDseIndexMetadata(keyspaceId, tableId, name, kind, target, options);
   }
@@ -383,9 +387,9 @@ public class DseTableParser extends RelationParser {
 
     AdminRow row = tableEdges.iterator().next();
 
-    CqlIdentifier fromTable = CqlIdentifier.fromInternal(row.getString("from_table"));
+    CqlIdentifier fromTable = interner.identifier(row.getString("from_table"));
 
-    CqlIdentifier toTable = CqlIdentifier.fromInternal(row.getString("to_table"));
+    CqlIdentifier toTable = interner.identifier(row.getString("to_table"));
 
     return new DefaultDseEdgeMetadata(
         getLabel(row),
@@ -401,7 +405,7 @@ public class DseTableParser extends RelationParser {
 
   private CqlIdentifier getLabel(AdminRow row) {
     String rawLabel = row.getString("label_name");
-    return (rawLabel == null || rawLabel.isEmpty()) ? null : CqlIdentifier.fromInternal(rawLabel);
+    return (rawLabel == null || rawLabel.isEmpty()) ? null : interner.identifier(rawLabel);
   }
 
   // system_schema.edges only contains vertex table names. We also expose the labels in our metadata
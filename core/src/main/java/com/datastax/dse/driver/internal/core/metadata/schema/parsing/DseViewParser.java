@@ -30,6 +30,7 @@ import com.datastax.oss.driver.internal.core.adminrequest.AdminRow;
 import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
 import com.datastax.oss.driver.internal.core.metadata.schema.parsing.RawColumn;
 import com.datastax.oss.driver.internal.core.metadata.schema.parsing.RelationParser;
+import com.datastax.oss.driver.internal.core.metadata.schema.parsing.SchemaInterner;
 import com.datastax.oss.driver.internal.core.metadata.schema.queries.SchemaRows;
 import com.datastax.oss.driver.internal.core.util.Loggers;
 import com.datastax.oss.driver.shaded.guava.common.base.MoreObjects;
@@ -53,6 +54,10 @@ public class DseViewParser extends RelationParser {
     super(rows, context);
   }
 
+  public DseViewParser(SchemaRows rows, InternalDriverContext context, SchemaInterner interner) {
+    super(rows, context, interner);
+  }
+
   public DseViewMetadata parseView(
       AdminRow viewRow, CqlIdentifier keyspaceId, Map<CqlIdentifier, UserDefinedType> userTypes) {
     // Cassandra 3.0 (no views in earlier versions):
@@ -82,17 +87,16 @@ public class DseViewParser extends RelationParser {
     //     where_clause text,
     //     PRIMARY KEY (keyspace_name, view_name)
     // ) WITH CLUSTERING ORDER BY (view_name ASC)
-    CqlIdentifier viewId = CqlIdentifier.fromInternal(viewRow.getString("view_name"));
+    CqlIdentifier viewId = interner.identifier(viewRow.getString("view_name"));
 
     UUID uuid = viewRow.getUuid("id");
-    CqlIdentifier baseTableId = CqlIdentifier.fromInternal(viewRow.getString("base_table_name"));
+    CqlIdentifier baseTableId = interner.identifier(viewRow.getString("base_table_name"));
     boolean includesAllColumns =
         MoreObjects.firstNonNull(viewRow.getBoolean("include_all_columns"), false);
     String whereClause = viewRow.getString("where_clause");
 
     List<RawColumn> rawColumns =
-        RawColumn.toRawColumns(
-            rows.columns().getOrDefault(keyspaceId, ImmutableMultimap.of()).get(viewId));
+        toRawColumns(rows.columns().getOrDefault(keyspaceId, ImmutableMultimap.of()).get(viewId));
     if (rawColumns.isEmpty()) {
       LOG.warn(
           "[{}] Processing VIEW refresh for {}.{} but found no matching rows, skipping",
@@ -109,7 +113,7 @@ public class DseViewParser extends RelationParser {
         ImmutableMap.builder();
 
     for (RawColumn raw : rawColumns) {
-      DataType dataType = rows.dataTypeParser().parse(keyspaceId, raw.dataType, userTypes, context);
+      DataType dataType = parseColumnType(keyspaceId, raw.dataType, userTypes);
       DseColumnMetadata column =
           new DefaultDseColumnMetadata(
               keyspaceId, viewId, raw.name, dataType, raw.kind.equals(RawColumn.KIND_STATIC));
@@ -23,9 +23,27 @@ import com.datastax.dse.driver.api.core.cql.reactive.ReactiveSession;
 import com.datastax.dse.driver.api.core.graph.GraphSession;
 import com.datastax.dse.driver.api.core.graph.reactive.ReactiveGraphSession;
 import com.datastax.oss.driver.api.core.cql.AsyncCqlSession;
+import com.datastax.oss.driver.api.core.cql.BulkWriteOptions;
+import com.datastax.oss.driver.api.core.cql.BulkWriteProgress;
+import com.datastax.oss.driver.api.core.cql.BulkWriter;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
 import com.datastax.oss.driver.api.core.cql.SyncCqlSession;
+import com.datastax.oss.driver.api.core.cql.TableScan;
+import com.datastax.oss.driver.api.core.cql.TableScanHandler;
 import com.datastax.oss.driver.api.core.session.Session;
+import com.datastax.oss.driver.api.core.session.WarmUpSpec;
+import com.datastax.oss.driver.internal.core.cql.DefaultBulkWriter;
+import com.datastax.oss.driver.internal.core.cql.TableScanIterator;
+import com.datastax.oss.driver.internal.core.cql.TableScanPublisher;
+import com.datastax.oss.driver.internal.core.cql.TableScanner;
+import com.datastax.oss.driver.internal.core.session.SessionWarmUp;
+import com.datastax.oss.driver.internal.core.util.concurrent.BlockingOperation;
+import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
+import org.reactivestreams.Publisher;
 
 /**
  * The default session type built by the driver.
@@ -67,4 +85,112 @@ public interface CqlSession
   static CqlSessionBuilder builder() {
     return new CqlSessionBuilder();
   }
+
+  /**
+   * Prepares the session to take production traffic, in order to avoid slow requests right after
+   * startup.
+   *
+   * <p>Depending on the spec, this waits for the pools of LOCAL nodes to be fully connected,
+   * prepares a list of statements and resolves their codecs, and finally executes synthetic
+   * requests to exercise the driver's request path (and warm up the JIT). Progress is reported by
+   * the session metrics {@code warm-up.prepared} and {@code warm-up.requests}, if they are enabled.
+   *
+   * @return a stage that completes when the warm-up is done. It fails if a statement can't be
+   *     prepared, or if the pools are not connected in time; errors in synthetic requests are
+   *     ignored. It also fails with an {@link UnsupportedOperationException} if this session was
+   *     not built by the driver and its context doesn't expose the driver internals.
+   */
+  @NonNull
+  default CompletionStage<Void> warmUpAsync(@NonNull WarmUpSpec spec) {
+    return SessionWarmUp.warmUp(this, spec);
+  }
+
+  /**
+   * Convenience method to call {@link #warmUpAsync(WarmUpSpec)} and block until it completes.
+   *
+   * <p>This must not be called on a driver thread.
+   */
+  default void warmUp(@NonNull WarmUpSpec spec) {
+    BlockingOperation.checkNotDriverThread();
+    CompletableFutures.getUninterruptibly(warmUpAsync(spec));
+  }
+
+  /**
+   * Reads all the rows of a table, by querying multiple token ranges in parallel.
+   *
+   * <p>This is the most flexible way to consume a scan: each page of each split is passed to the
+   * handler, which controls when the next page of the split gets fetched.
+   *
+   * @return a stage that completes when all the splits have been handled. It fails if the handler
+   *     fails, or if a split can't be read from any of its replicas. Cancelling it interrupts the
+   *     scan.
+   * @see TableScan
+   */
+  @NonNull
+  default CompletionStage<Void> scanAsync(
+      @NonNull TableScan scan, @NonNull TableScanHandler handler) {
+    return new TableScanner(this, scan, handler).run();
+  }
+
+  /**
+   * Reads all the rows of a table, by querying multiple token ranges in parallel, and returns them
+   * as a stream.
+   *
+   * <p>Rows from different splits are interleaved, in no particular order. Fetching stops while the
+   * consumer is not keeping up. The stream should be closed if it is not consumed entirely, in
+   * order to interrupt the scan.
+   *
+   * <p>Consuming the stream blocks, it must not be done on a driver thread.
+   *
+   * @see TableScan
+   */
+  @NonNull
+  default Stream<Row> scan(@NonNull TableScan scan) {
+    BlockingOperation.checkNotDriverThread();
+    return TableScanIterator.stream(this, scan);
+  }
+
+  /**
+   * Reads all the rows of a table, by querying multiple token ranges in parallel, and returns them
+   * as a reactive publisher.
+   *
+   * <p>The scan starts when the publisher is subscribed to; it only supports one subscriber. Rows
+   * from different splits are interleaved, in no particular order. Fetching stops while there is no
+   * demand from the subscriber.
+   *
+   * @see TableScan
+   */
+  @NonNull
+  default Publisher<Row> scanReactive(@NonNull TableScan scan) {
+    return new TableScanPublisher(this, scan);
+  }
+
+  /**
+   * Creates a writer to load a large number of statements, with bounded concurrency per replica.
+   *
+   * @see BulkWriteOptions
+   */
+  @NonNull
+  default BulkWriter bulkWriter(@NonNull BulkWriteOptions options) {
+    return new DefaultBulkWriter(this, options);
+  }
+
+  /**
+   * Writes all the statements of a stream with a {@linkplain #bulkWriter(BulkWriteOptions) bulk
+   * writer}, and blocks until they are all written.
+   *
+   * <p>The stream is consumed on the calling thread, and only as fast as the cluster can absorb the
+   * writes. This must not be called on a driver thread.
+   *
+   * @return the final progress.
+   * @throws RuntimeException if the writer was aborted because there were too many failures (see
+   *     {@link BulkWriteOptions#getMaxFailures()}), or if the stream failed. The writes that were
+   *     already in flight are done when this method returns.
+   */
+  @NonNull
+  default BulkWriteProgress bulkWrite(
+      @NonNull Stream<? extends Statement<?>> statements, @NonNull BulkWriteOptions options) {
+    BlockingOperation.checkNotDriverThread();
+    return DefaultBulkWriter.writeAll(bulkWriter(options), statements);
+  }
 }
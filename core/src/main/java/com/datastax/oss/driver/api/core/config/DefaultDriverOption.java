@@ -644,7 +644,7 @@ public enum DefaultDriverOption implements DriverOption {
    */
   CONTROL_CONNECTION_TIMEOUT("advanced.control-connection.timeout"),
   /**
-   * The interval between each schema agreement check attempt.
+   * The maximum interval between each schema agreement check attempt.
    *
    * <p>Value-type: {@link java.time.Duration Duration}
    */
@@ -976,6 +976,118 @@ public enum DefaultDriverOption implements DriverOption {
    * <p>Value-type: boolean
    */
   METRICS_GENERATE_AGGREGABLE_HISTOGRAMS("advanced.metrics.histograms.generate-aggregable"),
+  /**
+   * The file where the driver persists the schema metadata, to speed up the startup of subsequent
+   * sessions.
+   *
+   * <p>Value-type: {@link String}
+   */
+  METADATA_SCHEMA_SNAPSHOT_FILE("advanced.metadata.schema.snapshot.file"),
+  /**
+   * The maximum number of threads used to parse the results of schema queries.
+   *
+   * <p>Value-type: int
+   */
+  METADATA_SCHEMA_PARSING_THREADS("advanced.metadata.schema.parsing-threads"),
+  /**
+   * Whether the driver loads the contents of keyspaces on demand, instead of fetching the whole
+   * schema upfront.
+   *
+   * <p>Value-type: boolean
+   */
+  METADATA_SCHEMA_LAZY_ENABLED("advanced.metadata.schema.lazy.enabled"),
+  /**
+   * The maximum number of keyspaces that are kept loaded, when keyspaces are loaded on demand. This
+   * limit is approximate, keyspaces may be unloaded slightly before it is reached.
+   *
+   * <p>Value-type: int
+   */
+  METADATA_SCHEMA_LAZY_MAX_KEYSPACES("advanced.metadata.schema.lazy.max-keyspaces"),
+  /**
+   * The interval between the first and second schema agreement check attempts.
+   *
+   * <p>Value-type: {@link java.time.Duration Duration}
+   */
+  CONTROL_CONNECTION_AGREEMENT_INITIAL_INTERVAL(
+      "advanced.control-connection.schema-agreement.initial-interval"),
+  /**
+   * How long the driver waits to propagate a node state change. A duration of 0 disables
+   * coalescing.
+   *
+   * <p>Value-type: {@link java.time.Duration Duration}
+   */
+  METADATA_NODE_STATE_WINDOW("advanced.metadata.node-state-event-debouncer.window"),
+  /**
+   * The maximum number of node state changes that can accumulate.
+   *
+   * <p>Value-type: int
+   */
+  METADATA_NODE_STATE_MAX_EVENTS("advanced.metadata.node-state-event-debouncer.max-events"),
+  /**
+   * Whether the pools of LOCAL nodes open their connections lazily, the first time a query plan
+   * selects the node.
+   *
+   * <p>Value-type: boolean
+   */
+  CONNECTION_POOL_LOCAL_LAZY("advanced.connection.pool.local.lazy"),
+  /**
+   * Whether the pools of REMOTE nodes open their connections lazily, the first time a query plan
+   * selects the node.
+   *
+   * <p>Value-type: boolean
+   */
+  CONNECTION_POOL_REMOTE_LAZY("advanced.connection.pool.remote.lazy"),
+  /**
+   * How long a lazy pool stays unused before it closes its connections.
+   *
+   * <p>Value-type: {@link java.time.Duration Duration}
+   */
+  CONNECTION_POOL_IDLE_TIMEOUT("advanced.connection.pool.idle-timeout"),
+  /**
+   * The maximum number of pools that the session initializes concurrently at startup.
+   *
+   * <p>Value-type: int
+   */
+  CONNECTION_POOL_INIT_MAX_CONCURRENT("advanced.connection.pool.init.max-concurrent"),
+  /**
+   * The fraction of LOCAL pools that must be connected before the session initialization completes,
+   * between 0 (exclusive) and 1 (inclusive).
+   *
+   * <p>Value-type: double
+   */
+  CONNECTION_POOL_INIT_READY_FRACTION("advanced.connection.pool.init.ready-fraction"),
+  /**
+   * The file where the session persists its prepared statements, in order to prepare them again at
+   * startup.
+   *
+   * <p>Value-type: {@link String}
+   */
+  PREPARED_REGISTRY_PATH("advanced.prepared-statements.registry.path"),
+  /**
+   * The maximum number of concurrent requests when preparing the statements of the registry at
+   * startup.
+   *
+   * <p>Value-type: int
+   */
+  PREPARED_REGISTRY_MAX_PARALLELISM("advanced.prepared-statements.registry.max-parallelism"),
+  /**
+   * Whether idempotent writes to the same partition are grouped into unlogged batches.
+   *
+   * <p>Value-type: boolean
+   */
+  REQUEST_WRITE_BATCHING_ENABLED("advanced.request.write-batching.enabled"),
+  /**
+   * The maximum number of statements in a batch built by write batching.
+   *
+   * <p>Value-type: int
+   */
+  REQUEST_WRITE_BATCHING_MAX_STATEMENTS("advanced.request.write-batching.max-statements"),
+  /**
+   * How long write batching waits for other writes to the same partition.
+   *
+   * <p>Value-type: {@link java.time.Duration Duration}
+   */
+  REQUEST_WRITE_BATCHING_WINDOW("advanced.request.write-batching.window"),
   ;
 
   private final String path;
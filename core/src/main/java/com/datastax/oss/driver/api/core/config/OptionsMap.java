@@ -268,7 +268,12 @@ public class OptionsMap implements Serializable {
     map.put(TypedDriverOption.CONNECTION_INIT_QUERY_TIMEOUT, initQueryTimeout);
     map.put(TypedDriverOption.CONNECTION_SET_KEYSPACE_TIMEOUT, initQueryTimeout);
     map.put(TypedDriverOption.CONNECTION_POOL_LOCAL_SIZE, 1);
+    map.put(TypedDriverOption.CONNECTION_POOL_LOCAL_LAZY, false);
     map.put(TypedDriverOption.CONNECTION_POOL_REMOTE_SIZE, 1);
+    map.put(TypedDriverOption.CONNECTION_POOL_REMOTE_LAZY, false);
+    map.put(TypedDriverOption.CONNECTION_POOL_IDLE_TIMEOUT, Duration.ofMinutes(5));
+    map.put(TypedDriverOption.CONNECTION_POOL_INIT_MAX_CONCURRENT, 0);
+    map.put(TypedDriverOption.CONNECTION_POOL_INIT_READY_FRACTION, 1.0);
     map.put(TypedDriverOption.CONNECTION_MAX_REQUESTS, 1024);
     map.put(TypedDriverOption.CONNECTION_MAX_ORPHAN_REQUESTS, 256);
     map.put(TypedDriverOption.CONNECTION_WARN_INIT_ERROR, true);
@@ -291,6 +296,9 @@ public class OptionsMap implements Serializable {
     map.put(TypedDriverOption.REQUEST_TRACE_INTERVAL, Duration.ofMillis(3));
     map.put(TypedDriverOption.REQUEST_TRACE_CONSISTENCY, "ONE");
     map.put(TypedDriverOption.REQUEST_LOG_WARNINGS, true);
+    map.put(TypedDriverOption.REQUEST_WRITE_BATCHING_ENABLED, false);
+    map.put(TypedDriverOption.REQUEST_WRITE_BATCHING_MAX_STATEMENTS, 16);
+    map.put(TypedDriverOption.REQUEST_WRITE_BATCHING_WINDOW, Duration.ofMillis(2));
     map.put(TypedDriverOption.GRAPH_PAGING_ENABLED, "AUTO");
     map.put(TypedDriverOption.GRAPH_CONTINUOUS_PAGING_PAGE_SIZE, requestPageSize);
     map.put(TypedDriverOption.GRAPH_CONTINUOUS_PAGING_MAX_PAGES, continuousMaxPages);
@@ -347,6 +355,8 @@ public class OptionsMap implements Serializable {
     map.put(TypedDriverOption.HEARTBEAT_TIMEOUT, initQueryTimeout);
     map.put(TypedDriverOption.METADATA_TOPOLOGY_WINDOW, Duration.ofSeconds(1));
     map.put(TypedDriverOption.METADATA_TOPOLOGY_MAX_EVENTS, 20);
+    map.put(TypedDriverOption.METADATA_NODE_STATE_WINDOW, Duration.ZERO);
+    map.put(TypedDriverOption.METADATA_NODE_STATE_MAX_EVENTS, 100);
     map.put(TypedDriverOption.METADATA_SCHEMA_ENABLED, true);
     map.put(
         TypedDriverOption.METADATA_SCHEMA_REFRESHED_KEYSPACES,
@@ -355,8 +365,12 @@ public class OptionsMap implements Serializable {
     map.put(TypedDriverOption.METADATA_SCHEMA_REQUEST_PAGE_SIZE, requestPageSize);
     map.put(TypedDriverOption.METADATA_SCHEMA_WINDOW, Duration.ofSeconds(1));
     map.put(TypedDriverOption.METADATA_SCHEMA_MAX_EVENTS, 20);
+    map.put(TypedDriverOption.METADATA_SCHEMA_PARSING_THREADS, 2);
+    map.put(TypedDriverOption.METADATA_SCHEMA_LAZY_ENABLED, false);
+    map.put(TypedDriverOption.METADATA_SCHEMA_LAZY_MAX_KEYSPACES, 100);
     map.put(TypedDriverOption.METADATA_TOKEN_MAP_ENABLED, true);
     map.put(TypedDriverOption.CONTROL_CONNECTION_TIMEOUT, initQueryTimeout);
+    map.put(TypedDriverOption.CONTROL_CONNECTION_AGREEMENT_INITIAL_INTERVAL, Duration.ofMillis(200));
     map.put(TypedDriverOption.CONTROL_CONNECTION_AGREEMENT_INTERVAL, Duration.ofMillis(200));
     map.put(TypedDriverOption.CONTROL_CONNECTION_AGREEMENT_TIMEOUT, Duration.ofSeconds(10));
     map.put(TypedDriverOption.CONTROL_CONNECTION_AGREEMENT_WARN, true);
@@ -366,6 +380,7 @@ public class OptionsMap implements Serializable {
     map.put(TypedDriverOption.REPREPARE_MAX_STATEMENTS, 0);
     map.put(TypedDriverOption.REPREPARE_MAX_PARALLELISM, 100);
     map.put(TypedDriverOption.REPREPARE_TIMEOUT, initQueryTimeout);
+    map.put(TypedDriverOption.PREPARED_REGISTRY_MAX_PARALLELISM, 16);
     map.put(TypedDriverOption.NETTY_DAEMON, false);
     map.put(TypedDriverOption.NETTY_IO_SIZE, 0);
     map.put(TypedDriverOption.NETTY_IO_SHUTDOWN_QUIET_PERIOD, 2);
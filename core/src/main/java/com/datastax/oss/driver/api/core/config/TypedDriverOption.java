@@ -178,6 +178,26 @@ public class TypedDriverOption<ValueT> {
   /** The number of connections in the REMOTE pool. */
   public static final TypedDriverOption<Integer> CONNECTION_POOL_REMOTE_SIZE =
       new TypedDriverOption<>(DefaultDriverOption.CONNECTION_POOL_REMOTE_SIZE, GenericType.INTEGER);
+  /** Whether the pools of LOCAL nodes open their connections lazily. */
+  public static final TypedDriverOption<Boolean> CONNECTION_POOL_LOCAL_LAZY =
+      new TypedDriverOption<>(DefaultDriverOption.CONNECTION_POOL_LOCAL_LAZY, GenericType.BOOLEAN);
+  /** Whether the pools of REMOTE nodes open their connections lazily. */
+  public static final TypedDriverOption<Boolean> CONNECTION_POOL_REMOTE_LAZY =
+      new TypedDriverOption<>(DefaultDriverOption.CONNECTION_POOL_REMOTE_LAZY, GenericType.BOOLEAN);
+  /** How long a lazy pool stays unused before it closes its connections. */
+  public static final TypedDriverOption<Duration> CONNECTION_POOL_IDLE_TIMEOUT =
+      new TypedDriverOption<>(
+          DefaultDriverOption.CONNECTION_POOL_IDLE_TIMEOUT, GenericType.DURATION);
+  /** The maximum number of pools that the session initializes concurrently at startup. */
+  public static final TypedDriverOption<Integer> CONNECTION_POOL_INIT_MAX_CONCURRENT =
+      new TypedDriverOption<>(
+          DefaultDriverOption.CONNECTION_POOL_INIT_MAX_CONCURRENT, GenericType.INTEGER);
+  /**
+   * The fraction of LOCAL pools that must be connected before the session initialization completes.
+   */
+  public static final TypedDriverOption<Double> CONNECTION_POOL_INIT_READY_FRACTION =
+      new TypedDriverOption<>(
+          DefaultDriverOption.CONNECTION_POOL_INIT_READY_FRACTION, GenericType.DOUBLE);
   /**
    * Whether to schedule reconnection attempts if all contact points are unreachable on the first
    * initialization attempt.
@@ -523,6 +543,13 @@ public class TypedDriverOption<ValueT> {
   public static final TypedDriverOption<Integer> METADATA_TOPOLOGY_MAX_EVENTS =
       new TypedDriverOption<>(
           DefaultDriverOption.METADATA_TOPOLOGY_MAX_EVENTS, GenericType.INTEGER);
+  /** How long the driver waits to propagate a node state change. */
+  public static final TypedDriverOption<Duration> METADATA_NODE_STATE_WINDOW =
+      new TypedDriverOption<>(DefaultDriverOption.METADATA_NODE_STATE_WINDOW, GenericType.DURATION);
+  /** The maximum number of node state changes that can accumulate. */
+  public static final TypedDriverOption<Integer> METADATA_NODE_STATE_MAX_EVENTS =
+      new TypedDriverOption<>(
+          DefaultDriverOption.METADATA_NODE_STATE_MAX_EVENTS, GenericType.INTEGER);
   /** Whether schema metadata is enabled. */
   public static final TypedDriverOption<Boolean> METADATA_SCHEMA_ENABLED =
       new TypedDriverOption<>(DefaultDriverOption.METADATA_SCHEMA_ENABLED, GenericType.BOOLEAN);
@@ -545,13 +572,33 @@ public class TypedDriverOption<ValueT> {
   /** The maximum number of refreshes that can accumulate. */
   public static final TypedDriverOption<Integer> METADATA_SCHEMA_MAX_EVENTS =
       new TypedDriverOption<>(DefaultDriverOption.METADATA_SCHEMA_MAX_EVENTS, GenericType.INTEGER);
+  /** The file where the driver persists the schema metadata. */
+  public static final TypedDriverOption<String> METADATA_SCHEMA_SNAPSHOT_FILE =
+      new TypedDriverOption<>(
+          DefaultDriverOption.METADATA_SCHEMA_SNAPSHOT_FILE, GenericType.STRING);
+  /** The maximum number of threads used to parse the results of schema queries. */
+  public static final TypedDriverOption<Integer> METADATA_SCHEMA_PARSING_THREADS =
+      new TypedDriverOption<>(
+          DefaultDriverOption.METADATA_SCHEMA_PARSING_THREADS, GenericType.INTEGER);
+  /** Whether the driver loads the contents of keyspaces on demand. */
+  public static final TypedDriverOption<Boolean> METADATA_SCHEMA_LAZY_ENABLED =
+      new TypedDriverOption<>(
+          DefaultDriverOption.METADATA_SCHEMA_LAZY_ENABLED, GenericType.BOOLEAN);
+  /** The maximum number of keyspaces that are kept loaded, when they are loaded on demand. */
+  public static final TypedDriverOption<Integer> METADATA_SCHEMA_LAZY_MAX_KEYSPACES =
+      new TypedDriverOption<>(
+          DefaultDriverOption.METADATA_SCHEMA_LAZY_MAX_KEYSPACES, GenericType.INTEGER);
   /** Whether token metadata is enabled. */
   public static final TypedDriverOption<Boolean> METADATA_TOKEN_MAP_ENABLED =
       new TypedDriverOption<>(DefaultDriverOption.METADATA_TOKEN_MAP_ENABLED, GenericType.BOOLEAN);
   /** How long the driver waits for responses to control queries. */
   public static final TypedDriverOption<Duration> CONTROL_CONNECTION_TIMEOUT =
       new TypedDriverOption<>(DefaultDriverOption.CONTROL_CONNECTION_TIMEOUT, GenericType.DURATION);
-  /** The interval between each schema agreement check attempt. */
+  /** The interval between the first and second schema agreement check attempts. */
+  public static final TypedDriverOption<Duration> CONTROL_CONNECTION_AGREEMENT_INITIAL_INTERVAL =
+      new TypedDriverOption<>(
+          DefaultDriverOption.CONTROL_CONNECTION_AGREEMENT_INITIAL_INTERVAL, GenericType.DURATION);
+  /** The maximum interval between each schema agreement check attempt. */
   public static final TypedDriverOption<Duration> CONTROL_CONNECTION_AGREEMENT_INTERVAL =
       new TypedDriverOption<>(
           DefaultDriverOption.CONTROL_CONNECTION_AGREEMENT_INTERVAL, GenericType.DURATION);
@@ -585,6 +632,13 @@ public class TypedDriverOption<ValueT> {
   /** Whether the prepared statements cache use weak values. */
   public static final TypedDriverOption<Boolean> PREPARED_CACHE_WEAK_VALUES =
       new TypedDriverOption<>(DefaultDriverOption.PREPARED_CACHE_WEAK_VALUES, GenericType.BOOLEAN);
+  /** The file where the session persists its prepared statements. */
+  public static final TypedDriverOption<String> PREPARED_REGISTRY_PATH =
+      new TypedDriverOption<>(DefaultDriverOption.PREPARED_REGISTRY_PATH, GenericType.STRING);
+  /** The maximum number of concurrent requests when preparing the statements of the registry. */
+  public static final TypedDriverOption<Integer> PREPARED_REGISTRY_MAX_PARALLELISM =
+      new TypedDriverOption<>(
+          DefaultDriverOption.PREPARED_REGISTRY_MAX_PARALLELISM, GenericType.INTEGER);
   /** The number of threads in the I/O group. */
   public static final TypedDriverOption<Integer> NETTY_IO_SIZE =
       new TypedDriverOption<>(DefaultDriverOption.NETTY_IO_SIZE, GenericType.INTEGER);
@@ -637,6 +691,18 @@ public class TypedDriverOption<ValueT> {
    */
   public static final TypedDriverOption<Boolean> REQUEST_LOG_WARNINGS =
       new TypedDriverOption<>(DefaultDriverOption.REQUEST_LOG_WARNINGS, GenericType.BOOLEAN);
+  /** Whether idempotent writes to the same partition are grouped into unlogged batches. */
+  public static final TypedDriverOption<Boolean> REQUEST_WRITE_BATCHING_ENABLED =
+      new TypedDriverOption<>(
+          DefaultDriverOption.REQUEST_WRITE_BATCHING_ENABLED, GenericType.BOOLEAN);
+  /** The maximum number of statements in a batch built by write batching. */
+  public static final TypedDriverOption<Integer> REQUEST_WRITE_BATCHING_MAX_STATEMENTS =
+      new TypedDriverOption<>(
+          DefaultDriverOption.REQUEST_WRITE_BATCHING_MAX_STATEMENTS, GenericType.INTEGER);
+  /** How long write batching waits for other writes to the same partition. */
+  public static final TypedDriverOption<Duration> REQUEST_WRITE_BATCHING_WINDOW =
+      new TypedDriverOption<>(
+          DefaultDriverOption.REQUEST_WRITE_BATCHING_WINDOW, GenericType.DURATION);
   /** Whether the threads created by the driver should be daemon threads. */
   public static final TypedDriverOption<Boolean> NETTY_DAEMON =
       new TypedDriverOption<>(DefaultDriverOption.NETTY_DAEMON, GenericType.BOOLEAN);
@@ -18,7 +18,10 @@
 package com.datastax.oss.driver.api.core.cql;
 
 import com.datastax.oss.driver.api.core.AsyncPagingIterable;
+import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.internal.core.cql.DefaultColumnarPage;
+import edu.umd.cs.findbugs.annotations.NonNull;
 
 /**
  * The result of an asynchronous CQL query.
@@ -42,4 +45,50 @@ public interface AsyncResultSet extends AsyncPagingIterable<Row, AsyncResultSet>
    */
   @Override
   boolean wasApplied();
+
+  /**
+   * Consumes all the remaining rows of the current page, and decodes the given columns into
+   * primitive arrays.
+   *
+   * <p>This is more efficient than iterating over {@link #currentPage()} when only a few numeric
+   * columns are needed: the driver's implementation decodes the raw values of the page directly
+   * with the primitive codecs, without creating a {@link Row} instance per row or boxing the
+   * values. See {@link ColumnarPage} for the supported CQL types.
+   *
+   * <p>After this method returns, {@link #remaining()} is 0 and {@link #currentPage()} is
+   * exhausted. Use {@link #hasMorePages()} and {@link #fetchNextPage()} to move on to the next
+   * page, as usual.
+   *
+   * @param indices the indices of the columns to extract, in the {@linkplain
+   *     #getColumnDefinitions() column definitions} of this result set.
+   * @throws IndexOutOfBoundsException if an index is invalid.
+   * @throws IllegalArgumentException if the CQL type of a column is not supported.
+   */
+  @NonNull
+  default ColumnarPage consumeColumns(@NonNull int... indices) {
+    return DefaultColumnarPage.fromRows(
+        getColumnDefinitions(), indices, remaining(), currentPage().iterator());
+  }
+
+  /**
+   * Shortcut for {@link #consumeColumns(int...)} with the indices of the given column names.
+   *
+   * @throws IllegalArgumentException if a name is not a column in this result set, or its CQL type
+   *     is not supported.
+   */
+  @NonNull
+  default ColumnarPage consumeColumns(@NonNull String... names) {
+    return consumeColumns(DefaultColumnarPage.indicesOf(getColumnDefinitions(), names));
+  }
+
+  /**
+   * Shortcut for {@link #consumeColumns(int...)} with the indices of the given column identifiers.
+   *
+   * @throws IllegalArgumentException if an identifier is not a column in this result set, or its
+   *     CQL type is not supported.
+   */
+  @NonNull
+  default ColumnarPage consumeColumns(@NonNull CqlIdentifier... ids) {
+    return consumeColumns(DefaultColumnarPage.indicesOf(getColumnDefinitions(), ids));
+  }
 }
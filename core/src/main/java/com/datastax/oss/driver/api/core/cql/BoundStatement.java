@@ -19,6 +19,8 @@ package com.datastax.oss.driver.api.core.cql;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metadata.token.Token;
 import com.datastax.oss.driver.internal.core.time.ServerSideTimestampGenerator;
 import com.datastax.oss.driver.internal.core.util.Sizes;
 import com.datastax.oss.protocol.internal.PrimitiveSizes;
@@ -55,6 +57,31 @@ public interface BoundStatement
     return null;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>If no routing key was set explicitly, the built-in implementation computes it from the
+   * values of the partition key variables (see {@link PreparedStatement#getPartitionKeyIndices()}),
+   * and caches it on the first call.
+   */
+  @Nullable
+  @Override
+  ByteBuffer getRoutingKey();
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>If no token was set explicitly, the built-in implementation hashes the {@linkplain
+   * #getRoutingKey() routing key} with the cluster's partitioner, and caches the result on the
+   * first call: retries and speculative executions don't hash the key again, and the method can
+   * also be used to group statements by token cheaply. Note that this requires the {@linkplain
+   * Metadata#getTokenMap() token map} to be available when the statement was prepared; otherwise,
+   * the method returns {@code null} (unless a token was set explicitly).
+   */
+  @Nullable
+  @Override
+  Token getRoutingToken();
+
   @Override
   default int computeSizeInBytes(@NonNull DriverContext context) {
     int size = Sizes.minimumStatementSize(this, context);
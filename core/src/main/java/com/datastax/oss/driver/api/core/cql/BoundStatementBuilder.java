@@ -99,6 +99,13 @@ public class BoundStatementBuilder extends StatementBuilder<BoundStatementBuilde
     this.codecRegistry = template.codecRegistry();
     this.protocolVersion = template.protocolVersion();
     this.node = template.getNode();
+    if (template instanceof DefaultBoundStatement) {
+      // Don't freeze the routing information that the template computed from its values, it must
+      // be recomputed if the builder changes them.
+      DefaultBoundStatement defaultTemplate = (DefaultBoundStatement) template;
+      this.routingKey = defaultTemplate.getExplicitRoutingKey();
+      this.routingToken = defaultTemplate.getExplicitRoutingToken();
+    }
   }
 
   /** The prepared statement that was used to create this statement. */
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.api.core.cql;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Gets notified of the progress of a {@link BulkWriter}.
+ *
+ * <p>The methods are invoked on driver threads, so they must not block.
+ *
+ * @see BulkWriteOptions.Builder#withListener(BulkWriteListener)
+ */
+public interface BulkWriteListener {
+
+  /**
+   * Invoked periodically (see {@link BulkWriteOptions#getProgressInterval()}), and once more when
+   * the writer is done.
+   */
+  default void onProgress(@NonNull BulkWriteProgress progress) {
+    // nothing to do
+  }
+
+  /**
+   * Invoked when a write has failed, after the driver's retry policy was applied.
+   *
+   * <p>This can be used to log or save the statement for later. Note that some statements might not
+   * be written even if this method was never called, if the writer was aborted before they were
+   * sent.
+   */
+  default void onWriteFailed(@NonNull Statement<?> statement, @NonNull Throwable error) {
+    // nothing to do
+  }
+}
@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.api.core.cql;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.shaded.guava.common.base.Preconditions;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.time.Duration;
+import net.jcip.annotations.Immutable;
+
+/**
+ * Describes how a {@link BulkWriter} loads data.
+ *
+ * <p>Statements are grouped by replica: each one is sent directly to one of the LOCAL replicas of
+ * its partition (the one with the least pending work), based on its routing information and the
+ * token map. The number of requests in flight is bounded globally and per node; statements that
+ * can't be sent immediately wait in a bounded queue, and the producer is slowed down when that
+ * queue is full.
+ *
+ * <p>Example:
+ *
+ * <pre>
+ * BulkWriteOptions options =
+ *     BulkWriteOptions.builder()
+ *         .withMaxInFlightPerNode(256)
+ *         .withListener(progressLogger)
+ *         .build();
+ * BulkWriteProgress result =
+ *     session.bulkWrite(records.map(r -&gt; insert.bind(r.getId(), r.getValue())), options);
+ * </pre>
+ *
+ * @see CqlSession#bulkWriter(BulkWriteOptions)
+ * @see CqlSession#bulkWrite(java.util.stream.Stream, BulkWriteOptions)
+ */
+@Immutable
+public class BulkWriteOptions {
+
+  /** The default maximum number of requests in flight, across all nodes. */
+  public static final int DEFAULT_MAX_IN_FLIGHT = 1024;
+
+  /** The default maximum number of requests in flight to the same node. */
+  public static final int DEFAULT_MAX_IN_FLIGHT_PER_NODE = 128;
+
+  /** The default maximum number of statements waiting to be sent. */
+  public static final int DEFAULT_MAX_QUEUED = 1024;
+
+  /** The default interval between two progress reports. */
+  public static final Duration DEFAULT_PROGRESS_INTERVAL = Duration.ofSeconds(5);
+
+  /** Creates a builder with the default options. */
+  @NonNull
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  private final int maxInFlight;
+  private final int maxInFlightPerNode;
+  private final int maxQueued;
+  private final long maxFailures;
+  private final BulkWriteListener listener;
+  private final Duration progressInterval;
+
+  private BulkWriteOptions(
+      int maxInFlight,
+      int maxInFlightPerNode,
+      int maxQueued,
+      long maxFailures,
+      BulkWriteListener listener,
+      Duration progressInterval) {
+    this.maxInFlight = maxInFlight;
+    this.maxInFlightPerNode = maxInFlightPerNode;
+    this.maxQueued = maxQueued;
+    this.maxFailures = maxFailures;
+    this.listener = listener;
+    this.progressInterval = progressInterval;
+  }
+
+  /** The maximum number of requests in flight, across all nodes. */
+  public int getMaxInFlight() {
+    return maxInFlight;
+  }
+
+  /**
+   * The maximum number of requests in flight to the same node. This does not apply to statements
+   * that have no routing information, those are only bounded by {@link #getMaxInFlight()}.
+   */
+  public int getMaxInFlightPerNode() {
+    return maxInFlightPerNode;
+  }
+
+  /**
+   * The maximum number of statements waiting to be sent, because their replicas are already at
+   * {@link #getMaxInFlightPerNode()}. When this is reached, {@link
+   * BulkWriter#writeAsync(Statement)} returns an incomplete stage until some room frees up.
+   */
+  public int getMaxQueued() {
+    return maxQueued;
+  }
+
+  /**
+   * The number of failed writes that is tolerated. When it is exceeded, the writer aborts: queued
+   * statements are discarded, and no new statements are accepted. Defaults to 0, i.e. the first
+   * failure aborts the writer; use {@link Long#MAX_VALUE} to never abort.
+   */
+  public long getMaxFailures() {
+    return maxFailures;
+  }
+
+  /** The listener that gets notified of progress and failures, or null if there is none. */
+  @Nullable
+  public BulkWriteListener getListener() {
+    return listener;
+  }
+
+  /** The interval between two calls to {@link BulkWriteListener#onProgress(BulkWriteProgress)}. */
+  @NonNull
+  public Duration getProgressInterval() {
+    return progressInterval;
+  }
+
+  public static class Builder {
+
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+    private int maxInFlightPerNode = DEFAULT_MAX_IN_FLIGHT_PER_NODE;
+    private int maxQueued = DEFAULT_MAX_QUEUED;
+    private long maxFailures;
+    private BulkWriteListener listener;
+    private Duration progressInterval = DEFAULT_PROGRESS_INTERVAL;
+
+    private Builder() {}
+
+    /**
+     * The maximum number of requests in flight, across all nodes. Defaults to {@link
+     * #DEFAULT_MAX_IN_FLIGHT}.
+     */
+    @NonNull
+    public Builder withMaxInFlight(int maxInFlight) {
+      Preconditions.checkArgument(maxInFlight > 0, "maxInFlight must be > 0 (got %s)", maxInFlight);
+      this.maxInFlight = maxInFlight;
+      return this;
+    }
+
+    /**
+     * The maximum number of requests in flight to the same node. Defaults to {@link
+     * #DEFAULT_MAX_IN_FLIGHT_PER_NODE}.
+     */
+    @NonNull
+    public Builder withMaxInFlightPerNode(int maxInFlightPerNode) {
+      Preconditions.checkArgument(
+          maxInFlightPerNode > 0, "maxInFlightPerNode must be > 0 (got %s)", maxInFlightPerNode);
+      this.maxInFlightPerNode = maxInFlightPerNode;
+      return this;
+    }
+
+    /**
+     * The maximum number of statements waiting to be sent. Defaults to {@link #DEFAULT_MAX_QUEUED}.
+     */
+    @NonNull
+    public Builder withMaxQueued(int maxQueued) {
+      Preconditions.checkArgument(maxQueued > 0, "maxQueued must be > 0 (got %s)", maxQueued);
+      this.maxQueued = maxQueued;
+      return this;
+    }
+
+    /**
+     * The number of failed writes that is tolerated (see {@link
+     * BulkWriteOptions#getMaxFailures()}).
+     */
+    @NonNull
+    public Builder withMaxFailures(long maxFailures) {
+      Preconditions.checkArgument(
+          maxFailures >= 0, "maxFailures must be >= 0 (got %s)", maxFailures);
+      this.maxFailures = maxFailures;
+      return this;
+    }
+
+    /** The listener that gets notified of progress and failures. */
+    @NonNull
+    public Builder withListener(@Nullable BulkWriteListener listener) {
+      this.listener = listener;
+      return this;
+    }
+
+    /**
+     * The interval between two progress reports. Defaults to {@link #DEFAULT_PROGRESS_INTERVAL}.
+     *
+     * <p>Periodic reports require a session built by the driver; with a custom session
+     * implementation, progress is only reported once, when the writer completes.
+     */
+    @NonNull
+    public Builder withProgressInterval(@NonNull Duration progressInterval) {
+      Preconditions.checkArgument(
+          !progressInterval.isNegative() && !progressInterval.isZero(),
+          "progressInterval must be positive (got %s)",
+          progressInterval);
+      this.progressInterval = progressInterval;
+      return this;
+    }
+
+    @NonNull
+    public BulkWriteOptions build() {
+      return new BulkWriteOptions(
+          maxInFlight, maxInFlightPerNode, maxQueued, maxFailures, listener, progressInterval);
+    }
+  }
+}
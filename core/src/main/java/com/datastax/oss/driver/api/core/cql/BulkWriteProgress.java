@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.api.core.cql;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Duration;
+import net.jcip.annotations.Immutable;
+
+/** A snapshot of the progress of a {@link BulkWriter}. */
+@Immutable
+public class BulkWriteProgress {
+
+  private final long written;
+  private final long failed;
+  private final int inFlight;
+  private final int queued;
+  private final Duration elapsed;
+
+  public BulkWriteProgress(
+      long written, long failed, int inFlight, int queued, @NonNull Duration elapsed) {
+    this.written = written;
+    this.failed = failed;
+    this.inFlight = inFlight;
+    this.queued = queued;
+    this.elapsed = elapsed;
+  }
+
+  /** The number of statements that were written successfully. */
+  public long getWritten() {
+    return written;
+  }
+
+  /** The number of statements that failed. */
+  public long getFailed() {
+    return failed;
+  }
+
+  /** The number of requests currently in flight. */
+  public int getInFlight() {
+    return inFlight;
+  }
+
+  /** The number of statements waiting to be sent. */
+  public int getQueued() {
+    return queued;
+  }
+
+  /** The time elapsed since the writer was created. */
+  @NonNull
+  public Duration getElapsed() {
+    return elapsed;
+  }
+
+  /** The average number of successful writes per second since the writer was created. */
+  public double getThroughput() {
+    long nanos = elapsed.toNanos();
+    return (nanos == 0) ? 0 : written * 1_000_000_000.0 / nanos;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%d written, %d failed, %d in flight, %d queued in %s (%.1f writes/s)",
+        written, failed, inFlight, queued, elapsed, getThroughput());
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.api.core.cql;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Loads a large number of statements into the cluster, keeping the nodes busy without overloading
+ * them.
+ *
+ * <p>Producers submit statements with {@link #writeAsync(Statement)}, and must wait for the
+ * returned stage before submitting the next one: this is how the writer applies backpressure. Once
+ * all the statements have been submitted, {@link #closeAsync()} waits for the remaining writes.
+ *
+ * <p>Statements should be idempotent, and carry routing information (bound statements get it from
+ * their partition key); statements without routing information are routed by the load balancing
+ * policy, and only bounded by the global limit. Each write is executed with the statement's own
+ * execution profile, so the retry policy still applies.
+ *
+ * <p>Implementations are thread-safe, several producers can submit statements concurrently.
+ *
+ * @see CqlSession#bulkWriter(BulkWriteOptions)
+ * @see BulkWriteOptions
+ */
+public interface BulkWriter {
+
+  /**
+   * Submits a statement.
+   *
+   * @return a stage that completes when the writer is ready to accept another statement. It fails
+   *     if the writer was closed, or aborted because there were too many failures (in that case the
+   *     error is the failure that exceeded {@link BulkWriteOptions#getMaxFailures()}).
+   */
+  @NonNull
+  CompletionStage<Void> writeAsync(@NonNull Statement<?> statement);
+
+  /** Returns the current progress. */
+  @NonNull
+  BulkWriteProgress getProgress();
+
+  /**
+   * Stops accepting new statements, and waits for the remaining writes.
+   *
+   * @return a stage that completes with the final progress. It fails if the writer was aborted.
+   */
+  @NonNull
+  CompletionStage<BulkWriteProgress> closeAsync();
+}
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.api.core.cql;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.BitSet;
+
+/**
+ * A page of results decoded column by column into primitive arrays.
+ *
+ * <p>This is an alternative to iterating over {@link Row} instances, intended for analytics-style
+ * reads that process many rows but only a few numeric columns: all the values of a column are
+ * decoded in bulk, without allocating a row object or boxing each value.
+ *
+ * <p>The type of array of each column depends on its CQL type:
+ *
+ * <ul>
+ *   <li>{@code bigint} and {@code counter}: {@code long[]} (see {@link #getLongs(int)});
+ *   <li>{@code int}: {@code int[]} (see {@link #getInts(int)});
+ *   <li>{@code double}: {@code double[]} (see {@link #getDoubles(int)}).
+ * </ul>
+ *
+ * Columns are indexed by their position in the list that was passed when the page was extracted
+ * (not their position in the original {@link ColumnDefinitions}). All the arrays have exactly
+ * {@link #getRowCount()} elements. They are not copied: the client owns them and can modify them
+ * freely.
+ *
+ * <p>CQL {@code NULL}s are decoded as {@code 0}; use {@link #getNulls(int)} or {@link #isNull(int,
+ * int)} to tell them apart from actual zeros.
+ *
+ * @see AsyncResultSet#consumeColumns(int...)
+ * @see ResultSet#consumeColumns(int...)
+ */
+public interface ColumnarPage {
+
+  /** The number of rows in this page. */
+  int getRowCount();
+
+  /** The number of columns in this page. */
+  int getColumnCount();
+
+  /**
+   * Returns the definition of the {@code i}th column.
+   *
+   * @throws IndexOutOfBoundsException if the index is invalid.
+   */
+  @NonNull
+  ColumnDefinition getColumnDefinition(int i);
+
+  /**
+   * Returns the index of the first column with the given name.
+   *
+   * @throws IllegalArgumentException if the name is not a column in this page.
+   */
+  int firstIndexOf(@NonNull String name);
+
+  /**
+   * Returns the index of the first column with the given identifier.
+   *
+   * @throws IllegalArgumentException if the identifier is not a column in this page.
+   */
+  int firstIndexOf(@NonNull CqlIdentifier id);
+
+  /**
+   * Returns the values of the {@code i}th column as a {@code long} array.
+   *
+   * @throws IndexOutOfBoundsException if the index is invalid.
+   * @throws IllegalArgumentException if the column is not a {@code bigint} or {@code counter}.
+   */
+  @NonNull
+  long[] getLongs(int i);
+
+  /**
+   * Returns the values of the {@code i}th column as an {@code int} array.
+   *
+   * @throws IndexOutOfBoundsException if the index is invalid.
+   * @throws IllegalArgumentException if the column is not an {@code int}.
+   */
+  @NonNull
+  int[] getInts(int i);
+
+  /**
+   * Returns the values of the {@code i}th column as a {@code double} array.
+   *
+   * @throws IndexOutOfBoundsException if the index is invalid.
+   * @throws IllegalArgumentException if the column is not a {@code double}.
+   */
+  @NonNull
+  double[] getDoubles(int i);
+
+  /**
+   * Returns the null bitmap of the {@code i}th column: bit {@code n} is set if the value of the
+   * column was {@code NULL} in row {@code n}.
+   *
+   * @throws IndexOutOfBoundsException if the index is invalid.
+   */
+  @NonNull
+  BitSet getNulls(int i);
+
+  /**
+   * Whether the value of the {@code column}th column is {@code NULL} in the {@code row}th row.
+   *
+   * @throws IndexOutOfBoundsException if either index is invalid.
+   */
+  default boolean isNull(int column, int row) {
+    if (row < 0 || row >= getRowCount()) {
+      throw new IndexOutOfBoundsException("Invalid row index: " + row);
+    }
+    return getNulls(column).get(row);
+  }
+
+  /** Shortcut for {@link #getLongs(int) getLongs(firstIndexOf(name))}. */
+  @NonNull
+  default long[] getLongs(@NonNull String name) {
+    return getLongs(firstIndexOf(name));
+  }
+
+  /** Shortcut for {@link #getLongs(int) getLongs(firstIndexOf(id))}. */
+  @NonNull
+  default long[] getLongs(@NonNull CqlIdentifier id) {
+    return getLongs(firstIndexOf(id));
+  }
+
+  /** Shortcut for {@link #getInts(int) getInts(firstIndexOf(name))}. */
+  @NonNull
+  default int[] getInts(@NonNull String name) {
+    return getInts(firstIndexOf(name));
+  }
+
+  /** Shortcut for {@link #getInts(int) getInts(firstIndexOf(id))}. */
+  @NonNull
+  default int[] getInts(@NonNull CqlIdentifier id) {
+    return getInts(firstIndexOf(id));
+  }
+
+  /** Shortcut for {@link #getDoubles(int) getDoubles(firstIndexOf(name))}. */
+  @NonNull
+  default double[] getDoubles(@NonNull String name) {
+    return getDoubles(firstIndexOf(name));
+  }
+
+  /** Shortcut for {@link #getDoubles(int) getDoubles(firstIndexOf(id))}. */
+  @NonNull
+  default double[] getDoubles(@NonNull CqlIdentifier id) {
+    return getDoubles(firstIndexOf(id));
+  }
+
+  /** Shortcut for {@link #getNulls(int) getNulls(firstIndexOf(name))}. */
+  @NonNull
+  default BitSet getNulls(@NonNull String name) {
+    return getNulls(firstIndexOf(name));
+  }
+
+  /** Shortcut for {@link #getNulls(int) getNulls(firstIndexOf(id))}. */
+  @NonNull
+  default BitSet getNulls(@NonNull CqlIdentifier id) {
+    return getNulls(firstIndexOf(id));
+  }
+}
@@ -23,6 +23,7 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * A query with bind variables that has been pre-parsed by the database.
@@ -133,6 +134,33 @@ public interface PreparedStatement {
   @NonNull
   BoundStatement bind(@NonNull Object... values);
 
+  /**
+   * Builds an executable statement by letting the caller set the bind variables on a mutable
+   * builder.
+   *
+   * <p>This is the most efficient way to set values individually: each setter of a {@link
+   * BoundStatement} returns a new instance (and copies all the values), so a chain of {@code n}
+   * setters on a statement with {@code n} variables is quadratic. The builder passed to the
+   * consumer modifies its values in place, and the resulting statement reuses them without any
+   * copy:
+   *
+   * <pre>
+   * BoundStatement bs =
+   *     ps.bind(builder -&gt; builder.setString("name", name).setInt("age", age));
+   * </pre>
+   *
+   * The builder must not be used after the consumer returns.
+   *
+   * @param binder the callback that sets the values (and optionally execution parameters) of the
+   *     statement.
+   */
+  @NonNull
+  default BoundStatement bind(@NonNull Consumer<BoundStatementBuilder> binder) {
+    BoundStatementBuilder builder = boundStatementBuilder();
+    binder.accept(builder);
+    return builder.build();
+  }
+
   /**
    * Returns a builder to construct an executable statement.
    *
@@ -17,8 +17,11 @@
  */
 package com.datastax.oss.driver.api.core.cql;
 
+import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.PagingIterable;
+import com.datastax.oss.driver.internal.core.cql.DefaultColumnarPage;
+import edu.umd.cs.findbugs.annotations.NonNull;
 
 /**
  * The result of a synchronous CQL query.
@@ -46,4 +49,56 @@ public interface ResultSet extends PagingIterable<Row> {
    */
   @Override
   boolean wasApplied();
+
+  /**
+   * Consumes all the rows that are {@linkplain #getAvailableWithoutFetching() available without
+   * fetching}, and decodes the given columns into primitive arrays. If no rows are available but
+   * the result set is not {@linkplain #isFullyFetched() fully fetched}, this method blocks until
+   * the next page is fetched.
+   *
+   * <p>An empty page is returned only when the result set is exhausted, so a typical pattern to
+   * process all the results is:
+   *
+   * <pre>
+   * ColumnarPage page;
+   * while ((page = rs.consumeColumns("id", "value")).getRowCount() &gt; 0) {
+   *   long[] ids = page.getLongs(0);
+   *   double[] values = page.getDoubles(1);
+   *   ...
+   * }
+   * </pre>
+   *
+   * See {@link AsyncResultSet#consumeColumns(int...)} for more explanations.
+   *
+   * @param indices the indices of the columns to extract, in the {@linkplain
+   *     #getColumnDefinitions() column definitions} of this result set.
+   * @throws IndexOutOfBoundsException if an index is invalid.
+   * @throws IllegalArgumentException if the CQL type of a column is not supported.
+   */
+  @NonNull
+  default ColumnarPage consumeColumns(@NonNull int... indices) {
+    return DefaultColumnarPage.fromAvailableRows(this, indices);
+  }
+
+  /**
+   * Shortcut for {@link #consumeColumns(int...)} with the indices of the given column names.
+   *
+   * @throws IllegalArgumentException if a name is not a column in this result set, or its CQL type
+   *     is not supported.
+   */
+  @NonNull
+  default ColumnarPage consumeColumns(@NonNull String... names) {
+    return consumeColumns(DefaultColumnarPage.indicesOf(getColumnDefinitions(), names));
+  }
+
+  /**
+   * Shortcut for {@link #consumeColumns(int...)} with the indices of the given column identifiers.
+   *
+   * @throws IllegalArgumentException if an identifier is not a column in this result set, or its
+   *     CQL type is not supported.
+   */
+  @NonNull
+  default ColumnarPage consumeColumns(@NonNull CqlIdentifier... ids) {
+    return consumeColumns(DefaultColumnarPage.indicesOf(getColumnDefinitions(), ids));
+  }
 }
@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.api.core.cql;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
+import com.datastax.oss.driver.shaded.guava.common.base.Preconditions;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.List;
+import net.jcip.annotations.Immutable;
+
+/**
+ * Describes a parallel scan of all the rows of a table.
+ *
+ * <p>The token ring is divided into splits (see {@link TokenRange#splitEvenly(int)}), and each
+ * split is read with a {@code token(pk) > ? AND token(pk) <= ?} query, sent directly to one of its
+ * LOCAL replicas. The number of splits in flight is bounded globally and per node, so that the load
+ * spreads evenly across the cluster.
+ *
+ * <p>Example:
+ *
+ * <pre>
+ * TableScan scan =
+ *     TableScan.builder("ks", "users")
+ *         .withColumns("id", "name")
+ *         .withParallelism(32)
+ *         .build();
+ * try (Stream&lt;Row&gt; rows = session.scan(scan)) {
+ *   rows.forEach(row -&gt; export(row));
+ * }
+ * </pre>
+ *
+ * <p>The scan requires token metadata and schema metadata to be enabled.
+ *
+ * @see CqlSession#scanAsync(TableScan, TableScanHandler)
+ * @see CqlSession#scan(TableScan)
+ * @see CqlSession#scanReactive(TableScan)
+ */
+@Immutable
+public class TableScan {
+
+  /** The default maximum number of splits read concurrently. */
+  public static final int DEFAULT_PARALLELISM = 16;
+
+  /** The default maximum number of splits read concurrently from the same node. */
+  public static final int DEFAULT_MAX_CONCURRENT_SPLITS_PER_NODE = 2;
+
+  /** Creates a builder for a scan of the given table. */
+  @NonNull
+  public static Builder builder(@NonNull CqlIdentifier keyspace, @NonNull CqlIdentifier table) {
+    return new Builder(keyspace, table);
+  }
+
+  /**
+   * Shortcut for {@link #builder(CqlIdentifier, CqlIdentifier)
+   * builder(CqlIdentifier.fromCql(keyspaceName), CqlIdentifier.fromCql(tableName))}.
+   */
+  @NonNull
+  public static Builder builder(@NonNull String keyspaceName, @NonNull String tableName) {
+    return builder(CqlIdentifier.fromCql(keyspaceName), CqlIdentifier.fromCql(tableName));
+  }
+
+  private final CqlIdentifier keyspace;
+  private final CqlIdentifier table;
+  private final List<CqlIdentifier> columns;
+  private final int splitCount;
+  private final int parallelism;
+  private final int maxConcurrentSplitsPerNode;
+  private final int pageSize;
+  private final String executionProfileName;
+
+  private TableScan(
+      CqlIdentifier keyspace,
+      CqlIdentifier table,
+      List<CqlIdentifier> columns,
+      int splitCount,
+      int parallelism,
+      int maxConcurrentSplitsPerNode,
+      int pageSize,
+      String executionProfileName) {
+    this.keyspace = keyspace;
+    this.table = table;
+    this.columns = columns;
+    this.splitCount = splitCount;
+    this.parallelism = parallelism;
+    this.maxConcurrentSplitsPerNode = maxConcurrentSplitsPerNode;
+    this.pageSize = pageSize;
+    this.executionProfileName = executionProfileName;
+  }
+
+  @NonNull
+  public CqlIdentifier getKeyspace() {
+    return keyspace;
+  }
+
+  @NonNull
+  public CqlIdentifier getTable() {
+    return table;
+  }
+
+  /** The columns to read. If the list is empty, all the columns are read. */
+  @NonNull
+  public List<CqlIdentifier> getColumns() {
+    return columns;
+  }
+
+  /**
+   * The number of splits that the ring is divided into. If this is 0, the scan uses four times
+   * {@link #getParallelism()}.
+   *
+   * <p>In any case, each token range of the ring produces at least one split; ranges that wrap
+   * around the end of the ring produce two.
+   */
+  public int getSplitCount() {
+    return splitCount;
+  }
+
+  /** The maximum number of splits read concurrently. */
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  /** The maximum number of splits read concurrently from the same node. */
+  public int getMaxConcurrentSplitsPerNode() {
+    return maxConcurrentSplitsPerNode;
+  }
+
+  /**
+   * The page size of the scan queries. If this is 0, the page size of the execution profile is
+   * used.
+   */
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  /**
+   * The execution profile of the scan queries (for example to customize the consistency level or
+   * the request timeout). If this is null, the default profile is used.
+   */
+  @Nullable
+  public String getExecutionProfileName() {
+    return executionProfileName;
+  }
+
+  public static class Builder {
+
+    private final CqlIdentifier keyspace;
+    private final CqlIdentifier table;
+    private final ImmutableList.Builder<CqlIdentifier> columns = ImmutableList.builder();
+    private int splitCount;
+    private int parallelism = DEFAULT_PARALLELISM;
+    private int maxConcurrentSplitsPerNode = DEFAULT_MAX_CONCURRENT_SPLITS_PER_NODE;
+    private int pageSize;
+    private String executionProfileName;
+
+    private Builder(CqlIdentifier keyspace, CqlIdentifier table) {
+      this.keyspace = keyspace;
+      this.table = table;
+    }
+
+    /** Adds columns to read (by default, all columns are read). */
+    @NonNull
+    public Builder withColumns(@NonNull CqlIdentifier... columns) {
+      this.columns.add(columns);
+      return this;
+    }
+
+    /**
+     * Shortcut for {@link #withColumns(CqlIdentifier...)}, with each name converted by {@link
+     * CqlIdentifier#fromCql(String)}.
+     */
+    @NonNull
+    public Builder withColumns(@NonNull String... columnNames) {
+      for (String columnName : columnNames) {
+        this.columns.add(CqlIdentifier.fromCql(columnName));
+      }
+      return this;
+    }
+
+    /** The number of splits (see {@link TableScan#getSplitCount()}). */
+    @NonNull
+    public Builder withSplitCount(int splitCount) {
+      Preconditions.checkArgument(splitCount >= 0, "splitCount must be >= 0 (got %s)", splitCount);
+      this.splitCount = splitCount;
+      return this;
+    }
+
+    /**
+     * The maximum number of splits read concurrently. Defaults to {@link #DEFAULT_PARALLELISM}.
+     */
+    @NonNull
+    public Builder withParallelism(int parallelism) {
+      Preconditions.checkArgument(parallelism > 0, "parallelism must be > 0 (got %s)", parallelism);
+      this.parallelism = parallelism;
+      return this;
+    }
+
+    /**
+     * The maximum number of splits read concurrently from the same node. Defaults to {@link
+     * #DEFAULT_MAX_CONCURRENT_SPLITS_PER_NODE}.
+     */
+    @NonNull
+    public Builder withMaxConcurrentSplitsPerNode(int maxConcurrentSplitsPerNode) {
+      Preconditions.checkArgument(
+          maxConcurrentSplitsPerNode > 0,
+          "maxConcurrentSplitsPerNode must be > 0 (got %s)",
+          maxConcurrentSplitsPerNode);
+      this.maxConcurrentSplitsPerNode = maxConcurrentSplitsPerNode;
+      return this;
+    }
+
+    /** The page size of the scan queries (see {@link TableScan#getPageSize()}). */
+    @NonNull
+    public Builder withPageSize(int pageSize) {
+      Preconditions.checkArgument(pageSize >= 0, "pageSize must be >= 0 (got %s)", pageSize);
+      this.pageSize = pageSize;
+      return this;
+    }
+
+    /** The execution profile of the scan queries. */
+    @NonNull
+    public Builder withExecutionProfileName(@Nullable String executionProfileName) {
+      this.executionProfileName = executionProfileName;
+      return this;
+    }
+
+    @NonNull
+    public TableScan build() {
+      return new TableScan(
+          keyspace,
+          table,
+          columns.build(),
+          splitCount,
+          parallelism,
+          maxConcurrentSplitsPerNode,
+          pageSize,
+          executionProfileName);
+    }
+  }
+}
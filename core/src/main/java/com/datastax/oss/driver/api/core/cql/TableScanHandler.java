@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.api.core.cql;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Receives the results of a {@link TableScan}, split by split.
+ *
+ * <p>Callbacks are invoked on driver I/O threads: they must not block. Calls for different splits
+ * can happen concurrently, but calls for the same split are always sequential.
+ *
+ * @see CqlSession#scanAsync(TableScan, TableScanHandler)
+ */
+@FunctionalInterface
+public interface TableScanHandler {
+
+  /**
+   * Invoked for each page of results of a split.
+   *
+   * <p>The returned stage is used for backpressure: the next page of this split is not fetched
+   * until it completes. If it fails, the whole scan fails.
+   *
+   * @param split the split. Note that its boundaries are not necessarily tokens owned by a node.
+   * @param rows the rows of the current page (possibly empty). They must be consumed before the
+   *     returned stage completes.
+   */
+  @NonNull
+  CompletionStage<Void> onPage(@NonNull TokenRange split, @NonNull Iterable<Row> rows);
+
+  /**
+   * Invoked when all the rows of a split have been handled. This can be used to checkpoint the
+   * progress of the scan.
+   *
+   * <p>The default implementation does nothing.
+   */
+  default void onSplitComplete(@NonNull TokenRange split) {
+    // nothing to do
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.api.core.data;
+
+import com.datastax.oss.driver.api.core.type.codec.ExtraTypeCodecs;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import net.jcip.annotations.Immutable;
+
+/**
+ * An immutable map with {@code double} values, that stores its values in a primitive array instead
+ * of boxing them.
+ *
+ * <p>This is the Java representation of CQL maps with {@code double} values used by {@link
+ * ExtraTypeCodecs#mapToDoubleValues(TypeCodec)}. Entries are ordered like they were serialized by
+ * the server (which is the natural order of the keys), and can be iterated by position with {@link
+ * #size()}, {@link #getKey(int)} and {@link #getValue(int)}; key lookups are also supported, the
+ * underlying index is built on first use.
+ *
+ * @param <K> the type of the keys.
+ */
+@Immutable
+public final class ObjectDoubleMap<K> extends PrimitiveValueMapBase<K> {
+
+  @NonNull
+  public static <K> ObjectDoubleMap<K> empty() {
+    return new ObjectDoubleMap<>(Collections.emptyList(), new double[0]);
+  }
+
+  /** Creates a new instance by copying the contents of a regular Java map. */
+  @NonNull
+  public static <K> ObjectDoubleMap<K> copyOf(@NonNull Map<K, Double> map) {
+    List<K> keys = new ArrayList<>(map.size());
+    double[] values = new double[map.size()];
+    int i = 0;
+    for (Map.Entry<K, Double> entry : map.entrySet()) {
+      keys.add(Objects.requireNonNull(entry.getKey(), "Keys can't be null"));
+      values[i] = Objects.requireNonNull(entry.getValue(), "Values can't be null");
+      i += 1;
+    }
+    return new ObjectDoubleMap<>(keys, values);
+  }
+
+  private final double[] values;
+
+  /**
+   * Creates a new instance from its keys and values, which must have the same number of elements.
+   *
+   * <p>The arguments are not copied: they must not be modified after this call.
+   */
+  public ObjectDoubleMap(@NonNull List<K> keys, @NonNull double[] values) {
+    super(keys, values.length);
+    this.values = values;
+  }
+
+  /**
+   * Returns the value of the {@code i}th entry.
+   *
+   * @throws IndexOutOfBoundsException if the index is invalid.
+   */
+  public double getValue(int i) {
+    return values[i];
+  }
+
+  /**
+   * Returns the value associated with the given key, or {@code defaultValue} if there is no such
+   * key.
+   */
+  public double getOrDefault(@NonNull Object key, double defaultValue) {
+    int i = indexOf(key);
+    return (i < 0) ? defaultValue : values[i];
+  }
+
+  /** Copies the contents of this instance into a regular (boxed) Java map. */
+  @NonNull
+  public Map<K, Double> toMap() {
+    Map<K, Double> map = new LinkedHashMap<>(keys.size() * 2);
+    for (int i = 0; i < values.length; i++) {
+      map.put(keys.get(i), values[i]);
+    }
+    return map;
+  }
+
+  @Override
+  void appendValue(@NonNull StringBuilder builder, int i) {
+    builder.append(values[i]);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) {
+      return true;
+    } else if (other instanceof ObjectDoubleMap) {
+      ObjectDoubleMap<?> that = (ObjectDoubleMap<?>) other;
+      return this.keys.equals(that.keys) && Arrays.equals(this.values, that.values);
+    } else {
+      return false;
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * keys.hashCode() + Arrays.hashCode(values);
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.api.core.data;
+
+import com.datastax.oss.driver.shaded.guava.common.base.Preconditions;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Collections;
+import java.util.List;
+import net.jcip.annotations.Immutable;
+
+/**
+ * Common implementation of {@link ObjectIntMap}, {@link ObjectLongMap} and {@link ObjectDoubleMap}:
+ * manages the keys and the lookups by key, while subclasses store the values in a primitive array,
+ * in the same order as the keys.
+ *
+ * <p>The index used for lookups is an open-addressing hash table that maps each key to its
+ * position, so that lookups don't box any integer. It is built on first use.
+ *
+ * @param <K> the type of the keys.
+ */
+@Immutable
+abstract class PrimitiveValueMapBase<K> {
+
+  final List<K> keys;
+
+  // Slots contain the position of the entry + 1, 0 marks an empty slot.
+  private volatile int[] index;
+
+  PrimitiveValueMapBase(@NonNull List<K> keys, int valueCount) {
+    Preconditions.checkArgument(
+        keys.size() == valueCount,
+        "Expected the same number of keys and values, got %s and %s",
+        keys.size(),
+        valueCount);
+    this.keys = keys;
+  }
+
+  public int size() {
+    return keys.size();
+  }
+
+  public boolean isEmpty() {
+    return keys.isEmpty();
+  }
+
+  /**
+   * Returns the key of the {@code i}th entry.
+   *
+   * @throws IndexOutOfBoundsException if the index is invalid.
+   */
+  @NonNull
+  public K getKey(int i) {
+    return keys.get(i);
+  }
+
+  /** Returns the keys, in the order of the entries. */
+  @NonNull
+  public List<K> keys() {
+    return Collections.unmodifiableList(keys);
+  }
+
+  /**
+   * Returns the position of the entry with the given key, or -1 if there is no such entry. If the
+   * key appears more than once, this is the position of its first occurrence.
+   */
+  public int indexOf(@NonNull Object key) {
+    int[] index = this.index;
+    if (index == null) {
+      index = buildIndex();
+      this.index = index;
+    }
+    int mask = index.length - 1;
+    // The table is never more than half full, so this always reaches an empty slot.
+    for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+      int position = index[slot] - 1;
+      if (position < 0) {
+        return -1;
+      } else if (keys.get(position).equals(key)) {
+        return position;
+      }
+    }
+  }
+
+  public boolean containsKey(@NonNull Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  /** Appends the string representation of the {@code i}th value. */
+  abstract void appendValue(@NonNull StringBuilder builder, int i);
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("{");
+    for (int i = 0; i < keys.size(); i++) {
+      if (i > 0) {
+        builder.append(", ");
+      }
+      builder.append(keys.get(i)).append('=');
+      appendValue(builder, i);
+    }
+    return builder.append('}').toString();
+  }
+
+  private int[] buildIndex() {
+    int size = keys.size();
+    int capacity = 2;
+    while (capacity < 2 * size) {
+      capacity <<= 1;
+    }
+    int[] index = new int[capacity];
+    int mask = capacity - 1;
+    for (int i = 0; i < size; i++) {
+      K key = keys.get(i);
+      int slot = hash(key) & mask;
+      while (index[slot] != 0 && !keys.get(index[slot] - 1).equals(key)) {
+        slot = (slot + 1) & mask;
+      }
+      if (index[slot] == 0) {
+        index[slot] = i + 1;
+      }
+    }
+    return index;
+  }
+
+  private static int hash(Object key) {
+    int h = key.hashCode();
+    return h ^ (h >>> 16);
+  }
+}
@@ -85,13 +85,29 @@ public interface Metadata {
    * <p>Note that schema metadata can be disabled or restricted to a subset of keyspaces, therefore
    * this map might be empty or incomplete.
    *
+   * <p>If keyspaces are loaded lazily, this map contains all the keyspaces, but the ones that were
+   * not loaded yet only have their options (no tables, types, etc.). Use {@link
+   * #getKeyspace(CqlIdentifier)} to load them.
+   *
    * @see DefaultDriverOption#METADATA_SCHEMA_ENABLED
    * @see Session#setSchemaMetadataEnabled(Boolean)
    * @see DefaultDriverOption#METADATA_SCHEMA_REFRESHED_KEYSPACES
+   * @see DefaultDriverOption#METADATA_SCHEMA_LAZY_ENABLED
    */
   @NonNull
   Map<CqlIdentifier, KeyspaceMetadata> getKeyspaces();
 
+  /**
+   * The metadata of a keyspace.
+   *
+   * <p>If keyspaces are loaded lazily, and this keyspace is not loaded yet, this method fetches its
+   * contents first. It blocks until that's done, unless it's called from a driver thread (for
+   * example in a callback): then it starts loading in the background, and returns the keyspace
+   * options only. Loading is a regular schema refresh, including the schema agreement check, so it
+   * can block for as long as the schema request and agreement timeouts combined.
+   *
+   * @see DefaultDriverOption#METADATA_SCHEMA_LAZY_ENABLED
+   */
   @NonNull
   default Optional<KeyspaceMetadata> getKeyspace(@NonNull CqlIdentifier keyspaceId) {
     return Optional.ofNullable(getKeyspaces().get(keyspaceId));
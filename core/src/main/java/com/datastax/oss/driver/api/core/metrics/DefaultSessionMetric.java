@@ -32,6 +32,10 @@ public enum DefaultSessionMetric implements SessionMetric {
   THROTTLING_QUEUE_SIZE("throttling.queue-size"),
   THROTTLING_ERRORS("throttling.errors"),
   CQL_PREPARED_CACHE_SIZE("cql-prepared-cache-size"),
+  NODE_STATE_EVENTS_RECEIVED("node-state-events.received"),
+  NODE_STATE_EVENTS_APPLIED("node-state-events.applied"),
+  WARM_UP_PREPARED("warm-up.prepared"),
+  WARM_UP_REQUESTS("warm-up.requests"),
   ;
 
   private static final Map<String, DefaultSessionMetric> BY_PATH = sortByPath();
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.api.core.session;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.shaded.guava.common.base.Preconditions;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Duration;
+import java.util.List;
+import net.jcip.annotations.Immutable;
+
+/**
+ * Describes what {@link CqlSession#warmUp(WarmUpSpec)} should do before the session takes
+ * production traffic.
+ *
+ * <p>Example:
+ *
+ * <pre>
+ * session.warmUp(
+ *     WarmUpSpec.builder()
+ *         .addQuery("SELECT * FROM ks.users WHERE id = ?")
+ *         .addQuery("INSERT INTO ks.users (id, name) VALUES (?, ?)")
+ *         .withSyntheticRequests(500)
+ *         .build());
+ * </pre>
+ *
+ * @see CqlSession#warmUp(WarmUpSpec)
+ */
+@Immutable
+public class WarmUpSpec {
+
+  /** The default maximum number of concurrent warm-up requests. */
+  public static final int DEFAULT_CONCURRENCY = 32;
+
+  /** The default maximum time to wait for the pools of LOCAL nodes to be fully connected. */
+  public static final Duration DEFAULT_POOL_TIMEOUT = Duration.ofSeconds(30);
+
+  @NonNull
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  private final List<SimpleStatement> statementsToPrepare;
+  private final boolean waitForPools;
+  private final Duration poolTimeout;
+  private final int syntheticRequests;
+  private final int concurrency;
+
+  private WarmUpSpec(
+      List<SimpleStatement> statementsToPrepare,
+      boolean waitForPools,
+      Duration poolTimeout,
+      int syntheticRequests,
+      int concurrency) {
+    this.statementsToPrepare = statementsToPrepare;
+    this.waitForPools = waitForPools;
+    this.poolTimeout = poolTimeout;
+    this.syntheticRequests = syntheticRequests;
+    this.concurrency = concurrency;
+  }
+
+  /**
+   * The statements to prepare. Once they are prepared, the codecs of their variables and result
+   * columns are also resolved.
+   */
+  @NonNull
+  public List<SimpleStatement> getStatementsToPrepare() {
+    return statementsToPrepare;
+  }
+
+  /**
+   * Whether to wait until the pools of all LOCAL nodes have reached their configured size. This
+   * also opens lazy pools (see {@link DefaultDriverOption#CONNECTION_POOL_LOCAL_LAZY}).
+   */
+  public boolean isWaitForPools() {
+    return waitForPools;
+  }
+
+  /**
+   * How long to wait for the pools (if {@link #isWaitForPools()} is set). If the timeout expires,
+   * the warm-up fails.
+   */
+  @NonNull
+  public Duration getPoolTimeout() {
+    return poolTimeout;
+  }
+
+  /**
+   * How many synthetic requests to execute once the rest of the warm-up is done. They read the
+   * {@code system.local} table, which exercises the request and response paths of the driver
+   * (encoding, decoding, load balancing...) without touching application data.
+   */
+  public int getSyntheticRequests() {
+    return syntheticRequests;
+  }
+
+  /** The maximum number of warm-up requests (preparations or synthetic requests) in flight. */
+  public int getConcurrency() {
+    return concurrency;
+  }
+
+  public static class Builder {
+
+    private final ImmutableList.Builder<SimpleStatement> statementsToPrepare =
+        ImmutableList.builder();
+    private boolean waitForPools = true;
+    private Duration poolTimeout = DEFAULT_POOL_TIMEOUT;
+    private int syntheticRequests;
+    private int concurrency = DEFAULT_CONCURRENCY;
+
+    /** Adds a query string to prepare. */
+    @NonNull
+    public Builder addQuery(@NonNull String query) {
+      return addStatement(SimpleStatement.newInstance(query));
+    }
+
+    /** Adds query strings to prepare. */
+    @NonNull
+    public Builder addQueries(@NonNull Iterable<String> queries) {
+      for (String query : queries) {
+        addQuery(query);
+      }
+      return this;
+    }
+
+    /**
+     * Adds a statement to prepare. Use this instead of {@link #addQuery(String)} if you need to
+     * customize the preparation, for example set a keyspace or an execution profile.
+     */
+    @NonNull
+    public Builder addStatement(@NonNull SimpleStatement statement) {
+      this.statementsToPrepare.add(statement);
+      return this;
+    }
+
+    /**
+     * Whether to wait for the pools of LOCAL nodes to be fully connected (this is enabled by
+     * default).
+     */
+    @NonNull
+    public Builder withWaitForPools(boolean waitForPools) {
+      this.waitForPools = waitForPools;
+      return this;
+    }
+
+    /** How long to wait for the pools. Defaults to {@link #DEFAULT_POOL_TIMEOUT}. */
+    @NonNull
+    public Builder withPoolTimeout(@NonNull Duration poolTimeout) {
+      this.poolTimeout = poolTimeout;
+      return this;
+    }
+
+    /** How many synthetic requests to execute (none by default). */
+    @NonNull
+    public Builder withSyntheticRequests(int syntheticRequests) {
+      Preconditions.checkArgument(
+          syntheticRequests >= 0, "syntheticRequests must be >= 0 (got %s)", syntheticRequests);
+      this.syntheticRequests = syntheticRequests;
+      return this;
+    }
+
+    /**
+     * The maximum number of warm-up requests in flight. Defaults to {@link #DEFAULT_CONCURRENCY}.
+     */
+    @NonNull
+    public Builder withConcurrency(int concurrency) {
+      Preconditions.checkArgument(concurrency > 0, "concurrency must be > 0 (got %s)", concurrency);
+      this.concurrency = concurrency;
+      return this;
+    }
+
+    @NonNull
+    public WarmUpSpec build() {
+      return new WarmUpSpec(
+          statementsToPrepare.build(), waitForPools, poolTimeout, syntheticRequests, concurrency);
+    }
+  }
+}
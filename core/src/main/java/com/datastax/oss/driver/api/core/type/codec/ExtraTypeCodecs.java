@@ -17,25 +17,38 @@
  */
 package com.datastax.oss.driver.api.core.type.codec;
 
+import com.datastax.oss.driver.api.core.data.ObjectDoubleMap;
+import com.datastax.oss.driver.api.core.data.ObjectIntMap;
+import com.datastax.oss.driver.api.core.data.ObjectLongMap;
 import com.datastax.oss.driver.api.core.session.SessionBuilder;
 import com.datastax.oss.driver.api.core.type.DataTypes;
 import com.datastax.oss.driver.api.core.type.codec.registry.MutableCodecRegistry;
 import com.datastax.oss.driver.api.core.type.reflect.GenericType;
 import com.datastax.oss.driver.internal.core.type.DefaultVectorType;
+import com.datastax.oss.driver.internal.core.type.codec.BlobToChannelCodec;
+import com.datastax.oss.driver.internal.core.type.codec.BlobToInputStreamCodec;
 import com.datastax.oss.driver.internal.core.type.codec.SimpleBlobCodec;
+import com.datastax.oss.driver.internal.core.type.codec.StringCodec;
 import com.datastax.oss.driver.internal.core.type.codec.TimestampCodec;
 import com.datastax.oss.driver.internal.core.type.codec.extras.OptionalCodec;
 import com.datastax.oss.driver.internal.core.type.codec.extras.array.BooleanListToArrayCodec;
 import com.datastax.oss.driver.internal.core.type.codec.extras.array.ByteListToArrayCodec;
 import com.datastax.oss.driver.internal.core.type.codec.extras.array.DoubleListToArrayCodec;
+import com.datastax.oss.driver.internal.core.type.codec.extras.array.DoubleSetToArrayCodec;
 import com.datastax.oss.driver.internal.core.type.codec.extras.array.FloatListToArrayCodec;
+import com.datastax.oss.driver.internal.core.type.codec.extras.array.FloatSetToArrayCodec;
 import com.datastax.oss.driver.internal.core.type.codec.extras.array.IntListToArrayCodec;
+import com.datastax.oss.driver.internal.core.type.codec.extras.array.IntSetToArrayCodec;
 import com.datastax.oss.driver.internal.core.type.codec.extras.array.LongListToArrayCodec;
+import com.datastax.oss.driver.internal.core.type.codec.extras.array.LongSetToArrayCodec;
 import com.datastax.oss.driver.internal.core.type.codec.extras.array.ObjectListToArrayCodec;
 import com.datastax.oss.driver.internal.core.type.codec.extras.array.ShortListToArrayCodec;
 import com.datastax.oss.driver.internal.core.type.codec.extras.enums.EnumNameCodec;
 import com.datastax.oss.driver.internal.core.type.codec.extras.enums.EnumOrdinalCodec;
 import com.datastax.oss.driver.internal.core.type.codec.extras.json.JsonCodec;
+import com.datastax.oss.driver.internal.core.type.codec.extras.map.DoubleValueMapCodec;
+import com.datastax.oss.driver.internal.core.type.codec.extras.map.IntValueMapCodec;
+import com.datastax.oss.driver.internal.core.type.codec.extras.map.LongValueMapCodec;
 import com.datastax.oss.driver.internal.core.type.codec.extras.time.LocalTimestampCodec;
 import com.datastax.oss.driver.internal.core.type.codec.extras.time.PersistentZonedTimestampCodec;
 import com.datastax.oss.driver.internal.core.type.codec.extras.time.TimestampMillisCodec;
@@ -43,7 +56,10 @@ import com.datastax.oss.driver.internal.core.type.codec.extras.time.ZonedTimesta
 import com.datastax.oss.driver.internal.core.type.codec.extras.vector.FloatVectorToArrayCodec;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -227,6 +243,31 @@ public class ExtraTypeCodecs {
    */
   public static final TypeCodec<byte[]> BLOB_TO_ARRAY = new SimpleBlobCodec();
 
+  /**
+   * A codec that maps CQL type {@code blob} to Java's {@link InputStream}.
+   *
+   * <p>When reading, the returned stream reads the contents of the response directly, instead of
+   * copying them into a new array like {@link #BLOB_TO_ARRAY} does: this can halve the memory
+   * footprint of large blobs. The stream doesn't hold any external resource, it remains usable as
+   * long as the application keeps a reference to it, and doesn't need to be closed.
+   *
+   * <p>When writing, the provided stream is read until its end (but not closed) at the time the
+   * value is set, directly into the buffer that will be sent to the server.
+   *
+   * @see #BLOB_TO_CHANNEL
+   */
+  public static final TypeCodec<InputStream> BLOB_TO_INPUT_STREAM = new BlobToInputStreamCodec();
+
+  /**
+   * A codec that maps CQL type {@code blob} to Java's {@link ReadableByteChannel}.
+   *
+   * <p>This is the same as {@link #BLOB_TO_INPUT_STREAM}, except that it works with NIO channels.
+   * When writing, the contents of a {@link java.nio.channels.FileChannel} (or any other {@link
+   * java.nio.channels.SeekableByteChannel}) are read into a buffer of the exact size, without any
+   * intermediary copy.
+   */
+  public static final TypeCodec<ReadableByteChannel> BLOB_TO_CHANNEL = new BlobToChannelCodec();
+
   /**
    * A codec that maps CQL type {@code list<boolean>} to Java's {@code boolean[]}.
    *
@@ -304,6 +345,50 @@ public class ExtraTypeCodecs {
    */
   public static final TypeCodec<double[]> DOUBLE_LIST_TO_ARRAY = new DoubleListToArrayCodec();
 
+  /**
+   * A codec that maps CQL type {@code set<int>} to Java's {@code int[]}.
+   *
+   * <p>Note that this codec is designed for performance and converts CQL sets <em>directly</em> to
+   * {@code int[]}, thus avoiding any unnecessary boxing and unboxing of Java primitive {@code int}
+   * values; it also instantiates arrays without the need for an intermediary Java {@code Set}
+   * object. The elements are returned in the order sent by the server, which is their natural
+   * order.
+   */
+  public static final TypeCodec<int[]> INT_SET_TO_ARRAY = new IntSetToArrayCodec();
+
+  /**
+   * A codec that maps CQL type {@code set<bigint>} to Java's {@code long[]}.
+   *
+   * <p>Note that this codec is designed for performance and converts CQL sets <em>directly</em> to
+   * {@code long[]}, thus avoiding any unnecessary boxing and unboxing of Java primitive {@code
+   * long} values; it also instantiates arrays without the need for an intermediary Java {@code Set}
+   * object. The elements are returned in the order sent by the server, which is their natural
+   * order.
+   */
+  public static final TypeCodec<long[]> LONG_SET_TO_ARRAY = new LongSetToArrayCodec();
+
+  /**
+   * A codec that maps CQL type {@code set<float>} to Java's {@code float[]}.
+   *
+   * <p>Note that this codec is designed for performance and converts CQL sets <em>directly</em> to
+   * {@code float[]}, thus avoiding any unnecessary boxing and unboxing of Java primitive {@code
+   * float} values; it also instantiates arrays without the need for an intermediary Java {@code
+   * Set} object. The elements are returned in the order sent by the server, which is their natural
+   * order.
+   */
+  public static final TypeCodec<float[]> FLOAT_SET_TO_ARRAY = new FloatSetToArrayCodec();
+
+  /**
+   * A codec that maps CQL type {@code set<double>} to Java's {@code double[]}.
+   *
+   * <p>Note that this codec is designed for performance and converts CQL sets <em>directly</em> to
+   * {@code double[]}, thus avoiding any unnecessary boxing and unboxing of Java primitive {@code
+   * double} values; it also instantiates arrays without the need for an intermediary Java {@code
+   * Set} object. The elements are returned in the order sent by the server, which is their natural
+   * order.
+   */
+  public static final TypeCodec<double[]> DOUBLE_SET_TO_ARRAY = new DoubleSetToArrayCodec();
+
   /**
    * Builds a new codec that maps CQL type {@code timestamp} to Java's {@link Instant}, using the
    * given time zone to parse and format CQL literals.
@@ -397,6 +482,46 @@ public class ExtraTypeCodecs {
     return new ObjectListToArrayCodec<>(elementCodec);
   }
 
+  /**
+   * Builds a new codec that maps a CQL map with {@code int} values to a {@link ObjectIntMap}.
+   * Encoding and decoding of keys is delegated to the provided key codec.
+   *
+   * <p>Note that this codec is designed for performance and converts CQL map values
+   * <em>directly</em> to Java primitives, thus avoiding any unnecessary boxing and unboxing; for
+   * example {@code mapToIntValues(TypeCodecs.TEXT)} handles {@code map<text, int>}.
+   */
+  @NonNull
+  public static <K> TypeCodec<ObjectIntMap<K>> mapToIntValues(@NonNull TypeCodec<K> keyCodec) {
+    return new IntValueMapCodec<>(keyCodec);
+  }
+
+  /**
+   * Builds a new codec that maps a CQL map with {@code bigint} values to a {@link ObjectLongMap}.
+   * Encoding and decoding of keys is delegated to the provided key codec.
+   *
+   * <p>Note that this codec is designed for performance and converts CQL map values
+   * <em>directly</em> to Java primitives, thus avoiding any unnecessary boxing and unboxing; for
+   * example {@code mapToLongValues(TypeCodecs.TEXT)} handles {@code map<text, bigint>}.
+   */
+  @NonNull
+  public static <K> TypeCodec<ObjectLongMap<K>> mapToLongValues(@NonNull TypeCodec<K> keyCodec) {
+    return new LongValueMapCodec<>(keyCodec);
+  }
+
+  /**
+   * Builds a new codec that maps a CQL map with {@code double} values to a {@link ObjectDoubleMap}.
+   * Encoding and decoding of keys is delegated to the provided key codec.
+   *
+   * <p>Note that this codec is designed for performance and converts CQL map values
+   * <em>directly</em> to Java primitives, thus avoiding any unnecessary boxing and unboxing; for
+   * example {@code mapToDoubleValues(TypeCodecs.TEXT)} handles {@code map<text, double>}.
+   */
+  @NonNull
+  public static <K> TypeCodec<ObjectDoubleMap<K>> mapToDoubleValues(
+      @NonNull TypeCodec<K> keyCodec) {
+    return new DoubleValueMapCodec<>(keyCodec);
+  }
+
   /**
    * Builds a new codec that maps CQL type {@code int} to a Java Enum, according to its constants'
    * {@linkplain Enum#ordinal() ordinals} (<b>STRONGLY discouraged, see explanations below)</b>.
@@ -439,6 +564,39 @@ public class ExtraTypeCodecs {
     return new OptionalCodec<>(innerCodec);
   }
 
+  /**
+   * Builds a new codec for CQL type {@code text} that caches decoded values.
+   *
+   * <p>This is intended for low-cardinality columns (status codes, country codes, enum-like
+   * values...) that are read often: instead of allocating a new string every time, the codec
+   * returns the same instance when it decodes the same bytes again. Only short ASCII values (up to
+   * 64 bytes) are cached; other values are decoded like with {@link TypeCodecs#TEXT}.
+   *
+   * <p>The cache is fixed-size and direct-mapped: each value can only be stored in one slot, that
+   * it shares with other values of the same hash. If the column has more distinct values than the
+   * cache size, they will evict each other and the codec will perform like the default one.
+   *
+   * <p>To enable it for specific columns only, don't register the codec, but pass it explicitly
+   * when reading, for example {@code row.get("country", codec)}. If it is registered, it applies to
+   * all {@code text} columns.
+   *
+   * @param cacheSize the number of slots of the cache (rounded up to a power of two).
+   */
+  @NonNull
+  public static TypeCodec<String> cachedText(int cacheSize) {
+    return new StringCodec(DataTypes.TEXT, StandardCharsets.UTF_8, cacheSize);
+  }
+
+  /**
+   * Builds a new codec for CQL type {@code ascii} that caches decoded values.
+   *
+   * @see #cachedText(int)
+   */
+  @NonNull
+  public static TypeCodec<String> cachedAscii(int cacheSize) {
+    return new StringCodec(DataTypes.ASCII, StandardCharsets.US_ASCII, cacheSize);
+  }
+
   /**
    * Builds a new codec that maps CQL type {@code text} to the given Java type, using JSON
    * serialization with a default Jackson mapper.
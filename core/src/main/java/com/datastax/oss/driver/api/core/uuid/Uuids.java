@@ -30,16 +30,18 @@ import java.net.UnknownHostException;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Random;
 import java.util.Set;
 import java.util.SplittableRandom;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -124,6 +126,21 @@ public final class Uuids {
    */
   private static final long START_EPOCH_MILLIS = -12219292800000L;
 
+  // Time-based UUIDs are generated by independent "stripes", to avoid contention when many threads
+  // generate UUIDs concurrently. A thread always uses the same stripe (so the timestamps generated
+  // by a given thread are always increasing). Each stripe has its own clock sequence, so UUIDs
+  // remain unique even if two stripes use the same timestamp.
+  private static final int STRIPE_COUNT = stripeCount();
+  // Padding between the timestamps of two stripes, to avoid false sharing.
+  private static final int STRIPE_PADDING = 8;
+
+  private static int stripeCount() {
+    int processors = Runtime.getRuntime().availableProcessors();
+    // Next power of two >= 2 x processors, within [1, 256]
+    int count = Integer.highestOneBit(Math.max(1, processors * 2 - 1)) << 1;
+    return Math.min(256, count);
+  }
+
   // Lazily initialize clock seq + node value at time of first access.  Quarkus will attempt to
   // initialize this class at deployment time which prevents us from just setting this value
   // directly.  The "node" part of the clock seq + node includes the current PID which (for
@@ -135,19 +152,19 @@ public final class Uuids {
   private static class ClockSeqAndNodeContainer {
 
     private volatile boolean initialized = false;
-    private long val;
+    private long[] val;
 
-    private long get() {
+    private long get(int stripe) {
       if (!initialized) {
         synchronized (ClockSeqAndNodeContainer.class) {
           if (!initialized) {
 
+            val = makeClockSeqAndNodes(STRIPE_COUNT);
             initialized = true;
-            val = makeClockSeqAndNode();
           }
         }
       }
-      return val;
+      return val[stripe];
     }
   }
 
@@ -164,7 +181,8 @@ public final class Uuids {
   private static final long MIN_CLOCK_SEQ_AND_NODE = 0x8080808080808080L;
   private static final long MAX_CLOCK_SEQ_AND_NODE = 0x7f7f7f7f7f7f7f7fL;
 
-  private static final AtomicLong lastTimestamp = new AtomicLong(0L);
+  private static final AtomicLongArray lastTimestamps =
+      new AtomicLongArray(STRIPE_COUNT * STRIPE_PADDING);
 
   private static long makeNode() {
 
@@ -246,15 +264,19 @@ public final class Uuids {
     }
   }
 
-  private static long makeClockSeqAndNode() {
+  private static long[] makeClockSeqAndNodes(int count) {
     long clock = new Random(System.currentTimeMillis()).nextLong();
     long node = makeNode();
 
-    long lsb = 0;
-    lsb |= (clock & 0x0000000000003FFFL) << 48;
-    lsb |= 0x8000000000000000L;
-    lsb |= node;
-    return lsb;
+    long[] lsbs = new long[count];
+    for (int i = 0; i < count; i++) {
+      long lsb = 0;
+      lsb |= ((clock + i) & 0x0000000000003FFFL) << 48;
+      lsb |= 0x8000000000000000L;
+      lsb |= node;
+      lsbs[i] = lsb;
+    }
+    return lsbs;
   }
 
   /**
@@ -514,6 +536,12 @@ public final class Uuids {
    * If you simply need to perform a range query on a {@code timeuuid} column, use the "fake" UUID
    * generated by {@link #startOf(long)} and {@link #endOf(long)}.
    *
+   * <p>Concurrent usage: this method can be called from many threads without contention. The UUIDs
+   * generated by a given thread have strictly increasing timestamps; UUIDs generated by different
+   * threads are not ordered relative to each other, but they are guaranteed to be distinct (each
+   * thread uses one of several clock sequences, and all the threads sharing a clock sequence also
+   * share a timestamp counter).
+   *
    * <p>Usage with non-blocking threads: beware that this method may block the calling thread on its
    * very first invocation, because the node part of time-based UUIDs needs to be computed at that
    * moment, and the computation may require the loading of native libraries. If that is a problem,
@@ -522,7 +550,55 @@ public final class Uuids {
    */
   @NonNull
   public static UUID timeBased() {
-    return new UUID(makeMsb(getCurrentTimestamp()), CLOCK_SEQ_AND_NODE.get());
+    int stripe = currentStripe();
+    return new UUID(makeMsb(getCurrentTimestamp(stripe)), CLOCK_SEQ_AND_NODE.get(stripe));
+  }
+
+  /**
+   * Creates a batch of new time-based (version 1) UUIDs.
+   *
+   * <p>This is equivalent to calling {@link #timeBased()} {@code count} times, but cheaper: the
+   * timestamps are reserved together, as long as this doesn't require running ahead of the system
+   * clock. The UUIDs are returned in increasing order (for Cassandra {@code timeuuid} sorting).
+   *
+   * <p>The same restrictions as {@link #timeBased()} apply; in particular, at most 10,000 UUIDs can
+   * be generated per millisecond and thread, so large batches may wait for the clock to advance.
+   *
+   * @throws IllegalArgumentException if {@code count} is negative.
+   */
+  @NonNull
+  public static List<UUID> timeBased(int count) {
+    if (count < 0) {
+      throw new IllegalArgumentException("Count must be positive or zero, got " + count);
+    }
+    int stripe = currentStripe();
+    long clockSeqAndNode = CLOCK_SEQ_AND_NODE.get(stripe);
+    List<UUID> uuids = new ArrayList<>(count);
+    int index = stripe * STRIPE_PADDING;
+    while (uuids.size() < count) {
+      int remaining = count - uuids.size();
+      long now = fromUnixTimestamp(System.currentTimeMillis());
+      long last = lastTimestamps.get(index);
+      long first;
+      long end;
+      if (millisOf(now) < millisOf(last)) {
+        // The clock went back in time, bail out (same as getCurrentTimestamp)
+        first = lastTimestamps.getAndAdd(index, remaining) + 1;
+        end = first + remaining;
+      } else {
+        // Reserve as many timestamps as possible, without going past the current millisecond. If
+        // there are none left, spin until the next millisecond.
+        first = Math.max(now, last + 1);
+        end = Math.min(first + remaining, (millisOf(now) + 1) * 10000);
+        if (end <= first || !lastTimestamps.compareAndSet(index, last, end - 1)) {
+          continue;
+        }
+      }
+      for (long timestamp = first; timestamp < end; timestamp++) {
+        uuids.add(new UUID(makeMsb(timestamp), clockSeqAndNode));
+      }
+    }
+    return uuids;
   }
 
   /**
@@ -595,6 +671,10 @@ public final class Uuids {
     return (timestamp / 10000) + START_EPOCH_MILLIS;
   }
 
+  private static int currentStripe() {
+    return (int) (Thread.currentThread().getId() & (STRIPE_COUNT - 1));
+  }
+
   // Use {@link System#currentTimeMillis} for a base time in milliseconds, and if we are in the same
   // millisecond as the previous generation, increment the number of nanoseconds.
   // However, since the precision is 100-nanosecond intervals, we can only generate 10K UUIDs within
@@ -602,25 +682,27 @@ public final class Uuids {
   // millisecond (which, while admittedly unlikely in a real application, is very achievable on even
   // modest machines), then we stall the generator (busy spin) until the next millisecond as
   // required by the RFC.
-  private static long getCurrentTimestamp() {
+  private static long getCurrentTimestamp(int stripe) {
+    int index = stripe * STRIPE_PADDING;
     while (true) {
       long now = fromUnixTimestamp(System.currentTimeMillis());
-      long last = lastTimestamp.get();
+      long last = lastTimestamps.get(index);
       if (now > last) {
-        if (lastTimestamp.compareAndSet(last, now)) {
+        if (lastTimestamps.compareAndSet(index, last, now)) {
           return now;
         }
       } else {
         long lastMillis = millisOf(last);
         // If the clock went back in time, bail out
         if (millisOf(now) < millisOf(last)) {
-          return lastTimestamp.incrementAndGet();
+          return lastTimestamps.incrementAndGet(index);
         }
         long candidate = last + 1;
         // If we've generated more than 10k uuid in that millisecond, restart the whole process
         // until we get to the next millis. Otherwise, we try use our candidate ... unless we've
         // been beaten by another thread in which case we try again.
-        if (millisOf(candidate) == lastMillis && lastTimestamp.compareAndSet(last, candidate)) {
+        if (millisOf(candidate) == lastMillis
+            && lastTimestamps.compareAndSet(index, last, candidate)) {
           return candidate;
         }
       }
@@ -35,7 +35,9 @@ import com.datastax.oss.driver.internal.core.metadata.DefaultTopologyMonitor;
 import com.datastax.oss.driver.internal.core.metadata.DistanceEvent;
 import com.datastax.oss.driver.internal.core.metadata.MetadataManager;
 import com.datastax.oss.driver.internal.core.metadata.NodeStateEvent;
+import com.datastax.oss.driver.internal.core.metadata.SchemaChangeReceivedEvent;
 import com.datastax.oss.driver.internal.core.metadata.TopologyEvent;
+import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefreshScope;
 import com.datastax.oss.driver.internal.core.util.Loggers;
 import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
 import com.datastax.oss.driver.internal.core.util.concurrent.Reconnection;
@@ -226,9 +228,11 @@ public class ControlConnection implements EventCallback, AsyncAutoCloseable {
 
   private void processSchemaChange(Event event) {
     SchemaChangeEvent sce = (SchemaChangeEvent) event;
+    SchemaRefreshScope scope = SchemaRefreshScope.forChange(sce.target, sce.keyspace, sce.object);
+    context.getEventBus().fire(new SchemaChangeReceivedEvent(scope));
     context
         .getMetadataManager()
-        .refreshSchema(sce.keyspace, false, false)
+        .refreshSchema(scope, false, false)
         .whenComplete(
             (metadata, error) -> {
               if (error != null) {
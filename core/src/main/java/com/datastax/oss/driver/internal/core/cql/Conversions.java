@@ -67,6 +67,7 @@ import com.datastax.oss.driver.internal.core.DefaultProtocolFeature;
 import com.datastax.oss.driver.internal.core.ProtocolVersionRegistry;
 import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
 import com.datastax.oss.driver.internal.core.data.ValuesHelper;
+import com.datastax.oss.driver.internal.core.metadata.token.TokenFactory;
 import com.datastax.oss.driver.shaded.guava.common.annotations.VisibleForTesting;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
 import com.datastax.oss.driver.shaded.guava.common.primitives.Ints;
@@ -92,6 +93,7 @@ import com.datastax.oss.protocol.internal.response.result.RowsMetadata;
 import com.datastax.oss.protocol.internal.util.Bytes;
 import com.datastax.oss.protocol.internal.util.collection.NullAllowingImmutableList;
 import com.datastax.oss.protocol.internal.util.collection.NullAllowingImmutableMap;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -361,6 +363,18 @@ public class Conversions {
 
   public static DefaultPreparedStatement toPreparedStatement(
       Prepared response, PrepareRequest request, InternalDriverContext context) {
+    return toPreparedStatement(response, request, context, null);
+  }
+
+  /**
+   * @param tokenFactory the token factory of the cluster, if known. Bound statements created from
+   *     the prepared statement use it to compute their routing token.
+   */
+  public static DefaultPreparedStatement toPreparedStatement(
+      Prepared response,
+      PrepareRequest request,
+      InternalDriverContext context,
+      @Nullable TokenFactory tokenFactory) {
     ColumnDefinitions variableDefinitions =
         toColumnDefinitions(response.variablesMetadata, context);
 
@@ -396,7 +410,8 @@ public class Conversions {
         request.getSerialConsistencyLevelForBoundStatements(),
         request.areBoundStatementsTracing(),
         context.getCodecRegistry(),
-        context.getProtocolVersion());
+        context.getProtocolVersion(),
+        tokenFactory);
   }
 
   public static ColumnDefinitions toColumnDefinitions(
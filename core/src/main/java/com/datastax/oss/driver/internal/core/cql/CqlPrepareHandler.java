@@ -45,6 +45,8 @@ import com.datastax.oss.driver.internal.core.adminrequest.ThrottledAdminRequestH
 import com.datastax.oss.driver.internal.core.channel.DriverChannel;
 import com.datastax.oss.driver.internal.core.channel.ResponseCallback;
 import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.driver.internal.core.metadata.token.DefaultTokenMap;
+import com.datastax.oss.driver.internal.core.metadata.token.TokenFactory;
 import com.datastax.oss.driver.internal.core.session.DefaultSession;
 import com.datastax.oss.driver.internal.core.util.Loggers;
 import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
@@ -242,8 +244,16 @@ public class CqlPrepareHandler implements Throttled {
     // Whatever happens below, we're done with this stream id
     throttler.signalSuccess(this);
 
+    // The partitioner never changes, so the factory can be captured once for all the statements
+    TokenFactory tokenFactory =
+        session
+            .getMetadata()
+            .getTokenMap()
+            .filter(DefaultTokenMap.class::isInstance)
+            .map(tokenMap -> ((DefaultTokenMap) tokenMap).getTokenFactory())
+            .orElse(null);
     DefaultPreparedStatement preparedStatement =
-        Conversions.toPreparedStatement(response, request, context);
+        Conversions.toPreparedStatement(response, request, context, tokenFactory);
 
     session
         .getRepreparePayloads()
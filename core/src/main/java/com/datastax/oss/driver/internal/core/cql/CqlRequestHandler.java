@@ -27,7 +27,9 @@ import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
 import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
 import com.datastax.oss.driver.api.core.connection.FrameTooLongException;
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.Statement;
 import com.datastax.oss.driver.api.core.metadata.Node;
 import com.datastax.oss.driver.api.core.metrics.DefaultNodeMetric;
@@ -51,6 +53,7 @@ import com.datastax.oss.driver.internal.core.channel.DriverChannel;
 import com.datastax.oss.driver.internal.core.channel.ResponseCallback;
 import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
 import com.datastax.oss.driver.internal.core.metadata.DefaultNode;
+import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefreshScope;
 import com.datastax.oss.driver.internal.core.metrics.NodeMetricUpdater;
 import com.datastax.oss.driver.internal.core.metrics.SessionMetricUpdater;
 import com.datastax.oss.driver.internal.core.session.DefaultSession;
@@ -170,6 +173,14 @@ public class CqlRequestHandler implements Throttled {
     Duration timeout = Conversions.resolveRequestTimeout(statement, context);
     this.scheduledTimeout = scheduleTimeout(timeout);
 
+    if (statement instanceof BoundStatement) {
+      // Track how often each prepared statement is used, ReprepareOnUp handles the hottest first
+      PreparedStatement preparedStatement = ((BoundStatement) statement).getPreparedStatement();
+      if (preparedStatement instanceof DefaultPreparedStatement) {
+        ((DefaultPreparedStatement) preparedStatement).getRepreparePayload().recordExecution();
+      }
+    }
+
     this.throttler = context.getRequestThrottler();
     this.throttler.register(this);
   }
@@ -630,7 +641,11 @@ public class CqlRequestHandler implements Throttled {
           SchemaChange schemaChange = (SchemaChange) responseMessage;
           context
               .getMetadataManager()
-              .refreshSchema(schemaChange.keyspace, false, false)
+              .refreshSchema(
+                  SchemaRefreshScope.forChange(
+                      schemaChange.target, schemaChange.keyspace, schemaChange.object),
+                  false,
+                  false)
               .whenComplete(
                   (result, error) -> {
                     boolean schemaInAgreement;
@@ -0,0 +1,343 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.cql;
+
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.session.Request;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.driver.internal.core.session.DefaultSession;
+import com.datastax.oss.driver.internal.core.session.RequestProcessor;
+import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
+import io.netty.util.concurrent.EventExecutor;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.Immutable;
+import net.jcip.annotations.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Groups idempotent writes to the same partition into unlogged batches.
+ *
+ * <p>This processor is registered before {@link CqlRequestAsyncProcessor} when {@link
+ * DefaultDriverOption#REQUEST_WRITE_BATCHING_ENABLED} is set. It only claims the bound statements
+ * that can be batched safely, all other requests fall through to the next processor. The writes to
+ * a partition are sent when they reach the maximum batch size, or when the window has elapsed after
+ * the first one; each write then completes with the result of the batch.
+ *
+ * <p>The session closes this processor when it shuts down: writes that are still waiting for their
+ * window fail at that point.
+ */
+@ThreadSafe
+public class CqlWriteBatchingProcessor
+    implements RequestProcessor<Statement<?>, CompletionStage<AsyncResultSet>>, AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CqlWriteBatchingProcessor.class);
+
+  private final InternalDriverContext context;
+  private final CqlRequestAsyncProcessor delegate;
+  private final int maxStatements;
+  private final long windowNanos;
+  private final EventExecutor adminExecutor;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  @GuardedBy("lock")
+  private final Map<GroupKey, Group> groups = new HashMap<>();
+
+  @GuardedBy("lock")
+  private boolean closed;
+
+  public CqlWriteBatchingProcessor(
+      InternalDriverContext context, CqlRequestAsyncProcessor delegate) {
+    this.context = context;
+    this.delegate = delegate;
+    DriverExecutionProfile config = context.getConfig().getDefaultProfile();
+    this.maxStatements = config.getInt(DefaultDriverOption.REQUEST_WRITE_BATCHING_MAX_STATEMENTS);
+    this.windowNanos =
+        config.getDuration(DefaultDriverOption.REQUEST_WRITE_BATCHING_WINDOW).toNanos();
+    this.adminExecutor = context.getNettyOptions().adminEventExecutorGroup().next();
+  }
+
+  @Override
+  public boolean canProcess(Request request, GenericType<?> resultType) {
+    return request instanceof BoundStatement
+        && resultType.equals(Statement.ASYNC)
+        && isBatchable((BoundStatement) request);
+  }
+
+  /**
+   * Whether a statement can be part of a batch without changing its semantics: it must be an
+   * idempotent write with a routing key, not a counter update, and not set any option that only
+   * applies to individual requests.
+   */
+  private boolean isBatchable(BoundStatement statement) {
+    if (statement.getNode() != null
+        || statement.isTracing()
+        || statement.getTimeout() != null
+        || statement.getQueryTimestamp() != Statement.NO_DEFAULT_TIMESTAMP
+        || statement.getNowInSeconds() != Statement.NO_NOW_IN_SECONDS
+        || statement.getKeyspace() != null
+        || !statement.getCustomPayload().isEmpty()
+        // Statements that return rows are not writes
+        || statement.getPreparedStatement().getResultSetDefinitions().size() != 0
+        || statement.getRoutingKey() == null
+        || isCounterUpdate(statement)) {
+      return false;
+    }
+    Boolean idempotent = statement.isIdempotent();
+    return (idempotent == null)
+        ? Conversions.resolveExecutionProfile(statement, context)
+            .getBoolean(DefaultDriverOption.REQUEST_DEFAULT_IDEMPOTENCE)
+        : idempotent;
+  }
+
+  /**
+   * Counter updates can't go in an unlogged batch (the server rejects them), even if they were
+   * marked idempotent.
+   */
+  private boolean isCounterUpdate(BoundStatement statement) {
+    ColumnDefinitions variables = statement.getPreparedStatement().getVariableDefinitions();
+    for (ColumnDefinition variable : variables) {
+      if (variable.getType().equals(DataTypes.COUNTER)) {
+        return true;
+      }
+    }
+    // An increment by a literal has no counter variable: check the table, if its metadata is
+    // available (don't use getKeyspace(), it could block to load the keyspace lazily).
+    if (variables.size() > 0) {
+      ColumnDefinition first = variables.get(0);
+      KeyspaceMetadata keyspace =
+          context.getMetadataManager().getMetadata().getKeyspaces().get(first.getKeyspace());
+      TableMetadata table =
+          (keyspace == null) ? null : keyspace.getTable(first.getTable()).orElse(null);
+      if (table != null) {
+        for (ColumnMetadata column : table.getColumns().values()) {
+          if (column.getType().equals(DataTypes.COUNTER)) {
+            return true;
+          }
+        }
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public CompletionStage<AsyncResultSet> process(
+      Statement<?> request,
+      DefaultSession session,
+      InternalDriverContext context,
+      String sessionLogPrefix) {
+    GroupKey key = new GroupKey(request);
+    CompletableFuture<AsyncResultSet> result = new CompletableFuture<>();
+    Group full = null;
+    lock.lock();
+    try {
+      if (closed) {
+        return CompletableFutures.failedFuture(new IllegalStateException("Session is closed"));
+      }
+      Group group = groups.get(key);
+      if (group == null) {
+        Group newGroup = new Group(key);
+        newGroup.windowTimeout =
+            adminExecutor.schedule(
+                () -> onWindowElapsed(newGroup, session, sessionLogPrefix),
+                windowNanos,
+                TimeUnit.NANOSECONDS);
+        groups.put(key, newGroup);
+        group = newGroup;
+      }
+      group.statements.add((BatchableStatement<?>) request);
+      group.results.add(result);
+      if (group.statements.size() >= maxStatements) {
+        groups.remove(key);
+        full = group;
+      }
+    } finally {
+      lock.unlock();
+    }
+    if (full != null) {
+      full.windowTimeout.cancel(false);
+      send(full, session, sessionLogPrefix);
+    }
+    return result;
+  }
+
+  @Override
+  public CompletionStage<AsyncResultSet> newFailure(RuntimeException error) {
+    return CompletableFutures.failedFuture(error);
+  }
+
+  /** Fails the writes that are still waiting for their window. */
+  @Override
+  public void close() {
+    List<Group> pending;
+    lock.lock();
+    try {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      pending = new ArrayList<>(groups.values());
+      groups.clear();
+    } finally {
+      lock.unlock();
+    }
+    if (!pending.isEmpty()) {
+      LOG.debug("[{}] Failing {} pending write batches", context.getSessionName(), pending.size());
+    }
+    IllegalStateException error = new IllegalStateException("Session is closed");
+    for (Group group : pending) {
+      group.windowTimeout.cancel(false);
+      for (CompletableFuture<AsyncResultSet> result : group.results) {
+        result.completeExceptionally(error);
+      }
+    }
+  }
+
+  private void onWindowElapsed(Group group, DefaultSession session, String sessionLogPrefix) {
+    lock.lock();
+    try {
+      // The group might have been sent already because it was full
+      if (groups.get(group.key) != group) {
+        return;
+      }
+      groups.remove(group.key);
+    } finally {
+      lock.unlock();
+    }
+    send(group, session, sessionLogPrefix);
+  }
+
+  private void send(Group group, DefaultSession session, String sessionLogPrefix) {
+    BatchableStatement<?> first = group.statements.get(0);
+    Statement<?> statement;
+    if (group.statements.size() == 1) {
+      statement = first;
+    } else {
+      LOG.trace(
+          "[{}] Sending {} writes to the same partition as a batch",
+          sessionLogPrefix,
+          group.statements.size());
+      statement =
+          BatchStatement.newInstance(BatchType.UNLOGGED, group.statements)
+              .setExecutionProfileName(first.getExecutionProfileName())
+              .setExecutionProfile(first.getExecutionProfile())
+              .setConsistencyLevel(first.getConsistencyLevel())
+              .setSerialConsistencyLevel(first.getSerialConsistencyLevel())
+              .setIdempotent(true);
+    }
+    CompletionStage<AsyncResultSet> batchResult;
+    try {
+      batchResult = delegate.process(statement, session, context, sessionLogPrefix);
+    } catch (Throwable t) {
+      batchResult = CompletableFutures.failedFuture(t);
+    }
+    batchResult.whenComplete(
+        (resultSet, error) -> {
+          for (CompletableFuture<AsyncResultSet> result : group.results) {
+            if (error != null) {
+              result.completeExceptionally(error);
+            } else {
+              result.complete(resultSet);
+            }
+          }
+        });
+  }
+
+  /** The statements that can go in the same batch. */
+  @Immutable
+  private static class GroupKey {
+    private final CqlIdentifier keyspace;
+    private final ByteBuffer routingKey;
+    private final String executionProfileName;
+    private final DriverExecutionProfile executionProfile;
+    private final ConsistencyLevel consistencyLevel;
+    private final ConsistencyLevel serialConsistencyLevel;
+
+    private GroupKey(Statement<?> statement) {
+      this.keyspace = statement.getRoutingKeyspace();
+      this.routingKey = statement.getRoutingKey();
+      this.executionProfileName = statement.getExecutionProfileName();
+      this.executionProfile = statement.getExecutionProfile();
+      this.consistencyLevel = statement.getConsistencyLevel();
+      this.serialConsistencyLevel = statement.getSerialConsistencyLevel();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (other == this) {
+        return true;
+      } else if (other instanceof GroupKey) {
+        GroupKey that = (GroupKey) other;
+        return Objects.equals(this.keyspace, that.keyspace)
+            && Objects.equals(this.routingKey, that.routingKey)
+            && Objects.equals(this.executionProfileName, that.executionProfileName)
+            // Profiles don't override equals, compare identities
+            && this.executionProfile == that.executionProfile
+            && Objects.equals(this.consistencyLevel, that.consistencyLevel)
+            && Objects.equals(this.serialConsistencyLevel, that.serialConsistencyLevel);
+      } else {
+        return false;
+      }
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(keyspace, routingKey, executionProfileName, consistencyLevel);
+    }
+  }
+
+  private static class Group {
+    final GroupKey key;
+    // Only modified under the processor's lock, and read after the group was removed from the map
+    final List<BatchableStatement<?>> statements = new ArrayList<>();
+    final List<CompletableFuture<AsyncResultSet>> results = new ArrayList<>();
+    ScheduledFuture<?> windowTimeout;
+
+    Group(GroupKey key) {
+      this.key = key;
+    }
+  }
+}
@@ -20,6 +20,7 @@ package com.datastax.oss.driver.internal.core.cql;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ColumnarPage;
 import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.Statement;
@@ -44,7 +45,7 @@ public class DefaultAsyncResultSet implements AsyncResultSet {
   private final ColumnDefinitions definitions;
   private final ExecutionInfo executionInfo;
   private final CqlSession session;
-  private final CountingIterator<Row> iterator;
+  private final RowIterator iterator;
   private final Iterable<Row> currentPage;
 
   public DefaultAsyncResultSet(
@@ -56,14 +57,7 @@ public class DefaultAsyncResultSet implements AsyncResultSet {
     this.definitions = definitions;
     this.executionInfo = executionInfo;
     this.session = session;
-    this.iterator =
-        new CountingIterator<Row>(data.size()) {
-          @Override
-          protected Row computeNext() {
-            List<ByteBuffer> rowData = data.poll();
-            return (rowData == null) ? endOfData() : new DefaultRow(definitions, rowData, context);
-          }
-        };
+    this.iterator = new RowIterator(definitions, data, context);
     this.currentPage = () -> iterator;
   }
 
@@ -95,6 +89,12 @@ public class DefaultAsyncResultSet implements AsyncResultSet {
     return executionInfo.getPagingState() != null;
   }
 
+  @NonNull
+  @Override
+  public ColumnarPage consumeColumns(@NonNull int... indices) {
+    return iterator.consumeColumns(indices);
+  }
+
   @NonNull
   @Override
   public CompletionStage<AsyncResultSet> fetchNextPage() throws IllegalStateException {
@@ -126,6 +126,51 @@ public class DefaultAsyncResultSet implements AsyncResultSet {
     }
   }
 
+  private static class RowIterator extends CountingIterator<Row> {
+
+    private final ColumnDefinitions definitions;
+    private final Queue<List<ByteBuffer>> data;
+    private final InternalDriverContext context;
+
+    private RowIterator(
+        ColumnDefinitions definitions,
+        Queue<List<ByteBuffer>> data,
+        InternalDriverContext context) {
+      super(data.size());
+      this.definitions = definitions;
+      this.data = data;
+      this.context = context;
+    }
+
+    @Override
+    protected Row computeNext() {
+      List<ByteBuffer> rowData = data.poll();
+      return (rowData == null) ? endOfData() : new DefaultRow(definitions, rowData, context);
+    }
+
+    private ColumnarPage consumeColumns(int[] indices) {
+      DefaultColumnarPage.Builder builder =
+          new DefaultColumnarPage.Builder(
+              definitions,
+              indices,
+              remaining,
+              context.getCodecRegistry(),
+              context.getProtocolVersion());
+      // If the client peeked (for example with wasApplied()), the first row is already
+      // materialized
+      if (isNextComputed()) {
+        builder.addRow(next());
+      }
+      // Decode the rest directly from the raw data, without creating Row instances
+      List<ByteBuffer> rowData;
+      while ((rowData = data.poll()) != null) {
+        builder.addRow(rowData);
+        remaining -= 1;
+      }
+      return builder.build();
+    }
+  }
+
   static AsyncResultSet empty(final ExecutionInfo executionInfo) {
     return new AsyncResultSet() {
       @NonNull
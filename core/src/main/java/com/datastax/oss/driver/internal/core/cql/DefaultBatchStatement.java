@@ -568,12 +568,25 @@ public class DefaultBatchStatement implements BatchStatement {
   public Token getRoutingToken() {
     if (routingToken != null) {
       return routingToken;
-    } else {
-      for (BatchableStatement<?> statement : statements) {
-        Token token = statement.getRoutingToken();
-        if (token != null) {
-          return token;
-        }
+    } else if (routingKey != null) {
+      // The load balancing policy checks the token first, don't let a child's token override the
+      // key that was set on the batch.
+      return null;
+    }
+    for (BatchableStatement<?> statement : statements) {
+      Token token =
+          (statement instanceof DefaultBoundStatement)
+              ? ((DefaultBoundStatement) statement).getExplicitRoutingToken()
+              : statement.getRoutingToken();
+      if (token != null) {
+        return token;
+      }
+    }
+    // No explicit token: the batch is routed with the key of the first child that has one. If
+    // that child is a bound statement, it can hash that key itself (and cache the result).
+    for (BatchableStatement<?> statement : statements) {
+      if (statement.getRoutingKey() != null) {
+        return (statement instanceof DefaultBoundStatement) ? statement.getRoutingToken() : null;
       }
     }
     return null;
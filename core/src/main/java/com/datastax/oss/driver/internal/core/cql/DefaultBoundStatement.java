@@ -28,6 +28,7 @@ import com.datastax.oss.driver.api.core.metadata.Node;
 import com.datastax.oss.driver.api.core.metadata.token.Token;
 import com.datastax.oss.driver.api.core.type.DataType;
 import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.internal.core.metadata.token.TokenFactory;
 import com.datastax.oss.driver.internal.core.util.RoutingKey;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -63,6 +64,12 @@ public class DefaultBoundStatement implements BoundStatement {
   private final Node node;
   private final int nowInSeconds;
 
+  // Computed lazily from the values (and cached since the instance is immutable), unless
+  // routingKey or routingToken was set explicitly. Racing threads might compute them twice, but
+  // they will always get the same result.
+  private volatile ByteBuffer computedRoutingKey;
+  private volatile Token computedRoutingToken;
+
   public DefaultBoundStatement(
       PreparedStatement preparedStatement,
       ColumnDefinitions variableDefinitions,
@@ -355,28 +362,45 @@ public class DefaultBoundStatement implements BoundStatement {
   public ByteBuffer getRoutingKey() {
     if (routingKey != null) {
       return routingKey;
+    }
+    ByteBuffer key = computedRoutingKey;
+    if (key == null) {
+      key = computeRoutingKey();
+      computedRoutingKey = key;
+    }
+    return key;
+  }
+
+  private ByteBuffer computeRoutingKey() {
+    List<Integer> indices = preparedStatement.getPartitionKeyIndices();
+    if (indices.isEmpty()) {
+      return null;
+    } else if (indices.size() == 1) {
+      return getBytesUnsafe(indices.get(0));
     } else {
-      List<Integer> indices = preparedStatement.getPartitionKeyIndices();
-      if (indices.isEmpty()) {
-        return null;
-      } else if (indices.size() == 1) {
-        return getBytesUnsafe(indices.get(0));
-      } else {
-        ByteBuffer[] components = new ByteBuffer[indices.size()];
-        for (int i = 0; i < components.length; i++) {
-          ByteBuffer value;
-          int index = indices.get(i);
-          if (!isSet(index) || (value = getBytesUnsafe(index)) == null) {
-            return null;
-          } else {
-            components[i] = value;
-          }
+      ByteBuffer[] components = new ByteBuffer[indices.size()];
+      for (int i = 0; i < components.length; i++) {
+        ByteBuffer value;
+        int index = indices.get(i);
+        if (!isSet(index) || (value = getBytesUnsafe(index)) == null) {
+          return null;
+        } else {
+          components[i] = value;
         }
-        return RoutingKey.compose(components);
       }
+      return RoutingKey.compose(components);
     }
   }
 
+  /**
+   * The routing key that was set explicitly with {@link #setRoutingKey(ByteBuffer)}, or {@code
+   * null} if it is computed from the values.
+   */
+  @Nullable
+  public ByteBuffer getExplicitRoutingKey() {
+    return routingKey;
+  }
+
   @NonNull
   @Override
   public BoundStatement setRoutingKey(@Nullable ByteBuffer newRoutingKey) {
@@ -406,6 +430,27 @@ public class DefaultBoundStatement implements BoundStatement {
 
   @Override
   public Token getRoutingToken() {
+    if (routingToken != null) {
+      return routingToken;
+    }
+    Token token = computedRoutingToken;
+    if (token == null && preparedStatement instanceof DefaultPreparedStatement) {
+      TokenFactory tokenFactory = ((DefaultPreparedStatement) preparedStatement).getTokenFactory();
+      ByteBuffer key;
+      if (tokenFactory != null && (key = getRoutingKey()) != null) {
+        token = tokenFactory.hash(key);
+        computedRoutingToken = token;
+      }
+    }
+    return token;
+  }
+
+  /**
+   * The routing token that was set explicitly with {@link #setRoutingToken(Token)}, or {@code null}
+   * if it is computed from the routing key.
+   */
+  @Nullable
+  public Token getExplicitRoutingToken() {
     return routingToken;
   }
 
@@ -0,0 +1,472 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.cql;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.NoNodeAvailableException;
+import com.datastax.oss.driver.api.core.cql.BulkWriteListener;
+import com.datastax.oss.driver.api.core.cql.BulkWriteOptions;
+import com.datastax.oss.driver.api.core.cql.BulkWriteProgress;
+import com.datastax.oss.driver.api.core.cql.BulkWriter;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.loadbalancing.NodeDistance;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.metadata.NodeState;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.datastax.oss.driver.api.core.metadata.token.Token;
+import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.driver.internal.core.util.Loggers;
+import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default implementation of {@link BulkWriter}.
+ *
+ * <p>Statements are queued per replica, and pinned to that replica when they are sent. If the
+ * replica can't be used when the request starts (for example because it just went down), the
+ * statement is sent again without a node, and the load balancing policy picks another one.
+ */
+@ThreadSafe
+public class DefaultBulkWriter implements BulkWriter {
+
+  private static final Logger LOG = LoggerFactory.getLogger(DefaultBulkWriter.class);
+
+  /**
+   * Writes all the statements of a stream, blocking the calling thread when the writer applies
+   * backpressure.
+   */
+  public static BulkWriteProgress writeAll(
+      BulkWriter writer, Stream<? extends Statement<?>> statements) {
+    try {
+      Iterator<? extends Statement<?>> iterator = statements.iterator();
+      while (iterator.hasNext()) {
+        CompletableFutures.getUninterruptibly(writer.writeAsync(iterator.next()));
+      }
+    } catch (Throwable t) {
+      // Don't return before the writes in flight are done, the caller might retry the whole load
+      CompletableFutures.getUninterruptibly(writer.closeAsync().handle((progress, error) -> null));
+      throw t;
+    }
+    return CompletableFutures.getUninterruptibly(writer.closeAsync());
+  }
+
+  private final CqlSession session;
+  private final BulkWriteOptions options;
+  private final String logPrefix;
+  private final long startNanos = System.nanoTime();
+  private final CompletableFuture<BulkWriteProgress> done = new CompletableFuture<>();
+  private final ScheduledFuture<?> progressReports;
+
+  // Writes selected by drain(), they are sent outside of the lock by a single thread at a time
+  // (see flush())
+  private final Queue<Write> toSend = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger sending = new AtomicInteger();
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  // The null key holds the statements that have no known replica
+  @GuardedBy("lock")
+  private final Map<Node, NodeQueue> queues = new LinkedHashMap<>();
+
+  @GuardedBy("lock")
+  private final Queue<CompletableFuture<Void>> blockedProducers = new ArrayDeque<>();
+
+  @GuardedBy("lock")
+  private int inFlight;
+
+  @GuardedBy("lock")
+  private int queued;
+
+  @GuardedBy("lock")
+  private long written;
+
+  @GuardedBy("lock")
+  private long failed;
+
+  @GuardedBy("lock")
+  private boolean closed;
+
+  @GuardedBy("lock")
+  private boolean finished;
+
+  @GuardedBy("lock")
+  private Throwable abortError;
+
+  public DefaultBulkWriter(CqlSession session, BulkWriteOptions options) {
+    this.session = session;
+    this.options = options;
+    this.logPrefix = session.getName() + "|bulk-write";
+    if (options.getListener() == null) {
+      this.progressReports = null;
+    } else if (!(session.getContext() instanceof InternalDriverContext)) {
+      // Custom session, we don't have an executor to schedule on. The listener still gets the
+      // final progress when the writer completes.
+      LOG.warn(
+          "[{}] Session context is not an instance of {}, "
+              + "progress will only be reported when the writer completes",
+          logPrefix,
+          InternalDriverContext.class.getSimpleName());
+      this.progressReports = null;
+    } else {
+      InternalDriverContext context = (InternalDriverContext) session.getContext();
+      long intervalNanos = options.getProgressInterval().toNanos();
+      this.progressReports =
+          context
+              .getNettyOptions()
+              .adminEventExecutorGroup()
+              .next()
+              .scheduleAtFixedRate(
+                  this::reportProgress, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public CompletionStage<Void> writeAsync(Statement<?> statement) {
+    Objects.requireNonNull(statement, "statement must not be null");
+    Set<Node> replicas = getReplicas(statement);
+    CompletableFuture<Void> accepted;
+    lock.lock();
+    try {
+      if (abortError != null) {
+        return CompletableFutures.failedFuture(abortError);
+      }
+      if (closed) {
+        return CompletableFutures.failedFuture(
+            new IllegalStateException("Bulk writer is closed"));
+      }
+      Node node = selectReplica(replicas);
+      queues.computeIfAbsent(node, k -> new NodeQueue()).pending.add(statement);
+      queued += 1;
+      drain();
+      if (queued < options.getMaxQueued()) {
+        accepted = CompletableFuture.completedFuture(null);
+      } else {
+        accepted = new CompletableFuture<>();
+        blockedProducers.add(accepted);
+      }
+    } finally {
+      lock.unlock();
+    }
+    flush();
+    return accepted;
+  }
+
+  @Override
+  public BulkWriteProgress getProgress() {
+    lock.lock();
+    try {
+      return new BulkWriteProgress(
+          written, failed, inFlight, queued, Duration.ofNanos(System.nanoTime() - startNanos));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public CompletionStage<BulkWriteProgress> closeAsync() {
+    boolean finish;
+    lock.lock();
+    try {
+      closed = true;
+      finish = isFinished();
+    } finally {
+      lock.unlock();
+    }
+    if (finish) {
+      finish();
+    }
+    return done;
+  }
+
+  private Set<Node> getReplicas(Statement<?> statement) {
+    Optional<TokenMap> maybeTokenMap = session.getMetadata().getTokenMap();
+    if (!maybeTokenMap.isPresent()) {
+      return Collections.emptySet();
+    }
+    TokenMap tokenMap = maybeTokenMap.get();
+    CqlIdentifier keyspace = statement.getKeyspace();
+    if (keyspace == null) {
+      keyspace = statement.getRoutingKeyspace();
+    }
+    if (keyspace == null) {
+      keyspace = session.getKeyspace().orElse(null);
+    }
+    if (keyspace == null) {
+      return Collections.emptySet();
+    }
+    Token token = statement.getRoutingToken();
+    if (token != null) {
+      return tokenMap.getReplicas(keyspace, token);
+    }
+    ByteBuffer key = statement.getRoutingKey();
+    if (key != null) {
+      return tokenMap.getReplicas(keyspace, key);
+    }
+    return Collections.emptySet();
+  }
+
+  /**
+   * The live replica with the least pending work, LOCAL ones first; or null if no replica is up.
+   */
+  @GuardedBy("lock")
+  private Node selectReplica(Set<Node> replicas) {
+    Node bestLocal = null;
+    Node bestRemote = null;
+    for (Node node : replicas) {
+      if (node.getState() == NodeState.UP) {
+        if (node.getDistance() == NodeDistance.LOCAL) {
+          bestLocal = lessBusy(bestLocal, node);
+        } else if (node.getDistance() == NodeDistance.REMOTE) {
+          bestRemote = lessBusy(bestRemote, node);
+        }
+      }
+    }
+    return (bestLocal != null) ? bestLocal : bestRemote;
+  }
+
+  @GuardedBy("lock")
+  private Node lessBusy(Node current, Node candidate) {
+    if (current == null) {
+      return candidate;
+    }
+    NodeQueue currentQueue = queues.get(current);
+    NodeQueue candidateQueue = queues.get(candidate);
+    int currentLoad = (currentQueue == null) ? 0 : currentQueue.load();
+    int candidateLoad = (candidateQueue == null) ? 0 : candidateQueue.load();
+    return (candidateLoad < currentLoad) ? candidate : current;
+  }
+
+  /**
+   * Moves as many statements as the limits allow to {@link #toSend}, taking one from each node in
+   * turn.
+   */
+  @GuardedBy("lock")
+  private void drain() {
+    boolean progress = true;
+    while (progress && inFlight < options.getMaxInFlight()) {
+      progress = false;
+      for (Map.Entry<Node, NodeQueue> entry : queues.entrySet()) {
+        if (inFlight >= options.getMaxInFlight()) {
+          break;
+        }
+        Node node = entry.getKey();
+        NodeQueue queue = entry.getValue();
+        int limit = (node == null) ? options.getMaxInFlight() : options.getMaxInFlightPerNode();
+        if (!queue.pending.isEmpty() && queue.inFlight < limit) {
+          toSend.add(new Write(queue.pending.poll(), node, node != null));
+          queue.inFlight += 1;
+          inFlight += 1;
+          queued -= 1;
+          progress = true;
+        }
+      }
+    }
+  }
+
+  /**
+   * Sends the writes selected by {@link #drain()}. This is not reentrant: if a write completes
+   * synchronously, the next ones are sent by the loop that is already running, instead of a
+   * recursive call.
+   */
+  private void flush() {
+    if (sending.getAndIncrement() != 0) {
+      return;
+    }
+    do {
+      Write write;
+      while ((write = toSend.poll()) != null) {
+        send(write);
+      }
+    } while (sending.decrementAndGet() != 0);
+  }
+
+  private void send(Write write) {
+    Statement<?> statement = write.pinned ? write.statement.setNode(write.node) : write.statement;
+    CompletionStage<?> result;
+    try {
+      result = session.executeAsync(statement);
+    } catch (Throwable t) {
+      result = CompletableFutures.failedFuture(t);
+    }
+    result.whenComplete((resultSet, error) -> onWriteComplete(write, error));
+  }
+
+  private void onWriteComplete(Write write, Throwable error) {
+    if (error instanceof NoNodeAvailableException && write.pinned) {
+      // The request was not sent, the pinned replica was not available
+      LOG.debug("[{}] {} is not available, sending without a node", logPrefix, write.node);
+      toSend.add(new Write(write.statement, write.node, false));
+      flush();
+      return;
+    }
+    if (error != null) {
+      LOG.trace("[{}] Write failed", logPrefix, error);
+      BulkWriteListener listener = options.getListener();
+      if (listener != null) {
+        try {
+          listener.onWriteFailed(write.statement, error);
+        } catch (Throwable t) {
+          Loggers.warnWithException(
+              LOG, "[{}] Unexpected error while invoking bulk write listener", logPrefix, t);
+        }
+      }
+    }
+    List<CompletableFuture<Void>> released = new ArrayList<>();
+    Throwable releaseError;
+    boolean finish;
+    lock.lock();
+    try {
+      inFlight -= 1;
+      queues.get(write.node).inFlight -= 1;
+      if (error == null) {
+        written += 1;
+      } else {
+        failed += 1;
+        if (failed > options.getMaxFailures() && abortError == null) {
+          abort(error);
+        }
+      }
+      if (abortError == null) {
+        drain();
+        while (!blockedProducers.isEmpty() && queued + released.size() < options.getMaxQueued()) {
+          released.add(blockedProducers.poll());
+        }
+      } else {
+        released.addAll(blockedProducers);
+        blockedProducers.clear();
+      }
+      releaseError = abortError;
+      finish = isFinished();
+    } finally {
+      lock.unlock();
+    }
+    flush();
+    for (CompletableFuture<Void> producer : released) {
+      if (releaseError == null) {
+        producer.complete(null);
+      } else {
+        producer.completeExceptionally(releaseError);
+      }
+    }
+    if (finish) {
+      finish();
+    }
+  }
+
+  @GuardedBy("lock")
+  private void abort(Throwable error) {
+    LOG.debug("[{}] Too many failures, aborting", logPrefix, error);
+    abortError = error;
+    closed = true;
+    for (NodeQueue queue : queues.values()) {
+      queue.pending.clear();
+    }
+    queued = 0;
+  }
+
+  /** Whether the writer can complete now; this returns true at most once. */
+  @GuardedBy("lock")
+  private boolean isFinished() {
+    if (!finished && closed && inFlight == 0 && queued == 0) {
+      finished = true;
+      return true;
+    }
+    return false;
+  }
+
+  private void finish() {
+    if (progressReports != null) {
+      progressReports.cancel(false);
+    }
+    BulkWriteProgress progress = reportProgress();
+    Throwable error;
+    lock.lock();
+    try {
+      error = abortError;
+    } finally {
+      lock.unlock();
+    }
+    LOG.debug("[{}] Done: {}", logPrefix, progress);
+    if (error == null) {
+      done.complete(progress);
+    } else {
+      done.completeExceptionally(error);
+    }
+  }
+
+  private BulkWriteProgress reportProgress() {
+    BulkWriteProgress progress = getProgress();
+    BulkWriteListener listener = options.getListener();
+    if (listener != null) {
+      try {
+        listener.onProgress(progress);
+      } catch (Throwable t) {
+        Loggers.warnWithException(
+            LOG, "[{}] Unexpected error while invoking bulk write listener", logPrefix, t);
+      }
+    }
+    return progress;
+  }
+
+  private static class NodeQueue {
+    final Queue<Statement<?>> pending = new ArrayDeque<>();
+    int inFlight;
+
+    int load() {
+      return pending.size() + inFlight;
+    }
+  }
+
+  private static class Write {
+    final Statement<?> statement;
+    // The node that the write is accounted against
+    final Node node;
+    final boolean pinned;
+
+    Write(Statement<?> statement, Node node, boolean pinned) {
+      this.statement = statement;
+      this.node = node;
+      this.pinned = pinned;
+    }
+  }
+}
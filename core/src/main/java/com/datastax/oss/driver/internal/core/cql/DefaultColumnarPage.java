@@ -0,0 +1,498 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.cql;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.DefaultProtocolVersion;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ColumnarPage;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.data.GettableByIndex;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.codec.PrimitiveDoubleCodec;
+import com.datastax.oss.driver.api.core.type.codec.PrimitiveIntCodec;
+import com.datastax.oss.driver.api.core.type.codec.PrimitiveLongCodec;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.internal.core.data.IdentifierIndex;
+import com.datastax.oss.driver.shaded.guava.common.collect.Iterators;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import net.jcip.annotations.NotThreadSafe;
+
+@NotThreadSafe // the arrays are exposed directly to the client
+public class DefaultColumnarPage implements ColumnarPage {
+
+  /**
+   * Decodes the given rows.
+   *
+   * <p>This is the generic path, for result sets that don't have direct access to the raw rows.
+   */
+  @NonNull
+  public static ColumnarPage fromRows(
+      @NonNull ColumnDefinitions definitions,
+      @NonNull int[] indices,
+      int expectedRowCount,
+      @NonNull Iterator<Row> rows) {
+    Builder builder = null;
+    while (rows.hasNext()) {
+      Row row = rows.next();
+      if (builder == null) {
+        builder =
+            new Builder(
+                definitions, indices, expectedRowCount, row.codecRegistry(), row.protocolVersion());
+      }
+      builder.addRow(row);
+    }
+    if (builder == null) {
+      // No rows, the codecs will never be used
+      builder =
+          new Builder(
+              definitions, indices, 0, CodecRegistry.DEFAULT, DefaultProtocolVersion.DEFAULT);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Decodes the rows of a synchronous result set that are available without fetching. If there are
+   * none but more pages exist, the next page is fetched first.
+   *
+   * <p>This is the generic path, for result sets that don't have direct access to their pages.
+   */
+  @NonNull
+  public static ColumnarPage fromAvailableRows(
+      @NonNull ResultSet resultSet, @NonNull int[] indices) {
+    Iterator<Row> rows = resultSet.iterator();
+    if (resultSet.getAvailableWithoutFetching() == 0 && !resultSet.isFullyFetched()) {
+      // Blocks until the next page is fetched
+      rows.hasNext();
+    }
+    int count = resultSet.getAvailableWithoutFetching();
+    return fromRows(resultSet.getColumnDefinitions(), indices, count, Iterators.limit(rows, count));
+  }
+
+  /**
+   * Converts column names to their indices.
+   *
+   * @throws IllegalArgumentException if a name is not a column in the definitions.
+   */
+  @NonNull
+  public static int[] indicesOf(@NonNull ColumnDefinitions definitions, @NonNull String... names) {
+    int[] indices = new int[names.length];
+    for (int i = 0; i < names.length; i++) {
+      int index = definitions.firstIndexOf(names[i]);
+      if (index == -1) {
+        throw new IllegalArgumentException(names[i] + " is not a column in this result set");
+      }
+      indices[i] = index;
+    }
+    return indices;
+  }
+
+  /**
+   * Converts column identifiers to their indices.
+   *
+   * @throws IllegalArgumentException if an identifier is not a column in the definitions.
+   */
+  @NonNull
+  public static int[] indicesOf(
+      @NonNull ColumnDefinitions definitions, @NonNull CqlIdentifier... ids) {
+    int[] indices = new int[ids.length];
+    for (int i = 0; i < ids.length; i++) {
+      int index = definitions.firstIndexOf(ids[i]);
+      if (index == -1) {
+        throw new IllegalArgumentException(ids[i] + " is not a column in this result set");
+      }
+      indices[i] = index;
+    }
+    return indices;
+  }
+
+  private final ColumnDefinition[] definitions;
+  private final IdentifierIndex index;
+  private final Object[] values;
+  private final BitSet[] nulls;
+  private final int rowCount;
+
+  private DefaultColumnarPage(
+      ColumnDefinition[] definitions, Object[] values, BitSet[] nulls, int rowCount) {
+    this.definitions = definitions;
+    List<CqlIdentifier> names = new ArrayList<>(definitions.length);
+    for (ColumnDefinition definition : definitions) {
+      names.add(definition.getName());
+    }
+    this.index = new IdentifierIndex(names);
+    this.values = values;
+    this.nulls = nulls;
+    this.rowCount = rowCount;
+  }
+
+  @Override
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  @Override
+  public int getColumnCount() {
+    return definitions.length;
+  }
+
+  @NonNull
+  @Override
+  public ColumnDefinition getColumnDefinition(int i) {
+    return definitions[i];
+  }
+
+  @Override
+  public int firstIndexOf(@NonNull String name) {
+    int indexOf = index.firstIndexOf(name);
+    if (indexOf == -1) {
+      throw new IllegalArgumentException(name + " is not a column in this page");
+    }
+    return indexOf;
+  }
+
+  @Override
+  public int firstIndexOf(@NonNull CqlIdentifier id) {
+    int indexOf = index.firstIndexOf(id);
+    if (indexOf == -1) {
+      throw new IllegalArgumentException(id + " is not a column in this page");
+    }
+    return indexOf;
+  }
+
+  @NonNull
+  @Override
+  public long[] getLongs(int i) {
+    Object columnValues = values[i];
+    if (columnValues instanceof long[]) {
+      return (long[]) columnValues;
+    }
+    throw wrongType(i, "longs");
+  }
+
+  @NonNull
+  @Override
+  public int[] getInts(int i) {
+    Object columnValues = values[i];
+    if (columnValues instanceof int[]) {
+      return (int[]) columnValues;
+    }
+    throw wrongType(i, "ints");
+  }
+
+  @NonNull
+  @Override
+  public double[] getDoubles(int i) {
+    Object columnValues = values[i];
+    if (columnValues instanceof double[]) {
+      return (double[]) columnValues;
+    }
+    throw wrongType(i, "doubles");
+  }
+
+  @NonNull
+  @Override
+  public BitSet getNulls(int i) {
+    return nulls[i];
+  }
+
+  private IllegalArgumentException wrongType(int i, String target) {
+    return new IllegalArgumentException(
+        String.format(
+            "Column %s is of type %s, it can't be extracted as %s",
+            definitions[i].getName(), definitions[i].getType(), target));
+  }
+
+  /**
+   * Accumulates the values of a set of columns, one row at a time.
+   *
+   * <p>The codecs are resolved once when the builder is created; the values of each row are then
+   * decoded directly from their raw bytes with the primitive codecs.
+   */
+  @NotThreadSafe
+  public static class Builder {
+
+    private final ColumnBuffer[] columns;
+    private int rowCount;
+
+    public Builder(
+        @NonNull ColumnDefinitions definitions,
+        @NonNull int[] indices,
+        int expectedRowCount,
+        @NonNull CodecRegistry codecRegistry,
+        @NonNull ProtocolVersion protocolVersion) {
+      int capacity = Math.max(expectedRowCount, 0);
+      this.columns = new ColumnBuffer[indices.length];
+      for (int i = 0; i < indices.length; i++) {
+        int index = indices[i];
+        ColumnDefinition definition = definitions.get(index);
+        DataType type = definition.getType();
+        if (type.equals(DataTypes.BIGINT) || type.equals(DataTypes.COUNTER)) {
+          columns[i] =
+              new LongColumnBuffer(
+                  definition,
+                  index,
+                  codecRegistry.codecFor(type, Long.class),
+                  protocolVersion,
+                  capacity);
+        } else if (type.equals(DataTypes.INT)) {
+          columns[i] =
+              new IntColumnBuffer(
+                  definition,
+                  index,
+                  codecRegistry.codecFor(type, Integer.class),
+                  protocolVersion,
+                  capacity);
+        } else if (type.equals(DataTypes.DOUBLE)) {
+          columns[i] =
+              new DoubleColumnBuffer(
+                  definition,
+                  index,
+                  codecRegistry.codecFor(type, Double.class),
+                  protocolVersion,
+                  capacity);
+        } else {
+          throw new IllegalArgumentException(
+              String.format(
+                  "Column %s is of type %s, only bigint, counter, int and double columns "
+                      + "can be extracted in a columnar page",
+                  definition.getName(), type));
+        }
+      }
+    }
+
+    /** Adds a row, in the raw format that was received from the server. */
+    @NonNull
+    public Builder addRow(@NonNull List<ByteBuffer> rowData) {
+      for (ColumnBuffer column : columns) {
+        column.add(rowCount, rowData.get(column.sourceIndex));
+      }
+      rowCount += 1;
+      return this;
+    }
+
+    /** Adds an already materialized row. */
+    @NonNull
+    public Builder addRow(@NonNull GettableByIndex row) {
+      for (ColumnBuffer column : columns) {
+        column.add(rowCount, row.getBytesUnsafe(column.sourceIndex));
+      }
+      rowCount += 1;
+      return this;
+    }
+
+    @NonNull
+    public ColumnarPage build() {
+      ColumnDefinition[] definitions = new ColumnDefinition[columns.length];
+      Object[] values = new Object[columns.length];
+      BitSet[] nulls = new BitSet[columns.length];
+      for (int i = 0; i < columns.length; i++) {
+        definitions[i] = columns[i].definition;
+        values[i] = columns[i].values(rowCount);
+        nulls[i] = columns[i].nulls;
+      }
+      return new DefaultColumnarPage(definitions, values, nulls, rowCount);
+    }
+  }
+
+  private abstract static class ColumnBuffer {
+    final ColumnDefinition definition;
+    final int sourceIndex;
+    final BitSet nulls = new BitSet();
+
+    ColumnBuffer(ColumnDefinition definition, int sourceIndex) {
+      this.definition = definition;
+      this.sourceIndex = sourceIndex;
+    }
+
+    void add(int row, ByteBuffer bytes) {
+      // Same convention as the primitive codecs: an empty buffer is treated as null
+      if (bytes == null || bytes.remaining() == 0) {
+        nulls.set(row);
+        ensureCapacity(row);
+      } else {
+        decode(row, bytes);
+      }
+    }
+
+    static int grow(int currentLength, int row) {
+      return Math.max(row + 1, Math.max(16, currentLength * 2));
+    }
+
+    abstract void ensureCapacity(int row);
+
+    abstract void decode(int row, ByteBuffer bytes);
+
+    /** Returns the values, trimmed to the given size. */
+    abstract Object values(int size);
+  }
+
+  private static class LongColumnBuffer extends ColumnBuffer {
+    private final TypeCodec<Long> codec;
+    private final PrimitiveLongCodec primitiveCodec;
+    private final ProtocolVersion protocolVersion;
+    private long[] values;
+
+    LongColumnBuffer(
+        ColumnDefinition definition,
+        int sourceIndex,
+        TypeCodec<Long> codec,
+        ProtocolVersion protocolVersion,
+        int capacity) {
+      super(definition, sourceIndex);
+      this.codec = codec;
+      this.primitiveCodec =
+          (codec instanceof PrimitiveLongCodec) ? (PrimitiveLongCodec) codec : null;
+      this.protocolVersion = protocolVersion;
+      this.values = new long[capacity];
+    }
+
+    @Override
+    void ensureCapacity(int row) {
+      if (row >= values.length) {
+        values = Arrays.copyOf(values, grow(values.length, row));
+      }
+    }
+
+    @Override
+    void decode(int row, ByteBuffer bytes) {
+      ensureCapacity(row);
+      if (primitiveCodec != null) {
+        values[row] = primitiveCodec.decodePrimitive(bytes, protocolVersion);
+      } else {
+        Long value = codec.decode(bytes, protocolVersion);
+        if (value == null) {
+          nulls.set(row);
+        } else {
+          values[row] = value;
+        }
+      }
+    }
+
+    @Override
+    Object values(int size) {
+      return (values.length == size) ? values : Arrays.copyOf(values, size);
+    }
+  }
+
+  private static class IntColumnBuffer extends ColumnBuffer {
+    private final TypeCodec<Integer> codec;
+    private final PrimitiveIntCodec primitiveCodec;
+    private final ProtocolVersion protocolVersion;
+    private int[] values;
+
+    IntColumnBuffer(
+        ColumnDefinition definition,
+        int sourceIndex,
+        TypeCodec<Integer> codec,
+        ProtocolVersion protocolVersion,
+        int capacity) {
+      super(definition, sourceIndex);
+      this.codec = codec;
+      this.primitiveCodec =
+          (codec instanceof PrimitiveIntCodec) ? (PrimitiveIntCodec) codec : null;
+      this.protocolVersion = protocolVersion;
+      this.values = new int[capacity];
+    }
+
+    @Override
+    void ensureCapacity(int row) {
+      if (row >= values.length) {
+        values = Arrays.copyOf(values, grow(values.length, row));
+      }
+    }
+
+    @Override
+    void decode(int row, ByteBuffer bytes) {
+      ensureCapacity(row);
+      if (primitiveCodec != null) {
+        values[row] = primitiveCodec.decodePrimitive(bytes, protocolVersion);
+      } else {
+        Integer value = codec.decode(bytes, protocolVersion);
+        if (value == null) {
+          nulls.set(row);
+        } else {
+          values[row] = value;
+        }
+      }
+    }
+
+    @Override
+    Object values(int size) {
+      return (values.length == size) ? values : Arrays.copyOf(values, size);
+    }
+  }
+
+  private static class DoubleColumnBuffer extends ColumnBuffer {
+    private final TypeCodec<Double> codec;
+    private final PrimitiveDoubleCodec primitiveCodec;
+    private final ProtocolVersion protocolVersion;
+    private double[] values;
+
+    DoubleColumnBuffer(
+        ColumnDefinition definition,
+        int sourceIndex,
+        TypeCodec<Double> codec,
+        ProtocolVersion protocolVersion,
+        int capacity) {
+      super(definition, sourceIndex);
+      this.codec = codec;
+      this.primitiveCodec =
+          (codec instanceof PrimitiveDoubleCodec) ? (PrimitiveDoubleCodec) codec : null;
+      this.protocolVersion = protocolVersion;
+      this.values = new double[capacity];
+    }
+
+    @Override
+    void ensureCapacity(int row) {
+      if (row >= values.length) {
+        values = Arrays.copyOf(values, grow(values.length, row));
+      }
+    }
+
+    @Override
+    void decode(int row, ByteBuffer bytes) {
+      ensureCapacity(row);
+      if (primitiveCodec != null) {
+        values[row] = primitiveCodec.decodePrimitive(bytes, protocolVersion);
+      } else {
+        Double value = codec.decode(bytes, protocolVersion);
+        if (value == null) {
+          nulls.set(row);
+        } else {
+          values[row] = value;
+        }
+      }
+    }
+
+    @Override
+    Object values(int size) {
+      return (values.length == size) ? values : Arrays.copyOf(values, size);
+    }
+  }
+}
@@ -29,8 +29,10 @@ import com.datastax.oss.driver.api.core.cql.Statement;
 import com.datastax.oss.driver.api.core.metadata.token.Token;
 import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
 import com.datastax.oss.driver.internal.core.data.ValuesHelper;
+import com.datastax.oss.driver.internal.core.metadata.token.TokenFactory;
 import com.datastax.oss.driver.internal.core.session.RepreparePayload;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
@@ -60,6 +62,7 @@ public class DefaultPreparedStatement implements PreparedStatement {
   private final ConsistencyLevel consistencyLevelForBoundStatements;
   private final ConsistencyLevel serialConsistencyLevelForBoundStatements;
   private final Duration timeoutForBoundStatements;
+  private final TokenFactory tokenFactory;
 
   public DefaultPreparedStatement(
       ByteBuffer id,
@@ -85,6 +88,58 @@ public class DefaultPreparedStatement implements PreparedStatement {
       boolean areBoundStatementsTracing,
       CodecRegistry codecRegistry,
       ProtocolVersion protocolVersion) {
+    this(
+        id,
+        query,
+        variableDefinitions,
+        partitionKeyIndices,
+        resultMetadataId,
+        resultSetDefinitions,
+        keyspace,
+        customPayloadForPrepare,
+        executionProfileNameForBoundStatements,
+        executionProfileForBoundStatements,
+        routingKeyspaceForBoundStatements,
+        routingKeyForBoundStatements,
+        routingTokenForBoundStatements,
+        customPayloadForBoundStatements,
+        areBoundStatementsIdempotent,
+        timeoutForBoundStatements,
+        pagingStateForBoundStatements,
+        pageSizeForBoundStatements,
+        consistencyLevelForBoundStatements,
+        serialConsistencyLevelForBoundStatements,
+        areBoundStatementsTracing,
+        codecRegistry,
+        protocolVersion,
+        null);
+  }
+
+  public DefaultPreparedStatement(
+      ByteBuffer id,
+      String query,
+      ColumnDefinitions variableDefinitions,
+      List<Integer> partitionKeyIndices,
+      ByteBuffer resultMetadataId,
+      ColumnDefinitions resultSetDefinitions,
+      CqlIdentifier keyspace,
+      Map<String, ByteBuffer> customPayloadForPrepare,
+      String executionProfileNameForBoundStatements,
+      DriverExecutionProfile executionProfileForBoundStatements,
+      CqlIdentifier routingKeyspaceForBoundStatements,
+      ByteBuffer routingKeyForBoundStatements,
+      Token routingTokenForBoundStatements,
+      Map<String, ByteBuffer> customPayloadForBoundStatements,
+      Boolean areBoundStatementsIdempotent,
+      Duration timeoutForBoundStatements,
+      ByteBuffer pagingStateForBoundStatements,
+      int pageSizeForBoundStatements,
+      ConsistencyLevel consistencyLevelForBoundStatements,
+      ConsistencyLevel serialConsistencyLevelForBoundStatements,
+      boolean areBoundStatementsTracing,
+      CodecRegistry codecRegistry,
+      ProtocolVersion protocolVersion,
+      TokenFactory tokenFactory) {
     this.id = id;
     this.partitionKeyIndices = partitionKeyIndices;
     // It's important that we keep a reference to this object, so that it only gets evicted from
@@ -109,6 +164,7 @@ public class DefaultPreparedStatement implements PreparedStatement {
 
     this.codecRegistry = codecRegistry;
     this.protocolVersion = protocolVersion;
+    this.tokenFactory = tokenFactory;
   }
 
   @NonNull
@@ -206,6 +262,15 @@ public class DefaultPreparedStatement implements PreparedStatement {
         protocolVersion);
   }
 
+  /**
+   * The token factory of the cluster, that bound statements use to compute their routing token; or
+   * {@code null} if the token map was not available when this statement was prepared.
+   */
+  @Nullable
+  public TokenFactory getTokenFactory() {
+    return tokenFactory;
+  }
+
   public RepreparePayload getRepreparePayload() {
     return this.repreparePayload;
   }
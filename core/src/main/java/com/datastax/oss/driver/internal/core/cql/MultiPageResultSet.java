@@ -19,6 +19,7 @@ package com.datastax.oss.driver.internal.core.cql;
 
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ColumnarPage;
 import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
@@ -78,6 +79,12 @@ public class MultiPageResultSet implements ResultSet {
     return iterator.wasApplied();
   }
 
+  @NonNull
+  @Override
+  public ColumnarPage consumeColumns(@NonNull int... indices) {
+    return iterator.consumeColumns(indices);
+  }
+
   private class RowIterator extends CountingIterator<Row> {
     private AsyncResultSet currentPage;
     private Iterator<Row> currentRows;
@@ -109,6 +116,18 @@ public class MultiPageResultSet implements ResultSet {
       }
     }
 
+    private ColumnarPage consumeColumns(int[] indices) {
+      if (isNextComputed()) {
+        // A row was already pulled from the current page, use the generic path
+        return DefaultColumnarPage.fromAvailableRows(MultiPageResultSet.this, indices);
+      }
+      maybeMoveToNextPage();
+      int count = currentPage.remaining();
+      ColumnarPage page = currentPage.consumeColumns(indices);
+      remaining -= count;
+      return page;
+    }
+
     private boolean isFullyFetched() {
       return !currentPage.hasMorePages();
     }
@@ -20,6 +20,7 @@ package com.datastax.oss.driver.internal.core.cql;
 import com.datastax.oss.driver.api.core.PagingIterable;
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ColumnarPage;
 import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
@@ -95,4 +96,10 @@ public class SinglePageResultSet implements ResultSet {
   public boolean wasApplied() {
     return onlyPage.wasApplied();
   }
+
+  @NonNull
+  @Override
+  public ColumnarPage consumeColumns(@NonNull int... indices) {
+    return onlyPage.consumeColumns(indices);
+  }
 }
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.cql;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.DriverException;
+import com.datastax.oss.driver.api.core.DriverExecutionException;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.TableScan;
+import com.datastax.oss.driver.api.core.cql.TableScanHandler;
+import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
+import com.datastax.oss.driver.shaded.guava.common.base.Throwables;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import net.jcip.annotations.NotThreadSafe;
+
+/**
+ * Exposes the rows of a {@link TableScan} as a blocking iterator.
+ *
+ * <p>Each split waits until the iterator has consumed its current page before fetching the next
+ * one, so at most {@link TableScan#getParallelism()} pages are buffered.
+ */
+@NotThreadSafe // the handler side is thread-safe, but the iterator must be used by a single thread
+public class TableScanIterator implements Iterator<Row>, TableScanHandler {
+
+  private static final Object END = new Object();
+
+  /**
+   * Starts the scan, and returns a stream of its rows. Closing the stream cancels the scan.
+   *
+   * <p>Consuming the stream blocks, it must not be done on a driver thread.
+   */
+  @NonNull
+  public static Stream<Row> stream(@NonNull CqlSession session, @NonNull TableScan scan) {
+    TableScanIterator iterator = new TableScanIterator();
+    TableScanner scanner = new TableScanner(session, scan, iterator);
+    scanner.run().whenComplete((v, error) -> iterator.onScanDone(error));
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(iterator, Spliterator.NONNULL), false)
+        .onClose(
+            () -> {
+              scanner.cancel();
+              iterator.close();
+            });
+  }
+
+  // Contains pages, then either END or the error that terminated the scan
+  private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+  private Page current;
+  private boolean ended;
+
+  @NonNull
+  @Override
+  public CompletionStage<Void> onPage(@NonNull TokenRange split, @NonNull Iterable<Row> rows) {
+    Page page = new Page(rows.iterator());
+    queue.add(page);
+    return page.consumed;
+  }
+
+  private void onScanDone(Throwable error) {
+    queue.add(error == null ? END : error);
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (true) {
+      if (current != null) {
+        if (current.rows.hasNext()) {
+          return true;
+        }
+        // Let the scanner fetch the next page of the split
+        current.consumed.complete(null);
+        current = null;
+      }
+      if (ended) {
+        return false;
+      }
+      Object next = take();
+      if (next instanceof Page) {
+        current = (Page) next;
+      } else if (next == END) {
+        ended = true;
+        return false;
+      } else {
+        ended = true;
+        Throwable error = (Throwable) next;
+        if (error instanceof DriverException) {
+          throw ((DriverException) error).copy();
+        }
+        Throwables.throwIfUnchecked(error);
+        throw new DriverExecutionException(error);
+      }
+    }
+  }
+
+  @Override
+  public Row next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return current.rows.next();
+  }
+
+  private Object take() {
+    boolean interrupted = false;
+    try {
+      while (true) {
+        try {
+          return queue.take();
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private void close() {
+    ended = true;
+    if (current != null) {
+      current.consumed.complete(null);
+      current = null;
+    }
+    // Release the splits that are waiting for us, the scanner will notice that it was cancelled
+    for (Object element : queue) {
+      if (element instanceof Page) {
+        ((Page) element).consumed.complete(null);
+      }
+    }
+    queue.clear();
+  }
+
+  private static class Page {
+    final Iterator<Row> rows;
+    final CompletableFuture<Void> consumed = new CompletableFuture<>();
+
+    Page(Iterator<Row> rows) {
+      this.rows = rows;
+    }
+  }
+}
@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.cql;
+
+import com.datastax.dse.driver.internal.core.cql.reactive.EmptySubscription;
+import com.datastax.dse.driver.internal.core.cql.reactive.ReactiveOperators;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.TableScan;
+import com.datastax.oss.driver.api.core.cql.TableScanHandler;
+import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import net.jcip.annotations.ThreadSafe;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Exposes the rows of a {@link TableScan} as a reactive publisher.
+ *
+ * <p>The scan starts when a subscriber subscribes. Each split waits until its current page has been
+ * fully emitted before fetching the next one, so the subscriber's demand propagates all the way to
+ * the queries. Only one subscription is supported.
+ */
+@ThreadSafe
+public class TableScanPublisher implements Publisher<Row> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(TableScanPublisher.class);
+
+  private final CqlSession session;
+  private final TableScan scan;
+  private final AtomicBoolean alreadySubscribed = new AtomicBoolean(false);
+
+  public TableScanPublisher(@NonNull CqlSession session, @NonNull TableScan scan) {
+    this.session = session;
+    this.scan = scan;
+  }
+
+  @Override
+  public void subscribe(@NonNull Subscriber<? super Row> subscriber) {
+    // As per rule 1.9, we need to throw an NPE if subscriber is null
+    Objects.requireNonNull(subscriber, "Subscriber cannot be null");
+    // As per rule 1.11, this publisher is allowed to support only one subscriber.
+    if (alreadySubscribed.compareAndSet(false, true)) {
+      ScanSubscription subscription = new ScanSubscription(subscriber);
+      try {
+        subscriber.onSubscribe(subscription);
+        // must be done after onSubscribe
+        subscription.start();
+      } catch (Throwable t) {
+        // As per rule 2.13: In the case that this rule is violated,
+        // any associated Subscription to the Subscriber MUST be considered as
+        // cancelled, and the caller MUST raise this error condition in a fashion
+        // that is adequate for the runtime environment.
+        subscription.doOnError(
+            new IllegalStateException(
+                subscriber
+                    + " violated the Reactive Streams rule 2.13 by throwing an exception from onSubscribe.",
+                t));
+      }
+    } else {
+      subscriber.onSubscribe(EmptySubscription.INSTANCE);
+      subscriber.onError(
+          new IllegalStateException("This publisher does not support multiple subscriptions"));
+    }
+    // As per 2.13, this method must return normally (i.e. not throw)
+  }
+
+  private class ScanSubscription implements Subscription, TableScanHandler {
+
+    private final Subscriber<? super Row> subscriber;
+    private final Queue<Page> pages = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger draining = new AtomicInteger(0);
+    private final AtomicLong requested = new AtomicLong(0);
+    private volatile TableScanner scanner;
+    private volatile boolean cancelled;
+    private volatile boolean scanDone;
+    private volatile Throwable scanError;
+
+    private ScanSubscription(Subscriber<? super Row> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    private void start() {
+      scanner = new TableScanner(session, scan, this);
+      scanner
+          .run()
+          .whenComplete(
+              (v, error) -> {
+                scanError = error;
+                scanDone = true;
+                drain();
+              });
+      if (cancelled) {
+        // cancel() was called before the scanner existed
+        scanner.cancel();
+      }
+    }
+
+    @NonNull
+    @Override
+    public CompletionStage<Void> onPage(@NonNull TokenRange split, @NonNull Iterable<Row> rows) {
+      Page page = new Page(rows.iterator());
+      pages.add(page);
+      drain();
+      return page.consumed;
+    }
+
+    @Override
+    public void request(long n) {
+      // As per 3.6: after the Subscription is cancelled, additional
+      // calls to request() MUST be NOPs.
+      if (!cancelled) {
+        if (n < 1) {
+          // Validate request as per rule 3.9
+          doOnError(
+              new IllegalArgumentException(
+                  subscriber
+                      + " violated the Reactive Streams rule 3.9 by requesting a non-positive number of elements."));
+        } else {
+          // As per rule 3.17, when demand overflows Long.MAX_VALUE
+          // it can be treated as "effectively unbounded"
+          ReactiveOperators.addCap(requested, n);
+          drain();
+        }
+      }
+    }
+
+    @Override
+    public void cancel() {
+      // As per 3.5: Subscription.cancel() MUST respect the responsiveness of
+      // its caller by returning in a timely manner, MUST be idempotent and
+      // MUST be thread-safe.
+      if (!cancelled) {
+        cancelled = true;
+        TableScanner scanner = this.scanner;
+        if (scanner != null) {
+          scanner.cancel();
+        }
+        if (draining.getAndIncrement() == 0) {
+          // If nobody is draining, clear now; otherwise, the draining thread will notice that the
+          // cancelled flag was set and will clear for us.
+          clear();
+        }
+      }
+    }
+
+    @SuppressWarnings("ConditionalBreakInInfiniteLoop")
+    private void drain() {
+      if (draining.getAndIncrement() != 0) {
+        return;
+      }
+      int missed = 1;
+      for (; ; ) {
+        // Note: when termination is detected inside this loop,
+        // we MUST call clear() manually.
+        long requested = this.requested.get();
+        long emitted = 0L;
+        while (true) {
+          if (cancelled) {
+            clear();
+            return;
+          }
+          Page page = pages.peek();
+          if (page == null) {
+            break;
+          }
+          if (!page.rows.hasNext()) {
+            // Let the scanner fetch the next page of the split
+            pages.poll();
+            page.consumed.complete(null);
+          } else if (requested != emitted) {
+            doOnNext(page.rows.next());
+            emitted++;
+          } else {
+            break;
+          }
+        }
+        if (scanDone && (scanError != null || pages.isEmpty())) {
+          if (scanError == null) {
+            doOnComplete();
+          } else if (!(scanError instanceof CancellationException)) {
+            doOnError(scanError);
+          }
+          clear();
+          return;
+        }
+        if (emitted != 0) {
+          // if any item was emitted, adjust the requested field
+          ReactiveOperators.subCap(this.requested, emitted);
+        }
+        // if another thread tried to call drain() while we were busy,
+        // then we should do another drain round.
+        missed = draining.addAndGet(-missed);
+        if (missed == 0) {
+          break;
+        }
+      }
+    }
+
+    private void doOnNext(@NonNull Row row) {
+      try {
+        subscriber.onNext(row);
+      } catch (Throwable t) {
+        LOG.error(
+            subscriber
+                + " violated the Reactive Streams rule 2.13 by throwing an exception from onNext.",
+            t);
+        cancel();
+      }
+    }
+
+    private void doOnComplete() {
+      try {
+        // Then we signal onComplete as per rules 1.2 and 1.5
+        subscriber.onComplete();
+      } catch (Throwable t) {
+        LOG.error(
+            subscriber
+                + " violated the Reactive Streams rule 2.13 by throwing an exception from onComplete.",
+            t);
+      }
+      // We need to consider this Subscription as cancelled as per rule 1.6
+      cancel();
+    }
+
+    private void doOnError(@NonNull Throwable error) {
+      try {
+        // Then we signal the error downstream, as per rules 1.2 and 1.4.
+        subscriber.onError(error);
+      } catch (Throwable t) {
+        t.addSuppressed(error);
+        LOG.error(
+            subscriber
+                + " violated the Reactive Streams rule 2.13 by throwing an exception from onError.",
+            t);
+      }
+      // We need to consider this Subscription as cancelled as per rule 1.6
+      cancel();
+    }
+
+    private void clear() {
+      // Release the splits that are waiting for us, the scanner will notice that it was cancelled
+      Page page;
+      while ((page = pages.poll()) != null) {
+        page.consumed.complete(null);
+      }
+    }
+  }
+
+  private static class Page {
+    final Iterator<Row> rows;
+    final CompletableFuture<Void> consumed = new CompletableFuture<>();
+
+    Page(Iterator<Row> rows) {
+      this.rows = rows;
+    }
+  }
+}
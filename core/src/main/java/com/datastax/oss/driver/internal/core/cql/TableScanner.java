@@ -0,0 +1,419 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.cql;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.TableScan;
+import com.datastax.oss.driver.api.core.cql.TableScanHandler;
+import com.datastax.oss.driver.api.core.loadbalancing.NodeDistance;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.metadata.NodeState;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
+import com.datastax.oss.driver.api.core.servererrors.QueryValidationException;
+import com.datastax.oss.driver.shaded.guava.common.annotations.VisibleForTesting;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes a {@link TableScan}.
+ *
+ * <p>Each split is pinned to one of its replicas, preferably a LOCAL one. If the query fails on
+ * that replica, the split is resumed from its last paging state on another one; the scan fails if
+ * no replica is left to try.
+ */
+@ThreadSafe
+public class TableScanner {
+
+  private static final Logger LOG = LoggerFactory.getLogger(TableScanner.class);
+
+  private final CqlSession session;
+  private final TableScan scan;
+  private final TableScanHandler handler;
+  private final String logPrefix;
+  private final CompletableFuture<Void> done = new CompletableFuture<>();
+  private volatile PreparedStatement prepared;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  @GuardedBy("lock")
+  private final List<Split> pending = new LinkedList<>();
+
+  @GuardedBy("lock")
+  private final Map<Node, Integer> inFlightPerNode = new HashMap<>();
+
+  @GuardedBy("lock")
+  private int inFlight;
+
+  @GuardedBy("lock")
+  private int completed;
+
+  @GuardedBy("lock")
+  private int total;
+
+  public TableScanner(CqlSession session, TableScan scan, TableScanHandler handler) {
+    this.session = session;
+    this.scan = scan;
+    this.handler = handler;
+    this.logPrefix = session.getName() + "|scan|" + scan.getKeyspace() + "." + scan.getTable();
+  }
+
+  /**
+   * Starts the scan.
+   *
+   * @return a stage that completes when all the splits have been handled. It can be cancelled to
+   *     interrupt the scan.
+   */
+  public CompletionStage<Void> run() {
+    try {
+      Metadata metadata = session.getMetadata();
+      TokenMap tokenMap =
+          metadata
+              .getTokenMap()
+              .orElseThrow(
+                  () ->
+                      new IllegalStateException(
+                          String.format(
+                              "Token metadata is not available (check that %s is enabled)",
+                              DefaultDriverOption.METADATA_TOKEN_MAP_ENABLED.getPath())));
+      TableMetadata table =
+          metadata
+              .getKeyspace(scan.getKeyspace())
+              .flatMap(keyspace -> keyspace.getTable(scan.getTable()))
+              .orElseThrow(
+                  () ->
+                      new IllegalArgumentException(
+                          String.format(
+                              "Unknown table %s.%s (check that %s is enabled)",
+                              scan.getKeyspace().asCql(true),
+                              scan.getTable().asCql(true),
+                              DefaultDriverOption.METADATA_SCHEMA_ENABLED.getPath())));
+      int splitCount =
+          (scan.getSplitCount() > 0) ? scan.getSplitCount() : scan.getParallelism() * 4;
+      List<Split> splits = computeSplits(tokenMap, scan.getKeyspace(), splitCount);
+      session
+          .prepareAsync(buildQuery(table, scan.getColumns()))
+          .whenComplete(
+              (prepared, error) -> {
+                if (error != null) {
+                  fail(error);
+                } else {
+                  start(prepared, splits);
+                }
+              });
+    } catch (Throwable t) {
+      fail(t);
+    }
+    return done;
+  }
+
+  /** Interrupts the scan. Pages that are already in flight will not be passed to the handler. */
+  public void cancel() {
+    done.cancel(false);
+  }
+
+  @VisibleForTesting
+  static String buildQuery(TableMetadata table, List<CqlIdentifier> columns) {
+    String selectors =
+        columns.isEmpty()
+            ? "*"
+            : columns.stream().map(c -> c.asCql(true)).collect(Collectors.joining(","));
+    String partitionKey =
+        table.getPartitionKey().stream()
+            .map(ColumnMetadata::getName)
+            .map(c -> c.asCql(true))
+            .collect(Collectors.joining(","));
+    return String.format(
+        "SELECT %s FROM %s.%s WHERE token(%s) > ? AND token(%s) <= ?",
+        selectors,
+        table.getKeyspace().asCql(true),
+        table.getName().asCql(true),
+        partitionKey,
+        partitionKey);
+  }
+
+  @VisibleForTesting
+  static List<Split> computeSplits(TokenMap tokenMap, CqlIdentifier keyspace, int splitCount) {
+    Set<TokenRange> ranges = tokenMap.getTokenRanges();
+    int splitsPerRange = Math.max(1, (splitCount + ranges.size() - 1) / ranges.size());
+    List<Split> splits = new ArrayList<>();
+    for (TokenRange range : ranges) {
+      // All the splits of a range have the same replicas
+      Set<Node> replicas = tokenMap.getReplicas(keyspace, range);
+      for (TokenRange split : range.splitEvenly(splitsPerRange)) {
+        // CQL range queries don't handle wrapping
+        for (TokenRange unwrapped : split.unwrap()) {
+          if (!unwrapped.isEmpty()) {
+            splits.add(new Split(unwrapped, replicas));
+          }
+        }
+      }
+    }
+    return splits;
+  }
+
+  private void start(PreparedStatement prepared, List<Split> splits) {
+    this.prepared = prepared;
+    lock.lock();
+    try {
+      pending.addAll(splits);
+      total = splits.size();
+    } finally {
+      lock.unlock();
+    }
+    LOG.debug(
+        "[{}] Scanning {} splits with parallelism {} ({} per node)",
+        logPrefix,
+        splits.size(),
+        scan.getParallelism(),
+        scan.getMaxConcurrentSplitsPerNode());
+    startSplits();
+  }
+
+  private void startSplits() {
+    Map<Split, Node> toStart = new HashMap<>();
+    Throwable error = null;
+    boolean complete = false;
+    lock.lock();
+    try {
+      if (done.isDone()) {
+        return;
+      }
+      Iterator<Split> iterator = pending.iterator();
+      while (inFlight < scan.getParallelism() && iterator.hasNext()) {
+        Split split = iterator.next();
+        List<Node> candidates = candidates(split);
+        if (candidates.isEmpty()) {
+          if (split.lastError != null) {
+            // We've tried all the replicas
+            error = split.lastError;
+            break;
+          }
+          // No replica is up: let the load balancing policy route the query
+          iterator.remove();
+          inFlight += 1;
+          toStart.put(split, null);
+        } else {
+          Node node = leastBusy(candidates);
+          if (node != null) {
+            iterator.remove();
+            inFlight += 1;
+            inFlightPerNode.merge(node, 1, Integer::sum);
+            toStart.put(split, node);
+          }
+        }
+      }
+      complete = pending.isEmpty() && inFlight == 0;
+    } finally {
+      lock.unlock();
+    }
+    if (error != null) {
+      fail(error);
+    } else if (complete) {
+      LOG.debug("[{}] All splits scanned, done", logPrefix);
+      done.complete(null);
+    } else {
+      for (Map.Entry<Split, Node> entry : toStart.entrySet()) {
+        executePage(entry.getKey(), entry.getValue());
+      }
+    }
+  }
+
+  /** The live replicas of the split that we haven't tried yet, LOCAL ones first. */
+  @GuardedBy("lock")
+  private List<Node> candidates(Split split) {
+    List<Node> local = new ArrayList<>();
+    List<Node> remote = new ArrayList<>();
+    for (Node node : split.replicas) {
+      if (node.getState() == NodeState.UP && !split.failedNodes.contains(node)) {
+        if (node.getDistance() == NodeDistance.LOCAL) {
+          local.add(node);
+        } else if (node.getDistance() == NodeDistance.REMOTE) {
+          remote.add(node);
+        }
+      }
+    }
+    return local.isEmpty() ? remote : local;
+  }
+
+  /** The candidate with the fewest splits in flight, or null if they are all at the maximum. */
+  @GuardedBy("lock")
+  private Node leastBusy(List<Node> candidates) {
+    Node best = null;
+    int bestCount = scan.getMaxConcurrentSplitsPerNode();
+    for (Node node : candidates) {
+      int count = inFlightPerNode.getOrDefault(node, 0);
+      if (count < bestCount) {
+        best = node;
+        bestCount = count;
+      }
+    }
+    return best;
+  }
+
+  private void executePage(Split split, Node node) {
+    BoundStatement statement =
+        prepared
+            .bind()
+            .setToken(0, split.range.getStart())
+            .setToken(1, split.range.getEnd())
+            .setRoutingToken(split.range.getEnd())
+            .setNode(node)
+            .setPagingState(split.pagingState)
+            .setExecutionProfileName(scan.getExecutionProfileName())
+            .setIdempotent(true);
+    if (scan.getPageSize() > 0) {
+      statement = statement.setPageSize(scan.getPageSize());
+    }
+    session
+        .executeAsync(statement)
+        .whenComplete(
+            (resultSet, error) -> {
+              if (error != null) {
+                onPageFailed(split, node, error);
+              } else {
+                onPageReceived(split, node, resultSet);
+              }
+            });
+  }
+
+  private void onPageReceived(Split split, Node node, AsyncResultSet resultSet) {
+    if (done.isDone()) {
+      release(node, false);
+      return;
+    }
+    CompletionStage<Void> ready;
+    try {
+      ready = handler.onPage(split.range, resultSet.currentPage());
+    } catch (Throwable t) {
+      release(node, false);
+      fail(t);
+      return;
+    }
+    ready.whenComplete(
+        (v, error) -> {
+          if (error != null) {
+            release(node, false);
+            fail(error);
+          } else if (done.isDone()) {
+            release(node, false);
+          } else if (resultSet.hasMorePages()) {
+            split.pagingState = resultSet.getExecutionInfo().getPagingState();
+            executePage(split, node);
+          } else {
+            try {
+              handler.onSplitComplete(split.range);
+            } catch (Throwable t) {
+              release(node, false);
+              fail(t);
+              return;
+            }
+            release(node, true);
+          }
+        });
+  }
+
+  private void onPageFailed(Split split, Node node, Throwable error) {
+    if (node == null || error instanceof QueryValidationException) {
+      // Retrying on another replica won't help
+      release(node, false);
+      fail(error);
+      return;
+    }
+    LOG.debug(
+        "[{}] Error scanning {} on {}, trying another replica",
+        logPrefix,
+        split.range,
+        node,
+        error);
+    split.failedNodes.add(node);
+    split.lastError = error;
+    lock.lock();
+    try {
+      inFlight -= 1;
+      inFlightPerNode.merge(node, -1, Integer::sum);
+      // Put it back at the front, it will be resumed from its last paging state
+      pending.add(0, split);
+    } finally {
+      lock.unlock();
+    }
+    startSplits();
+  }
+
+  private void release(Node node, boolean splitCompleted) {
+    lock.lock();
+    try {
+      inFlight -= 1;
+      if (node != null) {
+        inFlightPerNode.merge(node, -1, Integer::sum);
+      }
+      if (splitCompleted) {
+        completed += 1;
+        LOG.trace("[{}] Scanned {}/{} splits", logPrefix, completed, total);
+      }
+    } finally {
+      lock.unlock();
+    }
+    startSplits();
+  }
+
+  private void fail(Throwable error) {
+    if (done.completeExceptionally(error)) {
+      LOG.debug("[{}] Scan failed", logPrefix, error);
+    }
+  }
+
+  @VisibleForTesting
+  static class Split {
+    final TokenRange range;
+    final Set<Node> replicas;
+    // Only accessed by one thread at a time, the scheduling of the split's pages guarantees
+    // happens-before between them.
+    final Set<Node> failedNodes = new HashSet<>();
+    ByteBuffer pagingState;
+    Throwable lastError;
+
+    Split(TokenRange range, Set<Node> replicas) {
+      this.range = range;
+      this.replicas = replicas;
+    }
+  }
+}
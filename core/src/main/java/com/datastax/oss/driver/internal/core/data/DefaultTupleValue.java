@@ -42,7 +42,13 @@ public class DefaultTupleValue implements TupleValue, Serializable {
 
   private static final long serialVersionUID = 1;
   private final TupleType type;
-  private final ByteBuffer[] values;
+  private final int size;
+  // null if this value was decoded and has not been modified since. In that case the fields are
+  // read from encodedFields on demand. Volatile so that values shared across threads are safely
+  // published; encodedFields and fieldOffsets are final, and never change once values is set.
+  private volatile ByteBuffer[] values;
+  private final ByteBuffer encodedFields;
+  private final int[] fieldOffsets;
 
   public DefaultTupleValue(@NonNull TupleType type) {
     this(type, new ByteBuffer[type.getComponentTypes().size()]);
@@ -61,7 +67,37 @@ public class DefaultTupleValue implements TupleValue, Serializable {
   private DefaultTupleValue(TupleType type, ByteBuffer[] values) {
     Preconditions.checkNotNull(type);
     this.type = type;
+    this.size = values.length;
     this.values = values;
+    this.encodedFields = null;
+    this.fieldOffsets = null;
+  }
+
+  private DefaultTupleValue(TupleType type, ByteBuffer encodedFields, int[] fieldOffsets) {
+    Preconditions.checkNotNull(type);
+    this.type = type;
+    this.size = type.getComponentTypes().size();
+    this.encodedFields = encodedFields;
+    this.fieldOffsets = fieldOffsets;
+  }
+
+  /**
+   * Creates a value that reads its fields directly from their serialized form.
+   *
+   * <p>This is used by the codec to decode tuple values: fields are sliced from the source buffer
+   * only when they are accessed. The first modification copies them to a regular array (without
+   * copying their contents); the source buffer is never modified.
+   *
+   * @param encodedFields the buffer containing the serialized fields. Its contents must not change
+   *     for the lifetime of the value.
+   * @param fieldOffsets the absolute position, in {@code encodedFields}, of the {@code [int]}
+   *     length that precedes each field. If this array is shorter than the number of fields, the
+   *     remaining fields are null.
+   */
+  @NonNull
+  public static DefaultTupleValue fromEncodedFields(
+      @NonNull TupleType type, @NonNull ByteBuffer encodedFields, @NonNull int[] fieldOffsets) {
+    return new DefaultTupleValue(type, encodedFields, fieldOffsets);
   }
 
   @NonNull
@@ -72,17 +108,35 @@ public class DefaultTupleValue implements TupleValue, Serializable {
 
   @Override
   public int size() {
-    return values.length;
+    return size;
   }
 
   @Override
   public ByteBuffer getBytesUnsafe(int i) {
-    return values[i];
+    ByteBuffer[] current = values;
+    if (current != null) {
+      return current[i];
+    }
+    if (i < 0 || i >= size) {
+      throw new IndexOutOfBoundsException(String.valueOf(i));
+    }
+    return (i < fieldOffsets.length)
+        ? ValuesHelper.sliceEncodedField(encodedFields, fieldOffsets[i])
+        : null;
   }
 
   @NonNull
   @Override
   public TupleValue setBytesUnsafe(int i, @Nullable ByteBuffer v) {
+    if (values == null) {
+      ByteBuffer[] newValues = new ByteBuffer[size];
+      for (int j = 0; j < fieldOffsets.length; j++) {
+        newValues[j] = ValuesHelper.sliceEncodedField(encodedFields, fieldOffsets[j]);
+      }
+      newValues[i] = v;
+      values = newValues;
+      return this;
+    }
     values[i] = v;
     return this;
   }
@@ -134,7 +188,7 @@ public class DefaultTupleValue implements TupleValue, Serializable {
       return false;
     }
 
-    for (int i = 0; i < values.length; i++) {
+    for (int i = 0; i < size; i++) {
       DataType innerThisType = type.getComponentTypes().get(i);
       DataType innerThatType = that.getType().getComponentTypes().get(i);
       if (!innerThisType.equals(innerThatType)) {
@@ -160,12 +214,12 @@ public class DefaultTupleValue implements TupleValue, Serializable {
 
     int result = type.hashCode();
 
-    for (int i = 0; i < values.length; i++) {
+    for (int i = 0; i < size; i++) {
       DataType innerThisType = type.getComponentTypes().get(i);
       Object thisValue =
           this.codecRegistry()
               .codecFor(innerThisType)
-              .decode(this.values[i], this.protocolVersion());
+              .decode(this.getBytesUnsafe(i), this.protocolVersion());
       if (thisValue != null) {
         result = 31 * result + thisValue.hashCode();
       }
@@ -183,9 +237,9 @@ public class DefaultTupleValue implements TupleValue, Serializable {
 
     SerializationProxy(DefaultTupleValue tuple) {
       this.type = tuple.type;
-      this.values = new byte[tuple.values.length][];
-      for (int i = 0; i < tuple.values.length; i++) {
-        ByteBuffer buffer = tuple.values[i];
+      this.values = new byte[tuple.size][];
+      for (int i = 0; i < tuple.size; i++) {
+        ByteBuffer buffer = tuple.getBytesUnsafe(i);
         this.values[i] = (buffer == null) ? null : Bytes.getArray(buffer);
       }
     }
@@ -45,7 +45,13 @@ public class DefaultUdtValue implements UdtValue, Serializable {
   private static final long serialVersionUID = 1;
 
   private final UserDefinedType type;
-  private final ByteBuffer[] values;
+  private final int size;
+  // null if this value was decoded and has not been modified since. In that case the fields are
+  // read from encodedFields on demand. Volatile so that values shared across threads are safely
+  // published; encodedFields and fieldOffsets are final, and never change once values is set.
+  private volatile ByteBuffer[] values;
+  private final ByteBuffer encodedFields;
+  private final int[] fieldOffsets;
 
   public DefaultUdtValue(@NonNull UserDefinedType type) {
     this(type, new ByteBuffer[type.getFieldTypes().size()]);
@@ -64,7 +70,39 @@ public class DefaultUdtValue implements UdtValue, Serializable {
   private DefaultUdtValue(UserDefinedType type, ByteBuffer[] values) {
     Preconditions.checkNotNull(type);
     this.type = type;
+    this.size = values.length;
     this.values = values;
+    this.encodedFields = null;
+    this.fieldOffsets = null;
+  }
+
+  private DefaultUdtValue(UserDefinedType type, ByteBuffer encodedFields, int[] fieldOffsets) {
+    Preconditions.checkNotNull(type);
+    this.type = type;
+    this.size = type.getFieldTypes().size();
+    this.encodedFields = encodedFields;
+    this.fieldOffsets = fieldOffsets;
+  }
+
+  /**
+   * Creates a value that reads its fields directly from their serialized form.
+   *
+   * <p>This is used by the codec to decode UDT values: fields are sliced from the source buffer
+   * only when they are accessed. The first modification copies them to a regular array (without
+   * copying their contents); the source buffer is never modified.
+   *
+   * @param encodedFields the buffer containing the serialized fields. Its contents must not change
+   *     for the lifetime of the value.
+   * @param fieldOffsets the absolute position, in {@code encodedFields}, of the {@code [int]}
+   *     length that precedes each field. If this array is shorter than the number of fields, the
+   *     remaining fields are null.
+   */
+  @NonNull
+  public static DefaultUdtValue fromEncodedFields(
+      @NonNull UserDefinedType type,
+      @NonNull ByteBuffer encodedFields,
+      @NonNull int[] fieldOffsets) {
+    return new DefaultUdtValue(type, encodedFields, fieldOffsets);
   }
 
   @NonNull
@@ -75,7 +113,7 @@ public class DefaultUdtValue implements UdtValue, Serializable {
 
   @Override
   public int size() {
-    return values.length;
+    return size;
   }
 
   @NonNull
@@ -124,12 +162,30 @@ public class DefaultUdtValue implements UdtValue, Serializable {
 
   @Override
   public ByteBuffer getBytesUnsafe(int i) {
-    return values[i];
+    ByteBuffer[] current = values;
+    if (current != null) {
+      return current[i];
+    }
+    if (i < 0 || i >= size) {
+      throw new IndexOutOfBoundsException(String.valueOf(i));
+    }
+    return (i < fieldOffsets.length)
+        ? ValuesHelper.sliceEncodedField(encodedFields, fieldOffsets[i])
+        : null;
   }
 
   @NonNull
   @Override
   public UdtValue setBytesUnsafe(int i, @Nullable ByteBuffer v) {
+    if (values == null) {
+      ByteBuffer[] newValues = new ByteBuffer[size];
+      for (int j = 0; j < fieldOffsets.length; j++) {
+        newValues[j] = ValuesHelper.sliceEncodedField(encodedFields, fieldOffsets[j]);
+      }
+      newValues[i] = v;
+      values = newValues;
+      return this;
+    }
     values[i] = v;
     return this;
   }
@@ -161,7 +217,7 @@ public class DefaultUdtValue implements UdtValue, Serializable {
       return false;
     }
 
-    for (int i = 0; i < values.length; i++) {
+    for (int i = 0; i < size; i++) {
 
       DataType innerThisType = type.getFieldTypes().get(i);
       DataType innerThatType = that.getType().getFieldTypes().get(i);
@@ -185,12 +241,12 @@ public class DefaultUdtValue implements UdtValue, Serializable {
   @Override
   public int hashCode() {
     int result = type.hashCode();
-    for (int i = 0; i < values.length; i++) {
+    for (int i = 0; i < size; i++) {
       DataType innerThisType = type.getFieldTypes().get(i);
       Object thisValue =
           this.codecRegistry()
               .codecFor(innerThisType)
-              .decode(this.values[i], this.protocolVersion());
+              .decode(this.getBytesUnsafe(i), this.protocolVersion());
       if (thisValue != null) {
         result = 31 * result + thisValue.hashCode();
       }
@@ -221,9 +277,9 @@ public class DefaultUdtValue implements UdtValue, Serializable {
 
     SerializationProxy(DefaultUdtValue udt) {
       this.type = udt.type;
-      this.values = new byte[udt.values.length][];
-      for (int i = 0; i < udt.values.length; i++) {
-        ByteBuffer buffer = udt.values[i];
+      this.values = new byte[udt.size][];
+      for (int i = 0; i < udt.size; i++) {
+        ByteBuffer buffer = udt.getBytesUnsafe(i);
         this.values[i] = (buffer == null) ? null : Bytes.getArray(buffer);
       }
     }
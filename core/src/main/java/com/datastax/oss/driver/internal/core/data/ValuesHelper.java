@@ -138,4 +138,23 @@ public class ValuesHelper {
       return codecRegistry.codecFor(value).encode(value, protocolVersion);
     }
   }
+
+  /**
+   * Reads a field from the serialized form of a UDT or tuple, where each field is encoded as a
+   * {@code [bytes]} (an {@code [int]} length followed by the contents, or a negative length for
+   * null).
+   *
+   * @param offset the absolute position of the length in {@code encoded}.
+   * @return a slice of {@code encoded} (the contents are not copied), or {@code null}.
+   */
+  public static ByteBuffer sliceEncodedField(ByteBuffer encoded, int offset) {
+    int length = encoded.getInt(offset);
+    if (length < 0) {
+      return null;
+    }
+    ByteBuffer field = encoded.duplicate();
+    field.position(offset + 4);
+    field.limit(offset + 4 + length);
+    return field.slice();
+  }
 }
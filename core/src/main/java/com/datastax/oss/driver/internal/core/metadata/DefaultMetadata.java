@@ -54,16 +54,27 @@ public class DefaultMetadata implements Metadata {
   protected final Map<CqlIdentifier, KeyspaceMetadata> keyspaces;
   protected final TokenMap tokenMap;
   protected final String clusterName;
+  protected final KeyspaceLoader keyspaceLoader; // null unless keyspaces are loaded lazily
 
   protected DefaultMetadata(
       Map<UUID, Node> nodes,
       Map<CqlIdentifier, KeyspaceMetadata> keyspaces,
       TokenMap tokenMap,
       String clusterName) {
+    this(nodes, keyspaces, tokenMap, clusterName, null);
+  }
+
+  protected DefaultMetadata(
+      Map<UUID, Node> nodes,
+      Map<CqlIdentifier, KeyspaceMetadata> keyspaces,
+      TokenMap tokenMap,
+      String clusterName,
+      KeyspaceLoader keyspaceLoader) {
     this.nodes = nodes;
     this.keyspaces = keyspaces;
     this.tokenMap = tokenMap;
     this.clusterName = clusterName;
+    this.keyspaceLoader = keyspaceLoader;
   }
 
   @NonNull
@@ -78,6 +89,20 @@ public class DefaultMetadata implements Metadata {
     return keyspaces;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>If keyspaces are loaded lazily, this loads the contents of the keyspace if needed, and
+   * returns its most recent version (which may be more recent than this instance).
+   */
+  @NonNull
+  @Override
+  public Optional<KeyspaceMetadata> getKeyspace(@NonNull CqlIdentifier keyspaceId) {
+    return (keyspaceLoader == null || !keyspaces.containsKey(keyspaceId))
+        ? Optional.ofNullable(keyspaces.get(keyspaceId))
+        : keyspaceLoader.load(keyspaceId);
+  }
+
   @NonNull
   @Override
   public Optional<TokenMap> getTokenMap() {
@@ -95,8 +120,9 @@ public class DefaultMetadata implements Metadata {
    *
    * @param tokenMapEnabled whether to rebuild the token map or not; if this is {@code false} the
    *     current token map will be copied into the new metadata without being recomputed.
-   * @param tokensChanged whether we observed a change of tokens for at least one node. This will
-   *     require a full rebuild of the token map.
+   * @param tokensChanged whether we observed a change of token ownership for at least one node.
+   *     This will require a full rebuild of the token map. Otherwise, the token map is only rebuilt
+   *     if nodes that own tokens were added or removed.
    * @param tokenFactory only needed for the initial refresh, afterwards the existing one in the
    *     token map is used.
    * @return the new metadata.
@@ -108,15 +134,41 @@ public class DefaultMetadata implements Metadata {
       TokenFactory tokenFactory,
       InternalDriverContext context) {
 
-    // Force a rebuild if at least one node has different tokens, or there are new or removed nodes.
-    boolean forceFullRebuild = tokensChanged || !newNodes.equals(nodes);
+    // The schema hasn't changed, so the token map only needs a rebuild if token ownership has
+    // (or if it wasn't built yet).
+    TokenMap newTokenMap =
+        (tokensChanged || tokenMap == null || !sameTokenOwners(nodes, newNodes))
+            ? rebuildTokenMap(newNodes, keyspaces, tokenMapEnabled, true, tokenFactory, context)
+            : tokenMap;
 
     return new DefaultMetadata(
         ImmutableMap.copyOf(newNodes),
         this.keyspaces,
-        rebuildTokenMap(
-            newNodes, keyspaces, tokenMapEnabled, forceFullRebuild, tokenFactory, context),
-        context.getChannelFactory().getClusterName());
+        newTokenMap,
+        context.getChannelFactory().getClusterName(),
+        this.keyspaceLoader);
+  }
+
+  // Nodes that don't own any tokens (for example because they are still joining the ring) are not
+  // in the token map.
+  private static boolean sameTokenOwners(Map<UUID, Node> oldNodes, Map<UUID, Node> newNodes) {
+    int oldOwners = 0;
+    for (Node node : oldNodes.values()) {
+      if (!((DefaultNode) node).getRawTokens().isEmpty()) {
+        oldOwners += 1;
+      }
+    }
+    int newOwners = 0;
+    for (Map.Entry<UUID, Node> entry : newNodes.entrySet()) {
+      Node node = entry.getValue();
+      if (!((DefaultNode) node).getRawTokens().isEmpty()) {
+        if (!node.equals(oldNodes.get(entry.getKey()))) {
+          return false;
+        }
+        newOwners += 1;
+      }
+    }
+    return newOwners == oldOwners;
   }
 
   public DefaultMetadata withSchema(
@@ -127,7 +179,13 @@ public class DefaultMetadata implements Metadata {
         this.nodes,
         ImmutableMap.copyOf(newKeyspaces),
         rebuildTokenMap(nodes, newKeyspaces, tokenMapEnabled, false, null, context),
-        context.getChannelFactory().getClusterName());
+        context.getChannelFactory().getClusterName(),
+        this.keyspaceLoader);
+  }
+
+  /** Returns a copy of this metadata that loads the contents of its keyspaces on demand. */
+  public DefaultMetadata withKeyspaceLoader(@Nullable KeyspaceLoader newKeyspaceLoader) {
+    return new DefaultMetadata(nodes, keyspaces, tokenMap, clusterName, newKeyspaceLoader);
   }
 
   @Nullable
@@ -190,4 +248,13 @@ public class DefaultMetadata implements Metadata {
       LOG.debug("[{}] Rebuilding token map took {}", logPrefix, NanoTime.formatTimeSince(start));
     }
   }
+
+  /** Loads the contents of keyspaces on demand, when they are loaded lazily. */
+  @FunctionalInterface
+  public interface KeyspaceLoader {
+
+    /** Returns the current metadata of a keyspace, after loading its contents if needed. */
+    @NonNull
+    Optional<KeyspaceMetadata> load(@NonNull CqlIdentifier keyspaceId);
+  }
 }
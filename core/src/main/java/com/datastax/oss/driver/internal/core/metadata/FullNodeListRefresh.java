@@ -94,6 +94,11 @@ class FullNodeListRefresh extends NodesRefresh {
         return new Result(
             oldMetadata.withNodes(
                 oldMetadata.getNodes(), tokenMapEnabled, true, tokenFactory, context));
+      } else if (tokensChanged) {
+        LOG.debug("[{}] Token ownership changed for existing nodes", logPrefix);
+        return new Result(
+            oldMetadata.withNodes(
+                oldMetadata.getNodes(), tokenMapEnabled, true, tokenFactory, context));
       } else {
         // No need to create a new metadata instance
         return new Result(oldMetadata);
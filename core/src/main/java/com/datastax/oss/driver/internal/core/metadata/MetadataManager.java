@@ -18,34 +18,60 @@
 package com.datastax.oss.driver.internal.core.metadata;
 
 import com.datastax.oss.driver.api.core.AsyncAutoCloseable;
+import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
 import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
 import com.datastax.oss.driver.api.core.metadata.EndPoint;
 import com.datastax.oss.driver.api.core.metadata.Metadata;
 import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.internal.core.adminrequest.AdminRequestHandler;
+import com.datastax.oss.driver.internal.core.adminrequest.AdminRow;
+import com.datastax.oss.driver.internal.core.channel.DriverChannel;
 import com.datastax.oss.driver.internal.core.config.ConfigChangeEvent;
 import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
 import com.datastax.oss.driver.internal.core.control.ControlConnection;
+import com.datastax.oss.driver.internal.core.metadata.schema.SchemaSnapshot;
 import com.datastax.oss.driver.internal.core.metadata.schema.parsing.SchemaParserFactory;
 import com.datastax.oss.driver.internal.core.metadata.schema.queries.KeyspaceFilter;
+import com.datastax.oss.driver.internal.core.metadata.schema.queries.SchemaQueries;
 import com.datastax.oss.driver.internal.core.metadata.schema.queries.SchemaQueriesFactory;
 import com.datastax.oss.driver.internal.core.metadata.schema.queries.SchemaRows;
 import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefresh;
+import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefreshScope;
 import com.datastax.oss.driver.internal.core.util.Loggers;
 import com.datastax.oss.driver.internal.core.util.NanoTime;
+import com.datastax.oss.driver.internal.core.util.concurrent.BlockingOperation;
 import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
 import com.datastax.oss.driver.internal.core.util.concurrent.Debouncer;
 import com.datastax.oss.driver.internal.core.util.concurrent.RunOrSchedule;
 import com.datastax.oss.driver.shaded.guava.common.annotations.VisibleForTesting;
+import com.datastax.oss.driver.shaded.guava.common.cache.Cache;
+import com.datastax.oss.driver.shaded.guava.common.cache.CacheBuilder;
+import com.datastax.oss.driver.shaded.guava.common.cache.RemovalNotification;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableSet;
+import com.datastax.oss.driver.shaded.guava.common.util.concurrent.ThreadFactoryBuilder;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import io.netty.util.concurrent.EventExecutor;
 import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import net.jcip.annotations.ThreadSafe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,6 +80,7 @@ import org.slf4j.LoggerFactory;
 @ThreadSafe
 public class MetadataManager implements AsyncAutoCloseable {
   private static final Logger LOG = LoggerFactory.getLogger(MetadataManager.class);
+  private static final long PARSING_THREADS_KEEP_ALIVE_SECONDS = 60;
 
   static final EndPoint DEFAULT_CONTACT_POINT =
       new DefaultEndPoint(new InetSocketAddress("127.0.0.1", 9042));
@@ -64,6 +91,13 @@ public class MetadataManager implements AsyncAutoCloseable {
   private final DriverExecutionProfile config;
   private final SingleThreaded singleThreaded;
   private final ControlConnection controlConnection;
+  private final Path schemaSnapshotFile; // null if snapshots are disabled
+  private final ExecutorService schemaSnapshotExecutor; // to read/write snapshots off admin thread
+  private final ThreadPoolExecutor schemaParsingExecutor;
+  // The keyspaces whose contents are loaded, in lazy mode (null otherwise). Only the admin thread
+  // writes to it, but any thread can read it. Note that Guava enforces the maximum size per
+  // segment, so eviction can happen before the global limit is reached.
+  private final Cache<CqlIdentifier, Boolean> loadedKeyspaces;
 
   private volatile DefaultMetadata metadata; // only updated from adminExecutor
   private volatile boolean schemaEnabledInConfig;
@@ -80,12 +114,51 @@ public class MetadataManager implements AsyncAutoCloseable {
 
   protected MetadataManager(InternalDriverContext context, DefaultMetadata initialMetadata) {
     this.context = context;
-    this.metadata = initialMetadata;
     this.logPrefix = context.getSessionName();
     this.adminExecutor = context.getNettyOptions().adminEventExecutorGroup().next();
     this.config = context.getConfig().getDefaultProfile();
     this.singleThreaded = new SingleThreaded(context, config);
     this.controlConnection = context.getControlConnection();
+    boolean lazyKeyspaces = config.getBoolean(DefaultDriverOption.METADATA_SCHEMA_LAZY_ENABLED);
+    if (lazyKeyspaces) {
+      this.loadedKeyspaces =
+          CacheBuilder.newBuilder()
+              .maximumSize(config.getInt(DefaultDriverOption.METADATA_SCHEMA_LAZY_MAX_KEYSPACES))
+              .<CqlIdentifier, Boolean>removalListener(this::onKeyspaceRemoved)
+              .build();
+      this.metadata = initialMetadata.withKeyspaceLoader(this::loadKeyspace);
+    } else {
+      this.loadedKeyspaces = null;
+      this.metadata = initialMetadata;
+    }
+    // Snapshots would only contain the loaded keyspaces
+    if (config.isDefined(DefaultDriverOption.METADATA_SCHEMA_SNAPSHOT_FILE) && !lazyKeyspaces) {
+      this.schemaSnapshotFile =
+          Paths.get(config.getString(DefaultDriverOption.METADATA_SCHEMA_SNAPSHOT_FILE));
+      this.schemaSnapshotExecutor =
+          Executors.newSingleThreadExecutor(
+              new ThreadFactoryBuilder()
+                  .setNameFormat(logPrefix + "-schema-snapshot-%d")
+                  .setDaemon(true)
+                  .build());
+    } else {
+      this.schemaSnapshotFile = null;
+      this.schemaSnapshotExecutor = null;
+    }
+    int parsingThreads = config.getInt(DefaultDriverOption.METADATA_SCHEMA_PARSING_THREADS);
+    this.schemaParsingExecutor =
+        new ThreadPoolExecutor(
+            parsingThreads,
+            parsingThreads,
+            PARSING_THREADS_KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setNameFormat(logPrefix + "-schema-parser-%d")
+                .setDaemon(true)
+                .build());
+    // Schema refreshes are infrequent, don't keep idle threads around
+    this.schemaParsingExecutor.allowCoreThreadTimeOut(true);
     this.schemaEnabledInConfig = config.getBoolean(DefaultDriverOption.METADATA_SCHEMA_ENABLED);
     this.refreshedKeyspaces =
         config.getStringList(
@@ -220,22 +293,62 @@ public class MetadataManager implements AsyncAutoCloseable {
   }
 
   /**
-   * @param keyspace if this refresh was triggered by an event, that event's keyspace, otherwise
-   *     null (this is only used to discard the event if it targets a keyspace that we're ignoring)
+   * @param scope if this refresh was triggered by an event, the part of the schema targeted by the
+   *     event (see {@link SchemaRefreshScope#forChange}), otherwise null to refresh everything.
+   *     Elements of keyspaces that we're ignoring are discarded.
    * @param evenIfDisabled force the refresh even if schema is currently disabled (used for user
    *     request)
    * @param flushNow bypass the debouncer and force an immediate refresh (used to avoid a delay at
    *     startup)
    */
   public CompletionStage<RefreshSchemaResult> refreshSchema(
-      String keyspace, boolean evenIfDisabled, boolean flushNow) {
+      @Nullable SchemaRefreshScope scope, boolean evenIfDisabled, boolean flushNow) {
     CompletableFuture<RefreshSchemaResult> future = new CompletableFuture<>();
+    SchemaRefreshScope actualScope = (scope == null) ? SchemaRefreshScope.FULL : scope;
     RunOrSchedule.on(
         adminExecutor,
-        () -> singleThreaded.refreshSchema(keyspace, evenIfDisabled, flushNow, future));
+        () -> singleThreaded.refreshSchema(actualScope, evenIfDisabled, flushNow, future));
     return future;
   }
 
+  // Invoked from any thread, when keyspaces are loaded lazily
+  private Optional<KeyspaceMetadata> loadKeyspace(CqlIdentifier keyspaceId) {
+    KeyspaceMetadata keyspace = metadata.getKeyspaces().get(keyspaceId);
+    // Virtual keyspaces are always loaded
+    if (keyspace != null
+        && !keyspace.isVirtual()
+        && loadedKeyspaces.getIfPresent(keyspaceId) == null) {
+      CompletableFuture<RefreshSchemaResult> future = new CompletableFuture<>();
+      RunOrSchedule.on(adminExecutor, () -> singleThreaded.loadKeyspace(keyspaceId, future));
+      CompletionStage<Void> done =
+          future.handle(
+              (result, error) -> {
+                if (error != null) {
+                  Loggers.warnWithException(
+                      LOG, "[{}] Error while loading keyspace {}", logPrefix, keyspaceId, error);
+                }
+                return null;
+              });
+      if (BlockingOperation.isDriverThread()) {
+        LOG.debug(
+            "[{}] Keyspace {} was requested from a driver thread, loading it in the background",
+            logPrefix,
+            keyspaceId);
+      } else {
+        CompletableFutures.getUninterruptibly(done);
+      }
+    }
+    return Optional.ofNullable(metadata.getKeyspaces().get(keyspaceId));
+  }
+
+  private void onKeyspaceRemoved(RemovalNotification<CqlIdentifier, Boolean> notification) {
+    // Keyspaces are also removed explicitly when they get dropped, there's nothing to do then
+    if (notification.wasEvicted()) {
+      CqlIdentifier keyspaceId = notification.getKey();
+      RunOrSchedule.on(adminExecutor, () -> singleThreaded.unloadKeyspace(keyspaceId));
+    }
+  }
+
   public static class RefreshSchemaResult {
     private final Metadata metadata;
     private final boolean isSchemaInAgreement;
@@ -300,16 +413,18 @@ public class MetadataManager implements AsyncAutoCloseable {
     private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
     private boolean closeWasCalled;
     private final CompletableFuture<Void> firstSchemaRefreshFuture = new CompletableFuture<>();
-    private final Debouncer<
-            CompletableFuture<RefreshSchemaResult>, CompletableFuture<RefreshSchemaResult>>
-        schemaRefreshDebouncer;
+    private final Debouncer<SchemaRefreshRequest, SchemaRefreshRequest> schemaRefreshDebouncer;
     private final SchemaQueriesFactory schemaQueriesFactory;
     private final SchemaParserFactory schemaParserFactory;
 
     // We don't allow concurrent schema refreshes. If one is already running, the next one is queued
     // (and the ones after that are merged with the queued one).
-    private CompletableFuture<RefreshSchemaResult> currentSchemaRefresh;
-    private CompletableFuture<RefreshSchemaResult> queuedSchemaRefresh;
+    private SchemaRefreshRequest currentSchemaRefresh;
+    private SchemaRefreshRequest queuedSchemaRefresh;
+    // The last snapshot that was loaded or written, to avoid rewriting the same version
+    private SchemaSnapshot lastSchemaSnapshot;
+    // In lazy mode, the keyspaces that were requested but are not loaded yet
+    private final Set<String> loadingKeyspaces = new HashSet<>();
 
     private boolean didFirstNodeListRefresh;
 
@@ -366,7 +481,7 @@ public class MetadataManager implements AsyncAutoCloseable {
     }
 
     private void refreshSchema(
-        String keyspace,
+        SchemaRefreshScope scope,
         boolean evenIfDisabled,
         boolean flushNow,
         CompletableFuture<RefreshSchemaResult> future) {
@@ -379,24 +494,44 @@ public class MetadataManager implements AsyncAutoCloseable {
       }
 
       // If this is an event, make sure it's not targeting a keyspace that we're ignoring.
-      boolean isRefreshedKeyspace = keyspace == null || keyspaceFilter.includes(keyspace);
+      SchemaRefreshScope filteredScope = scope.filter(keyspaceFilter);
 
-      if (isRefreshedKeyspace && (evenIfDisabled || isSchemaEnabled())) {
-        acceptSchemaRequest(future, flushNow);
+      if (!filteredScope.isEmpty() && (evenIfDisabled || isSchemaEnabled())) {
+        acceptSchemaRequest(new SchemaRefreshRequest(filteredScope, future), flushNow);
       } else {
         future.complete(new RefreshSchemaResult(metadata));
         singleThreaded.firstSchemaRefreshFuture.complete(null);
       }
     }
 
+    private void loadKeyspace(
+        CqlIdentifier keyspaceId, CompletableFuture<RefreshSchemaResult> future) {
+      if (loadedKeyspaces.asMap().containsKey(keyspaceId)) {
+        // Another caller loaded it in the meantime
+        future.complete(new RefreshSchemaResult(metadata));
+      } else {
+        LOG.debug("[{}] Loading keyspace {}", logPrefix, keyspaceId);
+        loadingKeyspaces.add(keyspaceId.asInternal());
+        refreshSchema(SchemaRefreshScope.forKeyspace(keyspaceId.asInternal()), false, true, future);
+      }
+    }
+
+    private void unloadKeyspace(CqlIdentifier keyspaceId) {
+      assert adminExecutor.inEventLoop();
+      // It might have been loaded again since it was evicted
+      if (!closeWasCalled && !loadedKeyspaces.asMap().containsKey(keyspaceId)) {
+        LOG.debug("[{}] Unloading keyspace {}", logPrefix, keyspaceId);
+        apply(new UnloadKeyspaceRefresh(keyspaceId));
+      }
+    }
+
     // An external component has requested a schema refresh, feed it to the debouncer.
-    private void acceptSchemaRequest(
-        CompletableFuture<RefreshSchemaResult> future, boolean flushNow) {
+    private void acceptSchemaRequest(SchemaRefreshRequest request, boolean flushNow) {
       assert adminExecutor.inEventLoop();
       if (closeWasCalled) {
-        future.complete(new RefreshSchemaResult(metadata));
+        request.future.complete(new RefreshSchemaResult(metadata));
       } else {
-        schemaRefreshDebouncer.receive(future);
+        schemaRefreshDebouncer.receive(request);
         if (flushNow) {
           schemaRefreshDebouncer.flushNow();
         }
@@ -404,70 +539,245 @@ public class MetadataManager implements AsyncAutoCloseable {
     }
 
     // Multiple requests have arrived within the debouncer window, coalesce them.
-    private CompletableFuture<RefreshSchemaResult> coalesceSchemaRequests(
-        List<CompletableFuture<RefreshSchemaResult>> futures) {
+    private SchemaRefreshRequest coalesceSchemaRequests(List<SchemaRefreshRequest> requests) {
       assert adminExecutor.inEventLoop();
-      assert !futures.isEmpty();
+      assert !requests.isEmpty();
       // Keep only one, but ensure that the discarded ones will still be completed when we're done
-      CompletableFuture<RefreshSchemaResult> result = null;
-      for (CompletableFuture<RefreshSchemaResult> future : futures) {
-        if (result == null) {
-          result = future;
-        } else {
-          CompletableFutures.completeFrom(result, future);
-        }
+      SchemaRefreshRequest result = null;
+      for (SchemaRefreshRequest request : requests) {
+        result = (result == null) ? request : result.mergeWith(request);
       }
       return result;
     }
 
     // The debouncer has flushed, start the actual work.
-    private void startSchemaRequest(CompletableFuture<RefreshSchemaResult> refreshFuture) {
+    private void startSchemaRequest(SchemaRefreshRequest request) {
       assert adminExecutor.inEventLoop();
+      CompletableFuture<RefreshSchemaResult> refreshFuture = request.future;
       if (closeWasCalled) {
         refreshFuture.complete(new RefreshSchemaResult(metadata));
         return;
       }
       if (currentSchemaRefresh == null) {
-        currentSchemaRefresh = refreshFuture;
-        LOG.debug("[{}] Starting schema refresh", logPrefix);
-        initControlConnectionForSchema()
-            .thenCompose(v -> context.getTopologyMonitor().checkSchemaAgreement())
-            .whenComplete(
-                (schemaInAgreement, agreementError) -> {
-                  if (agreementError != null) {
-                    refreshFuture.completeExceptionally(agreementError);
-                  } else {
-                    schemaQueriesFactory
-                        .newInstance()
-                        .execute()
-                        .thenApplyAsync(this::parseAndApplySchemaRows, adminExecutor)
-                        .whenComplete(
-                            (newMetadata, metadataError) -> {
-                              if (metadataError != null) {
-                                refreshFuture.completeExceptionally(metadataError);
-                              } else {
-                                refreshFuture.complete(
-                                    new RefreshSchemaResult(newMetadata, schemaInAgreement));
-                              }
-
-                              firstSchemaRefreshFuture.complete(null);
-
-                              currentSchemaRefresh = null;
-                              // If another refresh was enqueued during this one, run it now
-                              if (queuedSchemaRefresh != null) {
-                                CompletableFuture<RefreshSchemaResult> tmp =
-                                    this.queuedSchemaRefresh;
-                                this.queuedSchemaRefresh = null;
-                                startSchemaRequest(tmp);
-                              }
-                            });
-                  }
-                });
+        currentSchemaRefresh = request;
+        if (!firstSchemaRefreshFuture.isDone() && schemaSnapshotFile != null) {
+          // Reading the file is blocking, do it on the snapshot thread. Subsequent requests are
+          // queued in the meantime, since currentSchemaRefresh is already set.
+          CompletableFuture.supplyAsync(
+                  () -> SchemaSnapshot.load(schemaSnapshotFile, context, logPrefix),
+                  schemaSnapshotExecutor)
+              .whenCompleteAsync(
+                  (snapshot, error) -> onSnapshotLoaded(request, snapshot), adminExecutor);
+        } else {
+          startRefresh(request);
+        }
       } else if (queuedSchemaRefresh == null) {
-        queuedSchemaRefresh = refreshFuture; // wait for our turn
+        queuedSchemaRefresh = request; // wait for our turn
       } else {
-        CompletableFutures.completeFrom(
-            queuedSchemaRefresh, refreshFuture); // join the queued request
+        queuedSchemaRefresh = queuedSchemaRefresh.mergeWith(request); // join the queued request
+      }
+    }
+
+    private void onSnapshotLoaded(SchemaRefreshRequest request, SchemaSnapshot snapshot) {
+      assert adminExecutor.inEventLoop();
+      if (closeWasCalled) {
+        currentSchemaRefresh = null;
+        request.future.complete(new RefreshSchemaResult(metadata));
+      } else if (snapshot != null
+          && snapshot.matches(metadata.getClusterName().orElse(null), refreshedKeyspaces)) {
+        startFromSnapshot(request, snapshot);
+      } else {
+        startRefresh(request);
+      }
+    }
+
+    private void startRefresh(SchemaRefreshRequest request) {
+      CompletableFuture<RefreshSchemaResult> refreshFuture = request.future;
+      // The first refresh fetches everything. After that, tables can only be merged into
+      // keyspaces that we already know about.
+      SchemaRefreshScope requestedScope =
+          firstSchemaRefreshFuture.isDone()
+              ? request.scope.promoteUnknownKeyspaces(this::isKnownKeyspace)
+              : SchemaRefreshScope.FULL;
+      SchemaRefreshScope scope =
+          (loadedKeyspaces == null) ? requestedScope : toLazyScope(requestedScope);
+      LOG.debug("[{}] Starting schema refresh ({})", logPrefix, scope);
+      initControlConnectionForSchema()
+          .thenCompose(v -> context.getTopologyMonitor().checkSchemaAgreement())
+          .whenComplete(
+              (schemaInAgreement, agreementError) -> {
+                if (agreementError != null) {
+                  refreshFuture.completeExceptionally(agreementError);
+                } else {
+                  fetchAndApplySchema(scope, schemaInAgreement)
+                      .whenComplete(
+                          (newMetadata, metadataError) -> {
+                            if (metadataError != null) {
+                              refreshFuture.completeExceptionally(metadataError);
+                            } else {
+                              refreshFuture.complete(
+                                  new RefreshSchemaResult(newMetadata, schemaInAgreement));
+                            }
+
+                            firstSchemaRefreshFuture.complete(null);
+
+                            loadingKeyspaces.removeAll(scope.getKeyspaces());
+                            currentSchemaRefresh = null;
+                            // If another refresh was enqueued during this one, run it now
+                            if (queuedSchemaRefresh != null) {
+                              SchemaRefreshRequest tmp = this.queuedSchemaRefresh;
+                              this.queuedSchemaRefresh = null;
+                              startSchemaRequest(tmp);
+                            }
+                          });
+                }
+              });
+    }
+
+    // Applies the snapshot right away, and checks in the background if the cluster's schema has
+    // changed since it was taken.
+    private void startFromSnapshot(SchemaRefreshRequest request, SchemaSnapshot snapshot) {
+      LOG.debug(
+          "[{}] Initializing schema from snapshot {} (version {})",
+          logPrefix,
+          schemaSnapshotFile,
+          snapshot.getSchemaVersion());
+      lastSchemaSnapshot = snapshot;
+      apply(new SchemaRefresh(snapshot.getKeyspaces()));
+      request.future.complete(new RefreshSchemaResult(metadata));
+      firstSchemaRefreshFuture.complete(null);
+
+      controlConnection
+          .init(false, true, false)
+          .thenCompose(v -> querySchemaVersion())
+          .whenCompleteAsync(
+              (schemaVersion, error) -> {
+                currentSchemaRefresh = null;
+                if (error != null || !snapshot.getSchemaVersion().equals(schemaVersion)) {
+                  LOG.debug(
+                      "[{}] Schema snapshot is stale (cluster version: {}), refreshing",
+                      logPrefix,
+                      (error != null) ? error.toString() : schemaVersion);
+                  // Any refresh queued in the meantime will run after this one
+                  CompletableFuture<RefreshSchemaResult> future = new CompletableFuture<>();
+                  future.whenComplete(
+                      (result, refreshError) -> {
+                        if (refreshError != null) {
+                          Loggers.warnWithException(
+                              LOG,
+                              "[{}] Unexpected error while refreshing stale schema snapshot, "
+                                  + "keeping previous version",
+                              logPrefix,
+                              refreshError);
+                        }
+                      });
+                  refreshSchema(SchemaRefreshScope.FULL, false, true, future);
+                } else if (queuedSchemaRefresh != null) {
+                  SchemaRefreshRequest tmp = this.queuedSchemaRefresh;
+                  this.queuedSchemaRefresh = null;
+                  startSchemaRequest(tmp);
+                }
+              },
+              adminExecutor);
+    }
+
+    private CompletionStage<Metadata> fetchAndApplySchema(
+        SchemaRefreshScope scope, boolean schemaInAgreement) {
+      if (schemaSnapshotFile == null || !schemaInAgreement) {
+        return newSchemaQueries(scope).execute().thenCompose(this::parseAndApplySchemaRows);
+      }
+      // Read the version before the schema: if the schema changes in between, the snapshot will be
+      // tagged with an older version, and considered stale when it gets loaded.
+      return querySchemaVersion()
+          .exceptionally(error -> null)
+          .thenCompose(
+              schemaVersion ->
+                  newSchemaQueries(scope)
+                      .execute()
+                      .thenCompose(this::parseAndApplySchemaRows)
+                      .thenApplyAsync(
+                          newMetadata -> {
+                            saveSnapshot(schemaVersion);
+                            return newMetadata;
+                          },
+                          adminExecutor));
+    }
+
+    private CompletionStage<UUID> querySchemaVersion() {
+      DriverChannel channel = controlConnection.channel();
+      if (channel == null) {
+        return CompletableFutures.failedFuture(
+            new IllegalStateException("Control channel not available"));
+      }
+      return AdminRequestHandler.query(
+              channel,
+              "SELECT schema_version FROM system.local WHERE key='local'",
+              config.getDuration(DefaultDriverOption.METADATA_SCHEMA_REQUEST_TIMEOUT),
+              config.getInt(DefaultDriverOption.METADATA_SCHEMA_REQUEST_PAGE_SIZE),
+              logPrefix)
+          .start()
+          .thenApply(
+              result -> {
+                Iterator<AdminRow> iterator = result.iterator();
+                return iterator.hasNext() ? iterator.next().getUuid("schema_version") : null;
+              });
+    }
+
+    private void saveSnapshot(UUID schemaVersion) {
+      assert adminExecutor.inEventLoop();
+      String clusterName = metadata.getClusterName().orElse(null);
+      if (schemaVersion == null
+          || (lastSchemaSnapshot != null
+              && lastSchemaSnapshot.getSchemaVersion().equals(schemaVersion)
+              && lastSchemaSnapshot.matches(clusterName, refreshedKeyspaces))) {
+        return;
+      }
+      SchemaSnapshot snapshot =
+          new SchemaSnapshot(
+              clusterName, refreshedKeyspaces, schemaVersion, metadata.getKeyspaces());
+      lastSchemaSnapshot = snapshot;
+      schemaSnapshotExecutor.execute(
+          () -> {
+            try {
+              snapshot.save(schemaSnapshotFile);
+              LOG.debug(
+                  "[{}] Wrote schema snapshot {} (version {})",
+                  logPrefix,
+                  schemaSnapshotFile,
+                  schemaVersion);
+            } catch (Throwable t) {
+              Loggers.warnWithException(
+                  LOG, "[{}] Could not write schema snapshot {}", logPrefix, schemaSnapshotFile, t);
+            }
+          });
+    }
+
+    private SchemaQueries newSchemaQueries(SchemaRefreshScope scope) {
+      return scope.isFull()
+          ? schemaQueriesFactory.newInstance()
+          : schemaQueriesFactory.newInstance(scope);
+    }
+
+    private boolean isKnownKeyspace(String keyspaceName) {
+      return metadata.getKeyspaces().containsKey(CqlIdentifier.fromInternal(keyspaceName));
+    }
+
+    // In lazy mode, only the loaded keyspaces (or the ones being loaded) are refreshed entirely.
+    // For the other ones, we only track the options, from the keyspace list.
+    private SchemaRefreshScope toLazyScope(SchemaRefreshScope scope) {
+      if (scope.isFull()) {
+        Set<String> keyspaces = new HashSet<>(loadingKeyspaces);
+        for (CqlIdentifier keyspaceId : loadedKeyspaces.asMap().keySet()) {
+          keyspaces.add(keyspaceId.asInternal());
+        }
+        return SchemaRefreshScope.KEYSPACE_LIST.merge(SchemaRefreshScope.forKeyspaces(keyspaces));
+      } else {
+        return scope.demoteUnloadedKeyspaces(
+            keyspaceName ->
+                loadingKeyspaces.contains(keyspaceName)
+                    || loadedKeyspaces
+                        .asMap()
+                        .containsKey(CqlIdentifier.fromInternal(keyspaceName)));
       }
     }
 
@@ -485,15 +795,51 @@ public class MetadataManager implements AsyncAutoCloseable {
       }
     }
 
-    private Metadata parseAndApplySchemaRows(SchemaRows schemaRows) {
+    // Parsing happens on a separate pool, only the result is applied on the admin thread. This
+    // way, topology events don't have to wait for a large schema to be parsed.
+    private CompletionStage<Metadata> parseAndApplySchemaRows(SchemaRows schemaRows) {
+      return schemaParserFactory
+          .newInstance(schemaRows)
+          .parseAsync(schemaParsingExecutor)
+          .thenApplyAsync(
+              schemaRefresh -> applySchemaRefresh(schemaRefresh, schemaRows.scope()),
+              adminExecutor);
+    }
+
+    private Metadata applySchemaRefresh(SchemaRefresh schemaRefresh, SchemaRefreshScope scope) {
       assert adminExecutor.inEventLoop();
-      SchemaRefresh schemaRefresh = schemaParserFactory.newInstance(schemaRows).parse();
       long start = System.nanoTime();
-      apply(schemaRefresh);
+      if (loadedKeyspaces == null) {
+        apply(schemaRefresh);
+      } else {
+        applyLazySchemaRefresh(schemaRefresh, scope);
+      }
       LOG.debug("[{}] Applying schema refresh took {}", logPrefix, NanoTime.formatTimeSince(start));
       return metadata;
     }
 
+    private void applyLazySchemaRefresh(SchemaRefresh schemaRefresh, SchemaRefreshScope scope) {
+      // The keyspaces that are refreshed entirely but were not loaded are getting loaded now
+      Set<CqlIdentifier> newlyLoaded = new HashSet<>();
+      for (String keyspaceName : scope.getKeyspaces()) {
+        CqlIdentifier keyspaceId = CqlIdentifier.fromInternal(keyspaceName);
+        if (!loadedKeyspaces.asMap().containsKey(keyspaceId)) {
+          newlyLoaded.add(keyspaceId);
+        }
+      }
+      apply(schemaRefresh.withUnloadedKeyspaces(newlyLoaded));
+
+      Map<CqlIdentifier, KeyspaceMetadata> keyspaces = metadata.getKeyspaces();
+      // Forget the keyspaces that were dropped
+      loadedKeyspaces.asMap().keySet().retainAll(keyspaces.keySet());
+      for (CqlIdentifier keyspaceId : newlyLoaded) {
+        if (keyspaces.containsKey(keyspaceId)) {
+          // This might evict the least recently used keyspace
+          loadedKeyspaces.put(keyspaceId, true);
+        }
+      }
+    }
+
     private void close() {
       if (closeWasCalled) {
         return;
@@ -502,12 +848,35 @@ public class MetadataManager implements AsyncAutoCloseable {
       LOG.debug("[{}] Closing", logPrefix);
       // The current schema refresh should fail when its channel gets closed.
       if (queuedSchemaRefresh != null) {
-        queuedSchemaRefresh.completeExceptionally(new IllegalStateException("Cluster is closed"));
+        queuedSchemaRefresh.future.completeExceptionally(
+            new IllegalStateException("Cluster is closed"));
       }
+      if (schemaSnapshotExecutor != null) {
+        // Let pending writes finish
+        schemaSnapshotExecutor.shutdown();
+      }
+      schemaParsingExecutor.shutdown();
       closeFuture.complete(null);
     }
   }
 
+  /** A pending schema refresh: what it must fetch, and the future to complete when it's done. */
+  private static class SchemaRefreshRequest {
+    private final SchemaRefreshScope scope;
+    private final CompletableFuture<RefreshSchemaResult> future;
+
+    private SchemaRefreshRequest(
+        SchemaRefreshScope scope, CompletableFuture<RefreshSchemaResult> future) {
+      this.scope = scope;
+      this.future = future;
+    }
+
+    private SchemaRefreshRequest mergeWith(SchemaRefreshRequest that) {
+      CompletableFutures.completeFrom(this.future, that.future);
+      return new SchemaRefreshRequest(this.scope.merge(that.scope), this.future);
+    }
+  }
+
   @VisibleForTesting
   Void apply(MetadataRefresh refresh) {
     assert adminExecutor.inEventLoop();
@@ -23,9 +23,11 @@ import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
 import com.datastax.oss.driver.api.core.loadbalancing.NodeDistance;
 import com.datastax.oss.driver.api.core.metadata.Node;
 import com.datastax.oss.driver.api.core.metadata.NodeState;
+import com.datastax.oss.driver.api.core.metrics.DefaultSessionMetric;
 import com.datastax.oss.driver.internal.core.channel.ChannelEvent;
 import com.datastax.oss.driver.internal.core.context.EventBus;
 import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.driver.internal.core.metrics.SessionMetricUpdater;
 import com.datastax.oss.driver.internal.core.util.Loggers;
 import com.datastax.oss.driver.internal.core.util.concurrent.Debouncer;
 import com.datastax.oss.driver.internal.core.util.concurrent.RunOrSchedule;
@@ -34,6 +36,7 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import io.netty.util.concurrent.EventExecutor;
 import java.net.InetSocketAddress;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -48,6 +51,10 @@ import org.slf4j.LoggerFactory;
  * the driver.
  *
  * <p>See {@link NodeState} and {@link TopologyEvent} for a description of the state change rules.
+ *
+ * <p>State changes are applied to the nodes immediately, but the corresponding {@link
+ * NodeStateEvent}s can be debounced, in order to notify the rest of the driver in batches when many
+ * nodes flap at the same time.
  */
 @ThreadSafe
 public class NodeStateManager implements AsyncAutoCloseable {
@@ -95,6 +102,8 @@ public class NodeStateManager implements AsyncAutoCloseable {
     private final MetadataManager metadataManager;
     private final EventBus eventBus;
     private final Debouncer<TopologyEvent, Collection<TopologyEvent>> topologyEventDebouncer;
+    private final Debouncer<NodeStateEvent, Collection<NodeStateEvent>> stateEventDebouncer;
+    private final SessionMetricUpdater metricUpdater;
     private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
     private boolean isInitialized = false;
     private boolean closeWasCalled;
@@ -111,12 +120,23 @@ public class NodeStateManager implements AsyncAutoCloseable {
               this::flushTopologyEvents,
               config.getDuration(DefaultDriverOption.METADATA_TOPOLOGY_WINDOW),
               config.getInt(DefaultDriverOption.METADATA_TOPOLOGY_MAX_EVENTS));
+      this.stateEventDebouncer =
+          new Debouncer<>(
+              logPrefix + "|node state debouncer",
+              adminExecutor,
+              this::coalesceStateEvents,
+              this::flushStateEvents,
+              config.getDuration(DefaultDriverOption.METADATA_NODE_STATE_WINDOW),
+              config.getInt(DefaultDriverOption.METADATA_NODE_STATE_MAX_EVENTS));
+      this.metricUpdater = context.getMetricsFactory().getSessionUpdater();
 
       this.eventBus = context.getEventBus();
       this.eventBus.register(
           ChannelEvent.class, RunOrSchedule.on(adminExecutor, this::onChannelEvent));
       this.eventBus.register(
           TopologyEvent.class, RunOrSchedule.on(adminExecutor, this::onTopologyEvent));
+      this.eventBus.register(
+          NodeStateEvent.class, RunOrSchedule.on(adminExecutor, this::onNodeStateEvent));
       // Note: this component exists for the whole life of the driver instance, so don't worry about
       // unregistering the listeners.
     }
@@ -297,6 +317,52 @@ public class NodeStateManager implements AsyncAutoCloseable {
       }
     }
 
+    // Additions and removals are fired by MetadataManager, they don't go through the debouncer. If
+    // a removed node still has pending changes, drop them: otherwise they would be fired after the
+    // removal, and for example the load balancing policy would add the node back on UP.
+    private void onNodeStateEvent(NodeStateEvent event) {
+      assert adminExecutor.inEventLoop();
+      if (event.oldState == null && event.newState == null) {
+        stateEventDebouncer.discard(pending -> pending.node == event.node);
+      }
+    }
+
+    private void onStateChange(NodeStateEvent event) {
+      assert adminExecutor.inEventLoop();
+      metricUpdater.incrementCounter(DefaultSessionMetric.NODE_STATE_EVENTS_RECEIVED, null);
+      stateEventDebouncer.receive(event);
+    }
+
+    // Merges the successive changes of each node, and drops the ones that cancel out (for example
+    // UP=>DOWN followed by DOWN=>UP)
+    private Collection<NodeStateEvent> coalesceStateEvents(List<NodeStateEvent> events) {
+      assert adminExecutor.inEventLoop();
+      if (events.size() == 1) {
+        return events;
+      }
+      Map<DefaultNode, NodeStateEvent> merged = new LinkedHashMap<>();
+      for (NodeStateEvent event : events) {
+        NodeStateEvent previous = merged.get(event.node);
+        merged.put(
+            event.node,
+            (previous == null)
+                ? event
+                : NodeStateEvent.changed(previous.oldState, event.newState, event.node));
+      }
+      merged.values().removeIf(event -> event.oldState == event.newState);
+      LOG.debug("[{}] Coalesced node state events: {} => {}", logPrefix, events, merged.values());
+      return merged.values();
+    }
+
+    private void flushStateEvents(Collection<NodeStateEvent> events) {
+      assert adminExecutor.inEventLoop();
+      metricUpdater.incrementCounter(
+          DefaultSessionMetric.NODE_STATE_EVENTS_APPLIED, null, events.size());
+      for (NodeStateEvent event : events) {
+        eventBus.fire(event);
+      }
+    }
+
     private void close() {
       assert adminExecutor.inEventLoop();
       if (closeWasCalled) {
@@ -304,6 +370,7 @@ public class NodeStateManager implements AsyncAutoCloseable {
       }
       closeWasCalled = true;
       topologyEventDebouncer.stop();
+      stateEventDebouncer.stop();
       closeFuture.complete(null);
     }
 
@@ -328,7 +395,7 @@ public class NodeStateManager implements AsyncAutoCloseable {
         // If oldState == UNKNOWN, the node was just added, we already refreshed while processing
         // the addition.
         if (oldState == NodeState.UNKNOWN || newState != NodeState.UP) {
-          eventBus.fire(NodeStateEvent.changed(oldState, newState, node));
+          onStateChange(NodeStateEvent.changed(oldState, newState, node));
         } else {
           metadataManager
               .refreshNode(node)
@@ -340,7 +407,9 @@ public class NodeStateManager implements AsyncAutoCloseable {
                             LOG, "[{}] Error while refreshing info for {}", logPrefix, node, error);
                       }
                       // Fire the event whether the refresh succeeded or not
-                      eventBus.fire(NodeStateEvent.changed(oldState, newState, node));
+                      RunOrSchedule.on(
+                          adminExecutor,
+                          () -> onStateChange(NodeStateEvent.changed(oldState, newState, node)));
                     } catch (Throwable t) {
                       Loggers.warnWithException(LOG, "[{}] Unexpected exception", logPrefix, t);
                     }
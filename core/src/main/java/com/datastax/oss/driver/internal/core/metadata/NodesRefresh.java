@@ -21,6 +21,7 @@ import com.datastax.oss.driver.api.core.Version;
 import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
 import net.jcip.annotations.ThreadSafe;
 import org.slf4j.Logger;
@@ -32,8 +33,12 @@ abstract class NodesRefresh implements MetadataRefresh {
   private static final Logger LOG = LoggerFactory.getLogger(NodesRefresh.class);
 
   /**
-   * @return whether the node's token have changed as a result of this operation (unfortunately we
-   *     mutate the tokens in-place, so there is no way to check this after the fact).
+   * Copies the information of a row from the system tables into the node. Only the fields that have
+   * changed are written: in large clusters, most nodes are unchanged from one refresh to the next.
+   *
+   * @return whether the node's token ownership has changed as a result of this operation: either
+   *     its tokens, or its datacenter or rack if it owns tokens, since they determine replica
+   *     placement (we mutate the node in-place, so there is no way to check this after the fact).
    */
   protected static boolean copyInfos(
       NodeInfo nodeInfo, DefaultNode node, InternalDriverContext context) {
@@ -42,28 +47,37 @@ abstract class NodesRefresh implements MetadataRefresh {
     node.broadcastRpcAddress = nodeInfo.getBroadcastRpcAddress().orElse(null);
     node.broadcastAddress = nodeInfo.getBroadcastAddress().orElse(null);
     node.listenAddress = nodeInfo.getListenAddress().orElse(null);
-    node.datacenter = nodeInfo.getDatacenter();
-    node.rack = nodeInfo.getRack();
+    boolean placementChanged =
+        !Objects.equals(node.datacenter, nodeInfo.getDatacenter())
+            || !Objects.equals(node.rack, nodeInfo.getRack());
+    if (placementChanged) {
+      node.datacenter = nodeInfo.getDatacenter();
+      node.rack = nodeInfo.getRack();
+    }
     node.hostId = Objects.requireNonNull(nodeInfo.getHostId());
     node.schemaVersion = nodeInfo.getSchemaVersion();
     String versionString = nodeInfo.getCassandraVersion();
-    try {
-      node.cassandraVersion = Version.parse(versionString);
-    } catch (IllegalArgumentException e) {
-      LOG.warn(
-          "[{}] Error converting Cassandra version '{}' for {}",
-          context.getSessionName(),
-          versionString,
-          node.getEndPoint());
+    if (node.cassandraVersion == null || !node.cassandraVersion.toString().equals(versionString)) {
+      try {
+        node.cassandraVersion = Version.parse(versionString);
+      } catch (IllegalArgumentException e) {
+        LOG.warn(
+            "[{}] Error converting Cassandra version '{}' for {}",
+            context.getSessionName(),
+            versionString,
+            node.getEndPoint());
+      }
     }
     boolean tokensChanged = !node.rawTokens.equals(nodeInfo.getTokens());
     if (tokensChanged) {
       node.rawTokens = nodeInfo.getTokens();
     }
-    node.extras =
-        (nodeInfo.getExtras() == null)
-            ? Collections.emptyMap()
-            : ImmutableMap.copyOf(nodeInfo.getExtras());
-    return tokensChanged;
+    Map<String, Object> extras = nodeInfo.getExtras();
+    if (extras == null || extras.isEmpty()) {
+      node.extras = Collections.emptyMap();
+    } else if (!extras.equals(node.extras)) {
+      node.extras = ImmutableMap.copyOf(extras);
+    }
+    return tokensChanged || (placementChanged && !node.rawTokens.isEmpty());
   }
 }
@@ -25,10 +25,12 @@ import com.datastax.oss.driver.internal.core.adminrequest.AdminRequestHandler;
 import com.datastax.oss.driver.internal.core.adminrequest.AdminResult;
 import com.datastax.oss.driver.internal.core.adminrequest.AdminRow;
 import com.datastax.oss.driver.internal.core.channel.DriverChannel;
+import com.datastax.oss.driver.internal.core.context.EventBus;
 import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
 import com.datastax.oss.driver.internal.core.util.NanoTime;
 import com.datastax.oss.driver.shaded.guava.common.annotations.VisibleForTesting;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableSet;
+import io.netty.util.concurrent.ScheduledFuture;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.time.Duration;
@@ -40,10 +42,21 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import net.jcip.annotations.ThreadSafe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Checks that all the nodes that are up report the same schema version.
+ *
+ * <p>The first attempt happens right away. If the versions don't match, the next attempts back off
+ * exponentially, from the initial interval up to the maximum interval. But the check is also
+ * event-driven: when the control connection receives a {@code SCHEMA_CHANGE} event, or a node
+ * changes state (for example because of a {@code STATUS_CHANGE} event), the versions have probably
+ * changed, so the next attempt is brought forward. It still happens at least one initial interval
+ * after the previous one, so that a burst of events doesn't flood the control node with queries.
+ */
 @ThreadSafe
 class SchemaAgreementChecker {
 
@@ -63,11 +76,17 @@ class SchemaAgreementChecker {
   private final InternalDriverContext context;
   private final String logPrefix;
   private final Duration queryTimeout;
-  private final long intervalNs;
+  private final long initialIntervalNs;
+  private final long maxIntervalNs;
   private final long timeoutNs;
   private final boolean warnOnFailure;
   private final long start;
   private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+  // Set when an event suggests that the versions have changed, cleared before each attempt
+  private final AtomicBoolean changeSignaled = new AtomicBoolean();
+  private volatile ScheduledFuture<?> nextAttempt;
+  private volatile long lastAttemptNs;
+  private long nextIntervalNs; // attempts never overlap, so this doesn't need to be volatile
 
   SchemaAgreementChecker(DriverChannel channel, InternalDriverContext context, String logPrefix) {
     this.channel = channel;
@@ -75,8 +94,15 @@ class SchemaAgreementChecker {
     this.logPrefix = logPrefix;
     DriverExecutionProfile config = context.getConfig().getDefaultProfile();
     this.queryTimeout = config.getDuration(DefaultDriverOption.CONTROL_CONNECTION_TIMEOUT);
-    this.intervalNs =
+    this.maxIntervalNs =
         config.getDuration(DefaultDriverOption.CONTROL_CONNECTION_AGREEMENT_INTERVAL).toNanos();
+    this.initialIntervalNs =
+        Math.min(
+            config
+                .getDuration(DefaultDriverOption.CONTROL_CONNECTION_AGREEMENT_INITIAL_INTERVAL)
+                .toNanos(),
+            maxIntervalNs);
+    this.nextIntervalNs = initialIntervalNs;
     this.timeoutNs =
         config.getDuration(DefaultDriverOption.CONTROL_CONNECTION_AGREEMENT_TIMEOUT).toNanos();
     this.warnOnFailure = config.getBoolean(DefaultDriverOption.CONTROL_CONNECTION_AGREEMENT_WARN);
@@ -88,13 +114,25 @@ class SchemaAgreementChecker {
     if (timeoutNs == 0) {
       result.complete(false);
     } else {
+      EventBus eventBus = context.getEventBus();
+      Object schemaChangeKey =
+          eventBus.register(SchemaChangeReceivedEvent.class, event -> onChangeSignaled());
+      Object nodeStateKey = eventBus.register(NodeStateEvent.class, event -> onChangeSignaled());
+      result.whenComplete(
+          (agreement, error) -> {
+            eventBus.unregister(schemaChangeKey, SchemaChangeReceivedEvent.class);
+            eventBus.unregister(nodeStateKey, NodeStateEvent.class);
+          });
       sendQueries();
     }
     return result;
   }
 
   private void sendQueries() {
-    long elapsedNs = System.nanoTime() - start;
+    // Events received from now on might not be reflected in the results of this attempt
+    changeSignaled.set(false);
+    lastAttemptNs = System.nanoTime();
+    long elapsedNs = lastAttemptNs - start;
     if (elapsedNs > timeoutNs) {
       String message =
           String.format(
@@ -162,26 +200,69 @@ class SchemaAgreementChecker {
           "[{}] Schema agreement reached ({}), completing", logPrefix, uuids.iterator().next());
       result.complete(true);
     } else {
+      long intervalNs;
+      if (changeSignaled.get()) {
+        intervalNs = signaledIntervalNs();
+      } else {
+        intervalNs = nextIntervalNs;
+        nextIntervalNs = Math.min(intervalNs * 2, maxIntervalNs);
+      }
       LOG.debug(
           "[{}] Schema agreement not reached yet ({}), rescheduling in {}",
           logPrefix,
           uuids,
           NanoTime.format(intervalNs));
-      channel
-          .eventLoop()
-          .schedule(this::sendQueries, intervalNs, TimeUnit.NANOSECONDS)
-          .addListener(
-              f -> {
-                if (!f.isSuccess()) {
-                  LOG.debug(
-                      "[{}] Error while rescheduling schema agreement, completing now (false)",
-                      logPrefix,
-                      f.cause());
-                }
-              });
+      ScheduledFuture<?> attempt = schedule(intervalNs);
+      // An event might have arrived before we published the attempt
+      if (changeSignaled.get()) {
+        bringForward(attempt);
+      }
+    }
+  }
+
+  private ScheduledFuture<?> schedule(long intervalNs) {
+    ScheduledFuture<?> attempt =
+        channel.eventLoop().schedule(this::sendQueries, intervalNs, TimeUnit.NANOSECONDS);
+    attempt.addListener(
+        f -> {
+          if (!f.isSuccess() && !f.isCancelled()) {
+            LOG.debug(
+                "[{}] Error while rescheduling schema agreement, completing now (false)",
+                logPrefix,
+                f.cause());
+            result.complete(false);
+          }
+        });
+    nextAttempt = attempt;
+    return attempt;
+  }
+
+  private void onChangeSignaled() {
+    changeSignaled.set(true);
+    ScheduledFuture<?> attempt = nextAttempt;
+    if (attempt != null) {
+      bringForward(attempt);
+    }
+  }
+
+  private void bringForward(ScheduledFuture<?> attempt) {
+    long intervalNs = signaledIntervalNs();
+    // Cancelling only succeeds once, and only if the attempt hasn't started yet
+    if (attempt.getDelay(TimeUnit.NANOSECONDS) > intervalNs && attempt.cancel(false)) {
+      LOG.debug(
+          "[{}] Schema or node state changed, checking schema agreement in {}",
+          logPrefix,
+          NanoTime.format(intervalNs));
+      schedule(intervalNs);
     }
   }
 
+  // After a signal, the next attempt can happen as soon as one initial interval has elapsed since
+  // the previous one.
+  private long signaledIntervalNs() {
+    return Math.max(0, initialIntervalNs - (System.nanoTime() - lastAttemptNs));
+  }
+
   @VisibleForTesting
   protected CompletionStage<AdminResult> query(String queryString) {
     return AdminRequestHandler.query(
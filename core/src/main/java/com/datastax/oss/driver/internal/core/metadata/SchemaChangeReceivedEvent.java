@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.metadata;
+
+import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefreshScope;
+import java.util.Objects;
+import net.jcip.annotations.Immutable;
+
+/**
+ * Indicates that the control connection has received a {@code SCHEMA_CHANGE} event, which means
+ * that the schema version of the control node has changed.
+ *
+ * <p>This is informational only: firing this event manually does <b>not</b> refresh the schema.
+ */
+@Immutable
+public class SchemaChangeReceivedEvent {
+  public final SchemaRefreshScope scope;
+
+  public SchemaChangeReceivedEvent(SchemaRefreshScope scope) {
+    this.scope = scope;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) {
+      return true;
+    } else if (other instanceof SchemaChangeReceivedEvent) {
+      SchemaChangeReceivedEvent that = (SchemaChangeReceivedEvent) other;
+      return Objects.equals(this.scope, that.scope);
+    } else {
+      return false;
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(scope);
+  }
+
+  @Override
+  public String toString() {
+    return "SchemaChangeReceivedEvent(" + scope + ")";
+  }
+}
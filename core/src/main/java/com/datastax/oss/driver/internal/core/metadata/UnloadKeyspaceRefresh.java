@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.metadata;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefresh;
+import com.datastax.oss.driver.shaded.guava.common.annotations.VisibleForTesting;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * Evicts the contents of a lazily loaded keyspace, and replaces it with a placeholder.
+ *
+ * <p>This doesn't emit any event: the keyspace didn't change, the driver just stopped tracking it.
+ */
+@ThreadSafe
+class UnloadKeyspaceRefresh implements MetadataRefresh {
+
+  @VisibleForTesting final CqlIdentifier keyspaceId;
+
+  UnloadKeyspaceRefresh(CqlIdentifier keyspaceId) {
+    this.keyspaceId = keyspaceId;
+  }
+
+  @Override
+  public Result compute(
+      DefaultMetadata oldMetadata, boolean tokenMapEnabled, InternalDriverContext context) {
+    KeyspaceMetadata keyspace = oldMetadata.getKeyspaces().get(keyspaceId);
+    if (keyspace == null) {
+      return new Result(oldMetadata);
+    }
+    Map<CqlIdentifier, KeyspaceMetadata> newKeyspaces =
+        new LinkedHashMap<>(oldMetadata.getKeyspaces());
+    newKeyspaces.put(keyspaceId, SchemaRefresh.placeholder(keyspace));
+    return new Result(oldMetadata.withSchema(newKeyspaces, tokenMapEnabled, context));
+  }
+}
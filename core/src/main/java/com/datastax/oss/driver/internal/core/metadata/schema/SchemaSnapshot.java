@@ -0,0 +1,321 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.metadata.schema;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.detach.AttachmentPoint;
+import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.RelationMetadata;
+import com.datastax.oss.driver.api.core.type.UserDefinedType;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableSet;
+import com.datastax.oss.protocol.internal.util.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import net.jcip.annotations.Immutable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A copy of the schema metadata persisted on disk, to speed up the initialization of subsequent
+ * sessions.
+ *
+ * <p>The snapshot is tagged with the schema version of the cluster at the time of the refresh that
+ * produced it, so that it can be validated against the live cluster after it was loaded. It also
+ * records the cluster name and keyspace filter, because a snapshot taken with different values
+ * would not describe the same schema.
+ *
+ * <p>Snapshots use Java serialization: they are only intended to be read by the same version of the
+ * driver, and any error while loading them is treated as a missing snapshot. Deserialization is
+ * restricted to the classes that can appear in a snapshot (including the DSE-specific metadata).
+ *
+ * <p>Byte buffers are not serializable: those found in the metadata (for example the values of the
+ * {@code extensions} table option, or a blob {@code INITCOND}) are written as byte arrays, and read
+ * back as heap buffers.
+ */
+@Immutable
+public class SchemaSnapshot implements Serializable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SchemaSnapshot.class);
+
+  private static final long serialVersionUID = 1;
+
+  @Nullable private final String clusterName;
+  @NonNull private final List<String> refreshedKeyspaces;
+  @NonNull private final UUID schemaVersion;
+  @NonNull private final Map<CqlIdentifier, KeyspaceMetadata> keyspaces;
+
+  public SchemaSnapshot(
+      @Nullable String clusterName,
+      @NonNull List<String> refreshedKeyspaces,
+      @NonNull UUID schemaVersion,
+      @NonNull Map<CqlIdentifier, KeyspaceMetadata> keyspaces) {
+    this.clusterName = clusterName;
+    this.refreshedKeyspaces = ImmutableList.copyOf(refreshedKeyspaces);
+    this.schemaVersion = schemaVersion;
+    this.keyspaces = ImmutableMap.copyOf(keyspaces);
+  }
+
+  /** The schema version of the cluster when the snapshot was taken. */
+  @NonNull
+  public UUID getSchemaVersion() {
+    return schemaVersion;
+  }
+
+  @NonNull
+  public Map<CqlIdentifier, KeyspaceMetadata> getKeyspaces() {
+    return keyspaces;
+  }
+
+  /**
+   * Whether this snapshot was taken for the given cluster, with the given keyspace filter (see
+   * {@code advanced.metadata.schema.refreshed-keyspaces}).
+   */
+  public boolean matches(@Nullable String clusterName, @NonNull List<String> refreshedKeyspaces) {
+    return Objects.equals(this.clusterName, clusterName)
+        && this.refreshedKeyspaces.equals(refreshedKeyspaces);
+  }
+
+  /**
+   * Reads a snapshot from the given file.
+   *
+   * <p>The user-defined types of the loaded metadata are attached to the given attachment point
+   * (they are detached when deserialized).
+   *
+   * @return the snapshot, or {@code null} if the file does not exist or can't be read.
+   */
+  @Nullable
+  public static SchemaSnapshot load(
+      @NonNull Path file, @NonNull AttachmentPoint attachmentPoint, @NonNull String logPrefix) {
+    try (InputStream in = new BufferedInputStream(Files.newInputStream(file));
+        ObjectInputStream objectIn = new SnapshotInputStream(in)) {
+      SchemaSnapshot snapshot = (SchemaSnapshot) objectIn.readObject();
+      snapshot.attach(attachmentPoint);
+      return snapshot;
+    } catch (NoSuchFileException e) {
+      LOG.debug("[{}] No schema snapshot found at {}", logPrefix, file);
+      return null;
+    } catch (Exception e) {
+      LOG.warn(
+          "[{}] Could not read schema snapshot from {}, ignoring it ({})",
+          logPrefix,
+          file,
+          e.toString());
+      return null;
+    }
+  }
+
+  /**
+   * Writes this snapshot to the given file.
+   *
+   * <p>The data is first written to a temporary file in the same directory, which then replaces the
+   * target file. This way, a concurrent reader never observes a partially written snapshot.
+   */
+  public void save(@NonNull Path file) throws IOException {
+    Path directory = file.toAbsolutePath().getParent();
+    if (directory != null) {
+      Files.createDirectories(directory);
+    }
+    Path tmpFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+    try {
+      try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmpFile));
+          ObjectOutputStream objectOut = new SnapshotOutputStream(out)) {
+        objectOut.writeObject(this);
+      }
+      try {
+        Files.move(
+            tmpFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(tmpFile);
+    }
+  }
+
+  private void attach(AttachmentPoint attachmentPoint) {
+    for (KeyspaceMetadata keyspace : keyspaces.values()) {
+      for (UserDefinedType type : keyspace.getUserDefinedTypes().values()) {
+        type.attach(attachmentPoint);
+      }
+      attachColumns(keyspace.getTables().values(), attachmentPoint);
+      attachColumns(keyspace.getViews().values(), attachmentPoint);
+    }
+  }
+
+  private static void attachColumns(
+      Iterable<? extends RelationMetadata> relations, AttachmentPoint attachmentPoint) {
+    for (RelationMetadata relation : relations) {
+      for (ColumnMetadata column : relation.getColumns().values()) {
+        column.getType().attach(attachmentPoint);
+      }
+    }
+  }
+
+  /** Replaces the byte buffers of the metadata with a serializable form. */
+  private static class SnapshotOutputStream extends ObjectOutputStream {
+
+    private SnapshotOutputStream(OutputStream out) throws IOException {
+      super(out);
+      enableReplaceObject(true);
+    }
+
+    @Override
+    protected Object replaceObject(Object obj) {
+      // getArray() copies, the position of the original buffer doesn't change
+      return (obj instanceof ByteBuffer)
+          ? new SerializedBuffer(Bytes.getArray((ByteBuffer) obj))
+          : obj;
+    }
+  }
+
+  private static class SerializedBuffer implements Serializable {
+
+    private static final long serialVersionUID = 1;
+
+    private final byte[] bytes;
+
+    private SerializedBuffer(byte[] bytes) {
+      this.bytes = bytes;
+    }
+  }
+
+  /**
+   * Only resolves the classes that can appear in a snapshot, to avoid deserializing arbitrary
+   * objects if the file was tampered with; and resolves them with the driver's class loader, in
+   * case it differs from the caller's.
+   */
+  private static class SnapshotInputStream extends ObjectInputStream {
+
+    // The metadata classes (OSS and DSE), and the values that an aggregate's INITCOND can decode
+    // to.
+    private static final ImmutableList<String> ALLOWED_PREFIXES =
+        ImmutableList.of(
+            "com.datastax.dse.driver.api.core.",
+            "com.datastax.dse.driver.internal.core.metadata.schema.",
+            "com.datastax.oss.driver.api.core.",
+            "com.datastax.oss.driver.internal.core.data.",
+            "com.datastax.oss.driver.internal.core.metadata.schema.",
+            "com.datastax.oss.driver.internal.core.type.",
+            "com.datastax.oss.driver.shaded.guava.common.collect.",
+            "java.math.",
+            "java.time.",
+            "java.util.Collections$");
+    private static final ImmutableSet<String> ALLOWED_CLASSES =
+        ImmutableSet.of(
+            "java.lang.Boolean",
+            "java.lang.Byte",
+            "java.lang.Double",
+            "java.lang.Enum",
+            "java.lang.Float",
+            "java.lang.Integer",
+            "java.lang.Long",
+            "java.lang.Number",
+            "java.lang.Short",
+            "java.lang.String",
+            "java.net.InetAddress",
+            "java.net.Inet4Address",
+            "java.net.Inet6Address",
+            "java.util.ArrayList",
+            "java.util.LinkedHashMap",
+            "java.util.LinkedHashSet",
+            "java.util.HashMap",
+            "java.util.HashSet",
+            "java.util.UUID");
+
+    private SnapshotInputStream(InputStream in) throws IOException {
+      super(in);
+      enableResolveObject(true);
+    }
+
+    @Override
+    protected Object resolveObject(Object obj) {
+      return (obj instanceof SerializedBuffer)
+          ? ByteBuffer.wrap(((SerializedBuffer) obj).bytes)
+          : obj;
+    }
+
+    @Override
+    protected Class<?> resolveClass(ObjectStreamClass desc)
+        throws IOException, ClassNotFoundException {
+      String name = desc.getName();
+      if (!isAllowed(name)) {
+        throw new InvalidClassException(name, "not allowed in a schema snapshot");
+      }
+      try {
+        return Class.forName(name, false, SchemaSnapshot.class.getClassLoader());
+      } catch (ClassNotFoundException e) {
+        return super.resolveClass(desc);
+      }
+    }
+
+    @Override
+    protected Class<?> resolveProxyClass(String[] interfaces) throws IOException {
+      throw new InvalidClassException("Proxy classes are not allowed in a schema snapshot");
+    }
+
+    private static boolean isAllowed(String name) {
+      // Arrays: check the element type, e.g. "[[Ljava.lang.String;" or "[B"
+      int dimensions = 0;
+      while (dimensions < name.length() && name.charAt(dimensions) == '[') {
+        dimensions += 1;
+      }
+      if (dimensions > 0) {
+        String element = name.substring(dimensions);
+        if (element.length() == 1) {
+          return true; // primitive
+        } else if (element.startsWith("L") && element.endsWith(";")) {
+          name = element.substring(1, element.length() - 1);
+        } else {
+          return false;
+        }
+      }
+      if (ALLOWED_CLASSES.contains(name)) {
+        return true;
+      }
+      for (String prefix : ALLOWED_PREFIXES) {
+        if (name.startsWith(prefix)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+}
@@ -31,10 +31,16 @@ import com.datastax.oss.driver.internal.core.metadata.schema.DefaultKeyspaceMeta
 import com.datastax.oss.driver.internal.core.metadata.schema.queries.SchemaRows;
 import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefresh;
 import com.datastax.oss.driver.internal.core.util.NanoTime;
+import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
 import com.datastax.oss.driver.shaded.guava.common.base.MoreObjects;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import net.jcip.annotations.ThreadSafe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,6 +57,7 @@ public class CassandraSchemaParser implements SchemaParser {
   private static final Logger LOG = LoggerFactory.getLogger(CassandraSchemaParser.class);
 
   private final SchemaRows rows;
+  private final SchemaInterner interner;
   private final UserDefinedTypeParser userDefinedTypeParser;
   private final TableParser tableParser;
   private final ViewParser viewParser;
@@ -60,12 +67,18 @@ public class CassandraSchemaParser implements SchemaParser {
   private final long startTimeNs = System.nanoTime();
 
   public CassandraSchemaParser(SchemaRows rows, InternalDriverContext context) {
+    this(rows, context, new SchemaInterner());
+  }
+
+  public CassandraSchemaParser(
+      SchemaRows rows, InternalDriverContext context, SchemaInterner interner) {
     this.rows = rows;
+    this.interner = interner;
     this.logPrefix = context.getSessionName();
 
     this.userDefinedTypeParser = new UserDefinedTypeParser(rows.dataTypeParser(), context);
-    this.tableParser = new TableParser(rows, context);
-    this.viewParser = new ViewParser(rows, context);
+    this.tableParser = new TableParser(rows, context, interner);
+    this.viewParser = new ViewParser(rows, context, interner);
     this.functionParser = new FunctionParser(rows.dataTypeParser(), context);
     this.aggregateParser = new AggregateParser(rows.dataTypeParser(), context);
   }
@@ -81,7 +94,35 @@ public class CassandraSchemaParser implements SchemaParser {
       KeyspaceMetadata keyspace = parseVirtualKeyspace(row);
       keyspacesBuilder.put(keyspace.getName(), keyspace);
     }
-    SchemaRefresh refresh = new SchemaRefresh(keyspacesBuilder.build());
+    return newRefresh(keyspacesBuilder.build());
+  }
+
+  @Override
+  public CompletionStage<SchemaRefresh> parseAsync(Executor executor) {
+    // Keyspaces are independent from each other, parse each one in a separate task
+    List<CompletionStage<KeyspaceMetadata>> keyspaceStages = new ArrayList<>();
+    for (AdminRow row : rows.keyspaces()) {
+      keyspaceStages.add(CompletableFuture.supplyAsync(() -> parseKeyspace(row), executor));
+    }
+    for (AdminRow row : rows.virtualKeyspaces()) {
+      keyspaceStages.add(CompletableFuture.supplyAsync(() -> parseVirtualKeyspace(row), executor));
+    }
+    return CompletableFutures.allSuccessful(keyspaceStages)
+        .thenApply(
+            v -> {
+              // Assemble in the original order
+              ImmutableMap.Builder<CqlIdentifier, KeyspaceMetadata> keyspacesBuilder =
+                  ImmutableMap.builder();
+              for (CompletionStage<KeyspaceMetadata> stage : keyspaceStages) {
+                KeyspaceMetadata keyspace = CompletableFutures.getCompleted(stage);
+                keyspacesBuilder.put(keyspace.getName(), keyspace);
+              }
+              return newRefresh(keyspacesBuilder.build());
+            });
+  }
+
+  private SchemaRefresh newRefresh(Map<CqlIdentifier, KeyspaceMetadata> keyspaces) {
+    SchemaRefresh refresh = new SchemaRefresh(keyspaces, rows.scope());
     LOG.debug("[{}] Schema parsing took {}", logPrefix, NanoTime.formatTimeSince(startTimeNs));
     return refresh;
   }
@@ -102,7 +143,7 @@ public class CassandraSchemaParser implements SchemaParser {
     //     durable_writes boolean,
     //     replication frozen<map<text, text>>
     // )
-    CqlIdentifier keyspaceId = CqlIdentifier.fromInternal(keyspaceRow.getString("keyspace_name"));
+    CqlIdentifier keyspaceId = interner.identifier(keyspaceRow.getString("keyspace_name"));
     boolean durableWrites =
         MoreObjects.firstNonNull(keyspaceRow.getBoolean("durable_writes"), false);
 
@@ -112,12 +153,13 @@ public class CassandraSchemaParser implements SchemaParser {
       Map<String, String> strategyOptions =
           SimpleJsonParser.parseStringMap(keyspaceRow.getString("strategy_options"));
       replicationOptions =
-          ImmutableMap.<String, String>builder()
-              .putAll(strategyOptions)
-              .put("class", strategyClass)
-              .build();
+          interner.intern(
+              ImmutableMap.<String, String>builder()
+                  .putAll(strategyOptions)
+                  .put("class", strategyClass)
+                  .build());
     } else {
-      replicationOptions = keyspaceRow.getMapOfStringToString("replication");
+      replicationOptions = interner.internMap(keyspaceRow.getMapOfStringToString("replication"));
     }
 
     Map<CqlIdentifier, UserDefinedType> types = parseTypes(keyspaceId);
@@ -136,7 +178,7 @@ public class CassandraSchemaParser implements SchemaParser {
 
   private KeyspaceMetadata parseVirtualKeyspace(AdminRow keyspaceRow) {
 
-    CqlIdentifier keyspaceId = CqlIdentifier.fromInternal(keyspaceRow.getString("keyspace_name"));
+    CqlIdentifier keyspaceId = interner.identifier(keyspaceRow.getString("keyspace_name"));
     boolean durableWrites =
         MoreObjects.firstNonNull(keyspaceRow.getBoolean("durable_writes"), false);
 
@@ -27,6 +27,8 @@ import net.jcip.annotations.ThreadSafe;
 public class DefaultSchemaParserFactory implements SchemaParserFactory {
 
   private final InternalDriverContext context;
+  // Shared by all refreshes, so that successive versions of the schema share common values
+  private final SchemaInterner interner = new SchemaInterner();
 
   public DefaultSchemaParserFactory(InternalDriverContext context) {
     this.context = context;
@@ -35,6 +37,8 @@ public class DefaultSchemaParserFactory implements SchemaParserFactory {
   @Override
   public SchemaParser newInstance(SchemaRows rows) {
     boolean isDse = rows.getNode().getExtras().containsKey(DseNodeProperties.DSE_VERSION);
-    return isDse ? new DseSchemaParser(rows, context) : new CassandraSchemaParser(rows, context);
+    return isDse
+        ? new DseSchemaParser(rows, context, interner)
+        : new CassandraSchemaParser(rows, context, interner);
   }
 }
@@ -60,7 +60,7 @@ public class RawColumn implements Comparable<RawColumn> {
   public final String indexType;
   public final Map<String, String> indexOptions;
 
-  private RawColumn(AdminRow row) {
+  private RawColumn(AdminRow row, SchemaInterner interner) {
     // Cassandra < 3.0:
     // CREATE TABLE system.schema_columns (
     //     keyspace_name text,
@@ -87,7 +87,7 @@ public class RawColumn implements Comparable<RawColumn> {
     //     type text,
     //     PRIMARY KEY (keyspace_name, table_name, column_name)
     // ) WITH CLUSTERING ORDER BY (table_name ASC, column_name ASC)
-    this.name = CqlIdentifier.fromInternal(row.getString("column_name"));
+    this.name = interner.identifier(row.getString("column_name"));
     if (row.contains("kind")) {
       this.kind = row.getString("kind");
     } else {
@@ -114,7 +114,7 @@ public class RawColumn implements Comparable<RawColumn> {
     this.indexOptions =
         (indexOptionsString == null || indexOptionsString.equals("null"))
             ? Collections.emptyMap()
-            : SimpleJsonParser.parseStringMap(indexOptionsString);
+            : interner.internMap(SimpleJsonParser.parseStringMap(indexOptionsString));
   }
 
   @Override
@@ -147,15 +147,19 @@ public class RawColumn implements Comparable<RawColumn> {
     }
   }
 
+  /**
+   * @param interner used to share the column names and index options with other elements of the
+   *     schema.
+   */
   @SuppressWarnings("MixedMutabilityReturnType")
-  public static List<RawColumn> toRawColumns(Collection<AdminRow> rows) {
+  public static List<RawColumn> toRawColumns(Collection<AdminRow> rows, SchemaInterner interner) {
     if (rows.isEmpty()) {
       return Collections.emptyList();
     } else {
       // Use a mutable list, we might remove some elements later
       List<RawColumn> result = Lists.newArrayListWithExpectedSize(rows.size());
       for (AdminRow row : rows) {
-        result.add(new RawColumn(row));
+        result.add(new RawColumn(row, interner));
       }
       return result;
     }
@@ -23,6 +23,8 @@ import com.datastax.oss.driver.api.core.Version;
 import com.datastax.oss.driver.api.core.metadata.Node;
 import com.datastax.oss.driver.api.core.metadata.schema.Describable;
 import com.datastax.oss.driver.api.core.metadata.schema.RelationMetadata;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.UserDefinedType;
 import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
 import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
 import com.datastax.oss.driver.internal.core.adminrequest.AdminRow;
@@ -30,7 +32,10 @@ import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
 import com.datastax.oss.driver.internal.core.metadata.schema.ScriptBuilder;
 import com.datastax.oss.driver.internal.core.metadata.schema.queries.SchemaRows;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
+import com.datastax.oss.driver.shaded.guava.common.collect.Maps;
 import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import net.jcip.annotations.ThreadSafe;
 
@@ -41,52 +46,84 @@ public abstract class RelationParser {
   protected final SchemaRows rows;
   protected final InternalDriverContext context;
   protected final String logPrefix;
+  protected final SchemaInterner interner;
 
   protected RelationParser(SchemaRows rows, InternalDriverContext context) {
+    this(rows, context, new SchemaInterner());
+  }
+
+  protected RelationParser(
+      SchemaRows rows, InternalDriverContext context, SchemaInterner interner) {
     this.rows = rows;
     this.context = context;
     this.logPrefix = context.getSessionName();
+    this.interner = interner;
+  }
+
+  protected List<RawColumn> toRawColumns(Collection<AdminRow> columnRows) {
+    return RawColumn.toRawColumns(columnRows, interner);
+  }
+
+  protected DataType parseColumnType(
+      CqlIdentifier keyspaceId, String dataType, Map<CqlIdentifier, UserDefinedType> userTypes) {
+    return interner.dataType(rows.dataTypeParser().parse(keyspaceId, dataType, userTypes, context));
   }
 
   protected Map<CqlIdentifier, Object> parseOptions(AdminRow row) {
     ImmutableMap.Builder<CqlIdentifier, Object> builder = ImmutableMap.builder();
+    // Most tables have the same options, share them unless they contain mutable values
+    boolean shareable = true;
     for (Map.Entry<String, TypeCodec<?>> entry : OPTION_CODECS.entrySet()) {
       String name = entry.getKey();
-      CqlIdentifier id = CqlIdentifier.fromInternal(name);
+      CqlIdentifier id = OPTION_IDS.get(name);
       TypeCodec<?> codec = entry.getValue();
 
       if (name.equals("caching") && row.isString("caching")) {
         // C* <=2.2, caching is stored as a string, and also appears as a string in the WITH clause.
-        builder.put(id, row.getString(name));
+        builder.put(id, interner.intern(row.getString(name)));
       } else if (name.equals("compaction_strategy_class")) {
         // C* <=2.2, compaction options split in two columns
         String strategyClass = row.getString(name);
         if (strategyClass != null) {
           builder.put(
-              CqlIdentifier.fromInternal("compaction"),
-              ImmutableMap.<String, String>builder()
-                  .put("class", strategyClass)
-                  .putAll(
-                      SimpleJsonParser.parseStringMap(row.getString("compaction_strategy_options")))
-                  .build());
+              OPTION_IDS.get("compaction"),
+              interner.intern(
+                  ImmutableMap.<String, String>builder()
+                      .put("class", strategyClass)
+                      .putAll(
+                          SimpleJsonParser.parseStringMap(
+                              row.getString("compaction_strategy_options")))
+                      .build()));
         }
       } else if (name.equals("compression_parameters")) {
         // C* <=2.2, compression stored as a string
         String compressionParameters = row.getString(name);
         if (compressionParameters != null) {
           builder.put(
-              CqlIdentifier.fromInternal("compression"),
-              ImmutableMap.copyOf(SimpleJsonParser.parseStringMap(row.getString(name))));
+              OPTION_IDS.get("compression"),
+              interner.internMap(SimpleJsonParser.parseStringMap(row.getString(name))));
         }
       } else if (!isDeprecatedInCassandra4(name)) {
         // Default case, read the value in a generic fashion
         Object value = row.get(name, codec);
+        if (value instanceof Map) {
+          Map<?, ?> map = (Map<?, ?>) value;
+          if (name.equals("extensions")) {
+            // Don't share byte buffers, their position can be changed by the client
+            shareable &= map.isEmpty();
+          } else {
+            value = interner.internMap(map);
+          }
+        } else if (value instanceof String) {
+          value = interner.intern(value);
+        }
         if (value != null) {
           builder.put(id, value);
         }
       }
     }
-    return builder.build();
+    Map<CqlIdentifier, Object> options = builder.build();
+    return shareable ? interner.intern(options) : options;
   }
 
   /**
@@ -167,4 +204,7 @@ public abstract class RelationParser {
           .put("read_repair_chance", TypeCodecs.DOUBLE)
           .put("speculative_retry", TypeCodecs.TEXT)
           .build();
+
+  private static final ImmutableMap<String, CqlIdentifier> OPTION_IDS =
+      Maps.toMap(OPTION_CODECS.keySet(), CqlIdentifier::fromInternal);
 }
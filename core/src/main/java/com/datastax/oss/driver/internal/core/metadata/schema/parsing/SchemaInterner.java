@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.metadata.schema.parsing;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.type.ContainerType;
+import com.datastax.oss.driver.api.core.type.CustomType;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.MapType;
+import com.datastax.oss.driver.api.core.type.TupleType;
+import com.datastax.oss.driver.internal.core.type.PrimitiveType;
+import com.datastax.oss.driver.shaded.guava.common.cache.Cache;
+import com.datastax.oss.driver.shaded.guava.common.cache.CacheBuilder;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
+import com.datastax.oss.driver.shaded.guava.common.collect.Interner;
+import com.datastax.oss.driver.shaded.guava.common.collect.Interners;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * Canonicalizes the immutable values that are repeated across the elements of a schema (column
+ * names, data types, table options...), so that they are shared instead of duplicated in each
+ * element.
+ *
+ * <p>With many similar tables (for example one set of tables per tenant), most of the metadata is
+ * made of such values. The instances are held with weak references: they are shared across
+ * successive refreshes, and reclaimed once no metadata uses them anymore.
+ */
+@ThreadSafe
+public class SchemaInterner {
+
+  private final Interner<Object> values = Interners.newWeakInterner();
+  // Data types are not interned by equality, because it ignores whether they are frozen.
+  private final Cache<String, DataType> dataTypes = CacheBuilder.newBuilder().weakValues().build();
+
+  @NonNull
+  public CqlIdentifier identifier(@NonNull String internal) {
+    return intern(CqlIdentifier.fromInternal(internal));
+  }
+
+  /**
+   * Interns a value based on its {@code equals} method. It must be immutable (this is the caller's
+   * responsibility).
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T intern(@Nullable T value) {
+    return (value == null) ? null : (T) values.intern(value);
+  }
+
+  /** Copies the map into an immutable one, and interns it. */
+  public <K, V> Map<K, V> internMap(@Nullable Map<K, V> map) {
+    return (map == null) ? null : intern(ImmutableMap.copyOf(map));
+  }
+
+  /**
+   * Interns a data type based on its CQL representation.
+   *
+   * <p>Types that contain user-defined types are returned as-is: the same name might designate
+   * different definitions over time (if the type was altered).
+   */
+  @NonNull
+  public DataType dataType(@NonNull DataType type) {
+    if (type instanceof PrimitiveType) {
+      // Already singletons
+      return type;
+    } else if (!isInternable(type)) {
+      return type;
+    }
+    try {
+      return dataTypes.get(type.asCql(true, true), () -> type);
+    } catch (ExecutionException e) {
+      // Can't happen, the loader does not throw
+      return type;
+    }
+  }
+
+  private static boolean isInternable(DataType type) {
+    if (type instanceof PrimitiveType) {
+      return true;
+    } else if (type instanceof ContainerType) {
+      // Note: this includes vectors, check before custom types
+      return isInternable(((ContainerType) type).getElementType());
+    } else if (type instanceof MapType) {
+      MapType mapType = (MapType) type;
+      return isInternable(mapType.getKeyType()) && isInternable(mapType.getValueType());
+    } else if (type instanceof TupleType) {
+      for (DataType componentType : ((TupleType) type).getComponentTypes()) {
+        if (!isInternable(componentType)) {
+          return false;
+        }
+      }
+      return true;
+    } else if (type instanceof CustomType) {
+      return true;
+    } else {
+      // User-defined types, or anything we don't know about
+      return false;
+    }
+  }
+}
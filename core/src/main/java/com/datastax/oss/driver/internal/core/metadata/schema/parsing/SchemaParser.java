@@ -19,6 +19,9 @@ package com.datastax.oss.driver.internal.core.metadata.schema.parsing;
 
 import com.datastax.oss.driver.internal.core.metadata.schema.queries.SchemaRows;
 import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefresh;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 /**
  * The main entry point for system schema rows parsing.
@@ -34,4 +37,15 @@ public interface SchemaParser {
    * @see SchemaParserFactory#newInstance(SchemaRows)
    */
   SchemaRefresh parse();
+
+  /**
+   * Same as {@link #parse()}, but performs the work on the given executor instead of the calling
+   * thread.
+   *
+   * <p>The default implementation runs {@link #parse()} as a single task. The built-in parsers
+   * override it to process keyspaces in parallel.
+   */
+  default CompletionStage<SchemaRefresh> parseAsync(Executor executor) {
+    return CompletableFuture.supplyAsync(this::parse, executor);
+  }
 }
@@ -57,6 +57,10 @@ public class TableParser extends RelationParser {
     super(rows, context);
   }
 
+  public TableParser(SchemaRows rows, InternalDriverContext context, SchemaInterner interner) {
+    super(rows, context, interner);
+  }
+
   public TableMetadata parseTable(
       AdminRow tableRow, CqlIdentifier keyspaceId, Map<CqlIdentifier, UserDefinedType> userTypes) {
     // Cassandra <= 2.2:
@@ -119,15 +123,14 @@ public class TableParser extends RelationParser {
     //     PRIMARY KEY (keyspace_name, table_name)
     // ) WITH CLUSTERING ORDER BY (table_name ASC)
     CqlIdentifier tableId =
-        CqlIdentifier.fromInternal(
+        interner.identifier(
             tableRow.getString(
                 tableRow.contains("table_name") ? "table_name" : "columnfamily_name"));
 
     UUID uuid = tableRow.contains("id") ? tableRow.getUuid("id") : tableRow.getUuid("cf_id");
 
     List<RawColumn> rawColumns =
-        RawColumn.toRawColumns(
-            rows.columns().getOrDefault(keyspaceId, ImmutableMultimap.of()).get(tableId));
+        toRawColumns(rows.columns().getOrDefault(keyspaceId, ImmutableMultimap.of()).get(tableId));
     if (rawColumns.isEmpty()) {
       LOG.warn(
           "[{}] Processing TABLE refresh for {}.{} but found no matching rows, skipping",
@@ -169,7 +172,7 @@ public class TableParser extends RelationParser {
     ImmutableMap.Builder<CqlIdentifier, IndexMetadata> indexesBuilder = ImmutableMap.builder();
 
     for (RawColumn raw : rawColumns) {
-      DataType dataType = rows.dataTypeParser().parse(keyspaceId, raw.dataType, userTypes, context);
+      DataType dataType = parseColumnType(keyspaceId, raw.dataType, userTypes);
       ColumnMetadata column =
           new DefaultColumnMetadata(
               keyspaceId, tableId, raw.name, dataType, raw.kind.equals(RawColumn.KIND_STATIC));
@@ -230,10 +233,10 @@ public class TableParser extends RelationParser {
   TableMetadata parseVirtualTable(
       AdminRow tableRow, CqlIdentifier keyspaceId, Map<CqlIdentifier, UserDefinedType> userTypes) {
 
-    CqlIdentifier tableId = CqlIdentifier.fromInternal(tableRow.getString("table_name"));
+    CqlIdentifier tableId = interner.identifier(tableRow.getString("table_name"));
 
     List<RawColumn> rawColumns =
-        RawColumn.toRawColumns(
+        toRawColumns(
             rows.virtualColumns().getOrDefault(keyspaceId, ImmutableMultimap.of()).get(tableId));
     if (rawColumns.isEmpty()) {
       LOG.warn(
@@ -251,7 +254,7 @@ public class TableParser extends RelationParser {
         ImmutableMap.builder();
 
     for (RawColumn raw : rawColumns) {
-      DataType dataType = rows.dataTypeParser().parse(keyspaceId, raw.dataType, userTypes, context);
+      DataType dataType = parseColumnType(keyspaceId, raw.dataType, userTypes);
       ColumnMetadata column =
           new DefaultColumnMetadata(
               keyspaceId, tableId, raw.name, dataType, raw.kind.equals(RawColumn.KIND_STATIC));
@@ -290,7 +293,7 @@ public class TableParser extends RelationParser {
     return new DefaultIndexMetadata(
         column.getKeyspace(),
         column.getParent(),
-        CqlIdentifier.fromInternal(raw.indexName),
+        interner.identifier(raw.indexName),
         IndexKind.valueOf(raw.indexType),
         buildLegacyIndexTarget(column, raw.indexOptions),
         raw.indexOptions);
@@ -325,9 +328,9 @@ public class TableParser extends RelationParser {
   // ) WITH CLUSTERING ORDER BY (table_name ASC, index_name ASC)
   private IndexMetadata buildModernIndex(
       CqlIdentifier keyspaceId, CqlIdentifier tableId, AdminRow row) {
-    CqlIdentifier name = CqlIdentifier.fromInternal(row.getString("index_name"));
+    CqlIdentifier name = interner.identifier(row.getString("index_name"));
     IndexKind kind = IndexKind.valueOf(row.getString("kind"));
-    Map<String, String> options = row.getMapOfStringToString("options");
+    Map<String, String> options = interner.internMap(row.getMapOfStringToString("options"));
     String target = options.get("target");
     return new DefaultIndexMetadata(keyspaceId, tableId, name, kind, target, options);
   }
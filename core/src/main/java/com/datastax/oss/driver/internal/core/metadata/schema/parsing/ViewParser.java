@@ -50,6 +50,10 @@ public class ViewParser extends RelationParser {
     super(rows, context);
   }
 
+  public ViewParser(SchemaRows rows, InternalDriverContext context, SchemaInterner interner) {
+    super(rows, context, interner);
+  }
+
   public ViewMetadata parseView(
       AdminRow viewRow, CqlIdentifier keyspaceId, Map<CqlIdentifier, UserDefinedType> userTypes) {
     // Cassandra 3.0 (no views in earlier versions):
@@ -79,17 +83,16 @@ public class ViewParser extends RelationParser {
     //     where_clause text,
     //     PRIMARY KEY (keyspace_name, view_name)
     // ) WITH CLUSTERING ORDER BY (view_name ASC)
-    CqlIdentifier viewId = CqlIdentifier.fromInternal(viewRow.getString("view_name"));
+    CqlIdentifier viewId = interner.identifier(viewRow.getString("view_name"));
 
     UUID uuid = viewRow.getUuid("id");
-    CqlIdentifier baseTableId = CqlIdentifier.fromInternal(viewRow.getString("base_table_name"));
+    CqlIdentifier baseTableId = interner.identifier(viewRow.getString("base_table_name"));
     boolean includesAllColumns =
         MoreObjects.firstNonNull(viewRow.getBoolean("include_all_columns"), false);
     String whereClause = viewRow.getString("where_clause");
 
     List<RawColumn> rawColumns =
-        RawColumn.toRawColumns(
-            rows.columns().getOrDefault(keyspaceId, ImmutableMultimap.of()).get(viewId));
+        toRawColumns(rows.columns().getOrDefault(keyspaceId, ImmutableMultimap.of()).get(viewId));
     if (rawColumns.isEmpty()) {
       LOG.warn(
           "[{}] Processing VIEW refresh for {}.{} but found no matching rows, skipping",
@@ -106,7 +109,7 @@ public class ViewParser extends RelationParser {
         ImmutableMap.builder();
 
     for (RawColumn raw : rawColumns) {
-      DataType dataType = rows.dataTypeParser().parse(keyspaceId, raw.dataType, userTypes, context);
+      DataType dataType = parseColumnType(keyspaceId, raw.dataType, userTypes);
       ColumnMetadata column =
           new DefaultColumnMetadata(
               keyspaceId, viewId, raw.name, dataType, raw.kind.equals(RawColumn.KIND_STATIC));
@@ -20,6 +20,7 @@ package com.datastax.oss.driver.internal.core.metadata.schema.queries;
 import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
 import com.datastax.oss.driver.api.core.metadata.Node;
 import com.datastax.oss.driver.internal.core.channel.DriverChannel;
+import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefreshScope;
 import java.util.Optional;
 import net.jcip.annotations.ThreadSafe;
 
@@ -27,7 +28,16 @@ import net.jcip.annotations.ThreadSafe;
 public class Cassandra4SchemaQueries extends Cassandra3SchemaQueries {
   public Cassandra4SchemaQueries(
       DriverChannel channel, Node node, DriverExecutionProfile config, String logPrefix) {
-    super(channel, node, config, logPrefix);
+    this(channel, node, config, logPrefix, SchemaRefreshScope.FULL);
+  }
+
+  public Cassandra4SchemaQueries(
+      DriverChannel channel,
+      Node node,
+      DriverExecutionProfile config,
+      String logPrefix,
+      SchemaRefreshScope scope) {
+    super(channel, node, config, logPrefix, scope);
   }
 
   @Override
@@ -24,13 +24,16 @@ import com.datastax.oss.driver.internal.core.adminrequest.AdminRequestHandler;
 import com.datastax.oss.driver.internal.core.adminrequest.AdminResult;
 import com.datastax.oss.driver.internal.core.adminrequest.AdminRow;
 import com.datastax.oss.driver.internal.core.channel.DriverChannel;
+import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefreshScope;
 import com.datastax.oss.driver.internal.core.util.NanoTime;
 import com.datastax.oss.driver.internal.core.util.concurrent.RunOrSchedule;
 import com.datastax.oss.driver.shaded.guava.common.annotations.VisibleForTesting;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableSet;
 import io.netty.util.concurrent.EventExecutor;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -51,6 +54,7 @@ public abstract class CassandraSchemaQueries implements SchemaQueries {
   private final Duration timeout;
   private final int pageSize;
   private final KeyspaceFilter keyspaceFilter;
+  private final SchemaRefreshScope scope;
   // The future we return from execute, completes when all the queries are done.
   private final CompletableFuture<SchemaRows> schemaRowsFuture = new CompletableFuture<>();
   private final long startTimeNs = System.nanoTime();
@@ -61,6 +65,15 @@ public abstract class CassandraSchemaQueries implements SchemaQueries {
 
   protected CassandraSchemaQueries(
       DriverChannel channel, Node node, DriverExecutionProfile config, String logPrefix) {
+    this(channel, node, config, logPrefix, SchemaRefreshScope.FULL);
+  }
+
+  protected CassandraSchemaQueries(
+      DriverChannel channel,
+      Node node,
+      DriverExecutionProfile config,
+      String logPrefix,
+      SchemaRefreshScope scope) {
     this.channel = channel;
     this.adminExecutor = channel.eventLoop();
     this.node = node;
@@ -73,6 +86,12 @@ public abstract class CassandraSchemaQueries implements SchemaQueries {
             DefaultDriverOption.METADATA_SCHEMA_REFRESHED_KEYSPACES, Collections.emptyList());
     assert refreshedKeyspaces != null; // per the default value
     this.keyspaceFilter = KeyspaceFilter.newInstance(logPrefix, refreshedKeyspaces);
+    this.scope = scope;
+  }
+
+  /** The name of the column that holds the table name in the tables and columns queries. */
+  protected String tableNameColumn() {
+    return "table_name";
   }
 
   protected abstract String selectKeyspacesQuery();
@@ -111,6 +130,10 @@ public abstract class CassandraSchemaQueries implements SchemaQueries {
     assert adminExecutor.inEventLoop();
 
     schemaRowsBuilder = new CassandraSchemaRows.Builder(node, keyspaceFilter, logPrefix);
+    if (!scope.isFull()) {
+      executeScopedOnAdminExecutor();
+      return;
+    }
     String whereClause = keyspaceFilter.getWhereClause();
 
     query(selectKeyspacesQuery() + whereClause, schemaRowsBuilder::withKeyspaces);
@@ -137,6 +160,86 @@ public abstract class CassandraSchemaQueries implements SchemaQueries {
         .ifPresent(select -> query(select + whereClause, schemaRowsBuilder::withVertices));
   }
 
+  private void executeScopedOnAdminExecutor() {
+    // The scope was already filtered by the caller, so we don't need the keyspace filter's clause.
+    // Virtual keyspaces never change at runtime, so targeted refreshes skip them.
+    schemaRowsBuilder.withScope(scope);
+
+    if (scope.isKeyspaceList()) {
+      // The list also covers virtual keyspaces. They are small, so fetch them entirely.
+      String whereClause = keyspaceFilter.getWhereClause();
+      query(selectKeyspacesQuery() + whereClause, schemaRowsBuilder::withKeyspaces);
+      selectVirtualKeyspacesQuery()
+          .ifPresent(
+              select -> query(select + whereClause, schemaRowsBuilder::withVirtualKeyspaces));
+      selectVirtualTablesQuery()
+          .ifPresent(select -> query(select + whereClause, schemaRowsBuilder::withVirtualTables));
+      selectVirtualColumnsQuery()
+          .ifPresent(select -> query(select + whereClause, schemaRowsBuilder::withVirtualColumns));
+      if (scope.getAllKeyspaces().isEmpty()) {
+        return;
+      }
+    }
+
+    // Keyspace and type rows are needed to parse any element of the keyspace
+    String whereAllKeyspaces = " WHERE " + in("keyspace_name", scope.getAllKeyspaces());
+    if (!scope.isKeyspaceList()) {
+      query(selectKeyspacesQuery() + whereAllKeyspaces, schemaRowsBuilder::withKeyspaces);
+    }
+    query(selectTypesQuery() + whereAllKeyspaces, schemaRowsBuilder::withTypes);
+
+    if (!scope.getKeyspaces().isEmpty()) {
+      String where = " WHERE " + in("keyspace_name", scope.getKeyspaces());
+      query(selectTablesQuery() + where, schemaRowsBuilder::withTables);
+      query(selectColumnsQuery() + where, schemaRowsBuilder::withColumns);
+      selectIndexesQuery()
+          .ifPresent(select -> query(select + where, schemaRowsBuilder::withIndexes));
+      selectViewsQuery().ifPresent(select -> query(select + where, schemaRowsBuilder::withViews));
+      selectFunctionsQuery()
+          .ifPresent(select -> query(select + where, schemaRowsBuilder::withFunctions));
+      selectAggregatesQuery()
+          .ifPresent(select -> query(select + where, schemaRowsBuilder::withAggregates));
+      selectEdgesQuery().ifPresent(select -> query(select + where, schemaRowsBuilder::withEdges));
+      selectVerticiesQuery()
+          .ifPresent(select -> query(select + where, schemaRowsBuilder::withVertices));
+    }
+
+    for (Map.Entry<String, ImmutableSet<String>> entry : scope.getTables().entrySet()) {
+      String where = " WHERE keyspace_name = " + literal(entry.getKey()) + " AND ";
+      String whereTables = where + in(tableNameColumn(), entry.getValue());
+      query(selectTablesQuery() + whereTables, schemaRowsBuilder::withTables);
+      query(selectColumnsQuery() + whereTables, schemaRowsBuilder::withColumns);
+      selectIndexesQuery()
+          .ifPresent(select -> query(select + whereTables, schemaRowsBuilder::withIndexes));
+      // The protocol reports materialized views as tables, so the name could also be a view
+      String whereViews = where + in("view_name", entry.getValue());
+      selectViewsQuery()
+          .ifPresent(select -> query(select + whereViews, schemaRowsBuilder::withViews));
+      selectEdgesQuery()
+          .ifPresent(select -> query(select + whereTables, schemaRowsBuilder::withEdges));
+      selectVerticiesQuery()
+          .ifPresent(select -> query(select + whereTables, schemaRowsBuilder::withVertices));
+    }
+  }
+
+  private static String in(String column, Iterable<String> values) {
+    StringBuilder builder = new StringBuilder(column).append(" IN (");
+    boolean first = true;
+    for (String value : values) {
+      if (first) {
+        first = false;
+      } else {
+        builder.append(',');
+      }
+      builder.append(literal(value));
+    }
+    return builder.append(')').toString();
+  }
+
+  private static String literal(String value) {
+    return '\'' + value.replace("'", "''") + '\'';
+  }
+
   private void query(
       String queryString,
       Function<Iterable<AdminRow>, CassandraSchemaRows.Builder> builderUpdater) {
@@ -25,6 +25,7 @@ import com.datastax.oss.driver.internal.core.adminrequest.AdminRow;
 import com.datastax.oss.driver.internal.core.metadata.schema.parsing.DataTypeClassNameParser;
 import com.datastax.oss.driver.internal.core.metadata.schema.parsing.DataTypeCqlNameParser;
 import com.datastax.oss.driver.internal.core.metadata.schema.parsing.DataTypeParser;
+import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefreshScope;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableListMultimap;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
@@ -56,6 +57,7 @@ public class CassandraSchemaRows implements SchemaRows {
   private final Map<CqlIdentifier, Multimap<CqlIdentifier, AdminRow>> indexes;
   private final Map<CqlIdentifier, Multimap<CqlIdentifier, AdminRow>> vertices;
   private final Map<CqlIdentifier, Multimap<CqlIdentifier, AdminRow>> edges;
+  private final SchemaRefreshScope scope;
 
   private CassandraSchemaRows(
       Node node,
@@ -72,7 +74,8 @@ public class CassandraSchemaRows implements SchemaRows {
       Multimap<CqlIdentifier, AdminRow> functions,
       Multimap<CqlIdentifier, AdminRow> aggregates,
       Map<CqlIdentifier, Multimap<CqlIdentifier, AdminRow>> vertices,
-      Map<CqlIdentifier, Multimap<CqlIdentifier, AdminRow>> edges) {
+      Map<CqlIdentifier, Multimap<CqlIdentifier, AdminRow>> edges,
+      SchemaRefreshScope scope) {
     this.node = node;
     this.dataTypeParser = dataTypeParser;
     this.keyspaces = keyspaces;
@@ -88,6 +91,7 @@ public class CassandraSchemaRows implements SchemaRows {
     this.aggregates = aggregates;
     this.vertices = vertices;
     this.edges = edges;
+    this.scope = scope;
   }
 
   @NonNull
@@ -166,6 +170,12 @@ public class CassandraSchemaRows implements SchemaRows {
     return edges;
   }
 
+  @NonNull
+  @Override
+  public SchemaRefreshScope scope() {
+    return scope;
+  }
+
   public static class Builder {
     private static final Logger LOG = LoggerFactory.getLogger(Builder.class);
 
@@ -198,6 +208,7 @@ public class CassandraSchemaRows implements SchemaRows {
         verticesBuilders = new LinkedHashMap<>();
     private final Map<CqlIdentifier, ImmutableMultimap.Builder<CqlIdentifier, AdminRow>>
         edgesBuilders = new LinkedHashMap<>();
+    private SchemaRefreshScope scope = SchemaRefreshScope.FULL;
 
     public Builder(Node node, KeyspaceFilter keyspaceFilter, String logPrefix) {
       this.node = node;
@@ -232,6 +243,12 @@ public class CassandraSchemaRows implements SchemaRows {
       }
     }
 
+    /** Records that the rows only cover part of the schema. */
+    public Builder withScope(SchemaRefreshScope scope) {
+      this.scope = scope;
+      return this;
+    }
+
     public Builder withKeyspaces(Iterable<AdminRow> rows) {
       for (AdminRow row : rows) {
         put(keyspacesBuilder, row);
@@ -375,7 +392,8 @@ public class CassandraSchemaRows implements SchemaRows {
           functionsBuilder.build(),
           aggregatesBuilder.build(),
           build(verticesBuilders),
-          build(edgesBuilders));
+          build(edgesBuilders),
+          scope);
     }
 
     private static <K1, K2, V> Map<K1, Multimap<K2, V>> build(
@@ -23,6 +23,7 @@ import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
 import com.datastax.oss.driver.api.core.metadata.Node;
 import com.datastax.oss.driver.internal.core.channel.DriverChannel;
 import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefreshScope;
 import net.jcip.annotations.ThreadSafe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +43,11 @@ public class DefaultSchemaQueriesFactory implements SchemaQueriesFactory {
 
   @Override
   public SchemaQueries newInstance() {
+    return newInstance(SchemaRefreshScope.FULL);
+  }
+
+  @Override
+  public SchemaQueries newInstance(SchemaRefreshScope scope) {
     DriverChannel channel = context.getControlConnection().channel();
     if (channel == null || channel.closeFuture().isDone()) {
       throw new IllegalStateException("Control channel not available, aborting schema refresh");
@@ -57,10 +63,14 @@ public class DefaultSchemaQueriesFactory implements SchemaQueriesFactory {
                         "Could not find control node metadata "
                             + channel.getEndPoint()
                             + ", aborting schema refresh"));
-    return newInstance(node, channel);
+    return scope.isFull() ? newInstance(node, channel) : newInstance(node, channel, scope);
   }
 
   protected SchemaQueries newInstance(Node node, DriverChannel channel) {
+    return newInstance(node, channel, SchemaRefreshScope.FULL);
+  }
+
+  protected SchemaQueries newInstance(Node node, DriverChannel channel, SchemaRefreshScope scope) {
 
     DriverExecutionProfile config = context.getConfig().getDefaultProfile();
 
@@ -72,16 +82,16 @@ public class DefaultSchemaQueriesFactory implements SchemaQueriesFactory {
           "[{}] Sending schema queries to {} with DSE version {}", logPrefix, node, dseVersion);
       // 4.8 is the oldest version supported, which uses C* 2.1 schema
       if (dseVersion.compareTo(Version.V5_0_0) < 0) {
-        return new Cassandra21SchemaQueries(channel, node, config, logPrefix);
+        return new Cassandra21SchemaQueries(channel, node, config, logPrefix, scope);
       } else if (dseVersion.compareTo(Version.V6_7_0) < 0) {
         // 5.0 - 6.7 uses C* 3.0 schema
-        return new Cassandra3SchemaQueries(channel, node, config, logPrefix);
+        return new Cassandra3SchemaQueries(channel, node, config, logPrefix, scope);
       } else if (dseVersion.compareTo(Version.V6_8_0) < 0) {
         // 6.7 uses C* 4.0 schema
-        return new Cassandra4SchemaQueries(channel, node, config, logPrefix);
+        return new Cassandra4SchemaQueries(channel, node, config, logPrefix, scope);
       } else {
         // 6.8+ uses DSE 6.8 schema (C* 4.0 schema with graph metadata) (JAVA-1898)
-        return new Dse68SchemaQueries(channel, node, config, logPrefix);
+        return new Dse68SchemaQueries(channel, node, config, logPrefix, scope);
       }
     } else {
       Version cassandraVersion = node.getCassandraVersion();
@@ -98,13 +108,13 @@ public class DefaultSchemaQueriesFactory implements SchemaQueriesFactory {
       LOG.debug(
           "[{}] Sending schema queries to {} with version {}", logPrefix, node, cassandraVersion);
       if (cassandraVersion.compareTo(Version.V2_2_0) < 0) {
-        return new Cassandra21SchemaQueries(channel, node, config, logPrefix);
+        return new Cassandra21SchemaQueries(channel, node, config, logPrefix, scope);
       } else if (cassandraVersion.compareTo(Version.V3_0_0) < 0) {
-        return new Cassandra22SchemaQueries(channel, node, config, logPrefix);
+        return new Cassandra22SchemaQueries(channel, node, config, logPrefix, scope);
       } else if (cassandraVersion.compareTo(Version.V4_0_0) < 0) {
-        return new Cassandra3SchemaQueries(channel, node, config, logPrefix);
+        return new Cassandra3SchemaQueries(channel, node, config, logPrefix, scope);
       } else {
-        return new Cassandra4SchemaQueries(channel, node, config, logPrefix);
+        return new Cassandra4SchemaQueries(channel, node, config, logPrefix, scope);
       }
     }
   }
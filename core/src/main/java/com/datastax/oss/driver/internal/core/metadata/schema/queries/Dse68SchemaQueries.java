@@ -20,6 +20,7 @@ package com.datastax.oss.driver.internal.core.metadata.schema.queries;
 import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
 import com.datastax.oss.driver.api.core.metadata.Node;
 import com.datastax.oss.driver.internal.core.channel.DriverChannel;
+import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefreshScope;
 import java.util.Optional;
 
 /**
@@ -31,7 +32,16 @@ public class Dse68SchemaQueries extends Cassandra4SchemaQueries {
 
   public Dse68SchemaQueries(
       DriverChannel channel, Node node, DriverExecutionProfile config, String logPrefix) {
-    super(channel, node, config, logPrefix);
+    this(channel, node, config, logPrefix, SchemaRefreshScope.FULL);
+  }
+
+  public Dse68SchemaQueries(
+      DriverChannel channel,
+      Node node,
+      DriverExecutionProfile config,
+      String logPrefix,
+      SchemaRefreshScope scope) {
+    super(channel, node, config, logPrefix, scope);
   }
 
   @Override
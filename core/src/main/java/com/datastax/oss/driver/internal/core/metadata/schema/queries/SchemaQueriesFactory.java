@@ -17,6 +17,17 @@
  */
 package com.datastax.oss.driver.internal.core.metadata.schema.queries;
 
+import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefreshScope;
+
 public interface SchemaQueriesFactory {
   SchemaQueries newInstance();
+
+  /**
+   * Creates queries that only fetch the given part of the schema.
+   *
+   * <p>The default implementation ignores the scope and fetches the whole schema.
+   */
+  default SchemaQueries newInstance(SchemaRefreshScope scope) {
+    return newInstance();
+  }
 }
@@ -21,6 +21,7 @@ import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.metadata.Node;
 import com.datastax.oss.driver.internal.core.adminrequest.AdminRow;
 import com.datastax.oss.driver.internal.core.metadata.schema.parsing.DataTypeParser;
+import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefreshScope;
 import com.datastax.oss.driver.shaded.guava.common.collect.Multimap;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.LinkedHashMap;
@@ -70,4 +71,14 @@ public interface SchemaRows {
   default Map<CqlIdentifier, Multimap<CqlIdentifier, AdminRow>> edges() {
     return new LinkedHashMap<>();
   }
+
+  /**
+   * The part of the schema covered by these rows. If it is not {@linkplain
+   * SchemaRefreshScope#isFull() full}, the rows only contain the targeted elements, and must be
+   * merged into the existing metadata.
+   */
+  @NonNull
+  default SchemaRefreshScope scope() {
+    return SchemaRefreshScope.FULL;
+  }
 }
@@ -17,11 +17,20 @@
  */
 package com.datastax.oss.driver.internal.core.metadata.schema.refresh;
 
+import com.datastax.dse.driver.api.core.metadata.schema.DseGraphKeyspaceMetadata;
+import com.datastax.dse.driver.internal.core.metadata.schema.DefaultDseKeyspaceMetadata;
 import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.metadata.schema.AggregateMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.FunctionMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.FunctionSignature;
 import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.ViewMetadata;
+import com.datastax.oss.driver.api.core.type.UserDefinedType;
 import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
 import com.datastax.oss.driver.internal.core.metadata.DefaultMetadata;
 import com.datastax.oss.driver.internal.core.metadata.MetadataRefresh;
+import com.datastax.oss.driver.internal.core.metadata.schema.DefaultKeyspaceMetadata;
 import com.datastax.oss.driver.internal.core.metadata.schema.events.AggregateChangeEvent;
 import com.datastax.oss.driver.internal.core.metadata.schema.events.FunctionChangeEvent;
 import com.datastax.oss.driver.internal.core.metadata.schema.events.KeyspaceChangeEvent;
@@ -30,8 +39,12 @@ import com.datastax.oss.driver.internal.core.metadata.schema.events.TypeChangeEv
 import com.datastax.oss.driver.internal.core.metadata.schema.events.ViewChangeEvent;
 import com.datastax.oss.driver.shaded.guava.common.annotations.VisibleForTesting;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableSet;
 import com.datastax.oss.driver.shaded.guava.common.collect.Sets;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import net.jcip.annotations.ThreadSafe;
@@ -40,9 +53,50 @@ import net.jcip.annotations.ThreadSafe;
 public class SchemaRefresh implements MetadataRefresh {
 
   @VisibleForTesting public final Map<CqlIdentifier, KeyspaceMetadata> newKeyspaces;
+  private final SchemaRefreshScope scope;
+  private final Set<CqlIdentifier> unloadedKeyspaces;
 
   public SchemaRefresh(Map<CqlIdentifier, KeyspaceMetadata> newKeyspaces) {
+    this(newKeyspaces, SchemaRefreshScope.FULL);
+  }
+
+  /**
+   * @param scope the part of the schema that {@code newKeyspaces} covers. If it is not full, the
+   *     new keyspaces are merged into the existing metadata.
+   */
+  public SchemaRefresh(
+      Map<CqlIdentifier, KeyspaceMetadata> newKeyspaces, SchemaRefreshScope scope) {
+    this(newKeyspaces, scope, ImmutableSet.of());
+  }
+
+  private SchemaRefresh(
+      Map<CqlIdentifier, KeyspaceMetadata> newKeyspaces,
+      SchemaRefreshScope scope,
+      Set<CqlIdentifier> unloadedKeyspaces) {
     this.newKeyspaces = newKeyspaces;
+    this.scope = scope;
+    this.unloadedKeyspaces = unloadedKeyspaces;
+  }
+
+  /**
+   * Returns a copy of this refresh that doesn't emit events for the contents of the given
+   * keyspaces. This is used when keyspaces are loaded lazily: the old metadata of an unloaded
+   * keyspace is only a {@linkplain #placeholder(KeyspaceMetadata) placeholder}, so the differences
+   * with the new metadata are not actual changes.
+   */
+  public SchemaRefresh withUnloadedKeyspaces(Set<CqlIdentifier> unloadedKeyspaces) {
+    return new SchemaRefresh(newKeyspaces, scope, ImmutableSet.copyOf(unloadedKeyspaces));
+  }
+
+  /** Builds the metadata of an unloaded keyspace: its options, but none of its contents. */
+  public static KeyspaceMetadata placeholder(KeyspaceMetadata keyspace) {
+    return copyOf(
+        keyspace,
+        ImmutableMap.of(),
+        ImmutableMap.of(),
+        ImmutableMap.of(),
+        ImmutableMap.of(),
+        ImmutableMap.of());
   }
 
   @Override
@@ -51,6 +105,8 @@ public class SchemaRefresh implements MetadataRefresh {
     ImmutableList.Builder<Object> events = ImmutableList.builder();
 
     Map<CqlIdentifier, KeyspaceMetadata> oldKeyspaces = oldMetadata.getKeyspaces();
+    Map<CqlIdentifier, KeyspaceMetadata> newKeyspaces =
+        scope.isFull() ? this.newKeyspaces : merge(oldKeyspaces);
     for (CqlIdentifier removedKey : Sets.difference(oldKeyspaces.keySet(), newKeyspaces.keySet())) {
       events.add(KeyspaceChangeEvent.dropped(oldKeyspaces.get(removedKey)));
     }
@@ -60,7 +116,118 @@ public class SchemaRefresh implements MetadataRefresh {
     }
 
     return new Result(
-        oldMetadata.withSchema(this.newKeyspaces, tokenMapEnabled, context), events.build());
+        oldMetadata.withSchema(newKeyspaces, tokenMapEnabled, context), events.build());
+  }
+
+  private Map<CqlIdentifier, KeyspaceMetadata> merge(
+      Map<CqlIdentifier, KeyspaceMetadata> oldKeyspaces) {
+    Map<CqlIdentifier, KeyspaceMetadata> result;
+    if (scope.isKeyspaceList()) {
+      // The new keyspaces are the complete list, but only the targeted ones have their contents
+      result = new LinkedHashMap<>();
+      for (KeyspaceMetadata newKeyspace : newKeyspaces.values()) {
+        KeyspaceMetadata oldKeyspace = oldKeyspaces.get(newKeyspace.getName());
+        result.put(
+            newKeyspace.getName(),
+            (oldKeyspace == null || newKeyspace.isVirtual())
+                ? newKeyspace
+                : mergeOptions(oldKeyspace, newKeyspace));
+      }
+    } else {
+      result = new LinkedHashMap<>(oldKeyspaces);
+    }
+    for (String keyspaceName : scope.getAllKeyspaces()) {
+      CqlIdentifier keyspaceId = CqlIdentifier.fromInternal(keyspaceName);
+      KeyspaceMetadata oldKeyspace = oldKeyspaces.get(keyspaceId);
+      KeyspaceMetadata newKeyspace = newKeyspaces.get(keyspaceId);
+      Set<String> tableNames = scope.getTables().get(keyspaceName);
+      if (newKeyspace == null) {
+        result.remove(keyspaceId);
+      } else if (tableNames == null || oldKeyspace == null) {
+        result.put(keyspaceId, newKeyspace);
+      } else {
+        result.put(keyspaceId, mergeTables(oldKeyspace, newKeyspace, tableNames));
+      }
+    }
+    return ImmutableMap.copyOf(result);
+  }
+
+  /**
+   * Builds a keyspace with the options and types of the new keyspace, the refreshed tables and
+   * views of the new keyspace, and all the other elements of the old keyspace.
+   */
+  private static KeyspaceMetadata mergeTables(
+      KeyspaceMetadata oldKeyspace, KeyspaceMetadata newKeyspace, Set<String> tableNames) {
+    Map<CqlIdentifier, TableMetadata> tables = new LinkedHashMap<>(oldKeyspace.getTables());
+    Map<CqlIdentifier, ViewMetadata> views = new LinkedHashMap<>(oldKeyspace.getViews());
+    for (String tableName : tableNames) {
+      CqlIdentifier tableId = CqlIdentifier.fromInternal(tableName);
+      replace(tables, tableId, newKeyspace.getTables().get(tableId));
+      replace(views, tableId, newKeyspace.getViews().get(tableId));
+    }
+    return copyOf(
+        newKeyspace,
+        newKeyspace.getUserDefinedTypes(),
+        ImmutableMap.copyOf(tables),
+        ImmutableMap.copyOf(views),
+        oldKeyspace.getFunctions(),
+        oldKeyspace.getAggregates());
+  }
+
+  /** Builds a keyspace with the options of the new keyspace, and the contents of the old one. */
+  private static KeyspaceMetadata mergeOptions(
+      KeyspaceMetadata oldKeyspace, KeyspaceMetadata newKeyspace) {
+    return oldKeyspace.shallowEquals(newKeyspace)
+        ? oldKeyspace
+        : copyOf(
+            newKeyspace,
+            oldKeyspace.getUserDefinedTypes(),
+            oldKeyspace.getTables(),
+            oldKeyspace.getViews(),
+            oldKeyspace.getFunctions(),
+            oldKeyspace.getAggregates());
+  }
+
+  /** Builds a keyspace with the options of the given keyspace, and the given contents. */
+  private static KeyspaceMetadata copyOf(
+      KeyspaceMetadata options,
+      Map<CqlIdentifier, UserDefinedType> types,
+      Map<CqlIdentifier, TableMetadata> tables,
+      Map<CqlIdentifier, ViewMetadata> views,
+      Map<FunctionSignature, FunctionMetadata> functions,
+      Map<FunctionSignature, AggregateMetadata> aggregates) {
+    if (options instanceof DseGraphKeyspaceMetadata) {
+      return new DefaultDseKeyspaceMetadata(
+          options.getName(),
+          options.isDurableWrites(),
+          options.isVirtual(),
+          ((DseGraphKeyspaceMetadata) options).getGraphEngine().orElse(null),
+          options.getReplication(),
+          types,
+          tables,
+          views,
+          functions,
+          aggregates);
+    } else {
+      return new DefaultKeyspaceMetadata(
+          options.getName(),
+          options.isDurableWrites(),
+          options.isVirtual(),
+          options.getReplication(),
+          types,
+          tables,
+          views,
+          functions,
+          aggregates);
+    }
+  }
+
+  private static <V> void replace(Map<CqlIdentifier, V> elements, CqlIdentifier id, V newElement) {
+    if (newElement == null) {
+      elements.remove(id);
+    } else {
+      elements.put(id, newElement);
+    }
   }
 
   /**
@@ -71,17 +238,20 @@ public class SchemaRefresh implements MetadataRefresh {
    * initiated by coalesced child element refreshes. We need to traverse all children to check what
    * has exactly changed.
    */
+  @SuppressWarnings("ReferenceEquality")
   private void computeEvents(
       KeyspaceMetadata oldKeyspace,
       KeyspaceMetadata newKeyspace,
       ImmutableList.Builder<Object> events) {
     if (oldKeyspace == null) {
       events.add(KeyspaceChangeEvent.created(newKeyspace));
-    } else {
+    } else if (oldKeyspace != newKeyspace) { // same instance if a targeted refresh skipped it
       if (!oldKeyspace.shallowEquals(newKeyspace)) {
         events.add(KeyspaceChangeEvent.updated(oldKeyspace, newKeyspace));
       }
-      computeChildEvents(oldKeyspace, newKeyspace, events);
+      if (!unloadedKeyspaces.contains(newKeyspace.getName())) {
+        computeChildEvents(oldKeyspace, newKeyspace, events);
+      }
     }
   }
 
@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.metadata.schema.refresh;
+
+import com.datastax.oss.driver.internal.core.metadata.schema.queries.KeyspaceFilter;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableSet;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import net.jcip.annotations.Immutable;
+
+/**
+ * The part of the schema that a refresh must fetch: either everything, or a set of keyspaces and
+ * individual tables, optionally with the list of all keyspaces.
+ *
+ * <p>Targeted scopes are derived from the {@code SCHEMA_CHANGE} events and responses sent by the
+ * server. Tables can be refreshed individually (the protocol reports materialized views as tables,
+ * so a table target also covers the view with that name). Changes to other elements (keyspace
+ * options, types, functions and aggregates) refresh the whole keyspace, because they can cascade to
+ * other elements: for example, altering a type also changes the tables that use it.
+ *
+ * <p>When keyspaces are loaded lazily, the driver refreshes the {@linkplain #KEYSPACE_LIST keyspace
+ * list} (the options of every keyspace, but not their contents) instead of the full schema.
+ */
+@Immutable
+public class SchemaRefreshScope {
+
+  public static final SchemaRefreshScope FULL =
+      new SchemaRefreshScope(null, ImmutableMap.of(), false);
+
+  /** The options of all keyspaces, without their contents. */
+  public static final SchemaRefreshScope KEYSPACE_LIST =
+      new SchemaRefreshScope(ImmutableSet.of(), ImmutableMap.of(), true);
+
+  private static final SchemaRefreshScope EMPTY =
+      new SchemaRefreshScope(ImmutableSet.of(), ImmutableMap.of(), false);
+
+  @NonNull
+  public static SchemaRefreshScope forKeyspace(@NonNull String keyspace) {
+    return new SchemaRefreshScope(ImmutableSet.of(keyspace), ImmutableMap.of(), false);
+  }
+
+  @NonNull
+  public static SchemaRefreshScope forKeyspaces(@NonNull Iterable<String> keyspaces) {
+    return build(ImmutableSet.copyOf(keyspaces), ImmutableMap.of(), false);
+  }
+
+  /** @param table the name of a table or materialized view. */
+  @NonNull
+  public static SchemaRefreshScope forTable(@NonNull String keyspace, @NonNull String table) {
+    return new SchemaRefreshScope(
+        ImmutableSet.of(), ImmutableMap.of(keyspace, ImmutableSet.of(table)), false);
+  }
+
+  /**
+   * Builds the scope of a schema change notified by the server.
+   *
+   * @param target one of the constants in {@link ProtocolConstants.SchemaChangeTarget}.
+   */
+  @NonNull
+  public static SchemaRefreshScope forChange(
+      @NonNull String target, @Nullable String keyspace, @Nullable String object) {
+    if (keyspace == null || keyspace.isEmpty()) {
+      return FULL;
+    } else if (ProtocolConstants.SchemaChangeTarget.TABLE.equals(target)
+        && object != null
+        && !object.isEmpty()) {
+      return forTable(keyspace, object);
+    } else {
+      return forKeyspace(keyspace);
+    }
+  }
+
+  // null if the scope is full
+  private final ImmutableSet<String> keyspaces;
+  // Tables refreshed individually, by keyspace. Does not contain any of the keyspaces above.
+  private final ImmutableMap<String, ImmutableSet<String>> tables;
+  private final boolean keyspaceList;
+
+  private SchemaRefreshScope(
+      ImmutableSet<String> keyspaces,
+      ImmutableMap<String, ImmutableSet<String>> tables,
+      boolean keyspaceList) {
+    this.keyspaces = keyspaces;
+    this.tables = tables;
+    this.keyspaceList = keyspaceList;
+  }
+
+  /** Whether this refresh fetches the whole schema. */
+  public boolean isFull() {
+    return keyspaces == null;
+  }
+
+  /** Whether this refresh doesn't target anything (for example if it was filtered). */
+  public boolean isEmpty() {
+    return keyspaces != null && keyspaces.isEmpty() && tables.isEmpty() && !keyspaceList;
+  }
+
+  /**
+   * Whether this refresh fetches the options of all keyspaces, in addition to its other targets.
+   * The contents of the keyspaces that are not targeted are left unchanged.
+   */
+  public boolean isKeyspaceList() {
+    return keyspaceList;
+  }
+
+  /** The keyspaces that are refreshed entirely; empty if this scope is full. */
+  @NonNull
+  public Set<String> getKeyspaces() {
+    return (keyspaces == null) ? ImmutableSet.of() : keyspaces;
+  }
+
+  /**
+   * The tables (or materialized views) that are refreshed individually, grouped by keyspace; empty
+   * if this scope is full.
+   */
+  @NonNull
+  public Map<String, ImmutableSet<String>> getTables() {
+    return tables;
+  }
+
+  /** All the keyspaces that are touched by this scope; empty if this scope is full. */
+  @NonNull
+  public Set<String> getAllKeyspaces() {
+    return (tables.isEmpty())
+        ? getKeyspaces()
+        : ImmutableSet.<String>builder().addAll(getKeyspaces()).addAll(tables.keySet()).build();
+  }
+
+  /** Returns a scope that covers the elements of both this scope and the other one. */
+  @NonNull
+  public SchemaRefreshScope merge(@NonNull SchemaRefreshScope that) {
+    if (this.isFull() || that.isEmpty()) {
+      return this;
+    } else if (that.isFull() || this.isEmpty()) {
+      return that;
+    }
+    Set<String> newKeyspaces = new LinkedHashSet<>(this.keyspaces);
+    newKeyspaces.addAll(that.keyspaces);
+    Map<String, Set<String>> newTables = new LinkedHashMap<>();
+    addTables(this.tables, newTables);
+    addTables(that.tables, newTables);
+    return build(newKeyspaces, newTables, this.keyspaceList || that.keyspaceList);
+  }
+
+  private static void addTables(
+      Map<String, ImmutableSet<String>> source, Map<String, Set<String>> target) {
+    for (Map.Entry<String, ImmutableSet<String>> entry : source.entrySet()) {
+      target.computeIfAbsent(entry.getKey(), k -> new LinkedHashSet<>()).addAll(entry.getValue());
+    }
+  }
+
+  /**
+   * Removes the keyspaces that are not included by the given filter. If this scope is full, it is
+   * returned unchanged (the filter will be applied by the schema queries).
+   */
+  @NonNull
+  public SchemaRefreshScope filter(@NonNull KeyspaceFilter filter) {
+    if (isFull()) {
+      return this;
+    }
+    Set<String> newKeyspaces = new LinkedHashSet<>(keyspaces);
+    newKeyspaces.removeIf(keyspace -> !filter.includes(keyspace));
+    Map<String, Set<String>> newTables = new LinkedHashMap<>(tables);
+    newTables.keySet().removeIf(keyspace -> !filter.includes(keyspace));
+    return build(newKeyspaces, newTables, keyspaceList);
+  }
+
+  /**
+   * Promotes the tables of unknown keyspaces to a refresh of the whole keyspace. This is needed
+   * because individual tables are merged into the existing keyspace metadata.
+   */
+  @NonNull
+  public SchemaRefreshScope promoteUnknownKeyspaces(@NonNull Predicate<String> isKnown) {
+    if (isFull() || tables.isEmpty()) {
+      return this;
+    }
+    Set<String> newKeyspaces = new LinkedHashSet<>(keyspaces);
+    Map<String, Set<String>> newTables = new LinkedHashMap<>(tables);
+    for (String keyspace : tables.keySet()) {
+      if (!isKnown.test(keyspace)) {
+        newTables.remove(keyspace);
+        newKeyspaces.add(keyspace);
+      }
+    }
+    return build(newKeyspaces, newTables, keyspaceList);
+  }
+
+  /**
+   * Replaces the targets in keyspaces that are not loaded by a refresh of the keyspace list. This
+   * is used when keyspaces are loaded lazily: the contents of the other keyspaces are not tracked,
+   * but their options still are.
+   */
+  @NonNull
+  public SchemaRefreshScope demoteUnloadedKeyspaces(@NonNull Predicate<String> isLoaded) {
+    if (isFull()) {
+      return this;
+    }
+    boolean newKeyspaceList = keyspaceList;
+    Set<String> newKeyspaces = new LinkedHashSet<>();
+    for (String keyspace : keyspaces) {
+      if (isLoaded.test(keyspace)) {
+        newKeyspaces.add(keyspace);
+      } else {
+        newKeyspaceList = true;
+      }
+    }
+    Map<String, Set<String>> newTables = new LinkedHashMap<>();
+    for (Map.Entry<String, ImmutableSet<String>> entry : tables.entrySet()) {
+      if (isLoaded.test(entry.getKey())) {
+        newTables.put(entry.getKey(), entry.getValue());
+      } else {
+        newKeyspaceList = true;
+      }
+    }
+    return build(newKeyspaces, newTables, newKeyspaceList);
+  }
+
+  private static SchemaRefreshScope build(
+      Set<String> keyspaces, Map<String, ? extends Set<String>> tables, boolean keyspaceList) {
+    ImmutableMap.Builder<String, ImmutableSet<String>> tablesBuilder = ImmutableMap.builder();
+    for (Map.Entry<String, ? extends Set<String>> entry : tables.entrySet()) {
+      // If the whole keyspace is refreshed, no need to refresh its tables individually
+      if (!keyspaces.contains(entry.getKey())) {
+        tablesBuilder.put(entry.getKey(), ImmutableSet.copyOf(entry.getValue()));
+      }
+    }
+    ImmutableMap<String, ImmutableSet<String>> newTables = tablesBuilder.build();
+    if (keyspaces.isEmpty() && newTables.isEmpty()) {
+      return keyspaceList ? KEYSPACE_LIST : EMPTY;
+    }
+    return new SchemaRefreshScope(ImmutableSet.copyOf(keyspaces), newTables, keyspaceList);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) {
+      return true;
+    } else if (other instanceof SchemaRefreshScope) {
+      SchemaRefreshScope that = (SchemaRefreshScope) other;
+      return Objects.equals(this.keyspaces, that.keyspaces)
+          && this.tables.equals(that.tables)
+          && this.keyspaceList == that.keyspaceList;
+    } else {
+      return false;
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(keyspaces, tables, keyspaceList);
+  }
+
+  @Override
+  public String toString() {
+    if (isFull()) {
+      return "full schema";
+    }
+    String targets;
+    if (tables.isEmpty()) {
+      targets = "keyspaces " + keyspaces;
+    } else if (keyspaces.isEmpty()) {
+      targets = "tables " + tables;
+    } else {
+      targets = "keyspaces " + keyspaces + " and tables " + tables;
+    }
+    return keyspaceList ? "keyspace list, " + targets : targets;
+  }
+}
@@ -21,6 +21,7 @@ import com.datastax.oss.driver.api.core.metadata.token.Token;
 import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
 import com.datastax.oss.driver.shaded.guava.common.base.Preconditions;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import net.jcip.annotations.ThreadSafe;
 
 @ThreadSafe
@@ -31,6 +32,9 @@ public class Murmur3TokenFactory implements TokenFactory {
   public static final Murmur3Token MIN_TOKEN = new Murmur3Token(Long.MIN_VALUE);
   public static final Murmur3Token MAX_TOKEN = new Murmur3Token(Long.MAX_VALUE);
 
+  private static final long C1 = 0x87c37b91114253d5L;
+  private static final long C2 = 0x4cf5ad432745937fL;
+
   @Override
   public String getPartitionerName() {
     return PARTITIONER_NAME;
@@ -73,32 +77,39 @@ public class Murmur3TokenFactory implements TokenFactory {
   private long murmur(ByteBuffer data) {
     int offset = data.position();
     int length = data.remaining();
+    boolean littleEndian = data.order() == ByteOrder.LITTLE_ENDIAN;
+
+    // Shortcuts for the most common single-column partition keys (bigint, timestamp, uuid...)
+    if (length == 8) {
+      return murmur8(getblock(data, offset, littleEndian));
+    } else if (length == 16) {
+      return murmur16(
+          getblock(data, offset, littleEndian), getblock(data, offset + 8, littleEndian));
+    }
 
     int nblocks = length >> 4; // Process as 128-bit blocks.
 
     long h1 = 0;
     long h2 = 0;
 
-    long c1 = 0x87c37b91114253d5L;
-    long c2 = 0x4cf5ad432745937fL;
-
     // ----------
     // body
 
     for (int i = 0; i < nblocks; i++) {
-      long k1 = getblock(data, offset, i * 2);
-      long k2 = getblock(data, offset, i * 2 + 1);
+      long k1 = getblock(data, offset, littleEndian);
+      long k2 = getblock(data, offset + 8, littleEndian);
+      offset += 16;
 
-      k1 *= c1;
+      k1 *= C1;
       k1 = rotl64(k1, 31);
-      k1 *= c2;
+      k1 *= C2;
       h1 ^= k1;
       h1 = rotl64(h1, 27);
       h1 += h2;
       h1 = h1 * 5 + 0x52dce729;
-      k2 *= c2;
+      k2 *= C2;
       k2 = rotl64(k2, 33);
-      k2 *= c1;
+      k2 *= C1;
       h2 ^= k2;
       h2 = rotl64(h2, 31);
       h2 += h1;
@@ -108,9 +119,8 @@ public class Murmur3TokenFactory implements TokenFactory {
     // ----------
     // tail
 
-    // Advance offset to the unprocessed tail of the data.
-    offset += nblocks * 16;
-
+    // Note: unlike the body, Cassandra's implementation sign-extends the bytes of the tail, so we
+    // need to do the same.
     long k1 = 0;
     long k2 = 0;
 
@@ -135,14 +145,19 @@ public class Murmur3TokenFactory implements TokenFactory {
         // fall through
       case 9:
         k2 ^= ((long) data.get(offset + 8));
-        k2 *= c2;
+        k2 *= C2;
         k2 = rotl64(k2, 33);
-        k2 *= c1;
+        k2 *= C1;
         h2 ^= k2;
         // fall through
       case 8:
-        k1 ^= ((long) data.get(offset + 7)) << 56;
-        // fall through
+        // The first 8 bytes of the tail can be read at once
+        k1 = signExtendBytes(getblock(data, offset, littleEndian));
+        k1 *= C1;
+        k1 = rotl64(k1, 31);
+        k1 *= C2;
+        h1 ^= k1;
+        break;
       case 7:
         k1 ^= ((long) data.get(offset + 6)) << 48;
         // fall through
@@ -163,15 +178,43 @@ public class Murmur3TokenFactory implements TokenFactory {
         // fall through
       case 1:
         k1 ^= ((long) data.get(offset));
-        k1 *= c1;
+        k1 *= C1;
         k1 = rotl64(k1, 31);
-        k1 *= c2;
+        k1 *= C2;
         h1 ^= k1;
     }
 
-    // ----------
-    // finalization
+    return finish(h1, h2, length);
+  }
+
+  /** Same as {@link #murmur(ByteBuffer)} for an 8-byte key (no blocks, an 8-byte tail). */
+  private long murmur8(long block) {
+    long k1 = signExtendBytes(block);
+    k1 *= C1;
+    k1 = rotl64(k1, 31);
+    k1 *= C2;
+    return finish(k1, 0, 8);
+  }
+
+  /** Same as {@link #murmur(ByteBuffer)} for a 16-byte key (one block, no tail). */
+  private long murmur16(long k1, long k2) {
+    k1 *= C1;
+    k1 = rotl64(k1, 31);
+    k1 *= C2;
+    long h1 = k1;
+    h1 = rotl64(h1, 27);
+    h1 = h1 * 5 + 0x52dce729;
+    k2 *= C2;
+    k2 = rotl64(k2, 33);
+    k2 *= C1;
+    long h2 = k2;
+    h2 = rotl64(h2, 31);
+    h2 += h1;
+    h2 = h2 * 5 + 0x38495ab5;
+    return finish(h1, h2, 16);
+  }
 
+  private long finish(long h1, long h2, int length) {
     h1 ^= length;
     h2 ^= length;
 
@@ -186,17 +229,28 @@ public class Murmur3TokenFactory implements TokenFactory {
     return h1;
   }
 
-  private long getblock(ByteBuffer key, int offset, int index) {
-    int i_8 = index << 3;
-    int blockOffset = offset + i_8;
-    return ((long) key.get(blockOffset) & 0xff)
-        + (((long) key.get(blockOffset + 1) & 0xff) << 8)
-        + (((long) key.get(blockOffset + 2) & 0xff) << 16)
-        + (((long) key.get(blockOffset + 3) & 0xff) << 24)
-        + (((long) key.get(blockOffset + 4) & 0xff) << 32)
-        + (((long) key.get(blockOffset + 5) & 0xff) << 40)
-        + (((long) key.get(blockOffset + 6) & 0xff) << 48)
-        + (((long) key.get(blockOffset + 7) & 0xff) << 56);
+  /** Reads the 8 bytes at the given offset as a little-endian long. */
+  private long getblock(ByteBuffer key, int offset, boolean littleEndian) {
+    long block = key.getLong(offset);
+    return littleEndian ? block : Long.reverseBytes(block);
+  }
+
+  /**
+   * Given 8 bytes read as a little-endian long, returns the result of XOR-ing each byte
+   * sign-extended and shifted to its position, like the tail loop does ({@code k ^= ((long)
+   * data.get(i)) << (i * 8)}).
+   *
+   * <p>The sign extension of byte {@code i} sets all the bits above it, so byte {@code j} of the
+   * result gets flipped once for every negative byte below it.
+   */
+  private long signExtendBytes(long block) {
+    // 0xFF in byte i+1 if byte i is negative (the sign bits of the last byte fall off)
+    long flips = (((block & 0x0080808080808080L) >>> 7) * 0xFF) << 8;
+    // Prefix XOR: byte j = XOR of bytes 0..j
+    flips ^= flips << 8;
+    flips ^= flips << 16;
+    flips ^= flips << 32;
+    return block ^ flips;
   }
 
   private long rotl64(long v, int n) {
@@ -45,6 +45,10 @@ public class DropwizardSessionMetricUpdater extends DropwizardMetricUpdater<Sess
 
     initializeCounter(DefaultSessionMetric.CQL_CLIENT_TIMEOUTS, profile);
     initializeCounter(DefaultSessionMetric.THROTTLING_ERRORS, profile);
+    initializeCounter(DefaultSessionMetric.NODE_STATE_EVENTS_RECEIVED, profile);
+    initializeCounter(DefaultSessionMetric.NODE_STATE_EVENTS_APPLIED, profile);
+    initializeCounter(DefaultSessionMetric.WARM_UP_PREPARED, profile);
+    initializeCounter(DefaultSessionMetric.WARM_UP_REQUESTS, profile);
     initializeCounter(DseSessionMetric.GRAPH_CLIENT_TIMEOUTS, profile);
 
     initializeHdrTimer(
@@ -27,6 +27,7 @@ import com.datastax.oss.driver.api.core.config.DriverConfig;
 import com.datastax.oss.driver.api.core.connection.ReconnectionPolicy;
 import com.datastax.oss.driver.api.core.loadbalancing.NodeDistance;
 import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.metadata.NodeState;
 import com.datastax.oss.driver.api.core.metrics.DefaultNodeMetric;
 import com.datastax.oss.driver.internal.core.channel.ChannelEvent;
 import com.datastax.oss.driver.internal.core.channel.ChannelFactory;
@@ -39,6 +40,7 @@ import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
 import com.datastax.oss.driver.internal.core.metadata.DefaultNode;
 import com.datastax.oss.driver.internal.core.metadata.TopologyEvent;
 import com.datastax.oss.driver.internal.core.util.Loggers;
+import com.datastax.oss.driver.internal.core.util.NanoTime;
 import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
 import com.datastax.oss.driver.internal.core.util.concurrent.Reconnection;
 import com.datastax.oss.driver.internal.core.util.concurrent.RunOrSchedule;
@@ -49,12 +51,15 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import net.jcip.annotations.ThreadSafe;
 import org.slf4j.Logger;
@@ -67,6 +72,10 @@ import org.slf4j.LoggerFactory;
  *
  * <p>If one or more channels go down, a reconnection process starts in order to replace them; it
  * runs until the channel count is back to its intended target.
+ *
+ * <p>If the pool is lazy (see {@code advanced.connection.pool.local.lazy} in the configuration), it
+ * only opens its channels the first time a query plan selects the node, and closes them again after
+ * they have been unused for a while.
  */
 @ThreadSafe
 public class ChannelPool implements AsyncAutoCloseable {
@@ -100,6 +109,11 @@ public class ChannelPool implements AsyncAutoCloseable {
   private final String logPrefix;
   private final SingleThreaded singleThreaded;
   private volatile boolean invalidKeyspace;
+  // These are only relevant for lazy pools. They are read on the request path, and mutated on
+  // adminExecutor, except for the fast path in next().
+  private volatile boolean lazy;
+  private volatile boolean dormant;
+  private volatile long lastUsedNanos = System.nanoTime();
 
   private ChannelPool(
       Node node,
@@ -144,12 +158,31 @@ public class ChannelPool implements AsyncAutoCloseable {
    * @return the channel that has the most available stream ids. This is called on the direct
    *     request path, and we want to avoid complex check-then-act semantics; therefore this might
    *     race and return a channel that is already closed, or {@code null}. In those cases, it is up
-   *     to the caller to fail fast and move to the next node.
+   *     to the caller to fail fast and move to the next node. If the pool is lazy and currently has
+   *     no channels, this also triggers the opening of its channels in the background (but the
+   *     current call still returns {@code null}).
    */
   public DriverChannel next() {
+    if (lazy) {
+      lastUsedNanos = System.nanoTime();
+      if (dormant) {
+        // Benign race: concurrent callers might schedule a few redundant wake ups
+        dormant = false;
+        wakeUp();
+      }
+    }
     return channels.next();
   }
 
+  /**
+   * If the pool is lazy and currently has no channels, opens them now, without waiting for a query
+   * plan to select the node. This method returns immediately, the channels will be opened
+   * asynchronously.
+   */
+  public void wakeUp() {
+    RunOrSchedule.on(adminExecutor, singleThreaded::wakeUp);
+  }
+
   /** @return the number of active channels in the pool. */
   public int size() {
     return channels.size();
@@ -235,7 +268,11 @@ public class ChannelPool implements AsyncAutoCloseable {
     private final Object configListenerKey;
 
     private NodeDistance distance;
+    // Whether we want channels right now: always true for eager pools, false for lazy pools that
+    // are dormant.
+    private boolean active;
     private int wantedCount;
+    private ScheduledFuture<?> idleCheck;
     private final CompletableFuture<ChannelPool> connectFuture = new CompletableFuture<>();
     private boolean isConnecting;
     private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
@@ -249,7 +286,12 @@ public class ChannelPool implements AsyncAutoCloseable {
       this.keyspaceName = keyspaceName;
       this.config = context.getConfig();
       this.distance = distance;
-      this.wantedCount = getConfiguredSize(distance);
+      lazy = isLazy(distance);
+      // A node that is known to be down is excluded from query plans, so a lazy pool would never
+      // get a chance to open (and the node to come back up)
+      this.active = !lazy || node.getState() == NodeState.DOWN;
+      dormant = !active;
+      this.wantedCount = getWantedCount(distance);
       this.channelFactory = context.getChannelFactory();
       this.eventBus = context.getEventBus();
       ReconnectionPolicy reconnectionPolicy = context.getReconnectionPolicy();
@@ -272,6 +314,13 @@ public class ChannelPool implements AsyncAutoCloseable {
         return;
       }
       isConnecting = true;
+      if (lazy) {
+        if (active) {
+          scheduleIdleCheck(getIdleTimeout().toNanos());
+        } else {
+          LOG.debug("[{}] Lazy pool, deferring channel creation until first use", logPrefix);
+        }
+      }
       CompletionStage<ChannelPool> initialChannels =
           addMissingChannels()
               .thenApply(
@@ -410,7 +459,10 @@ public class ChannelPool implements AsyncAutoCloseable {
         channels.remove(channel);
         closingChannels.add(channel);
         eventBus.fire(ChannelEvent.channelClosed(node));
-        reconnection.start();
+        // The channel might have been closed on purpose by shrinkIfTooManyChannels()
+        if (channels.size() < wantedCount) {
+          reconnection.start();
+        }
       }
     }
 
@@ -433,7 +485,16 @@ public class ChannelPool implements AsyncAutoCloseable {
     private void resize(NodeDistance newDistance) {
       assert adminExecutor.inEventLoop();
       distance = newDistance;
-      int newChannelCount = getConfiguredSize(newDistance);
+      boolean wasLazy = lazy;
+      lazy = isLazy(newDistance);
+      if (!lazy && !active) {
+        activate();
+      } else if (lazy && !wasLazy && !isClosing) {
+        // The pool was active (eager pools always are), keep the channels until it goes idle
+        lastUsedNanos = System.nanoTime();
+        scheduleIdleCheck(getIdleTimeout().toNanos());
+      }
+      int newChannelCount = getWantedCount(newDistance);
       if (newChannelCount > wantedCount) {
         LOG.debug("[{}] Growing ({} => {} channels)", logPrefix, wantedCount, newChannelCount);
         wantedCount = newChannelCount;
@@ -447,6 +508,71 @@ public class ChannelPool implements AsyncAutoCloseable {
       }
     }
 
+    private void wakeUp() {
+      assert adminExecutor.inEventLoop();
+      if (isClosing || active) {
+        return;
+      }
+      LOG.debug("[{}] Lazy pool is needed, opening channels", logPrefix);
+      activate();
+    }
+
+    private void activate() {
+      assert adminExecutor.inEventLoop();
+      active = true;
+      dormant = false;
+      wantedCount = getWantedCount(distance);
+      if (lazy) {
+        lastUsedNanos = System.nanoTime();
+        scheduleIdleCheck(getIdleTimeout().toNanos());
+      }
+      // Don't go through the reconnection right away: it would report the node as down while the
+      // first channels are connecting.
+      if (!reconnection.isRunning() && pendingChannels.isEmpty()) {
+        addMissingChannels()
+            .thenAccept(
+                allConnected -> {
+                  if (!allConnected && !isClosing) {
+                    reconnection.start();
+                  }
+                });
+      }
+    }
+
+    private void scheduleIdleCheck(long delayNanos) {
+      assert adminExecutor.inEventLoop();
+      if (idleCheck == null) {
+        idleCheck = adminExecutor.schedule(this::checkIdle, delayNanos, TimeUnit.NANOSECONDS);
+        idleCheck.addListener(UncaughtExceptions::log);
+      }
+    }
+
+    private void checkIdle() {
+      assert adminExecutor.inEventLoop();
+      idleCheck = null;
+      if (isClosing || !lazy || !active) {
+        return;
+      }
+      long idleTimeoutNanos = getIdleTimeout().toNanos();
+      long idleNanos = System.nanoTime() - lastUsedNanos;
+      if (idleNanos < idleTimeoutNanos) {
+        scheduleIdleCheck(idleTimeoutNanos - idleNanos);
+      } else if (channels.getInFlight() > 0 || reconnection.isRunning()) {
+        // Don't interrupt ongoing requests. And if the node is reconnecting, it might be down: keep
+        // going, otherwise nothing would bring it back up (down nodes are not selected).
+        scheduleIdleCheck(idleTimeoutNanos);
+      } else {
+        LOG.debug(
+            "[{}] Lazy pool unused for {}, closing channels",
+            logPrefix,
+            NanoTime.format(idleNanos));
+        active = false;
+        wantedCount = 0;
+        shrinkIfTooManyChannels();
+        dormant = true;
+      }
+    }
+
     private void shrinkIfTooManyChannels() {
       assert adminExecutor.inEventLoop();
       int extraCount = channels.size() - wantedCount;
@@ -528,6 +654,11 @@ public class ChannelPool implements AsyncAutoCloseable {
       }
       isClosing = true;
 
+      if (idleCheck != null) {
+        idleCheck.cancel(false);
+        idleCheck = null;
+      }
+
       // If an attempt was in progress right now, it might open new channels but they will be
       // handled in onAllConnected
       reconnection.stop();
@@ -581,5 +712,24 @@ public class ChannelPool implements AsyncAutoCloseable {
                   ? DefaultDriverOption.CONNECTION_POOL_LOCAL_SIZE
                   : DefaultDriverOption.CONNECTION_POOL_REMOTE_SIZE);
     }
+
+    private int getWantedCount(NodeDistance distance) {
+      return active ? getConfiguredSize(distance) : 0;
+    }
+
+    private boolean isLazy(NodeDistance distance) {
+      return config
+          .getDefaultProfile()
+          .getBoolean(
+              (distance == NodeDistance.LOCAL)
+                  ? DefaultDriverOption.CONNECTION_POOL_LOCAL_LAZY
+                  : DefaultDriverOption.CONNECTION_POOL_REMOTE_LAZY);
+    }
+
+    private Duration getIdleTimeout() {
+      return config
+          .getDefaultProfile()
+          .getDuration(DefaultDriverOption.CONNECTION_POOL_IDLE_TIMEOUT);
+    }
   }
 }
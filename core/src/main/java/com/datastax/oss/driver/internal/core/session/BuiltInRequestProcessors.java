@@ -28,11 +28,13 @@ import com.datastax.dse.driver.internal.core.graph.GraphRequestAsyncProcessor;
 import com.datastax.dse.driver.internal.core.graph.GraphRequestSyncProcessor;
 import com.datastax.dse.driver.internal.core.graph.GraphSupportChecker;
 import com.datastax.dse.driver.internal.core.graph.reactive.ReactiveGraphRequestProcessor;
+import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
 import com.datastax.oss.driver.internal.core.context.DefaultDriverContext;
 import com.datastax.oss.driver.internal.core.cql.CqlPrepareAsyncProcessor;
 import com.datastax.oss.driver.internal.core.cql.CqlPrepareSyncProcessor;
 import com.datastax.oss.driver.internal.core.cql.CqlRequestAsyncProcessor;
 import com.datastax.oss.driver.internal.core.cql.CqlRequestSyncProcessor;
+import com.datastax.oss.driver.internal.core.cql.CqlWriteBatchingProcessor;
 import com.datastax.oss.driver.internal.core.util.DefaultDependencyChecker;
 import java.util.ArrayList;
 import java.util.List;
@@ -71,6 +73,13 @@ public class BuiltInRequestProcessors {
     CqlRequestAsyncProcessor cqlRequestAsyncProcessor = new CqlRequestAsyncProcessor();
     CqlRequestSyncProcessor cqlRequestSyncProcessor =
         new CqlRequestSyncProcessor(cqlRequestAsyncProcessor);
+    if (context
+        .getConfig()
+        .getDefaultProfile()
+        .getBoolean(DefaultDriverOption.REQUEST_WRITE_BATCHING_ENABLED)) {
+      // Must come first, it only claims the async statements that it can batch
+      processors.add(new CqlWriteBatchingProcessor(context, cqlRequestAsyncProcessor));
+    }
     processors.add(cqlRequestAsyncProcessor);
     processors.add(cqlRequestSyncProcessor);
 
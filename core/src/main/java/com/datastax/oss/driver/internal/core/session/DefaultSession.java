@@ -22,7 +22,9 @@ import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.ProtocolVersion;
 import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
 import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.PrepareRequest;
 import com.datastax.oss.driver.api.core.loadbalancing.LoadBalancingPolicy;
 import com.datastax.oss.driver.api.core.metadata.EndPoint;
 import com.datastax.oss.driver.api.core.metadata.Metadata;
@@ -48,6 +50,7 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import io.netty.util.concurrent.EventExecutor;
 import java.nio.ByteBuffer;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -227,9 +230,16 @@ public class DefaultSession implements CqlSession {
       @NonNull RequestT request, @NonNull GenericType<ResultT> resultType) {
     RequestProcessor<RequestT, ResultT> processor =
         processorRegistry.processorFor(request, resultType);
-    return isClosed()
-        ? processor.newFailure(new IllegalStateException("Session is closed"))
-        : processor.process(request, this, context, logPrefix);
+    if (isClosed()) {
+      return processor.newFailure(new IllegalStateException("Session is closed"));
+    }
+    ResultT result = processor.process(request, this, context, logPrefix);
+    PreparedStatementRegistry preparedStatementRegistry = singleThreaded.preparedStatementRegistry;
+    if (preparedStatementRegistry != null && request instanceof PrepareRequest) {
+      // The application now holds its own reference to the statement
+      preparedStatementRegistry.release((PrepareRequest) request);
+    }
+    return result;
   }
 
   @Nullable
@@ -305,6 +315,7 @@ public class DefaultSession implements CqlSession {
     private final Set<EndPoint> initialContactPoints;
     private final NodeStateManager nodeStateManager;
     private final SchemaListenerNotifier schemaListenerNotifier;
+    private final PreparedStatementRegistry preparedStatementRegistry;
     private final CompletableFuture<CqlSession> initFuture = new CompletableFuture<>();
     private boolean initWasCalled;
     private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
@@ -318,6 +329,15 @@ public class DefaultSession implements CqlSession {
       this.schemaListenerNotifier =
           new SchemaListenerNotifier(
               context.getSchemaChangeListener(), context.getEventBus(), adminExecutor);
+      DriverExecutionProfile config = context.getConfig().getDefaultProfile();
+      this.preparedStatementRegistry =
+          config.isDefined(DefaultDriverOption.PREPARED_REGISTRY_PATH)
+              ? new PreparedStatementRegistry(
+                  logPrefix,
+                  Paths.get(config.getString(DefaultDriverOption.PREPARED_REGISTRY_PATH)),
+                  config.getInt(DefaultDriverOption.PREPARED_REGISTRY_MAX_PARALLELISM),
+                  adminExecutor)
+              : null;
       context
           .getEventBus()
           .register(
@@ -395,6 +415,11 @@ public class DefaultSession implements CqlSession {
                   LOG.debug("[{}] Initialization complete, ready", logPrefix);
                   notifyListeners();
                   initFuture.complete(DefaultSession.this);
+                  if (preparedStatementRegistry != null) {
+                    RunOrSchedule.on(
+                        adminExecutor,
+                        () -> preparedStatementRegistry.prepareAll(DefaultSession.this));
+                  }
                 } else {
                   LOG.debug("[{}] Initialization failed, force closing", logPrefix, error);
                   forceCloseAsync()
@@ -544,9 +569,17 @@ public class DefaultSession implements CqlSession {
       closeWasCalled = true;
       LOG.debug("[{}] Starting shutdown", logPrefix);
 
+      List<CompletionStage<Void>> childrenCloseStages = new ArrayList<>();
+      // Only save if we initialized successfully, otherwise we'd lose the previous contents
+      if (preparedStatementRegistry != null
+          && initFuture.isDone()
+          && !initFuture.isCompletedExceptionally()) {
+        childrenCloseStages.add(
+            preparedStatementRegistry.saveAsync(poolManager.getRepreparePayloads().values()));
+      }
+
       closePolicies();
 
-      List<CompletionStage<Void>> childrenCloseStages = new ArrayList<>();
       for (AsyncAutoCloseable closeable : internalComponentsToClose()) {
         childrenCloseStages.add(closeable.closeAsync());
       }
@@ -586,6 +619,9 @@ public class DefaultSession implements CqlSession {
       for (CompletionStage<Void> stage : childrenCloseStages) {
         warnIfFailed(stage);
       }
+      if (preparedStatementRegistry != null) {
+        preparedStatementRegistry.close();
+      }
       context
           .getNettyOptions()
           .onClose()
@@ -655,6 +691,16 @@ public class DefaultSession implements CqlSession {
         // ignore
       }
       policies.addAll(context.getLifecycleListeners());
+      try {
+        for (RequestProcessor<?, ?> processor :
+            context.getRequestProcessorRegistry().getProcessors()) {
+          if (processor instanceof AutoCloseable) {
+            policies.add((AutoCloseable) processor);
+          }
+        }
+      } catch (Throwable t) {
+        // ignore
+      }
 
       // Finally we have a list of all the policies that initialized successfully, close them:
       for (AutoCloseable policy : policies) {
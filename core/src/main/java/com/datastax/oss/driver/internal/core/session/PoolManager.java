@@ -42,12 +42,16 @@ import com.datastax.oss.driver.shaded.guava.common.collect.MapMaker;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import io.netty.util.concurrent.EventExecutor;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.WeakHashMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -185,6 +189,17 @@ public class PoolManager implements AsyncAutoCloseable {
     // If we receive events while a pool is initializing, the last one is stored here
     private final Map<Node, DistanceEvent> pendingDistanceEvents = new WeakHashMap<>();
     private final Map<Node, NodeStateEvent> pendingStateEvents = new WeakHashMap<>();
+    // The pools to initialize at startup that haven't been started yet (see startInitialPools)
+    private final Deque<Node> initQueue = new ArrayDeque<>();
+    private int initMaxConcurrent;
+    private int initInFlight;
+    // Progress of the initial pools, before the session is ready
+    private int initCompleted;
+    private int initInvalidKeyspaces;
+    private final Set<Node> localRemaining = new HashSet<>();
+    private int localCount;
+    private int localConnected;
+    private int localNeeded;
 
     private SingleThreaded(InternalDriverContext context) {
       this.context = context;
@@ -221,42 +236,125 @@ public class PoolManager implements AsyncAutoCloseable {
       stateEventFilter.start();
 
       Collection<Node> nodes = context.getMetadataManager().getMetadata().getNodes().values();
-      List<CompletionStage<ChannelPool>> poolStages = new ArrayList<>(nodes.size());
+      List<Node> remoteNodes = new ArrayList<>();
       for (Node node : nodes) {
         NodeDistance distance = node.getDistance();
         if (distance == NodeDistance.IGNORED) {
           LOG.debug("[{}] Skipping {} because it is IGNORED", logPrefix, node);
         } else if (node.getState() == NodeState.FORCED_DOWN) {
           LOG.debug("[{}] Skipping {} because it is FORCED_DOWN", logPrefix, node);
+        } else if (distance == NodeDistance.LOCAL) {
+          initQueue.add(node);
+          localRemaining.add(node);
         } else {
-          LOG.debug("[{}] Creating a pool for {}", logPrefix, node);
-          poolStages.add(channelPoolFactory.init(node, keyspace, distance, context, logPrefix));
+          remoteNodes.add(node);
         }
       }
-      CompletableFutures.whenAllDone(poolStages, () -> this.onPoolsInit(poolStages), adminExecutor);
+      // LOCAL nodes first
+      initQueue.addAll(remoteNodes);
+      localCount = localRemaining.size();
+      initMaxConcurrent = config.getInt(DefaultDriverOption.CONNECTION_POOL_INIT_MAX_CONCURRENT);
+      double readyFraction =
+          config.getDouble(DefaultDriverOption.CONNECTION_POOL_INIT_READY_FRACTION);
+      if (!(readyFraction > 0 && readyFraction <= 1)) {
+        LOG.warn(
+            "[{}] Invalid value for {}: {}. It must be greater than 0 and at most 1. "
+                + "Defaulting to 1 (wait for all pools) instead.",
+            logPrefix,
+            DefaultDriverOption.CONNECTION_POOL_INIT_READY_FRACTION.getPath(),
+            readyFraction);
+        readyFraction = 1;
+      }
+      // If we don't wait for a subset of the local pools, wait for everything
+      localNeeded =
+          (readyFraction == 1 || localCount == 0)
+              ? -1
+              : Math.max(1, (int) Math.ceil(localCount * readyFraction));
+      startInitialPools();
     }
 
-    private void onPoolsInit(List<CompletionStage<ChannelPool>> poolStages) {
+    private void startInitialPools() {
       assert adminExecutor.inEventLoop();
-      LOG.debug("[{}] All pools have finished initializing", logPrefix);
-      // We will only propagate an invalid keyspace error if all pools get it
-      boolean allInvalidKeyspaces = poolStages.size() > 0;
-      for (CompletionStage<ChannelPool> poolStage : poolStages) {
+      while (!initQueue.isEmpty() && (initMaxConcurrent <= 0 || initInFlight < initMaxConcurrent)) {
+        if (closeWasCalled || forceCloseWasCalled) {
+          initQueue.clear();
+          break;
+        }
+        Node node = initQueue.poll();
+        // After the session is ready, events might have changed the node since it was queued
+        NodeDistance distance = node.getDistance();
+        if (distance == NodeDistance.IGNORED
+            || node.getState() == NodeState.FORCED_DOWN
+            || pools.containsKey(node)
+            || pending.containsKey(node)) {
+          LOG.debug("[{}] {} has changed since initialization started, skipping", logPrefix, node);
+          localRemaining.remove(node);
+          continue;
+        }
+        LOG.debug("[{}] Creating a pool for {}", logPrefix, node);
+        initInFlight += 1;
+        CompletionStage<ChannelPool> poolFuture =
+            channelPoolFactory.init(node, keyspace, distance, context, logPrefix);
+        pending.put(node, poolFuture);
+        poolFuture
+            .thenAcceptAsync(this::onInitialPoolInitialized, adminExecutor)
+            .exceptionally(UncaughtExceptions::log);
+      }
+      // Covers the cases where there was nothing to connect to, or the last nodes were skipped
+      if (!initFuture.isDone() && initInFlight == 0 && initQueue.isEmpty()) {
+        onInitialPoolsReady();
+      }
+    }
+
+    private void onInitialPoolInitialized(ChannelPool pool) {
+      assert adminExecutor.inEventLoop();
+      initInFlight -= 1;
+      Node node = pool.getNode();
+      if (initFuture.isDone()) {
+        // The session is already ready, this pool was finishing in the background
+        onPoolInitialized(pool, false);
+      } else {
         // Note: pool init always succeeds
-        ChannelPool pool = CompletableFutures.getCompleted(poolStage.toCompletableFuture());
-        boolean invalidKeyspace = pool.isInvalidKeyspace();
-        if (invalidKeyspace) {
-          LOG.debug("[{}] Pool to {} reports an invalid keyspace", logPrefix, pool.getNode());
+        initCompleted += 1;
+        if (pool.isInvalidKeyspace()) {
+          LOG.debug("[{}] Pool to {} reports an invalid keyspace", logPrefix, node);
+          initInvalidKeyspaces += 1;
+        }
+        if (localRemaining.remove(node) && pool.size() > 0) {
+          localConnected += 1;
+        }
+        if (closeWasCalled || forceCloseWasCalled) {
+          pending.remove(node);
+          pool.forceCloseAsync();
+        } else {
+          // No need to reprepare, the session hasn't been used yet
+          onPoolReady(pool);
+        }
+        if (localNeeded > 0 && (localConnected >= localNeeded || localRemaining.isEmpty())) {
+          onInitialPoolsReady();
         }
-        allInvalidKeyspaces &= invalidKeyspace;
-        pools.put(pool.getNode(), pool);
       }
-      if (allInvalidKeyspaces) {
+      startInitialPools();
+    }
+
+    private void onInitialPoolsReady() {
+      assert adminExecutor.inEventLoop();
+      // We will only propagate an invalid keyspace error if all pools get it
+      if (initCompleted > 0 && initInvalidKeyspaces == initCompleted) {
         initFuture.completeExceptionally(
             new InvalidKeyspaceException("Invalid keyspace " + keyspace.asCql(true)));
         forceClose();
       } else {
-        LOG.debug("[{}] Initialization complete, ready", logPrefix);
+        if (initInFlight == 0 && initQueue.isEmpty()) {
+          LOG.debug("[{}] All pools have finished initializing, ready", logPrefix);
+        } else {
+          LOG.debug(
+              "[{}] {}/{} LOCAL pools connected, ready "
+                  + "(the remaining pools will keep initializing in the background)",
+              logPrefix,
+              localConnected,
+              localCount);
+        }
         initFuture.complete(null);
         distanceEventFilter.markReady();
         stateEventFilter.markReady();
@@ -306,7 +404,7 @@ public class PoolManager implements AsyncAutoCloseable {
               channelPoolFactory.init(node, keyspace, newDistance, context, logPrefix);
           pending.put(node, poolFuture);
           poolFuture
-              .thenAcceptAsync(this::onPoolInitialized, adminExecutor)
+              .thenAcceptAsync(pool -> onPoolInitialized(pool, true), adminExecutor)
               .exceptionally(UncaughtExceptions::log);
         } else {
           LOG.debug("[{}] {} became {}, resizing it", logPrefix, node, newDistance);
@@ -376,22 +474,28 @@ public class PoolManager implements AsyncAutoCloseable {
             channelPoolFactory.init(node, keyspace, node.getDistance(), context, logPrefix);
         pending.put(node, poolFuture);
         poolFuture
-            .thenAcceptAsync(this::onPoolInitialized, adminExecutor)
+            .thenAcceptAsync(pool -> onPoolInitialized(pool, true), adminExecutor)
             .exceptionally(UncaughtExceptions::log);
       } else {
         pool.reconnectNow();
       }
     }
 
-    private void onPoolInitialized(ChannelPool pool) {
+    private void onPoolInitialized(ChannelPool pool, boolean wakeUp) {
       assert adminExecutor.inEventLoop();
       Node node = pool.getNode();
-      if (closeWasCalled) {
+      if (closeWasCalled || forceCloseWasCalled) {
         LOG.debug(
             "[{}] Session closed while a pool to {} was initializing, closing it", logPrefix, node);
         pool.forceCloseAsync();
       } else {
         LOG.debug("[{}] New pool to {} initialized", logPrefix, node);
+        if (wakeUp) {
+          // If the pool is lazy, don't wait for the first query plan: a node added after
+          // initialization is only included in query plans once it's up, which requires
+          // connections.
+          pool.wakeUp();
+        }
         if (Objects.equals(keyspace, pool.getInitialKeyspaceName())) {
           reprepareStatements(pool);
         } else {
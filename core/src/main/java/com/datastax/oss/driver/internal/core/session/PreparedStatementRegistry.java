@@ -0,0 +1,440 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.session;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PrepareRequest;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.internal.core.util.Loggers;
+import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
+import com.datastax.oss.driver.shaded.guava.common.annotations.VisibleForTesting;
+import com.datastax.oss.driver.shaded.guava.common.util.concurrent.ThreadFactoryBuilder;
+import com.datastax.oss.protocol.internal.util.Bytes;
+import io.netty.util.concurrent.EventExecutor;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import net.jcip.annotations.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the statements prepared by a session to a local file, in order to prepare them again in
+ * the background the next time the application starts.
+ *
+ * <p>Each line of the file contains the prepared id, the keyspace, the number of executions and the
+ * query string of a statement, separated by tabs. Statements are prepared from the most to the
+ * least executed. Statements prepared with a custom payload are not persisted.
+ *
+ * <p>{@link DefaultSession} creates an instance if the registry path is configured, calls {@link
+ * #prepareAll(CqlSession)} once it is initialized, and {@link #saveAsync(Collection)} when it
+ * closes. The file is only written at that time: if the application stops without closing the
+ * session, the statements prepared since the last time are lost (the previous contents of the file
+ * are preserved).
+ */
+@ThreadSafe
+class PreparedStatementRegistry {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PreparedStatementRegistry.class);
+  private static final String HEADER = "# id\tkeyspace\texecutions\tquery";
+  private static final Comparator<RepreparePayload> HOTTEST_FIRST =
+      Comparator.comparingLong(RepreparePayload::getExecutions).reversed();
+  private static final Comparator<SavedStatement> HOTTEST_SAVED_FIRST =
+      Comparator.comparingLong((SavedStatement statement) -> statement.executions).reversed();
+
+  private final String logPrefix;
+  private final Path path;
+  private final int maxParallelism;
+  private final EventExecutor adminExecutor;
+  private final ExecutorService ioExecutor; // to read/write the file off the admin thread
+
+  // The session's prepared statement cache has weak values by default: keep strong references to
+  // the statements prepared at startup, otherwise they could be evicted before the application gets
+  // a chance to use them. Each reference is dropped as soon as the application prepares the
+  // statement itself.
+  @VisibleForTesting
+  final ConcurrentMap<StatementKey, CompletionStage<PreparedStatement>> preparedAtStartup =
+      new ConcurrentHashMap<>();
+
+  // After the constructor, everything happens on adminExecutor, so these fields do not need any
+  // synchronization.
+  private Queue<RepreparePayload> toPrepare;
+  private int runningWorkers;
+  private int preparedCount;
+  private CompletableFuture<Void> preparedFuture;
+
+  PreparedStatementRegistry(
+      String logPrefix, Path path, int maxParallelism, EventExecutor adminExecutor) {
+    this.logPrefix = logPrefix;
+    this.path = path;
+    this.maxParallelism = maxParallelism;
+    this.adminExecutor = adminExecutor;
+    this.ioExecutor =
+        Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat(logPrefix + "-prepared-registry-%d")
+                .setDaemon(true)
+                .build());
+  }
+
+  /**
+   * Prepares all the statements listed in the file.
+   *
+   * <p>Errors are logged and ignored: the registry is only an optimization, statements that could
+   * not be prepared will be prepared on the fly like they would without it.
+   *
+   * @return a future that completes when all the statements have been processed. It only fails if
+   *     an unexpected error prevents the registry from starting the preparation.
+   */
+  CompletionStage<Void> prepareAll(CqlSession session) {
+    assert adminExecutor.inEventLoop();
+    preparedFuture = new CompletableFuture<>();
+    try {
+      CompletableFuture.supplyAsync(this::readQuietly, ioExecutor)
+          .thenAcceptAsync(payloads -> startWorkers(session, payloads), adminExecutor)
+          .whenComplete(
+              (v, error) -> {
+                if (error != null) {
+                  Loggers.warnWithException(
+                      LOG,
+                      "[{}] Unexpected error while preparing statements from registry",
+                      logPrefix,
+                      error);
+                  preparedFuture.completeExceptionally(error);
+                }
+              });
+    } catch (RejectedExecutionException e) {
+      LOG.debug("[{}] Registry was closed before startup, not preparing statements", logPrefix);
+      preparedFuture.complete(null);
+    }
+    return preparedFuture;
+  }
+
+  private List<RepreparePayload> readQuietly() {
+    try {
+      return read(path);
+    } catch (NoSuchFileException e) {
+      LOG.debug("[{}] Prepared statement registry {} does not exist yet", logPrefix, path);
+    } catch (IOException e) {
+      Loggers.warnWithException(
+          LOG, "[{}] Error reading prepared statement registry {}, ignoring", logPrefix, path, e);
+    }
+    return Collections.emptyList();
+  }
+
+  private void startWorkers(CqlSession session, List<RepreparePayload> payloads) {
+    assert adminExecutor.inEventLoop();
+    if (payloads.isEmpty()) {
+      LOG.debug("[{}] No statements to prepare from registry, done", logPrefix);
+      preparedFuture.complete(null);
+    } else {
+      toPrepare = new ArrayDeque<>(payloads);
+      runningWorkers = Math.min(maxParallelism, toPrepare.size());
+      LOG.debug(
+          "[{}] Preparing {} statements from registry with {} parallel workers",
+          logPrefix,
+          toPrepare.size(),
+          runningWorkers);
+      for (int i = 0; i < runningWorkers; i++) {
+        startWorker(session);
+      }
+    }
+  }
+
+  private void startWorker(CqlSession session) {
+    assert adminExecutor.inEventLoop();
+    if (toPrepare.isEmpty()) {
+      runningWorkers -= 1;
+      if (runningWorkers == 0) {
+        LOG.debug("[{}] Prepared {} statements from registry, done", logPrefix, preparedCount);
+        preparedFuture.complete(null);
+      }
+    } else {
+      RepreparePayload payload = toPrepare.poll();
+      StatementKey key = new StatementKey(payload.query, payload.keyspace);
+      // Hold the stage itself: it is the value of the session's cache
+      CompletionStage<PreparedStatement> stage;
+      try {
+        stage =
+            session.prepareAsync(
+                SimpleStatement.newInstance(payload.query).setKeyspace(payload.keyspace));
+      } catch (Throwable t) {
+        // Handle it like a failed preparation, so that the worker moves on to the next statement
+        stage = CompletableFutures.failedFuture(t);
+      }
+      preparedAtStartup.put(key, stage);
+      stage.whenCompleteAsync(
+          (prepared, error) -> {
+            if (error != null) {
+              preparedAtStartup.remove(key, stage);
+              LOG.debug(
+                  "[{}] Error preparing '{}' from registry, ignoring",
+                  logPrefix,
+                  payload.query,
+                  error);
+            } else {
+              preparedCount += 1;
+              if (!prepared.getId().equals(payload.id)) {
+                // Not a problem, the server computes the id from the query and the schema
+                LOG.trace(
+                    "[{}] Prepared id of '{}' changed since it was saved",
+                    logPrefix,
+                    payload.query);
+              }
+            }
+            startWorker(session);
+          },
+          adminExecutor);
+    }
+  }
+
+  /**
+   * Drops the reference to a statement prepared at startup, once the application prepares it (and
+   * therefore holds a reference itself).
+   */
+  void release(PrepareRequest request) {
+    if (!preparedAtStartup.isEmpty()) {
+      preparedAtStartup.remove(new StatementKey(request.getQuery(), request.getKeyspace()));
+    }
+  }
+
+  /**
+   * Writes the given statements to the file, replacing its previous contents.
+   *
+   * <p>Errors are logged and ignored.
+   *
+   * @return a future that completes when the file has been written. It never fails.
+   */
+  CompletionStage<Void> saveAsync(Collection<RepreparePayload> payloads) {
+    List<RepreparePayload> snapshot = new ArrayList<>(payloads);
+    try {
+      return CompletableFuture.runAsync(
+          () -> {
+            try {
+              write(path, snapshot);
+              LOG.debug("[{}] Saved prepared statement registry {}", logPrefix, path);
+            } catch (Throwable t) {
+              Loggers.warnWithException(
+                  LOG,
+                  "[{}] Error writing prepared statement registry {}, ignoring",
+                  logPrefix,
+                  path,
+                  t);
+            }
+          },
+          ioExecutor);
+    } catch (RejectedExecutionException e) {
+      LOG.debug("[{}] Registry was closed, not saving", logPrefix);
+      return CompletableFuture.completedFuture(null);
+    }
+  }
+
+  /** Releases all the statements prepared at startup, and stops the I/O thread. */
+  void close() {
+    preparedAtStartup.clear();
+    // Let pending writes finish
+    ioExecutor.shutdown();
+  }
+
+  @VisibleForTesting
+  static List<RepreparePayload> read(Path path) throws IOException {
+    List<SavedStatement> statements = new ArrayList<>();
+    for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+      if (line.isEmpty() || line.startsWith("#")) {
+        continue;
+      }
+      String[] fields = line.split("\t", 4);
+      if (fields.length != 4) {
+        LOG.warn("Ignoring malformed line in prepared statement registry {}: {}", path, line);
+        continue;
+      }
+      try {
+        ByteBuffer id = Bytes.fromHexString(fields[0]);
+        CqlIdentifier keyspace = fields[1].isEmpty() ? null : CqlIdentifier.fromInternal(fields[1]);
+        long executions = Long.parseLong(fields[2]);
+        statements.add(
+            new SavedStatement(
+                new RepreparePayload(id, unescape(fields[3]), keyspace, Collections.emptyMap()),
+                executions));
+      } catch (IllegalArgumentException e) {
+        LOG.warn("Ignoring malformed line in prepared statement registry {}: {}", path, line);
+      }
+    }
+    // The file is written in that order, but it might have been edited since
+    statements.sort(HOTTEST_SAVED_FIRST);
+    List<RepreparePayload> payloads = new ArrayList<>(statements.size());
+    for (SavedStatement statement : statements) {
+      payloads.add(statement.payload);
+    }
+    return payloads;
+  }
+
+  @VisibleForTesting
+  static void write(Path path, Collection<RepreparePayload> payloads) throws IOException {
+    List<RepreparePayload> sorted = new ArrayList<>();
+    for (RepreparePayload payload : payloads) {
+      // We have no way to serialize custom payloads reliably, those statements will be prepared on
+      // the fly
+      if (payload.customPayload == null || payload.customPayload.isEmpty()) {
+        sorted.add(payload);
+      }
+    }
+    sorted.sort(HOTTEST_FIRST);
+
+    List<String> lines = new ArrayList<>(sorted.size() + 1);
+    lines.add(HEADER);
+    for (RepreparePayload payload : sorted) {
+      lines.add(
+          Bytes.toHexString(payload.id)
+              + '\t'
+              + (payload.keyspace == null ? "" : payload.keyspace.asInternal())
+              + '\t'
+              + payload.getExecutions()
+              + '\t'
+              + escape(payload.query));
+    }
+
+    // Write to a temporary file first, so that a crash can't leave a truncated registry
+    Path parent = path.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+    Files.write(tmp, lines, StandardCharsets.UTF_8);
+    try {
+      Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private static class SavedStatement {
+    private final RepreparePayload payload;
+    private final long executions;
+
+    private SavedStatement(RepreparePayload payload, long executions) {
+      this.payload = payload;
+      this.executions = executions;
+    }
+  }
+
+  @VisibleForTesting
+  static class StatementKey {
+    private final String query;
+    private final CqlIdentifier keyspace;
+
+    private StatementKey(String query, CqlIdentifier keyspace) {
+      this.query = query;
+      this.keyspace = keyspace;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (other == this) {
+        return true;
+      } else if (other instanceof StatementKey) {
+        StatementKey that = (StatementKey) other;
+        return this.query.equals(that.query) && Objects.equals(this.keyspace, that.keyspace);
+      } else {
+        return false;
+      }
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(query, keyspace);
+    }
+  }
+
+  private static String escape(String query) {
+    StringBuilder builder = new StringBuilder(query.length());
+    for (int i = 0; i < query.length(); i++) {
+      char c = query.charAt(i);
+      switch (c) {
+        case '\\':
+          builder.append("\\\\");
+          break;
+        case '\t':
+          builder.append("\\t");
+          break;
+        case '\n':
+          builder.append("\\n");
+          break;
+        case '\r':
+          builder.append("\\r");
+          break;
+        default:
+          builder.append(c);
+      }
+    }
+    return builder.toString();
+  }
+
+  private static String unescape(String escaped) {
+    StringBuilder builder = new StringBuilder(escaped.length());
+    for (int i = 0; i < escaped.length(); i++) {
+      char c = escaped.charAt(i);
+      if (c != '\\') {
+        builder.append(c);
+      } else if (i == escaped.length() - 1) {
+        throw new IllegalArgumentException("Dangling escape character");
+      } else {
+        char next = escaped.charAt(++i);
+        switch (next) {
+          case '\\':
+            builder.append('\\');
+            break;
+          case 't':
+            builder.append('\t');
+            break;
+          case 'n':
+            builder.append('\n');
+            break;
+          case 'r':
+            builder.append('\r');
+            break;
+          default:
+            throw new IllegalArgumentException("Invalid escape sequence \\" + next);
+        }
+      }
+    }
+    return builder.toString();
+  }
+}
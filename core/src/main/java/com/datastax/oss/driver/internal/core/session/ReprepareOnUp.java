@@ -40,8 +40,11 @@ import io.netty.util.concurrent.EventExecutor;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
@@ -67,6 +70,8 @@ class ReprepareOnUp {
   private static final Logger LOG = LoggerFactory.getLogger(ReprepareOnUp.class);
   private static final Query QUERY_SERVER_IDS =
       new Query("SELECT prepared_id FROM system.prepared_statements");
+  private static final Comparator<RepreparePayload> HOTTEST_FIRST =
+      Comparator.comparingLong(RepreparePayload::getExecutions).reversed();
 
   private final String logPrefix;
   private final ChannelPool pool;
@@ -171,7 +176,7 @@ class ReprepareOnUp {
 
   private void gatherPayloadsToReprepare() {
     assert adminExecutor.inEventLoop();
-    toReprepare = new ArrayDeque<>();
+    List<RepreparePayload> candidates = new ArrayList<>();
     for (RepreparePayload payload : repreparePayloads.values()) {
       if (serverKnownIds.contains(payload.id)) {
         LOG.trace(
@@ -179,18 +184,21 @@ class ReprepareOnUp {
             logPrefix,
             Bytes.toHexString(payload.id));
       } else {
-        if (maxStatements > 0 && toReprepare.size() == maxStatements) {
-          LOG.debug(
-              "[{}] Limiting number of statements to reprepare to {} as configured, "
-                  + "but there are more",
-              logPrefix,
-              maxStatements);
-          break;
-        } else {
-          toReprepare.add(payload);
-        }
+        candidates.add(payload);
       }
     }
+    // Reprepare the most used statements first, they are the most likely to be executed on the
+    // node before we're done. This also ensures that they are kept if the number is limited.
+    candidates.sort(HOTTEST_FIRST);
+    if (maxStatements > 0 && candidates.size() > maxStatements) {
+      LOG.debug(
+          "[{}] Limiting number of statements to reprepare to {} as configured, "
+              + "but there are more",
+          logPrefix,
+          maxStatements);
+      candidates = candidates.subList(0, maxStatements);
+    }
+    toReprepare = new ArrayDeque<>(candidates);
     if (toReprepare.isEmpty()) {
       LOG.debug(
           "[{}] No statements to reprepare that are not known by the server already, done",
@@ -22,7 +22,8 @@ import com.datastax.oss.driver.internal.core.cql.DefaultPreparedStatement;
 import com.datastax.oss.protocol.internal.request.Prepare;
 import java.nio.ByteBuffer;
 import java.util.Map;
-import net.jcip.annotations.Immutable;
+import java.util.concurrent.atomic.LongAdder;
+import net.jcip.annotations.ThreadSafe;
 
 /**
  * The information that's necessary to reprepare an already prepared statement, in case we hit a
@@ -30,8 +31,11 @@ import net.jcip.annotations.Immutable;
  *
  * <p>Make sure the object that's returned to the client (e.g. {@link DefaultPreparedStatement} for
  * CQL statements) keeps a reference to this.
+ *
+ * <p>The only mutable state is the execution count, which is used to reprepare the most used
+ * statements first.
  */
-@Immutable
+@ThreadSafe
 public class RepreparePayload {
   public final ByteBuffer id;
   public final String query;
@@ -41,6 +45,8 @@ public class RepreparePayload {
 
   public final Map<String, ByteBuffer> customPayload;
 
+  private final LongAdder executions = new LongAdder();
+
   public RepreparePayload(
       ByteBuffer id, String query, CqlIdentifier keyspace, Map<String, ByteBuffer> customPayload) {
     this.id = id;
@@ -49,6 +55,16 @@ public class RepreparePayload {
     this.customPayload = customPayload;
   }
 
+  /** Records an execution of a bound statement created from this prepared statement. */
+  public void recordExecution() {
+    executions.increment();
+  }
+
+  /** How many times this statement was executed since it was prepared by this driver instance. */
+  public long getExecutions() {
+    return executions.sum();
+  }
+
   public Prepare toMessage() {
     return new Prepare(query, keyspace == null ? null : keyspace.asInternal());
   }
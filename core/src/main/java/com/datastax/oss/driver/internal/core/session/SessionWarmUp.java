@@ -0,0 +1,315 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.session;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.DriverTimeoutException;
+import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.loadbalancing.NodeDistance;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.metadata.NodeState;
+import com.datastax.oss.driver.api.core.metrics.DefaultSessionMetric;
+import com.datastax.oss.driver.api.core.session.WarmUpSpec;
+import com.datastax.oss.driver.api.core.type.codec.CodecNotFoundException;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.driver.internal.core.metrics.SessionMetricUpdater;
+import com.datastax.oss.driver.internal.core.pool.ChannelPool;
+import com.datastax.oss.driver.internal.core.util.NanoTime;
+import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
+import com.datastax.oss.driver.internal.core.util.concurrent.RunOrSchedule;
+import com.datastax.oss.driver.internal.core.util.concurrent.UncaughtExceptions;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.netty.util.concurrent.EventExecutor;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
+import net.jcip.annotations.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implements {@link CqlSession#warmUpAsync(WarmUpSpec)}.
+ *
+ * <p>The steps run one after the other: wait for the pools of LOCAL nodes, prepare the statements
+ * (and resolve their codecs), then execute the synthetic requests.
+ */
+@ThreadSafe
+public class SessionWarmUp {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SessionWarmUp.class);
+
+  private static final long POOL_CHECK_INTERVAL_MILLIS = 100;
+
+  private static final SimpleStatement SYNTHETIC_REQUEST =
+      SimpleStatement.newInstance("SELECT * FROM system.local").setIdempotent(true);
+
+  /**
+   * Warms up the given session, or returns a failed stage if it was not built by the driver (its
+   * context must be an {@link InternalDriverContext}).
+   */
+  @NonNull
+  public static CompletionStage<Void> warmUp(
+      @NonNull CqlSession session, @NonNull WarmUpSpec spec) {
+    if (!(session.getContext() instanceof InternalDriverContext)) {
+      return CompletableFutures.failedFuture(
+          new UnsupportedOperationException(
+              String.format(
+                  "Can't warm up session %s: its context is not an instance of %s",
+                  session.getName(), InternalDriverContext.class.getSimpleName())));
+    }
+    return new SessionWarmUp(session, spec).run();
+  }
+
+  private final CqlSession session;
+  private final WarmUpSpec spec;
+  private final InternalDriverContext context;
+  private final String logPrefix;
+  private final EventExecutor adminExecutor;
+  private final SessionMetricUpdater metricUpdater;
+
+  public SessionWarmUp(@NonNull CqlSession session, @NonNull WarmUpSpec spec) {
+    this.session = session;
+    this.spec = spec;
+    this.context = (InternalDriverContext) session.getContext();
+    this.logPrefix = context.getSessionName();
+    this.adminExecutor = context.getNettyOptions().adminEventExecutorGroup().next();
+    this.metricUpdater = context.getMetricsFactory().getSessionUpdater();
+  }
+
+  @NonNull
+  public CompletionStage<Void> run() {
+    long start = System.nanoTime();
+    LOG.debug("[{}] Starting warm-up", logPrefix);
+    CompletableFuture<Void> result = new CompletableFuture<>();
+    waitForPools()
+        .thenCompose(v -> prepareStatements())
+        .thenCompose(v -> executeSyntheticRequests())
+        .whenComplete(
+            (v, error) -> {
+              if (error == null) {
+                LOG.debug(
+                    "[{}] Warm-up complete in {}", logPrefix, NanoTime.formatTimeSince(start));
+                result.complete(null);
+              } else {
+                LOG.debug("[{}] Warm-up failed", logPrefix, error);
+                result.completeExceptionally(unwrap(error));
+              }
+            });
+    return result;
+  }
+
+  private CompletionStage<Void> waitForPools() {
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    if (spec.isWaitForPools()) {
+      long deadline = System.nanoTime() + spec.getPoolTimeout().toNanos();
+      RunOrSchedule.on(adminExecutor, () -> checkPools(done, deadline));
+    } else {
+      done.complete(null);
+    }
+    return done;
+  }
+
+  private void checkPools(CompletableFuture<Void> done, long deadline) {
+    assert adminExecutor.inEventLoop();
+    int wantedSize =
+        context
+            .getConfig()
+            .getDefaultProfile()
+            .getInt(DefaultDriverOption.CONNECTION_POOL_LOCAL_SIZE);
+    Map<Node, ChannelPool> pools = context.getPoolManager().getPools();
+    int notReady = 0;
+    for (Node node : context.getMetadataManager().getMetadata().getNodes().values()) {
+      NodeState state = node.getState();
+      // Don't wait for nodes that we know can't be reached
+      if (node.getDistance() == NodeDistance.LOCAL
+          && state != NodeState.DOWN
+          && state != NodeState.FORCED_DOWN) {
+        ChannelPool pool = pools.get(node);
+        if (pool == null || pool.size() < wantedSize) {
+          notReady += 1;
+          if (pool != null) {
+            pool.wakeUp();
+          }
+        }
+      }
+    }
+    if (notReady == 0) {
+      LOG.debug("[{}] All LOCAL pools are fully connected", logPrefix);
+      done.complete(null);
+    } else if (System.nanoTime() - deadline >= 0) {
+      done.completeExceptionally(
+          new DriverTimeoutException(
+              String.format(
+                  "Warm-up timed out after %s waiting for the pools of %d LOCAL node(s)",
+                  spec.getPoolTimeout(), notReady)));
+    } else {
+      adminExecutor
+          .schedule(
+              () -> checkPools(done, deadline), POOL_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)
+          .addListener(UncaughtExceptions::log);
+    }
+  }
+
+  private CompletionStage<Void> prepareStatements() {
+    List<SimpleStatement> statements = spec.getStatementsToPrepare();
+    LOG.debug("[{}] Preparing {} statements", logPrefix, statements.size());
+    return runConcurrently(statements.size(), i -> prepare(statements.get(i)), true);
+  }
+
+  private CompletionStage<Void> prepare(SimpleStatement statement) {
+    return session
+        .prepareAsync(statement)
+        .thenAccept(
+            prepared -> {
+              resolveCodecs(prepared);
+              metricUpdater.incrementCounter(DefaultSessionMetric.WARM_UP_PREPARED, null);
+            });
+  }
+
+  private void resolveCodecs(PreparedStatement prepared) {
+    CodecRegistry registry = context.getCodecRegistry();
+    for (ColumnDefinition definition : prepared.getVariableDefinitions()) {
+      resolveCodec(registry, definition);
+    }
+    for (ColumnDefinition definition : prepared.getResultSetDefinitions()) {
+      resolveCodec(registry, definition);
+    }
+  }
+
+  private void resolveCodec(CodecRegistry registry, ColumnDefinition definition) {
+    try {
+      registry.codecFor(definition.getType());
+    } catch (CodecNotFoundException e) {
+      // Not an error per se (the application might bind the value with a custom codec)
+      LOG.debug("[{}] Could not resolve codec for {}", logPrefix, definition.getType(), e);
+    }
+  }
+
+  private CompletionStage<Void> executeSyntheticRequests() {
+    int count = spec.getSyntheticRequests();
+    LOG.debug("[{}] Executing {} synthetic requests", logPrefix, count);
+    return runConcurrently(count, i -> executeSyntheticRequest(), false);
+  }
+
+  private CompletionStage<Void> executeSyntheticRequest() {
+    return session
+        .executeAsync(SYNTHETIC_REQUEST)
+        .thenAccept(
+            resultSet -> {
+              decodeAll(resultSet);
+              metricUpdater.incrementCounter(DefaultSessionMetric.WARM_UP_REQUESTS, null);
+            });
+  }
+
+  private void decodeAll(AsyncResultSet resultSet) {
+    int columnCount = resultSet.getColumnDefinitions().size();
+    for (Row row : resultSet.currentPage()) {
+      for (int i = 0; i < columnCount; i++) {
+        row.getObject(i);
+      }
+    }
+  }
+
+  /**
+   * Runs {@code count} tasks, with at most {@link WarmUpSpec#getConcurrency()} in flight at the
+   * same time.
+   *
+   * @param failOnError whether a failed task fails the resulting future (with the first error);
+   *     otherwise errors are only logged.
+   */
+  private CompletionStage<Void> runConcurrently(
+      int count, IntFunction<CompletionStage<?>> task, boolean failOnError) {
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    if (count == 0) {
+      done.complete(null);
+    } else {
+      AtomicInteger next = new AtomicInteger();
+      AtomicInteger remaining = new AtomicInteger(count);
+      AtomicReference<Throwable> firstError = new AtomicReference<>();
+      for (int i = 0; i < Math.min(count, spec.getConcurrency()); i++) {
+        runNext(count, task, failOnError, next, remaining, firstError, done);
+      }
+    }
+    return done;
+  }
+
+  private void runNext(
+      int count,
+      IntFunction<CompletionStage<?>> task,
+      boolean failOnError,
+      AtomicInteger next,
+      AtomicInteger remaining,
+      AtomicReference<Throwable> firstError,
+      CompletableFuture<Void> done) {
+    int i = next.getAndIncrement();
+    if (i >= count) {
+      return;
+    }
+    CompletionStage<?> stage;
+    try {
+      stage = task.apply(i);
+    } catch (Throwable t) {
+      stage = CompletableFutures.failedFuture(t);
+    }
+    stage.whenComplete(
+        (result, error) -> {
+          try {
+            if (error != null) {
+              error = unwrap(error);
+              if (!failOnError) {
+                LOG.debug("[{}] Warm-up request failed", logPrefix, error);
+              } else if (!firstError.compareAndSet(null, error) && error != firstError.get()) {
+                // Don't attach it to the first error as suppressed: both can come from cached
+                // prepare futures, and therefore be shared with other callers.
+                LOG.debug("[{}] Warm-up task failed (after a previous error)", logPrefix, error);
+              }
+            }
+          } finally {
+            if (remaining.decrementAndGet() == 0) {
+              Throwable e = firstError.get();
+              if (e == null) {
+                done.complete(null);
+              } else {
+                done.completeExceptionally(e);
+              }
+            } else {
+              runNext(count, task, failOnError, next, remaining, firstError, done);
+            }
+          }
+        });
+  }
+
+  private static Throwable unwrap(Throwable error) {
+    // Errors that went through thenCompose/thenAccept are wrapped
+    return (error instanceof CompletionException && error.getCause() != null)
+        ? error.getCause()
+        : error;
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec;
+
+import com.datastax.oss.driver.api.core.type.codec.MappingCodec;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import net.jcip.annotations.Immutable;
+
+/**
+ * A codec that maps the CQL type {@code blob} to the Java type {@link ReadableByteChannel}.
+ *
+ * <p>Decoded channels read directly from the buffer that holds the value in the response, without
+ * copying it. Encoding reads the provided channel until its end (but does not close it), directly
+ * into the buffer that will be sent; if the channel is a {@link SeekableByteChannel} (for example a
+ * {@link java.nio.channels.FileChannel}), that buffer is allocated with the exact size of the
+ * remaining contents. The channel must be in blocking mode.
+ */
+@Immutable
+public class BlobToChannelCodec extends MappingCodec<ByteBuffer, ReadableByteChannel> {
+
+  private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+  public BlobToChannelCodec() {
+    super(TypeCodecs.BLOB, GenericType.of(ReadableByteChannel.class));
+  }
+
+  @Override
+  public boolean accepts(@NonNull Object value) {
+    return value instanceof ReadableByteChannel;
+  }
+
+  @Override
+  public boolean accepts(@NonNull Class<?> javaClass) {
+    return ReadableByteChannel.class.isAssignableFrom(javaClass);
+  }
+
+  @Nullable
+  @Override
+  protected ReadableByteChannel innerToOuter(@Nullable ByteBuffer value) {
+    return value == null ? null : new ByteBufferChannel(value);
+  }
+
+  @Nullable
+  @Override
+  protected ByteBuffer outerToInner(@Nullable ReadableByteChannel value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      int size = DEFAULT_BUFFER_SIZE;
+      if (value instanceof SeekableByteChannel) {
+        SeekableByteChannel seekable = (SeekableByteChannel) value;
+        long remaining = seekable.size() - seekable.position();
+        if (remaining > Integer.MAX_VALUE) {
+          throw new IllegalArgumentException("Blob value too large");
+        }
+        size = (int) Math.max(remaining, 0);
+      }
+      ByteBuffer buffer = ByteBuffer.allocate(size);
+      while (true) {
+        if (!buffer.hasRemaining()) {
+          // Check if we reached the end before growing the buffer
+          ByteBuffer next = ByteBuffer.allocate(1);
+          if (value.read(next) == -1) {
+            break;
+          }
+          next.flip();
+          buffer.flip();
+          buffer =
+              ByteBuffer.allocate(BlobToInputStreamCodec.grow(Math.max(buffer.capacity(), 1)))
+                  .put(buffer)
+                  .put(next);
+        }
+        if (value.read(buffer) == -1) {
+          break;
+        }
+      }
+      buffer.flip();
+      return buffer;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Error while reading blob contents", e);
+    }
+  }
+
+  private static class ByteBufferChannel implements ReadableByteChannel {
+
+    private final ByteBuffer buffer;
+    private volatile boolean open = true;
+
+    private ByteBufferChannel(ByteBuffer buffer) {
+      // The decoded buffer is already a duplicate, we can change its position freely
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+      if (!open) {
+        throw new ClosedChannelException();
+      }
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      int count = Math.min(dst.remaining(), buffer.remaining());
+      ByteBuffer slice = buffer.duplicate();
+      slice.limit(slice.position() + count);
+      dst.put(slice);
+      buffer.position(buffer.position() + count);
+      return count;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return open;
+    }
+
+    @Override
+    public void close() {
+      open = false;
+    }
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec;
+
+import com.datastax.oss.driver.api.core.type.codec.MappingCodec;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import net.jcip.annotations.Immutable;
+
+/**
+ * A codec that maps the CQL type {@code blob} to the Java type {@link InputStream}.
+ *
+ * <p>Decoded streams read directly from the buffer that holds the value in the response, without
+ * copying it. Encoding reads the provided stream until its end (but does not close it), directly
+ * into the buffer that will be sent.
+ */
+@Immutable
+public class BlobToInputStreamCodec extends MappingCodec<ByteBuffer, InputStream> {
+
+  private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+  public BlobToInputStreamCodec() {
+    super(TypeCodecs.BLOB, GenericType.of(InputStream.class));
+  }
+
+  @Override
+  public boolean accepts(@NonNull Object value) {
+    return value instanceof InputStream;
+  }
+
+  @Override
+  public boolean accepts(@NonNull Class<?> javaClass) {
+    return InputStream.class.isAssignableFrom(javaClass);
+  }
+
+  @Nullable
+  @Override
+  protected InputStream innerToOuter(@Nullable ByteBuffer value) {
+    return value == null ? null : new ByteBufferInputStream(value);
+  }
+
+  @Nullable
+  @Override
+  protected ByteBuffer outerToInner(@Nullable InputStream value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      int available = value.available();
+      byte[] array = new byte[available > 0 ? available : DEFAULT_BUFFER_SIZE];
+      int length = 0;
+      while (true) {
+        if (length == array.length) {
+          // The size reported by available() is only an estimate: check if we reached the end
+          // before growing the array
+          int next = value.read();
+          if (next == -1) {
+            break;
+          }
+          array = Arrays.copyOf(array, grow(array.length));
+          array[length++] = (byte) next;
+        }
+        int read = value.read(array, length, array.length - length);
+        if (read == -1) {
+          break;
+        }
+        length += read;
+      }
+      // Don't let the value retain the unused part of the array
+      return ByteBuffer.wrap(length == array.length ? array : Arrays.copyOf(array, length));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Error while reading blob contents", e);
+    }
+  }
+
+  static int grow(int length) {
+    int newLength = Math.max(length * 2, DEFAULT_BUFFER_SIZE);
+    if (newLength < 0) {
+      if (length == Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Blob value too large");
+      }
+      newLength = Integer.MAX_VALUE;
+    }
+    return newLength;
+  }
+
+  private static class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+
+    private ByteBufferInputStream(ByteBuffer buffer) {
+      // The decoded buffer is already a duplicate, we can change its position freely
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? (buffer.get() & 0xFF) : -1;
+    }
+
+    @Override
+    public int read(@NonNull byte[] b, int off, int len) {
+      if (len == 0) {
+        return 0;
+      }
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      int count = Math.min(len, buffer.remaining());
+      buffer.get(b, off, count);
+      return count;
+    }
+
+    @Override
+    public long skip(long n) {
+      int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+      buffer.position(buffer.position() + count);
+      return count;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
+  }
+}
@@ -32,17 +32,38 @@ import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
 import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import net.jcip.annotations.ThreadSafe;
 
 @ThreadSafe
 public class StringCodec implements TypeCodec<String> {
 
+  /** The maximum length of the values that are stored in the cache, if there is one. */
+  private static final int MAX_CACHED_LENGTH = 64;
+
   private final DataType cqlType;
   private final FastThreadLocal<CharsetEncoder> charsetEncoder;
   private final FastThreadLocal<CharsetDecoder> charsetDecoder;
+  // Whether ASCII characters are encoded as single bytes with the same value (which allows us to
+  // bypass the charset for pure ASCII strings)
+  private final boolean asciiCompatible;
+  private final AsciiCache cache;
 
   public StringCodec(@NonNull DataType cqlType, @NonNull Charset charset) {
+    this(cqlType, charset, 0);
+  }
+
+  /**
+   * @param cacheSize if strictly positive, the codec keeps up to that many decoded values in a
+   *     cache, and returns the same instance when it decodes the same bytes again. This is intended
+   *     for low-cardinality columns. Only short (up to 64 bytes) ASCII values are cached. The size
+   *     is rounded up to a power of two.
+   */
+  public StringCodec(@NonNull DataType cqlType, @NonNull Charset charset, int cacheSize) {
     this.cqlType = cqlType;
+    this.asciiCompatible =
+        charset.equals(StandardCharsets.UTF_8) || charset.equals(StandardCharsets.US_ASCII);
+    this.cache = (cacheSize > 0 && asciiCompatible) ? new AsciiCache(cacheSize) : null;
     charsetEncoder =
         new FastThreadLocal<CharsetEncoder>() {
           @Override
@@ -93,6 +114,12 @@ public class StringCodec implements TypeCodec<String> {
     if (value == null) {
       return null;
     }
+    if (asciiCompatible) {
+      ByteBuffer bytes = encodeAscii(value);
+      if (bytes != null) {
+        return bytes;
+      }
+    }
     try {
       return charsetEncoder.get().encode(CharBuffer.wrap(value));
     } catch (CharacterCodingException e) {
@@ -100,6 +127,21 @@ public class StringCodec implements TypeCodec<String> {
     }
   }
 
+  /** Encodes a pure ASCII string directly, or returns null if it contains other characters. */
+  @Nullable
+  private static ByteBuffer encodeAscii(String value) {
+    int length = value.length();
+    byte[] bytes = new byte[length];
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c >= 0x80) {
+        return null;
+      }
+      bytes[i] = (byte) c;
+    }
+    return ByteBuffer.wrap(bytes);
+  }
+
   @Nullable
   @Override
   public String decode(@Nullable ByteBuffer bytes, @NonNull ProtocolVersion protocolVersion) {
@@ -107,6 +149,11 @@ public class StringCodec implements TypeCodec<String> {
       return null;
     } else if (bytes.remaining() == 0) {
       return "";
+    } else if (asciiCompatible && isAscii(bytes)) {
+      if (cache != null && bytes.remaining() <= MAX_CACHED_LENGTH) {
+        return cache.get(bytes);
+      }
+      return decodeAscii(bytes);
     } else {
       try {
         return charsetDecoder.get().decode(bytes.duplicate()).toString();
@@ -116,6 +163,39 @@ public class StringCodec implements TypeCodec<String> {
     }
   }
 
+  private static boolean isAscii(ByteBuffer bytes) {
+    int i = bytes.position();
+    int end = bytes.limit();
+    // Check 8 bytes at a time
+    for (; i + 8 <= end; i += 8) {
+      if ((bytes.getLong(i) & 0x8080808080808080L) != 0) {
+        return false;
+      }
+    }
+    for (; i < end; i++) {
+      if (bytes.get(i) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String decodeAscii(ByteBuffer bytes) {
+    // ISO-8859-1 maps each byte to the char with the same value; it is the cheapest way to build
+    // a string from bytes that are known to be ASCII.
+    if (bytes.hasArray()) {
+      return new String(
+          bytes.array(),
+          bytes.arrayOffset() + bytes.position(),
+          bytes.remaining(),
+          StandardCharsets.ISO_8859_1);
+    } else {
+      byte[] array = new byte[bytes.remaining()];
+      bytes.duplicate().get(array);
+      return new String(array, StandardCharsets.ISO_8859_1);
+    }
+  }
+
   @NonNull
   @Override
   public String format(@Nullable String value) {
@@ -134,4 +214,53 @@ public class StringCodec implements TypeCodec<String> {
       return Strings.unquote(value);
     }
   }
+
+  /**
+   * A fixed-size, direct-mapped cache of decoded ASCII strings.
+   *
+   * <p>Each value can only be stored in one slot (determined by the hash of its bytes), and
+   * replaces any previous entry in that slot. Entries are read and written without synchronization:
+   * strings are immutable, so the worst that can happen is a cache miss.
+   */
+  private static class AsciiCache {
+
+    private final String[] entries;
+    private final int mask;
+
+    private AsciiCache(int size) {
+      int capacity = Integer.highestOneBit(Math.max(1, size - 1)) << 1;
+      this.entries = new String[Math.max(1, Math.min(capacity, 1 << 20))];
+      this.mask = entries.length - 1;
+    }
+
+    private String get(ByteBuffer bytes) {
+      int start = bytes.position();
+      int length = bytes.remaining();
+      int hash = 0;
+      for (int i = 0; i < length; i++) {
+        hash = 31 * hash + bytes.get(start + i);
+      }
+      // Spread the high bits, in case the hash is poorly distributed in the low ones
+      int slot = (hash ^ (hash >>> 16)) & mask;
+      String entry = entries[slot];
+      if (entry != null && matches(entry, bytes, start, length)) {
+        return entry;
+      }
+      entry = decodeAscii(bytes);
+      entries[slot] = entry;
+      return entry;
+    }
+
+    private static boolean matches(String entry, ByteBuffer bytes, int start, int length) {
+      if (entry.length() != length) {
+        return false;
+      }
+      for (int i = 0; i < length; i++) {
+        if (entry.charAt(i) != bytes.get(start + i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
 }
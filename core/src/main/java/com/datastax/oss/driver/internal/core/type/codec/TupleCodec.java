@@ -24,10 +24,11 @@ import com.datastax.oss.driver.api.core.type.TupleType;
 import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
 import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
 import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import com.datastax.oss.driver.internal.core.data.DefaultTupleValue;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
-import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import net.jcip.annotations.ThreadSafe;
 
 @ThreadSafe
@@ -97,34 +98,35 @@ public class TupleCodec implements TypeCodec<TupleValue> {
     if (bytes == null) {
       return null;
     }
+    // Only validate the structure and record where each field starts: fields are sliced and
+    // decoded on demand, when they are accessed.
+    int size = cqlType.getComponentTypes().size();
+    int[] offsets = new int[size];
+    int position = bytes.position();
+    int limit = bytes.limit();
+    int i = 0;
     // empty byte buffers will result in empty values
-    try {
-      ByteBuffer input = bytes.duplicate();
-      TupleValue value = cqlType.newValue();
-      int i = 0;
-      while (input.hasRemaining()) {
-        if (i > cqlType.getComponentTypes().size()) {
-          throw new IllegalArgumentException(
-              String.format(
-                  "Too many fields in encoded tuple, expected %d",
-                  cqlType.getComponentTypes().size()));
-        }
-        int elementSize = input.getInt();
-        ByteBuffer element;
-        if (elementSize < 0) {
-          element = null;
-        } else {
-          element = input.slice();
-          element.limit(elementSize);
-          input.position(input.position() + elementSize);
-        }
-        value = value.setBytesUnsafe(i, element);
-        i += 1;
+    while (position < limit) {
+      if (i == size) {
+        throw new IllegalArgumentException(
+            String.format("Too many fields in encoded tuple, expected %d", size));
+      }
+      if (limit - position < 4) {
+        throw new IllegalArgumentException("Not enough bytes to deserialize a tuple");
+      }
+      offsets[i] = position;
+      int elementSize = bytes.getInt(position);
+      position += 4;
+      if (elementSize > limit - position) {
+        throw new IllegalArgumentException("Not enough bytes to deserialize a tuple");
+      }
+      if (elementSize > 0) {
+        position += elementSize;
       }
-      return value;
-    } catch (BufferUnderflowException e) {
-      throw new IllegalArgumentException("Not enough bytes to deserialize a tuple", e);
+      i += 1;
     }
+    return DefaultTupleValue.fromEncodedFields(
+        cqlType, bytes.duplicate(), (i == size) ? offsets : Arrays.copyOf(offsets, i));
   }
 
   @NonNull
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec.extras.array;
+
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.SetType;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Objects;
+
+/**
+ * Base class for codecs that map CQL sets of primitive elements to Java primitive arrays.
+ *
+ * <p>The elements are returned in the order they were serialized by the server, which for numeric
+ * types is their natural order. Duplicate elements are not checked when encoding, the server
+ * collapses them.
+ *
+ * <p>CQL literals of sets only differ from those of lists by their enclosing brackets, so
+ * formatting and parsing are delegated to the equivalent list codec.
+ *
+ * @param <PrimitiveArrayT> The Java primitive array type this codec handles
+ */
+public abstract class AbstractPrimitiveSetToArrayCodec<PrimitiveArrayT>
+    implements TypeCodec<PrimitiveArrayT> {
+
+  @NonNull protected final SetType cqlType;
+  @NonNull protected final GenericType<PrimitiveArrayT> javaType;
+  @NonNull private final AbstractListToArrayCodec<PrimitiveArrayT> listCodec;
+
+  /**
+   * @param cqlType The CQL type. Must be a set type.
+   * @param listCodec The codec that handles the equivalent list type, used for formatting and
+   *     parsing.
+   */
+  protected AbstractPrimitiveSetToArrayCodec(
+      @NonNull SetType cqlType, @NonNull AbstractListToArrayCodec<PrimitiveArrayT> listCodec) {
+    this.cqlType = Objects.requireNonNull(cqlType, "cqlType cannot be null");
+    this.listCodec = Objects.requireNonNull(listCodec, "listCodec cannot be null");
+    this.javaType = listCodec.getJavaType();
+  }
+
+  @NonNull
+  @Override
+  public GenericType<PrimitiveArrayT> getJavaType() {
+    return javaType;
+  }
+
+  @NonNull
+  @Override
+  public DataType getCqlType() {
+    return cqlType;
+  }
+
+  @NonNull
+  @Override
+  public String format(@Nullable PrimitiveArrayT array) {
+    if (array == null) {
+      return "NULL";
+    }
+    String asList = listCodec.format(array);
+    return "{" + asList.substring(1, asList.length() - 1) + "}";
+  }
+
+  @Nullable
+  @Override
+  public PrimitiveArrayT parse(@Nullable String value) {
+    if (value == null || value.isEmpty() || value.equalsIgnoreCase("NULL")) {
+      return null;
+    }
+    String trimmed = value.trim();
+    if (trimmed.length() < 2
+        || trimmed.charAt(0) != '{'
+        || trimmed.charAt(trimmed.length() - 1) != '}') {
+      throw new IllegalArgumentException(
+          String.format("Cannot parse set value from \"%s\", expecting '{...}'", value));
+    }
+    return listCodec.parse("[" + trimmed.substring(1, trimmed.length() - 1) + "]");
+  }
+}
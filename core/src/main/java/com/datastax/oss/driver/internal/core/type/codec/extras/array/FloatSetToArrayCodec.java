@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec.extras.array;
+
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import net.jcip.annotations.Immutable;
+
+/**
+ * A codec that maps the CQL type {@code set<float>} to the Java type {@code float[]}.
+ *
+ * <p>Note that this codec is designed for performance and converts CQL sets <em>directly</em> to
+ * {@code float[]}, thus avoiding any unnecessary boxing and unboxing of Java primitive {@code
+ * float} values; it also instantiates arrays without the need for an intermediary Java {@code Set}
+ * object.
+ */
+@Immutable
+public class FloatSetToArrayCodec extends AbstractPrimitiveSetToArrayCodec<float[]> {
+
+  public FloatSetToArrayCodec() {
+    super(DataTypes.setOf(DataTypes.FLOAT), new FloatListToArrayCodec());
+  }
+
+  @Override
+  public boolean accepts(@NonNull Class<?> javaClass) {
+    Objects.requireNonNull(javaClass);
+    return float[].class.equals(javaClass);
+  }
+
+  @Override
+  public boolean accepts(@NonNull Object value) {
+    Objects.requireNonNull(value);
+    return value instanceof float[];
+  }
+
+  @Nullable
+  @Override
+  public ByteBuffer encode(@Nullable float[] array, @NonNull ProtocolVersion protocolVersion) {
+    return (array == null) ? null : PrimitiveCollections.encodeFloats(array);
+  }
+
+  @NonNull
+  @Override
+  public float[] decode(@Nullable ByteBuffer bytes, @NonNull ProtocolVersion protocolVersion) {
+    return PrimitiveCollections.decodeFloats(bytes);
+  }
+}
@@ -21,6 +21,7 @@ import com.datastax.oss.driver.api.core.ProtocolVersion;
 import com.datastax.oss.driver.api.core.type.DataTypes;
 import com.datastax.oss.driver.api.core.type.reflect.GenericType;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.nio.ByteBuffer;
 import java.util.Objects;
 import net.jcip.annotations.Immutable;
@@ -52,6 +53,18 @@ public class LongListToArrayCodec extends AbstractPrimitiveListToArrayCodec<long
     return value instanceof long[];
   }
 
+  @Nullable
+  @Override
+  public ByteBuffer encode(@Nullable long[] array, @NonNull ProtocolVersion protocolVersion) {
+    return (array == null) ? null : PrimitiveCollections.encodeLongs(array);
+  }
+
+  @NonNull
+  @Override
+  public long[] decode(@Nullable ByteBuffer bytes, @NonNull ProtocolVersion protocolVersion) {
+    return PrimitiveCollections.decodeLongs(bytes);
+  }
+
   @Override
   protected int sizeOfComponentType() {
     return 8;
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec.extras.array;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.nio.ByteBuffer;
+
+/**
+ * Type-specialized encoding and decoding loops for CQL lists and sets of fixed-size primitive
+ * elements.
+ *
+ * <p>Lists and sets share the same serialized form: the number of elements, followed by each
+ * element prefixed by its size. These methods write and read that form directly with absolute
+ * buffer accesses: they don't duplicate the input buffer, and avoid the per-element virtual call of
+ * {@link AbstractPrimitiveListToArrayCodec} (that call site is shared by all the primitive codecs,
+ * and becomes megamorphic as soon as several of them are in use).
+ */
+class PrimitiveCollections {
+
+  @NonNull
+  static ByteBuffer encodeInts(@NonNull int[] array) {
+    ByteBuffer output = ByteBuffer.allocate(4 + array.length * (4 + 4));
+    int position = 0;
+    output.putInt(position, array.length);
+    position += 4;
+    for (int value : array) {
+      output.putInt(position, 4);
+      output.putInt(position + 4, value);
+      position += 4 + 4;
+    }
+    return output;
+  }
+
+  @NonNull
+  static int[] decodeInts(@Nullable ByteBuffer bytes) {
+    if (bytes == null || bytes.remaining() == 0) {
+      return new int[0];
+    }
+    int position = bytes.position();
+    int length = bytes.getInt(position);
+    position += 4;
+    int[] array = new int[length];
+    for (int i = 0; i < length; i++) {
+      position = checkElementSize(bytes, position);
+      array[i] = bytes.getInt(position);
+      position += 4;
+    }
+    return array;
+  }
+
+  @NonNull
+  static ByteBuffer encodeLongs(@NonNull long[] array) {
+    ByteBuffer output = ByteBuffer.allocate(4 + array.length * (4 + 8));
+    int position = 0;
+    output.putInt(position, array.length);
+    position += 4;
+    for (long value : array) {
+      output.putInt(position, 8);
+      output.putLong(position + 4, value);
+      position += 4 + 8;
+    }
+    return output;
+  }
+
+  @NonNull
+  static long[] decodeLongs(@Nullable ByteBuffer bytes) {
+    if (bytes == null || bytes.remaining() == 0) {
+      return new long[0];
+    }
+    int position = bytes.position();
+    int length = bytes.getInt(position);
+    position += 4;
+    long[] array = new long[length];
+    for (int i = 0; i < length; i++) {
+      position = checkElementSize(bytes, position);
+      array[i] = bytes.getLong(position);
+      position += 8;
+    }
+    return array;
+  }
+
+  @NonNull
+  static ByteBuffer encodeFloats(@NonNull float[] array) {
+    ByteBuffer output = ByteBuffer.allocate(4 + array.length * (4 + 4));
+    int position = 0;
+    output.putInt(position, array.length);
+    position += 4;
+    for (float value : array) {
+      output.putInt(position, 4);
+      output.putFloat(position + 4, value);
+      position += 4 + 4;
+    }
+    return output;
+  }
+
+  @NonNull
+  static float[] decodeFloats(@Nullable ByteBuffer bytes) {
+    if (bytes == null || bytes.remaining() == 0) {
+      return new float[0];
+    }
+    int position = bytes.position();
+    int length = bytes.getInt(position);
+    position += 4;
+    float[] array = new float[length];
+    for (int i = 0; i < length; i++) {
+      position = checkElementSize(bytes, position);
+      array[i] = bytes.getFloat(position);
+      position += 4;
+    }
+    return array;
+  }
+
+  @NonNull
+  static ByteBuffer encodeDoubles(@NonNull double[] array) {
+    ByteBuffer output = ByteBuffer.allocate(4 + array.length * (4 + 8));
+    int position = 0;
+    output.putInt(position, array.length);
+    position += 4;
+    for (double value : array) {
+      output.putInt(position, 8);
+      output.putDouble(position + 4, value);
+      position += 4 + 8;
+    }
+    return output;
+  }
+
+  @NonNull
+  static double[] decodeDoubles(@Nullable ByteBuffer bytes) {
+    if (bytes == null || bytes.remaining() == 0) {
+      return new double[0];
+    }
+    int position = bytes.position();
+    int length = bytes.getInt(position);
+    position += 4;
+    double[] array = new double[length];
+    for (int i = 0; i < length; i++) {
+      position = checkElementSize(bytes, position);
+      array[i] = bytes.getDouble(position);
+      position += 8;
+    }
+    return array;
+  }
+
+  /** Reads the size of the element at the given position, and returns the start of its contents. */
+  private static int checkElementSize(ByteBuffer bytes, int position) {
+    int elementSize = bytes.getInt(position);
+    // Null elements can happen on the decode path, but we cannot tolerate them
+    if (elementSize < 0) {
+      throw new NullPointerException("Primitive arrays cannot store null elements");
+    }
+    return position + 4;
+  }
+
+  private PrimitiveCollections() {}
+}
@@ -23,15 +23,17 @@ import com.datastax.oss.driver.api.core.type.DataTypes;
 import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
 import com.datastax.oss.driver.api.core.type.reflect.GenericType;
 import com.datastax.oss.driver.internal.core.util.Strings;
-import com.datastax.oss.protocol.internal.util.Bytes;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -54,9 +56,14 @@ import java.util.Objects;
  */
 public class JsonCodec<T> implements TypeCodec<T> {
 
+  private static final int MIN_ENCODED_SIZE_HINT = 256;
+  private static final int MAX_ENCODED_SIZE_HINT = 64 * 1024;
+
   private final ObjectMapper objectMapper;
   private final GenericType<T> javaType;
   private final JavaType jacksonJavaType;
+  // Initial buffer size when encoding. Updated without synchronization, it's only a hint.
+  private volatile int encodedSizeHint = MIN_ENCODED_SIZE_HINT;
 
   /**
    * Creates a new instance for the provided {@code javaClass}, using a default, newly-allocated
@@ -132,11 +139,20 @@ public class JsonCodec<T> implements TypeCodec<T> {
     if (value == null) {
       return null;
     }
+    // Serialize directly into the array that backs the result. Its initial size is based on the
+    // previous values, so that it rarely needs to grow.
+    ExposedByteArrayOutputStream output = new ExposedByteArrayOutputStream(encodedSizeHint);
     try {
-      return ByteBuffer.wrap(objectMapper.writeValueAsBytes(value));
-    } catch (JsonProcessingException e) {
+      objectMapper.writeValue(output, value);
+    } catch (IOException e) {
       throw new IllegalArgumentException("Failed to encode value as JSON", e);
     }
+    // Follow a moving average of the encoded sizes, so that the hint shrinks back after an
+    // occasional large value.
+    int hint = encodedSizeHint;
+    hint += (output.size() - hint) / 4;
+    encodedSizeHint = Math.max(MIN_ENCODED_SIZE_HINT, Math.min(hint, MAX_ENCODED_SIZE_HINT));
+    return output.toByteBuffer();
   }
 
   @Nullable
@@ -146,7 +162,15 @@ public class JsonCodec<T> implements TypeCodec<T> {
       return null;
     }
     try {
-      return objectMapper.readValue(Bytes.getArray(bytes), jacksonJavaType);
+      // Let Jackson read the buffer directly, without copying it to an intermediary array
+      return bytes.hasArray()
+          ? objectMapper.readValue(
+              bytes.array(),
+              bytes.arrayOffset() + bytes.position(),
+              bytes.remaining(),
+              jacksonJavaType)
+          : objectMapper.readValue(
+              new ByteBufferBackedInputStream(bytes.duplicate()), jacksonJavaType);
     } catch (IOException e) {
       throw new IllegalArgumentException("Failed to decode JSON value", e);
     }
@@ -183,4 +207,20 @@ public class JsonCodec<T> implements TypeCodec<T> {
       throw new IllegalArgumentException("Failed to parse value as JSON", e);
     }
   }
+
+  /** Gives access to the internal array, to avoid a copy when the serialization is done. */
+  private static class ExposedByteArrayOutputStream extends ByteArrayOutputStream {
+
+    private ExposedByteArrayOutputStream(int size) {
+      super(size);
+    }
+
+    private ByteBuffer toByteBuffer() {
+      // Don't let the result retain a mostly unused array, it might be held for a while (for
+      // example by a bound statement). Small amounts of waste are cheaper than a copy.
+      return (count < buf.length / 2 && buf.length - count > MIN_ENCODED_SIZE_HINT)
+          ? ByteBuffer.wrap(Arrays.copyOf(buf, count))
+          : ByteBuffer.wrap(buf, 0, count);
+    }
+  }
 }
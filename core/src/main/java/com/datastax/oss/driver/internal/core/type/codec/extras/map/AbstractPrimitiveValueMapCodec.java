@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec.extras.map;
+
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Base class for codecs that map CQL maps with primitive values to the driver's primitive-valued
+ * map types, such as {@link com.datastax.oss.driver.api.core.data.ObjectDoubleMap}.
+ *
+ * <p>Encoding and decoding are specialized in each subclass, so that values are read and written
+ * directly from and to the buffer, without boxing. Keys are handled by the key codec, as with a
+ * regular map codec. Formatting and parsing are not performance-sensitive, they go through the
+ * equivalent boxed codec.
+ *
+ * @param <KeyT> The type of the map keys
+ * @param <ValueT> The boxed type of the map values
+ * @param <MapT> The Java type this codec handles
+ */
+public abstract class AbstractPrimitiveValueMapCodec<KeyT, ValueT, MapT>
+    implements TypeCodec<MapT> {
+
+  @NonNull protected final TypeCodec<KeyT> keyCodec;
+  @NonNull protected final DataType cqlType;
+  @NonNull protected final GenericType<MapT> javaType;
+  @NonNull private final TypeCodec<Map<KeyT, ValueT>> boxedCodec;
+
+  protected AbstractPrimitiveValueMapCodec(
+      @NonNull TypeCodec<KeyT> keyCodec,
+      @NonNull TypeCodec<ValueT> valueCodec,
+      @NonNull GenericType<MapT> javaType) {
+    this.keyCodec = Objects.requireNonNull(keyCodec, "keyCodec cannot be null");
+    this.javaType = Objects.requireNonNull(javaType, "javaType cannot be null");
+    this.cqlType = DataTypes.mapOf(keyCodec.getCqlType(), valueCodec.getCqlType());
+    this.boxedCodec = TypeCodecs.mapOf(keyCodec, valueCodec);
+  }
+
+  @NonNull
+  @Override
+  public GenericType<MapT> getJavaType() {
+    return javaType;
+  }
+
+  @NonNull
+  @Override
+  public DataType getCqlType() {
+    return cqlType;
+  }
+
+  @NonNull
+  @Override
+  public String format(@Nullable MapT map) {
+    return (map == null) ? "NULL" : boxedCodec.format(toBoxed(map));
+  }
+
+  @Nullable
+  @Override
+  public MapT parse(@Nullable String value) {
+    Map<KeyT, ValueT> boxed = boxedCodec.parse(value);
+    return (boxed == null) ? null : fromBoxed(boxed);
+  }
+
+  @NonNull
+  protected abstract Map<KeyT, ValueT> toBoxed(@NonNull MapT map);
+
+  @NonNull
+  protected abstract MapT fromBoxed(@NonNull Map<KeyT, ValueT> map);
+
+  /** Encodes a key, checking that it is not null. */
+  @NonNull
+  protected ByteBuffer encodeKey(@NonNull KeyT key, @NonNull ProtocolVersion protocolVersion) {
+    ByteBuffer encodedKey = keyCodec.encode(key, protocolVersion);
+    if (encodedKey == null) {
+      throw new NullPointerException("Map keys cannot encode to CQL NULL");
+    }
+    return encodedKey;
+  }
+
+  /**
+   * Reads a key, preceded by its size, checks that it is not null, and advances the position of the
+   * input buffer.
+   */
+  @NonNull
+  protected KeyT readKey(@NonNull ByteBuffer input, @NonNull ProtocolVersion protocolVersion) {
+    int keySize = input.getInt();
+    if (keySize < 0) {
+      throw new NullPointerException("Primitive map keys cannot be null");
+    }
+    ByteBuffer encodedKey = input.slice();
+    encodedKey.limit(keySize);
+    input.position(input.position() + keySize);
+    KeyT key = keyCodec.decode(encodedKey, protocolVersion);
+    if (key == null) {
+      throw new NullPointerException("Primitive map keys cannot be null");
+    }
+    return key;
+  }
+
+  /** Reads the size of a value, and checks that it is not null. */
+  protected static void readValueSize(@NonNull ByteBuffer input) {
+    int valueSize = input.getInt();
+    if (valueSize < 0) {
+      throw new NullPointerException("Primitive map values cannot be null");
+    }
+  }
+}
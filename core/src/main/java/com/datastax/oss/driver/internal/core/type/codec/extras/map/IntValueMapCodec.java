@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec.extras.map;
+
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.data.ObjectIntMap;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import com.datastax.oss.driver.api.core.type.reflect.GenericTypeParameter;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import net.jcip.annotations.Immutable;
+
+/**
+ * A codec that maps the CQL type {@code map<K, int>} to the Java type {@link ObjectIntMap
+ * ObjectIntMap<K>}.
+ *
+ * <p>Note that this codec is designed for performance and converts CQL map values <em>directly</em>
+ * to {@code int}, thus avoiding any unnecessary boxing and unboxing of Java primitive values.
+ */
+@Immutable
+public class IntValueMapCodec<KeyT>
+    extends AbstractPrimitiveValueMapCodec<KeyT, Integer, ObjectIntMap<KeyT>> {
+
+  public IntValueMapCodec(@NonNull TypeCodec<KeyT> keyCodec) {
+    super(
+        keyCodec,
+        TypeCodecs.INT,
+        new GenericType<ObjectIntMap<KeyT>>() {}.where(
+            new GenericTypeParameter<KeyT>() {}, keyCodec.getJavaType()));
+  }
+
+  @Override
+  public boolean accepts(@NonNull Object value) {
+    if (value instanceof ObjectIntMap) {
+      ObjectIntMap<?> map = (ObjectIntMap<?>) value;
+      return map.isEmpty() || keyCodec.accepts(map.getKey(0));
+    }
+    return false;
+  }
+
+  @Nullable
+  @Override
+  public ByteBuffer encode(
+      @Nullable ObjectIntMap<KeyT> map, @NonNull ProtocolVersion protocolVersion) {
+    if (map == null) {
+      return null;
+    }
+    int size = map.size();
+    ByteBuffer[] encodedKeys = new ByteBuffer[size];
+    int toAllocate = 4; // initialize with number of entries
+    for (int i = 0; i < size; i++) {
+      ByteBuffer encodedKey = encodeKey(map.getKey(i), protocolVersion);
+      encodedKeys[i] = encodedKey;
+      toAllocate += 4 + encodedKey.remaining() + 4 + 4;
+    }
+    ByteBuffer result = ByteBuffer.allocate(toAllocate);
+    result.putInt(size);
+    for (int i = 0; i < size; i++) {
+      result.putInt(encodedKeys[i].remaining());
+      result.put(encodedKeys[i]);
+      result.putInt(4);
+      result.putInt(map.getValue(i));
+    }
+    result.flip();
+    return result;
+  }
+
+  @NonNull
+  @Override
+  public ObjectIntMap<KeyT> decode(
+      @Nullable ByteBuffer bytes, @NonNull ProtocolVersion protocolVersion) {
+    if (bytes == null || bytes.remaining() == 0) {
+      return ObjectIntMap.empty();
+    }
+    ByteBuffer input = bytes.duplicate();
+    int size = input.getInt();
+    List<KeyT> keys = new ArrayList<>(size);
+    int[] values = new int[size];
+    for (int i = 0; i < size; i++) {
+      keys.add(readKey(input, protocolVersion));
+      readValueSize(input);
+      values[i] = input.getInt();
+    }
+    return new ObjectIntMap<>(keys, values);
+  }
+
+  @NonNull
+  @Override
+  protected Map<KeyT, Integer> toBoxed(@NonNull ObjectIntMap<KeyT> map) {
+    return map.toMap();
+  }
+
+  @NonNull
+  @Override
+  protected ObjectIntMap<KeyT> fromBoxed(@NonNull Map<KeyT, Integer> map) {
+    return ObjectIntMap.copyOf(map);
+  }
+}
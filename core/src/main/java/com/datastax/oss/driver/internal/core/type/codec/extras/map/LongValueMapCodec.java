@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec.extras.map;
+
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.data.ObjectLongMap;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import com.datastax.oss.driver.api.core.type.reflect.GenericTypeParameter;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import net.jcip.annotations.Immutable;
+
+/**
+ * A codec that maps the CQL type {@code map<K, bigint>} to the Java type {@link ObjectLongMap
+ * ObjectLongMap<K>}.
+ *
+ * <p>Note that this codec is designed for performance and converts CQL map values <em>directly</em>
+ * to {@code long}, thus avoiding any unnecessary boxing and unboxing of Java primitive values.
+ */
+@Immutable
+public class LongValueMapCodec<KeyT>
+    extends AbstractPrimitiveValueMapCodec<KeyT, Long, ObjectLongMap<KeyT>> {
+
+  public LongValueMapCodec(@NonNull TypeCodec<KeyT> keyCodec) {
+    super(
+        keyCodec,
+        TypeCodecs.BIGINT,
+        new GenericType<ObjectLongMap<KeyT>>() {}.where(
+            new GenericTypeParameter<KeyT>() {}, keyCodec.getJavaType()));
+  }
+
+  @Override
+  public boolean accepts(@NonNull Object value) {
+    if (value instanceof ObjectLongMap) {
+      ObjectLongMap<?> map = (ObjectLongMap<?>) value;
+      return map.isEmpty() || keyCodec.accepts(map.getKey(0));
+    }
+    return false;
+  }
+
+  @Nullable
+  @Override
+  public ByteBuffer encode(
+      @Nullable ObjectLongMap<KeyT> map, @NonNull ProtocolVersion protocolVersion) {
+    if (map == null) {
+      return null;
+    }
+    int size = map.size();
+    ByteBuffer[] encodedKeys = new ByteBuffer[size];
+    int toAllocate = 4; // initialize with number of entries
+    for (int i = 0; i < size; i++) {
+      ByteBuffer encodedKey = encodeKey(map.getKey(i), protocolVersion);
+      encodedKeys[i] = encodedKey;
+      toAllocate += 4 + encodedKey.remaining() + 4 + 8;
+    }
+    ByteBuffer result = ByteBuffer.allocate(toAllocate);
+    result.putInt(size);
+    for (int i = 0; i < size; i++) {
+      result.putInt(encodedKeys[i].remaining());
+      result.put(encodedKeys[i]);
+      result.putInt(8);
+      result.putLong(map.getValue(i));
+    }
+    result.flip();
+    return result;
+  }
+
+  @NonNull
+  @Override
+  public ObjectLongMap<KeyT> decode(
+      @Nullable ByteBuffer bytes, @NonNull ProtocolVersion protocolVersion) {
+    if (bytes == null || bytes.remaining() == 0) {
+      return ObjectLongMap.empty();
+    }
+    ByteBuffer input = bytes.duplicate();
+    int size = input.getInt();
+    List<KeyT> keys = new ArrayList<>(size);
+    long[] values = new long[size];
+    for (int i = 0; i < size; i++) {
+      keys.add(readKey(input, protocolVersion));
+      readValueSize(input);
+      values[i] = input.getLong();
+    }
+    return new ObjectLongMap<>(keys, values);
+  }
+
+  @NonNull
+  @Override
+  protected Map<KeyT, Long> toBoxed(@NonNull ObjectLongMap<KeyT> map) {
+    return map.toMap();
+  }
+
+  @NonNull
+  @Override
+  protected ObjectLongMap<KeyT> fromBoxed(@NonNull Map<KeyT, Long> map) {
+    return ObjectLongMap.copyOf(map);
+  }
+}
@@ -117,4 +117,14 @@ public abstract class CountingIterator<ElementT> implements Iterator<ElementT> {
     }
     return next;
   }
+
+  // Added to original Guava code: allow subclasses to bypass the iteration when no element is
+  // pending.
+  /**
+   * Whether the next element has already been computed (by a call to {@link #hasNext()} or {@link
+   * #peek()}), but not returned yet.
+   */
+  protected final boolean isNextComputed() {
+    return state == State.READY;
+  }
 }
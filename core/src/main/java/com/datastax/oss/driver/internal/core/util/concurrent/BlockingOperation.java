@@ -43,13 +43,18 @@ public class BlockingOperation {
    * @throws IllegalStateException if a driver thread is executing this.
    */
   public static void checkNotDriverThread() {
-    if (Thread.currentThread() instanceof InternalThread) {
+    if (isDriverThread()) {
       throw new IllegalStateException(
           "Detected a synchronous API call on a driver thread, "
               + "failing because this can cause deadlocks.");
     }
   }
 
+  /** Whether the current thread is a driver thread, where blocking operations are not allowed. */
+  public static boolean isDriverThread() {
+    return Thread.currentThread() instanceof InternalThread;
+  }
+
   /**
    * Marks threads as driver threads, so that they will be detected by {@link
    * #checkNotDriverThread()}
@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import net.jcip.annotations.NotThreadSafe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -141,6 +142,17 @@ public class Debouncer<IncomingT, CoalescedT> {
     }
   }
 
+  /**
+   * Drops the pending events that match the given filter, they won't be part of the next flush.
+   * This must be called on eventExecutor too.
+   */
+  public void discard(Predicate<? super IncomingT> filter) {
+    assert adminExecutor.inEventLoop();
+    if (currentBatch.removeIf(filter) && currentBatch.isEmpty()) {
+      cancelNextFlush();
+    }
+  }
+
   private void scheduleFlush() {
     assert adminExecutor.inEventLoop();
     cancelNextFlush();
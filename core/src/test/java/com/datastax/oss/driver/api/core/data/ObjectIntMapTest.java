@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.api.core.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.datastax.oss.driver.shaded.guava.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public class ObjectIntMapTest {
+
+  @Test
+  public void should_look_up_keys() {
+    ObjectIntMap<String> map = new ObjectIntMap<>(Lists.newArrayList("a", "b"), new int[] {1, 2});
+    assertThat(map.indexOf("a")).isEqualTo(0);
+    assertThat(map.indexOf("b")).isEqualTo(1);
+    assertThat(map.indexOf("c")).isEqualTo(-1);
+    assertThat(map.containsKey("b")).isTrue();
+    assertThat(map.getOrDefault("b", -1)).isEqualTo(2);
+    assertThat(map.getOrDefault("c", -1)).isEqualTo(-1);
+  }
+
+  @Test
+  public void should_look_up_keys_in_empty_map() {
+    ObjectIntMap<String> map = ObjectIntMap.empty();
+    assertThat(map.indexOf("a")).isEqualTo(-1);
+    assertThat(map.containsKey("a")).isFalse();
+  }
+
+  @Test
+  public void should_look_up_keys_with_colliding_hash_codes() {
+    // "Aa" and "BB" have the same hash code
+    ObjectIntMap<String> map =
+        new ObjectIntMap<>(Lists.newArrayList("Aa", "BB", "c"), new int[] {1, 2, 3});
+    assertThat(map.getOrDefault("Aa", -1)).isEqualTo(1);
+    assertThat(map.getOrDefault("BB", -1)).isEqualTo(2);
+    assertThat(map.getOrDefault("c", -1)).isEqualTo(3);
+    assertThat(map.indexOf("C#")).isEqualTo(-1);
+  }
+
+  @Test
+  public void should_return_first_occurrence_of_duplicate_key() {
+    ObjectIntMap<String> map =
+        new ObjectIntMap<>(Lists.newArrayList("a", "b", "a"), new int[] {1, 2, 3});
+    assertThat(map.indexOf("a")).isEqualTo(0);
+    assertThat(map.getOrDefault("a", -1)).isEqualTo(1);
+  }
+
+  @Test
+  public void should_look_up_keys_in_large_map() {
+    int size = 1000;
+    List<Integer> keys = new ArrayList<>(size);
+    int[] values = new int[size];
+    for (int i = 0; i < size; i++) {
+      keys.add(i * 64);
+      values[i] = -i;
+    }
+    ObjectIntMap<Integer> map = new ObjectIntMap<>(keys, values);
+    for (int i = 0; i < size; i++) {
+      assertThat(map.indexOf(i * 64)).isEqualTo(i);
+      assertThat(map.getOrDefault(i * 64, 1)).isEqualTo(-i);
+    }
+    assertThat(map.indexOf(1)).isEqualTo(-1);
+  }
+
+  @Test
+  public void should_format_entries() {
+    ObjectIntMap<String> map = new ObjectIntMap<>(Lists.newArrayList("a", "b"), new int[] {1, 2});
+    assertThat(map).hasToString("{a=1, b=2}");
+  }
+}
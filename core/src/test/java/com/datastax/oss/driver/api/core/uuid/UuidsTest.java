@@ -31,7 +31,10 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Random;
 import java.util.Set;
 import java.util.SplittableRandom;
@@ -330,6 +333,48 @@ public class UuidsTest {
     }
   }
 
+  @Test
+  public void should_generate_batch_of_increasing_time_based_uuids() {
+    long previous = Uuids.timeBased().timestamp();
+
+    List<UUID> batch = Uuids.timeBased(50_000);
+
+    assertThat(batch).hasSize(50_000).doesNotHaveDuplicates();
+    for (UUID uuid : batch) {
+      assertThat(uuid.version()).isEqualTo(1);
+      assertThat(uuid.timestamp()).isGreaterThan(previous);
+      previous = uuid.timestamp();
+    }
+    assertThat(Uuids.timeBased().timestamp()).isGreaterThan(previous);
+  }
+
+  @Test
+  public void should_generate_unique_time_based_uuid_batches_across_threads() throws Exception {
+    Set<UUID> generated =
+        parallelGeneration(
+            10,
+            10_000,
+            () ->
+                new Supplier<UUID>() {
+                  private Iterator<UUID> batch = Collections.emptyIterator();
+
+                  @Override
+                  public UUID get() {
+                    if (!batch.hasNext()) {
+                      batch = Uuids.timeBased(100).iterator();
+                    }
+                    return batch.next();
+                  }
+                });
+    assertThat(generated).hasSize(10 * 10_000);
+  }
+
+  @Test
+  public void should_fail_to_generate_negative_batch() {
+    Throwable t = catchThrowable(() -> Uuids.timeBased(-1));
+    assertThat(t).isInstanceOf(IllegalArgumentException.class);
+  }
+
   @Test
   public void should_generate_within_bounds_for_given_timestamp() {
 
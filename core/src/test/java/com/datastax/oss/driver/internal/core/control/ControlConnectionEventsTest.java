@@ -26,7 +26,9 @@ import static org.mockito.Mockito.when;
 import com.datastax.oss.driver.internal.core.channel.DriverChannel;
 import com.datastax.oss.driver.internal.core.channel.DriverChannelOptions;
 import com.datastax.oss.driver.internal.core.channel.EventCallback;
+import com.datastax.oss.driver.internal.core.metadata.SchemaChangeReceivedEvent;
 import com.datastax.oss.driver.internal.core.metadata.TopologyEvent;
+import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefreshScope;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
 import com.datastax.oss.protocol.internal.ProtocolConstants;
 import com.datastax.oss.protocol.internal.response.event.SchemaChangeEvent;
@@ -152,6 +154,33 @@ public class ControlConnectionEventsTest extends ControlConnectionTestBase {
     callback.onEvent(event);
 
     // Then
-    verify(metadataManager).refreshSchema("ks", false, false);
+    verify(metadataManager).refreshSchema(SchemaRefreshScope.forKeyspace("ks"), false, false);
+  }
+
+  @Test
+  public void should_refresh_single_table_for_table_change_events() {
+    // Given
+    DriverChannel channel1 = newMockDriverChannel(1);
+    ArgumentCaptor<DriverChannelOptions> optionsCaptor =
+        ArgumentCaptor.forClass(DriverChannelOptions.class);
+    when(channelFactory.connect(eq(node1), optionsCaptor.capture()))
+        .thenReturn(CompletableFuture.completedFuture(channel1));
+    controlConnection.init(false, false, false);
+    await().until(() -> optionsCaptor.getValue() != null);
+    EventCallback callback = optionsCaptor.getValue().eventCallback;
+    SchemaChangeEvent event =
+        new SchemaChangeEvent(
+            ProtocolConstants.SchemaChangeType.UPDATED,
+            ProtocolConstants.SchemaChangeTarget.TABLE,
+            "ks",
+            "foo",
+            ImmutableList.of());
+
+    // When
+    callback.onEvent(event);
+
+    // Then
+    verify(metadataManager).refreshSchema(SchemaRefreshScope.forTable("ks", "foo"), false, false);
+    verify(eventBus).fire(new SchemaChangeReceivedEvent(SchemaRefreshScope.forTable("ks", "foo")));
   }
 }
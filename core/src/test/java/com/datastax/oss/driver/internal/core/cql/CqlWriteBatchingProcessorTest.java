@@ -0,0 +1,308 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.cql;
+
+import static com.datastax.oss.driver.Assertions.assertThat;
+import static com.datastax.oss.driver.Assertions.assertThatStage;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
+import com.datastax.oss.driver.api.core.config.DriverConfig;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.detach.AttachmentPoint;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.servererrors.WriteTimeoutException;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.driver.internal.core.context.NettyOptions;
+import com.datastax.oss.driver.internal.core.metadata.MetadataManager;
+import com.datastax.oss.driver.internal.core.session.DefaultSession;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
+import com.datastax.oss.protocol.internal.response.result.ColumnSpec;
+import com.datastax.oss.protocol.internal.response.result.RawType;
+import io.netty.channel.DefaultEventLoopGroup;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class CqlWriteBatchingProcessorTest {
+
+  private static final CqlIdentifier KEYSPACE = CqlIdentifier.fromInternal("ks");
+  private static final ByteBuffer KEY1 = ByteBuffer.wrap(new byte[] {1});
+  private static final ByteBuffer KEY2 = ByteBuffer.wrap(new byte[] {2});
+
+  @Mock private InternalDriverContext context;
+  @Mock private NettyOptions nettyOptions;
+  @Mock private DriverConfig config;
+  @Mock private DriverExecutionProfile defaultProfile;
+  @Mock private DefaultSession session;
+  @Mock private CqlRequestAsyncProcessor delegate;
+  @Mock private PreparedStatement insert;
+  @Mock private PreparedStatement select;
+  @Mock private AsyncResultSet resultSet;
+  @Mock private MetadataManager metadataManager;
+  @Mock private Metadata metadata;
+
+  private DefaultEventLoopGroup adminEventLoopGroup;
+  private CompletableFuture<AsyncResultSet> delegateResult;
+
+  @Before
+  public void setup() {
+    MockitoAnnotations.initMocks(this);
+
+    adminEventLoopGroup = new DefaultEventLoopGroup(1);
+    when(nettyOptions.adminEventExecutorGroup()).thenReturn(adminEventLoopGroup);
+    when(context.getNettyOptions()).thenReturn(nettyOptions);
+    when(context.getConfig()).thenReturn(config);
+    when(config.getDefaultProfile()).thenReturn(defaultProfile);
+    when(defaultProfile.getInt(DefaultDriverOption.REQUEST_WRITE_BATCHING_MAX_STATEMENTS))
+        .thenReturn(3);
+    when(defaultProfile.getDuration(DefaultDriverOption.REQUEST_WRITE_BATCHING_WINDOW))
+        .thenReturn(Duration.ofMinutes(1));
+
+    when(context.getMetadataManager()).thenReturn(metadataManager);
+    when(metadataManager.getMetadata()).thenReturn(metadata);
+    when(metadata.getKeyspaces()).thenReturn(ImmutableMap.of());
+
+    when(insert.getVariableDefinitions())
+        .thenReturn(variables(ProtocolConstants.DataType.INT, ProtocolConstants.DataType.INT));
+    when(insert.getResultSetDefinitions())
+        .thenReturn(DefaultColumnDefinitions.valueOf(ImmutableList.of()));
+    ColumnDefinitions selectDefinitions = mock(ColumnDefinitions.class);
+    when(selectDefinitions.size()).thenReturn(1);
+    when(select.getResultSetDefinitions()).thenReturn(selectDefinitions);
+
+    delegateResult = new CompletableFuture<>();
+    when(delegate.process(any(), any(), any(), any())).thenReturn(delegateResult);
+  }
+
+  @After
+  public void teardown() {
+    adminEventLoopGroup.shutdownGracefully(100, 200, TimeUnit.MILLISECONDS);
+  }
+
+  @Test
+  public void should_only_process_idempotent_writes_with_routing_key() {
+    CqlWriteBatchingProcessor processor = new CqlWriteBatchingProcessor(context, delegate);
+
+    assertThat(processor.canProcess(write(KEY1), Statement.ASYNC)).isTrue();
+    assertThat(processor.canProcess(write(KEY1), Statement.SYNC)).isFalse();
+    assertThat(processor.canProcess(write(null), Statement.ASYNC)).isFalse();
+    assertThat(processor.canProcess(SimpleStatement.newInstance("INSERT"), Statement.ASYNC))
+        .isFalse();
+
+    BoundStatement read = write(KEY1);
+    when(read.getPreparedStatement()).thenReturn(select);
+    assertThat(processor.canProcess(read, Statement.ASYNC)).isFalse();
+
+    BoundStatement nonIdempotent = write(KEY1);
+    when(nonIdempotent.isIdempotent()).thenReturn(false);
+    assertThat(processor.canProcess(nonIdempotent, Statement.ASYNC)).isFalse();
+
+    BoundStatement withTimestamp = write(KEY1);
+    when(withTimestamp.getQueryTimestamp()).thenReturn(1234L);
+    assertThat(processor.canProcess(withTimestamp, Statement.ASYNC)).isFalse();
+
+    BoundStatement defaultIdempotence = write(KEY1);
+    when(defaultIdempotence.isIdempotent()).thenReturn(null);
+    when(defaultProfile.getBoolean(DefaultDriverOption.REQUEST_DEFAULT_IDEMPOTENCE))
+        .thenReturn(true);
+    assertThat(processor.canProcess(defaultIdempotence, Statement.ASYNC)).isTrue();
+  }
+
+  @Test
+  public void should_not_process_writes_with_now_in_seconds_or_keyspace() {
+    CqlWriteBatchingProcessor processor = new CqlWriteBatchingProcessor(context, delegate);
+
+    BoundStatement withNowInSeconds = write(KEY1);
+    when(withNowInSeconds.getNowInSeconds()).thenReturn(1234);
+    assertThat(processor.canProcess(withNowInSeconds, Statement.ASYNC)).isFalse();
+
+    BoundStatement withKeyspace = write(KEY1);
+    when(withKeyspace.getKeyspace()).thenReturn(CqlIdentifier.fromInternal("other_ks"));
+    assertThat(processor.canProcess(withKeyspace, Statement.ASYNC)).isFalse();
+  }
+
+  @Test
+  public void should_not_process_counter_updates() {
+    CqlWriteBatchingProcessor processor = new CqlWriteBatchingProcessor(context, delegate);
+
+    // UPDATE foo SET c = c + ? WHERE k = ?
+    PreparedStatement counterUpdate = mock(PreparedStatement.class);
+    when(counterUpdate.getVariableDefinitions())
+        .thenReturn(variables(ProtocolConstants.DataType.COUNTER, ProtocolConstants.DataType.INT));
+    when(counterUpdate.getResultSetDefinitions())
+        .thenReturn(DefaultColumnDefinitions.valueOf(ImmutableList.of()));
+    BoundStatement statement = write(KEY1);
+    when(statement.getPreparedStatement()).thenReturn(counterUpdate);
+    assertThat(processor.canProcess(statement, Statement.ASYNC)).isFalse();
+
+    // UPDATE foo SET c = c + 1 WHERE k = ?: only the table metadata tells us
+    assertThat(processor.canProcess(write(KEY1), Statement.ASYNC)).isTrue();
+    KeyspaceMetadata keyspace = mock(KeyspaceMetadata.class);
+    TableMetadata table = mock(TableMetadata.class);
+    ColumnMetadata counterColumn = mock(ColumnMetadata.class);
+    when(counterColumn.getType()).thenReturn(DataTypes.COUNTER);
+    when(table.getColumns())
+        .thenReturn(ImmutableMap.of(CqlIdentifier.fromInternal("c"), counterColumn));
+    when(keyspace.getTable(CqlIdentifier.fromInternal("foo"))).thenReturn(Optional.of(table));
+    when(metadata.getKeyspaces()).thenReturn(ImmutableMap.of(KEYSPACE, keyspace));
+    assertThat(processor.canProcess(write(KEY1), Statement.ASYNC)).isFalse();
+  }
+
+  @Test
+  public void should_fail_pending_writes_when_closed() {
+    CqlWriteBatchingProcessor processor = new CqlWriteBatchingProcessor(context, delegate);
+
+    CompletionStage<AsyncResultSet> result1 = process(processor, write(KEY1));
+    CompletionStage<AsyncResultSet> result2 = process(processor, write(KEY2));
+    processor.close();
+
+    assertThatStage(result1).isFailed(e -> assertThat(e).isInstanceOf(IllegalStateException.class));
+    assertThatStage(result2).isFailed(e -> assertThat(e).isInstanceOf(IllegalStateException.class));
+    // Writes processed after that fail immediately
+    assertThatStage(process(processor, write(KEY1)))
+        .isFailed(e -> assertThat(e).isInstanceOf(IllegalStateException.class));
+    verify(delegate, never()).process(any(), any(), any(), any());
+  }
+
+  @Test
+  public void should_send_batch_when_full() {
+    CqlWriteBatchingProcessor processor = new CqlWriteBatchingProcessor(context, delegate);
+
+    CompletionStage<AsyncResultSet> result1 = process(processor, write(KEY1));
+    CompletionStage<AsyncResultSet> result2 = process(processor, write(KEY1));
+    CompletionStage<AsyncResultSet> other = process(processor, write(KEY2));
+    CompletionStage<AsyncResultSet> result3 = process(processor, write(KEY1));
+
+    BatchStatement batch = (BatchStatement) captureSentStatement();
+    assertThat(batch.getBatchType()).isEqualTo(BatchType.UNLOGGED);
+    assertThat(batch.size()).isEqualTo(3);
+    assertThat(batch.isIdempotent()).isTrue();
+
+    delegateResult.complete(resultSet);
+
+    assertThatStage(result1).isSuccess(rs -> assertThat(rs).isSameAs(resultSet));
+    assertThatStage(result2).isSuccess(rs -> assertThat(rs).isSameAs(resultSet));
+    assertThatStage(result3).isSuccess(rs -> assertThat(rs).isSameAs(resultSet));
+    assertThatStage(other).isNotDone();
+  }
+
+  @Test
+  public void should_send_when_window_elapses() {
+    when(defaultProfile.getDuration(DefaultDriverOption.REQUEST_WRITE_BATCHING_WINDOW))
+        .thenReturn(Duration.ofMillis(10));
+    CqlWriteBatchingProcessor processor = new CqlWriteBatchingProcessor(context, delegate);
+    BoundStatement statement = write(KEY1);
+
+    CompletionStage<AsyncResultSet> result = process(processor, statement);
+
+    // A single write is sent as is
+    ArgumentCaptor<Statement<?>> captor = newCaptor();
+    verify(delegate, timeout(500)).process(captor.capture(), any(), any(), any());
+    assertThat(captor.getValue()).isSameAs(statement);
+
+    delegateResult.complete(resultSet);
+    assertThatStage(result).isSuccess(rs -> assertThat(rs).isSameAs(resultSet));
+  }
+
+  @Test
+  public void should_fail_all_writes_if_batch_fails() {
+    CqlWriteBatchingProcessor processor = new CqlWriteBatchingProcessor(context, delegate);
+    WriteTimeoutException error = mock(WriteTimeoutException.class);
+
+    CompletionStage<AsyncResultSet> result1 = process(processor, write(KEY1));
+    CompletionStage<AsyncResultSet> result2 = process(processor, write(KEY1));
+    CompletionStage<AsyncResultSet> result3 = process(processor, write(KEY1));
+    delegateResult.completeExceptionally(error);
+
+    assertThatStage(result1).isFailed(e -> assertThat(e).isSameAs(error));
+    assertThatStage(result2).isFailed(e -> assertThat(e).isSameAs(error));
+    assertThatStage(result3).isFailed(e -> assertThat(e).isSameAs(error));
+  }
+
+  private CompletionStage<AsyncResultSet> process(
+      CqlWriteBatchingProcessor processor, BoundStatement statement) {
+    return processor.process(statement, session, context, "test");
+  }
+
+  private Statement<?> captureSentStatement() {
+    ArgumentCaptor<Statement<?>> captor = newCaptor();
+    verify(delegate).process(captor.capture(), any(), any(), any());
+    return captor.getValue();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ArgumentCaptor<Statement<?>> newCaptor() {
+    return ArgumentCaptor.forClass((Class<Statement<?>>) (Class<?>) Statement.class);
+  }
+
+  private BoundStatement write(ByteBuffer routingKey) {
+    BoundStatement statement = mock(BoundStatement.class);
+    when(statement.getPreparedStatement()).thenReturn(insert);
+    when(statement.getRoutingKeyspace()).thenReturn(KEYSPACE);
+    when(statement.getRoutingKey()).thenReturn(routingKey);
+    when(statement.isIdempotent()).thenReturn(true);
+    when(statement.getQueryTimestamp()).thenReturn(Statement.NO_DEFAULT_TIMESTAMP);
+    when(statement.getNowInSeconds()).thenReturn(Statement.NO_NOW_IN_SECONDS);
+    when(statement.getTimeout()).thenReturn(null);
+    return statement;
+  }
+
+  /** The variables of a statement on ks.foo, the last one is the partition key. */
+  private static ColumnDefinitions variables(int... typeCodes) {
+    ImmutableList.Builder<ColumnDefinition> definitions = ImmutableList.builder();
+    for (int i = 0; i < typeCodes.length; i++) {
+      String name = (i == typeCodes.length - 1) ? "k" : "c" + i;
+      definitions.add(
+          new DefaultColumnDefinition(
+              new ColumnSpec("ks", "foo", name, i, RawType.PRIMITIVES.get(typeCodes[i])),
+              AttachmentPoint.NONE));
+    }
+    return DefaultColumnDefinitions.valueOf(definitions.build());
+  }
+}
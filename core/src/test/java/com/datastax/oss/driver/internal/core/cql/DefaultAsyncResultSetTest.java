@@ -19,18 +19,22 @@ package com.datastax.oss.driver.internal.core.cql;
 
 import static com.datastax.oss.driver.Assertions.assertThat;
 import static com.datastax.oss.driver.Assertions.assertThatStage;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.DefaultProtocolVersion;
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ColumnarPage;
 import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
 import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.type.DataType;
 import com.datastax.oss.driver.api.core.type.DataTypes;
 import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
 import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
@@ -192,4 +196,88 @@ public class DefaultAsyncResultSetTest {
     // Then
     resultSet.wasApplied();
   }
+
+  @Test
+  public void should_consume_columns_into_primitive_arrays() {
+    // Given
+    mockColumn(0, "l", DataTypes.BIGINT);
+    mockColumn(1, "i", DataTypes.INT);
+    mockColumn(2, "d", DataTypes.DOUBLE);
+    Queue<List<ByteBuffer>> data = new ArrayDeque<>();
+    data.add(row(1L, 2, 3.0));
+    data.add(row(null, 5, null));
+    data.add(row(7L, null, 9.0));
+
+    // When
+    DefaultAsyncResultSet resultSet =
+        new DefaultAsyncResultSet(columnDefinitions, executionInfo, data, session, context);
+    ColumnarPage page = resultSet.consumeColumns(0, 1, 2);
+
+    // Then
+    assertThat(page.getRowCount()).isEqualTo(3);
+    assertThat(page.getColumnCount()).isEqualTo(3);
+    assertThat(page.getLongs(0)).containsExactly(1L, 0L, 7L);
+    assertThat(page.getInts("i")).containsExactly(2, 5, 0);
+    assertThat(page.getDoubles(2)).containsExactly(3.0, 0.0, 9.0);
+    assertThat(page.isNull(0, 1)).isTrue();
+    assertThat(page.isNull(0, 0)).isFalse();
+    assertThat(page.getNulls(1).cardinality()).isEqualTo(1);
+    assertThat(page.getNulls(1).get(2)).isTrue();
+    assertThat(resultSet.remaining()).isEqualTo(0);
+    assertThat(resultSet.currentPage().iterator().hasNext()).isFalse();
+  }
+
+  @Test
+  public void should_include_peeked_row_when_consuming_columns() {
+    // Given
+    mockColumn(0, "l", DataTypes.BIGINT);
+    mockColumn(1, "i", DataTypes.INT);
+    mockColumn(2, "d", DataTypes.DOUBLE);
+    Queue<List<ByteBuffer>> data = new ArrayDeque<>();
+    data.add(row(1L, 2, 3.0));
+    data.add(row(4L, 5, 6.0));
+
+    // When
+    DefaultAsyncResultSet resultSet =
+        new DefaultAsyncResultSet(columnDefinitions, executionInfo, data, session, context);
+    assertThat(resultSet.currentPage().iterator().hasNext()).isTrue();
+    ColumnarPage page = resultSet.consumeColumns(2, 0);
+
+    // Then
+    assertThat(page.getRowCount()).isEqualTo(2);
+    assertThat(page.getDoubles(0)).containsExactly(3.0, 6.0);
+    assertThat(page.getLongs(1)).containsExactly(1L, 4L);
+    assertThat(resultSet.remaining()).isEqualTo(0);
+  }
+
+  @Test
+  public void should_fail_to_consume_column_of_unsupported_type() {
+    // Given
+    mockColumn(0, "t", DataTypes.TEXT);
+
+    // When
+    DefaultAsyncResultSet resultSet =
+        new DefaultAsyncResultSet(
+            columnDefinitions, executionInfo, new ArrayDeque<>(), session, context);
+
+    // Then
+    assertThatThrownBy(() -> resultSet.consumeColumns(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("only bigint, counter, int and double columns");
+  }
+
+  private void mockColumn(int index, String name, DataType type) {
+    ColumnDefinition columnDefinition = mock(ColumnDefinition.class);
+    when(columnDefinition.getName()).thenReturn(CqlIdentifier.fromInternal(name));
+    when(columnDefinition.getType()).thenReturn(type);
+    when(columnDefinitions.get(index)).thenReturn(columnDefinition);
+    when(columnDefinitions.firstIndexOf(name)).thenReturn(index);
+  }
+
+  private static List<ByteBuffer> row(Long l, Integer i, Double d) {
+    return Lists.newArrayList(
+        TypeCodecs.BIGINT.encode(l, DefaultProtocolVersion.DEFAULT),
+        TypeCodecs.INT.encode(i, DefaultProtocolVersion.DEFAULT),
+        TypeCodecs.DOUBLE.encode(d, DefaultProtocolVersion.DEFAULT));
+  }
 }
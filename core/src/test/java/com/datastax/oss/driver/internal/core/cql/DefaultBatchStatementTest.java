@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.cql;
+
+import static com.datastax.oss.driver.Assertions.assertThat;
+import static com.datastax.oss.driver.internal.core.cql.DefaultBoundStatementTest.newPreparedStatement;
+
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.metadata.token.Token;
+import com.datastax.oss.driver.internal.core.metadata.token.Murmur3Token;
+import com.datastax.oss.driver.internal.core.metadata.token.Murmur3TokenFactory;
+import com.datastax.oss.driver.internal.core.metadata.token.TokenFactory;
+import com.datastax.oss.protocol.internal.util.Bytes;
+import java.nio.ByteBuffer;
+import org.junit.Test;
+
+public class DefaultBatchStatementTest {
+
+  private static final TokenFactory TOKEN_FACTORY = new Murmur3TokenFactory();
+
+  @Test
+  public void should_prefer_explicit_routing_key_over_child_token() {
+    ByteBuffer batchKey = Bytes.fromHexString("0x00000042");
+    BatchStatement batch =
+        BatchStatement.newInstance(
+                BatchType.UNLOGGED,
+                newPreparedStatement(TOKEN_FACTORY).bind(1, 2),
+                SimpleStatement.newInstance("mock query").setRoutingToken(new Murmur3Token(1)))
+            .setRoutingKey(batchKey);
+
+    assertThat(batch.getRoutingToken()).isNull();
+    assertThat(batch.getRoutingKey()).isEqualTo(batchKey);
+  }
+
+  @Test
+  public void should_prefer_explicit_routing_token() {
+    Token batchToken = new Murmur3Token(42);
+    BatchStatement batch =
+        BatchStatement.newInstance(
+                BatchType.UNLOGGED, newPreparedStatement(TOKEN_FACTORY).bind(1, 2))
+            .setRoutingKey(Bytes.fromHexString("0x00000042"))
+            .setRoutingToken(batchToken);
+
+    assertThat(batch.getRoutingToken()).isEqualTo(batchToken);
+  }
+
+  @Test
+  public void should_use_computed_token_of_bound_child_with_routing_key() {
+    BoundStatement child = newPreparedStatement(TOKEN_FACTORY).bind(1, 2);
+    BatchStatement batch = BatchStatement.newInstance(BatchType.UNLOGGED, child);
+
+    assertThat(batch.getRoutingKey()).isEqualTo(Bytes.fromHexString("0x00000001"));
+    assertThat(batch.getRoutingToken())
+        .isEqualTo(TOKEN_FACTORY.hash(Bytes.fromHexString("0x00000001")))
+        .isSameAs(child.getRoutingToken());
+  }
+
+  @Test
+  public void should_route_mixed_batch_with_first_child_that_has_routing_key() {
+    ByteBuffer simpleKey = Bytes.fromHexString("0x00000042");
+    BatchStatement batch =
+        BatchStatement.newInstance(
+            BatchType.UNLOGGED,
+            SimpleStatement.newInstance("mock query"),
+            SimpleStatement.newInstance("mock query").setRoutingKey(simpleKey),
+            newPreparedStatement(TOKEN_FACTORY).bind(1, 2));
+
+    // The simple statement comes first: its key must be used, not the token of the bound statement
+    assertThat(batch.getRoutingKey()).isEqualTo(simpleKey);
+    assertThat(batch.getRoutingToken()).isNull();
+  }
+
+  @Test
+  public void should_use_explicit_token_of_child_in_mixed_batch() {
+    Token childToken = new Murmur3Token(42);
+    BatchStatement batch =
+        BatchStatement.newInstance(
+            BatchType.UNLOGGED,
+            newPreparedStatement(TOKEN_FACTORY).bind(1, 2),
+            SimpleStatement.newInstance("mock query").setRoutingToken(childToken));
+
+    assertThat(batch.getRoutingToken()).isEqualTo(childToken);
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.cql;
+
+import static com.datastax.oss.driver.Assertions.assertThat;
+
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.detach.AttachmentPoint;
+import com.datastax.oss.driver.api.core.metadata.token.Token;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.internal.core.metadata.token.Murmur3Token;
+import com.datastax.oss.driver.internal.core.metadata.token.Murmur3TokenFactory;
+import com.datastax.oss.driver.internal.core.metadata.token.TokenFactory;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
+import com.datastax.oss.protocol.internal.response.result.ColumnSpec;
+import com.datastax.oss.protocol.internal.response.result.RawType;
+import com.datastax.oss.protocol.internal.util.Bytes;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import org.junit.Test;
+
+public class DefaultBoundStatementTest {
+
+  private static final TokenFactory TOKEN_FACTORY = new Murmur3TokenFactory();
+
+  @Test
+  public void should_compute_and_cache_routing_key_and_token() {
+    BoundStatement statement = newPreparedStatement(TOKEN_FACTORY).bind(1, 2);
+
+    ByteBuffer routingKey = statement.getRoutingKey();
+    assertThat(routingKey).isEqualTo(Bytes.fromHexString("0x00000001"));
+    assertThat(statement.getRoutingKey()).isSameAs(routingKey);
+
+    Token token = statement.getRoutingToken();
+    assertThat(token).isEqualTo(TOKEN_FACTORY.hash(routingKey));
+    assertThat(statement.getRoutingToken()).isSameAs(token);
+  }
+
+  @Test
+  public void should_recompute_routing_token_when_values_change() {
+    BoundStatement statement = newPreparedStatement(TOKEN_FACTORY).bind(1, 2);
+    Token token1 = statement.getRoutingToken();
+
+    statement = statement.setInt(0, 3);
+    Token token3 = statement.getRoutingToken();
+
+    assertThat(token3).isNotEqualTo(token1);
+    assertThat(token3).isEqualTo(TOKEN_FACTORY.hash(Bytes.fromHexString("0x00000003")));
+  }
+
+  @Test
+  public void should_not_compute_routing_token_if_token_factory_unknown() {
+    BoundStatement statement = newPreparedStatement(null).bind(1, 2);
+
+    assertThat(statement.getRoutingKey()).isEqualTo(Bytes.fromHexString("0x00000001"));
+    assertThat(statement.getRoutingToken()).isNull();
+  }
+
+  @Test
+  public void should_prefer_explicit_routing_token() {
+    Token explicitToken = new Murmur3Token(42);
+    BoundStatement statement =
+        newPreparedStatement(TOKEN_FACTORY).bind(1, 2).setRoutingToken(explicitToken);
+
+    assertThat(statement.getRoutingToken()).isEqualTo(explicitToken);
+  }
+
+  @Test
+  public void should_not_freeze_computed_routing_information_in_builder() {
+    BoundStatement template = newPreparedStatement(TOKEN_FACTORY).bind(1, 2);
+    template.getRoutingToken();
+
+    BoundStatement statement = new BoundStatementBuilder(template).setInt(0, 3).build();
+
+    assertThat(statement.getRoutingKey()).isEqualTo(Bytes.fromHexString("0x00000003"));
+    assertThat(statement.getRoutingToken())
+        .isEqualTo(TOKEN_FACTORY.hash(Bytes.fromHexString("0x00000003")));
+  }
+
+  @Test
+  public void should_bind_values_and_options_with_consumer() {
+    PreparedStatement preparedStatement = newPreparedStatement(TOKEN_FACTORY);
+
+    BoundStatement statement =
+        preparedStatement.bind(builder -> builder.setInt("k", 1).setInt("v", 2).setPageSize(10));
+
+    assertThat(statement.getPreparedStatement()).isSameAs(preparedStatement);
+    assertThat(statement.getValues()).isEqualTo(preparedStatement.bind(1, 2).getValues());
+    assertThat(statement.getInt("k")).isEqualTo(1);
+    assertThat(statement.getInt("v")).isEqualTo(2);
+    assertThat(statement.getPageSize()).isEqualTo(10);
+    assertThat(statement.getRoutingToken())
+        .isEqualTo(TOKEN_FACTORY.hash(Bytes.fromHexString("0x00000001")));
+  }
+
+  @Test
+  public void should_leave_variables_unset_if_consumer_does_not_set_them() {
+    BoundStatement statement =
+        newPreparedStatement(TOKEN_FACTORY).bind(builder -> builder.setInt("k", 1));
+
+    assertThat(statement.isSet("k")).isTrue();
+    assertThat(statement.isSet("v")).isFalse();
+  }
+
+  static PreparedStatement newPreparedStatement(TokenFactory tokenFactory) {
+    ImmutableList.Builder<ColumnDefinition> definitions = ImmutableList.builder();
+    for (String name : ImmutableList.of("k", "v")) {
+      definitions.add(
+          new DefaultColumnDefinition(
+              new ColumnSpec(
+                  "ks",
+                  "foo",
+                  name,
+                  name.equals("k") ? 0 : 1,
+                  RawType.PRIMITIVES.get(ProtocolConstants.DataType.INT)),
+              AttachmentPoint.NONE));
+    }
+    return new DefaultPreparedStatement(
+        Bytes.fromHexString("0xcafebabe"),
+        "INSERT INTO foo (k, v) VALUES (?, ?)",
+        DefaultColumnDefinitions.valueOf(definitions.build()),
+        Collections.singletonList(0),
+        null,
+        DefaultColumnDefinitions.valueOf(ImmutableList.of()),
+        null,
+        Collections.emptyMap(),
+        null,
+        null,
+        null,
+        null,
+        null,
+        Collections.emptyMap(),
+        null,
+        null,
+        null,
+        Integer.MIN_VALUE,
+        null,
+        null,
+        false,
+        CodecRegistry.DEFAULT,
+        ProtocolVersion.DEFAULT,
+        tokenFactory);
+  }
+}
@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.cql;
+
+import static com.datastax.oss.driver.Assertions.assertThat;
+import static com.datastax.oss.driver.Assertions.assertThatStage;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.NoNodeAvailableException;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BulkWriteListener;
+import com.datastax.oss.driver.api.core.cql.BulkWriteOptions;
+import com.datastax.oss.driver.api.core.cql.BulkWriteProgress;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.loadbalancing.NodeDistance;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.metadata.NodeState;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.datastax.oss.driver.api.core.metadata.token.Token;
+import com.datastax.oss.driver.api.core.servererrors.WriteTimeoutException;
+import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.driver.internal.core.context.NettyOptions;
+import com.datastax.oss.driver.internal.core.metadata.token.Murmur3Token;
+import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableSet;
+import io.netty.channel.DefaultEventLoopGroup;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class DefaultBulkWriterTest {
+
+  private static final CqlIdentifier KEYSPACE = CqlIdentifier.fromInternal("ks");
+  private static final Token TOKEN = new Murmur3Token(42);
+
+  @Mock private CqlSession session;
+  @Mock private InternalDriverContext context;
+  @Mock private NettyOptions nettyOptions;
+  @Mock private Metadata metadata;
+  @Mock private TokenMap tokenMap;
+  @Mock private Node node1;
+  @Mock private Node node2;
+  @Mock private AsyncResultSet resultSet;
+
+  private DefaultEventLoopGroup adminEventLoopGroup;
+  private List<Statement<?>> executed;
+  private List<CompletableFuture<AsyncResultSet>> results;
+
+  @Before
+  public void setup() {
+    MockitoAnnotations.initMocks(this);
+
+    adminEventLoopGroup = new DefaultEventLoopGroup(1);
+    when(nettyOptions.adminEventExecutorGroup()).thenReturn(adminEventLoopGroup);
+    when(context.getNettyOptions()).thenReturn(nettyOptions);
+    when(session.getContext()).thenReturn(context);
+    when(session.getName()).thenReturn("test");
+    when(session.getMetadata()).thenReturn(metadata);
+    when(metadata.getTokenMap()).thenReturn(Optional.of(tokenMap));
+    when(tokenMap.getReplicas(KEYSPACE, TOKEN)).thenReturn(ImmutableSet.of(node1, node2));
+    for (Node node : ImmutableSet.of(node1, node2)) {
+      when(node.getState()).thenReturn(NodeState.UP);
+      when(node.getDistance()).thenReturn(NodeDistance.LOCAL);
+    }
+
+    // By default, requests stay in flight until the test completes them
+    executed = new ArrayList<>();
+    results = new ArrayList<>();
+    when(session.executeAsync(any(Statement.class)))
+        .thenAnswer(
+            invocation -> {
+              executed.add(invocation.getArgument(0));
+              CompletableFuture<AsyncResultSet> result = new CompletableFuture<>();
+              results.add(result);
+              return result;
+            });
+  }
+
+  @After
+  public void teardown() {
+    adminEventLoopGroup.shutdownGracefully(100, 200, TimeUnit.MILLISECONDS);
+  }
+
+  @Test
+  public void should_send_to_least_busy_replica_and_bound_in_flight_per_node() {
+    DefaultBulkWriter writer =
+        new DefaultBulkWriter(
+            session, BulkWriteOptions.builder().withMaxInFlightPerNode(1).build());
+
+    for (int i = 0; i < 3; i++) {
+      assertThatStage(writer.writeAsync(routedStatement(i))).isSuccess();
+    }
+
+    assertThat(executed).hasSize(2);
+    assertThat(executed.get(0).getNode()).isEqualTo(node1);
+    assertThat(executed.get(1).getNode()).isEqualTo(node2);
+    assertProgress(writer.getProgress(), 0, 0, 2, 1);
+
+    results.get(0).complete(resultSet);
+
+    assertThat(executed).hasSize(3);
+    assertThat(executed.get(2).getNode()).isEqualTo(node1);
+    assertProgress(writer.getProgress(), 1, 0, 2, 0);
+  }
+
+  @Test
+  public void should_apply_backpressure_when_queue_is_full() {
+    DefaultBulkWriter writer =
+        new DefaultBulkWriter(
+            session, BulkWriteOptions.builder().withMaxInFlight(1).withMaxQueued(1).build());
+
+    assertThatStage(writer.writeAsync(routedStatement(0))).isSuccess();
+    CompletionStage<Void> accepted = writer.writeAsync(routedStatement(1));
+    assertThatStage(accepted).isNotDone();
+
+    results.get(0).complete(resultSet);
+
+    assertThatStage(accepted).isSuccess();
+    assertThat(executed).hasSize(2);
+  }
+
+  @Test
+  public void should_abort_when_too_many_failures() {
+    WriteTimeoutException error = mock(WriteTimeoutException.class);
+    DefaultBulkWriter writer =
+        new DefaultBulkWriter(session, BulkWriteOptions.builder().withMaxFailures(1).build());
+    writer.writeAsync(routedStatement(0));
+    writer.writeAsync(routedStatement(1));
+    writer.writeAsync(routedStatement(2));
+
+    results.get(0).completeExceptionally(error);
+    assertThatStage(writer.writeAsync(routedStatement(3))).isSuccess();
+    results.get(1).completeExceptionally(error);
+
+    assertThatStage(writer.writeAsync(routedStatement(4)))
+        .isFailed(e -> assertThat(e).isEqualTo(error));
+    CompletionStage<BulkWriteProgress> done = writer.closeAsync();
+    assertThatStage(done).isNotDone();
+
+    results.get(2).complete(resultSet);
+    results.get(3).complete(resultSet);
+
+    assertThatStage(done).isFailed(e -> assertThat(e).isEqualTo(error));
+    assertProgress(writer.getProgress(), 2, 2, 0, 0);
+  }
+
+  @Test
+  public void should_send_without_node_if_replica_not_available() {
+    DefaultBulkWriter writer = new DefaultBulkWriter(session, BulkWriteOptions.builder().build());
+
+    writer.writeAsync(routedStatement(0));
+    results.get(0).completeExceptionally(new NoNodeAvailableException());
+
+    assertThat(executed).hasSize(2);
+    assertThat(executed.get(0).getNode()).isEqualTo(node1);
+    assertThat(executed.get(1).getNode()).isNull();
+
+    results.get(1).complete(resultSet);
+    assertThatStage(writer.closeAsync())
+        .isSuccess(progress -> assertProgress(progress, 1, 0, 0, 0));
+  }
+
+  @Test
+  public void should_let_load_balancing_policy_route_statements_without_routing_information() {
+    DefaultBulkWriter writer =
+        new DefaultBulkWriter(
+            session, BulkWriteOptions.builder().withMaxInFlightPerNode(1).build());
+
+    for (int i = 0; i < 3; i++) {
+      writer.writeAsync(SimpleStatement.newInstance("INSERT " + i));
+    }
+
+    // Only the global limit applies
+    assertThat(executed).hasSize(3);
+    for (Statement<?> statement : executed) {
+      assertThat(statement.getNode()).isNull();
+    }
+  }
+
+  @Test
+  public void should_notify_listener() {
+    BulkWriteListener listener = mock(BulkWriteListener.class);
+    WriteTimeoutException error = mock(WriteTimeoutException.class);
+    when(session.executeAsync(any(Statement.class)))
+        .thenReturn(
+            CompletableFuture.completedFuture(resultSet), CompletableFutures.failedFuture(error));
+
+    BulkWriteProgress progress =
+        DefaultBulkWriter.writeAll(
+            new DefaultBulkWriter(
+                session,
+                BulkWriteOptions.builder()
+                    .withMaxFailures(Long.MAX_VALUE)
+                    .withListener(listener)
+                    .build()),
+            Stream.of(routedStatement(0), routedStatement(1)));
+
+    assertProgress(progress, 1, 1, 0, 0);
+    verify(listener).onWriteFailed(any(Statement.class), eq(error));
+    verify(listener).onProgress(any(BulkWriteProgress.class));
+  }
+
+  @Test
+  public void should_report_final_progress_if_session_context_is_not_internal() {
+    when(session.getContext()).thenReturn(mock(DriverContext.class));
+    when(session.executeAsync(any(Statement.class)))
+        .thenReturn(CompletableFuture.completedFuture(resultSet));
+    BulkWriteListener listener = mock(BulkWriteListener.class);
+
+    BulkWriteProgress progress =
+        DefaultBulkWriter.writeAll(
+            new DefaultBulkWriter(
+                session, BulkWriteOptions.builder().withListener(listener).build()),
+            Stream.of(routedStatement(0)));
+
+    assertProgress(progress, 1, 0, 0, 0);
+    verify(listener).onProgress(progress);
+  }
+
+  private static Statement<?> routedStatement(int i) {
+    return SimpleStatement.newInstance("INSERT " + i)
+        .setRoutingKeyspace(KEYSPACE)
+        .setRoutingToken(TOKEN);
+  }
+
+  private static void assertProgress(
+      BulkWriteProgress progress, long written, long failed, int inFlight, int queued) {
+    assertThat(progress.getWritten()).isEqualTo(written);
+    assertThat(progress.getFailed()).isEqualTo(failed);
+    assertThat(progress.getInFlight()).isEqualTo(inFlight);
+    assertThat(progress.getQueued()).isEqualTo(queued);
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.cql;
+
+import static com.datastax.oss.driver.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.DefaultProtocolVersion;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ColumnarPage;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.driver.shaded.guava.common.collect.Lists;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+/**
+ * Covers {@link ResultSet#consumeColumns(int...)} on the synchronous result sets. Unlike {@link
+ * ResultSetsTest}, the pages are real {@link DefaultAsyncResultSet} instances, since the
+ * synchronous result sets delegate to them.
+ */
+public class ResultSetsConsumeColumnsTest {
+
+  @Mock private ColumnDefinitions columnDefinitions;
+  @Mock private CqlSession session;
+  @Mock private InternalDriverContext context;
+
+  @Before
+  public void setup() {
+    MockitoAnnotations.initMocks(this);
+
+    ColumnDefinition columnDefinition = mock(ColumnDefinition.class);
+    when(columnDefinition.getName()).thenReturn(CqlIdentifier.fromInternal("l"));
+    when(columnDefinition.getType()).thenReturn(DataTypes.BIGINT);
+    when(columnDefinitions.get(0)).thenReturn(columnDefinition);
+    when(columnDefinitions.firstIndexOf("l")).thenReturn(0);
+
+    when(context.getCodecRegistry()).thenReturn(CodecRegistry.DEFAULT);
+    when(context.getProtocolVersion()).thenReturn(DefaultProtocolVersion.DEFAULT);
+  }
+
+  @Test
+  public void should_consume_columns_of_single_page() {
+    // Given
+    ResultSet resultSet = ResultSets.newInstance(page(null, 1L, 2L, 3L));
+    assertThat(resultSet).isInstanceOf(SinglePageResultSet.class);
+
+    // When
+    ColumnarPage page = resultSet.consumeColumns("l");
+
+    // Then
+    assertThat(page.getRowCount()).isEqualTo(3);
+    assertThat(page.getLongs(0)).containsExactly(1L, 2L, 3L);
+    assertThat(resultSet.getAvailableWithoutFetching()).isEqualTo(0);
+    assertThat(resultSet.iterator().hasNext()).isFalse();
+    assertThat(resultSet.consumeColumns("l").getRowCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void should_consume_remaining_columns_of_single_page_after_iterating() {
+    // Given
+    ResultSet resultSet = ResultSets.newInstance(page(null, 1L, 2L, 3L));
+    Iterator<Row> rows = resultSet.iterator();
+    assertThat(rows.next().getLong(0)).isEqualTo(1L);
+    // Peek at the next row without consuming it
+    assertThat(rows.hasNext()).isTrue();
+
+    // When
+    ColumnarPage page = resultSet.consumeColumns(0);
+
+    // Then
+    assertThat(page.getLongs(0)).containsExactly(2L, 3L);
+    assertThat(rows.hasNext()).isFalse();
+  }
+
+  @Test
+  public void should_consume_columns_page_by_page_across_page_boundaries() {
+    // Given
+    AsyncResultSet page3 = page(null, 5L, 6L);
+    AsyncResultSet page2 = page(page3, 4L);
+    AsyncResultSet page1 = page(page2, 1L, 2L, 3L);
+    ResultSet resultSet = ResultSets.newInstance(page1);
+    assertThat(resultSet).isInstanceOf(MultiPageResultSet.class);
+
+    // When/Then
+    ColumnarPage page = resultSet.consumeColumns("l");
+    assertThat(page.getLongs(0)).containsExactly(1L, 2L, 3L);
+    assertThat(resultSet.getAvailableWithoutFetching()).isEqualTo(0);
+    assertThat(resultSet.isFullyFetched()).isFalse();
+
+    // Fetches page2
+    page = resultSet.consumeColumns("l");
+    assertThat(page.getLongs(0)).containsExactly(4L);
+    assertThat(resultSet.getAvailableWithoutFetching()).isEqualTo(0);
+
+    // Fetches page3
+    page = resultSet.consumeColumns("l");
+    assertThat(page.getLongs(0)).containsExactly(5L, 6L);
+    assertThat(resultSet.getAvailableWithoutFetching()).isEqualTo(0);
+    assertThat(resultSet.isFullyFetched()).isTrue();
+
+    assertThat(resultSet.consumeColumns("l").getRowCount()).isEqualTo(0);
+    assertThat(resultSet.iterator().hasNext()).isFalse();
+    assertThat(resultSet.getExecutionInfos())
+        .containsExactly(
+            page1.getExecutionInfo(), page2.getExecutionInfo(), page3.getExecutionInfo());
+  }
+
+  @Test
+  public void should_mix_iteration_and_consumption_across_page_boundaries() {
+    // Given
+    AsyncResultSet page3 = page(null, 5L, 6L);
+    AsyncResultSet page2 = page(page3, 3L, 4L);
+    AsyncResultSet page1 = page(page2, 1L, 2L);
+    ResultSet resultSet = ResultSets.newInstance(page1);
+    Iterator<Row> rows = resultSet.iterator();
+
+    // When/Then
+    assertThat(rows.next().getLong(0)).isEqualTo(1L);
+    ColumnarPage page = resultSet.consumeColumns(0);
+    assertThat(page.getLongs(0)).containsExactly(2L);
+    assertThat(resultSet.getAvailableWithoutFetching()).isEqualTo(0);
+
+    // Peeking fetches page2, the peeked row must be included in the next columnar page
+    assertThat(rows.hasNext()).isTrue();
+    assertThat(resultSet.getAvailableWithoutFetching()).isEqualTo(2);
+    page = resultSet.consumeColumns(0);
+    assertThat(page.getLongs(0)).containsExactly(3L, 4L);
+    assertThat(resultSet.getAvailableWithoutFetching()).isEqualTo(0);
+
+    // Fetches page3
+    assertThat(resultSet.consumeColumns(0).getLongs(0)).containsExactly(5L, 6L);
+    assertThat(rows.hasNext()).isFalse();
+    assertThat(resultSet.consumeColumns(0).getRowCount()).isEqualTo(0);
+  }
+
+  /**
+   * Creates a page with a single BIGINT column. If {@code nextPage} is not null, the page has a
+   * paging state, and fetching the next page returns it.
+   */
+  @SuppressWarnings("unchecked")
+  private AsyncResultSet page(AsyncResultSet nextPage, Long... values) {
+    ExecutionInfo executionInfo = mock(ExecutionInfo.class);
+    if (nextPage != null) {
+      ByteBuffer pagingState = ByteBuffer.allocate(0);
+      Statement<?> statement = mock(Statement.class);
+      Statement<?> nextStatement = mock(Statement.class);
+      when(executionInfo.getPagingState()).thenReturn(pagingState);
+      when(executionInfo.getRequest()).thenAnswer(invocation -> statement);
+      when(((Statement) statement).copy(pagingState)).thenReturn(nextStatement);
+      when(session.executeAsync(nextStatement))
+          .thenAnswer(invocation -> CompletableFuture.completedFuture(nextPage));
+    }
+    Queue<List<ByteBuffer>> data = new ArrayDeque<>();
+    for (Long value : values) {
+      data.add(Lists.newArrayList(TypeCodecs.BIGINT.encode(value, DefaultProtocolVersion.DEFAULT)));
+    }
+    return new DefaultAsyncResultSet(columnDefinitions, executionInfo, data, session, context);
+  }
+}
@@ -0,0 +1,277 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.cql;
+
+import static com.datastax.oss.driver.Assertions.assertThat;
+import static com.datastax.oss.driver.Assertions.assertThatStage;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.cql.TableScan;
+import com.datastax.oss.driver.api.core.cql.TableScanHandler;
+import com.datastax.oss.driver.api.core.loadbalancing.NodeDistance;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.metadata.NodeState;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
+import com.datastax.oss.driver.api.core.servererrors.ReadTimeoutException;
+import com.datastax.oss.driver.internal.core.metadata.token.Murmur3Token;
+import com.datastax.oss.driver.internal.core.metadata.token.Murmur3TokenRange;
+import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class TableScannerTest {
+
+  private static final CqlIdentifier KEYSPACE = CqlIdentifier.fromInternal("ks");
+  private static final CqlIdentifier TABLE = CqlIdentifier.fromInternal("t");
+  private static final TokenRange RANGE1 = range(0, 100);
+  private static final TokenRange RANGE2 = range(100, 0); // wraps around the ring
+
+  @Mock private CqlSession session;
+  @Mock private Metadata metadata;
+  @Mock private TokenMap tokenMap;
+  @Mock private KeyspaceMetadata keyspaceMetadata;
+  @Mock private TableMetadata tableMetadata;
+  @Mock private ColumnMetadata partitionKeyColumn;
+  @Mock private PreparedStatement prepared;
+  @Mock private Node node1;
+  @Mock private Node node2;
+
+  private BoundStatement boundStatement;
+  private AsyncResultSet lastPage;
+  private RecordingHandler handler;
+
+  @Before
+  public void setup() {
+    MockitoAnnotations.initMocks(this);
+
+    when(session.getName()).thenReturn("test");
+    when(session.getMetadata()).thenReturn(metadata);
+    when(metadata.getTokenMap()).thenReturn(Optional.of(tokenMap));
+    when(metadata.getKeyspace(KEYSPACE)).thenReturn(Optional.of(keyspaceMetadata));
+    when(keyspaceMetadata.getTable(TABLE)).thenReturn(Optional.of(tableMetadata));
+    when(tableMetadata.getKeyspace()).thenReturn(KEYSPACE);
+    when(tableMetadata.getName()).thenReturn(TABLE);
+    when(partitionKeyColumn.getName()).thenReturn(CqlIdentifier.fromInternal("k"));
+    when(tableMetadata.getPartitionKey()).thenReturn(ImmutableList.of(partitionKeyColumn));
+
+    when(tokenMap.getTokenRanges()).thenReturn(ImmutableSet.of(RANGE1, RANGE2));
+    when(tokenMap.getReplicas(eq(KEYSPACE), any(TokenRange.class)))
+        .thenReturn(ImmutableSet.of(node1, node2));
+    for (Node node : ImmutableList.of(node1, node2)) {
+      when(node.getState()).thenReturn(NodeState.UP);
+      when(node.getDistance()).thenReturn(NodeDistance.LOCAL);
+    }
+
+    when(session.prepareAsync(anyString()))
+        .thenReturn(CompletableFuture.completedFuture(prepared));
+    // All the setters return the same instance, we only care about the calls
+    boundStatement = mock(BoundStatement.class, Answers.RETURNS_SELF);
+    when(prepared.bind()).thenReturn(boundStatement);
+
+    lastPage = mock(AsyncResultSet.class);
+    when(lastPage.currentPage()).thenReturn(ImmutableList.of(mock(Row.class)));
+    when(lastPage.hasMorePages()).thenReturn(false);
+
+    handler = new RecordingHandler();
+  }
+
+  @Test
+  public void should_build_query() {
+    assertThat(TableScanner.buildQuery(tableMetadata, ImmutableList.of()))
+        .isEqualTo("SELECT * FROM ks.t WHERE token(k) > ? AND token(k) <= ?");
+    assertThat(
+            TableScanner.buildQuery(
+                tableMetadata,
+                ImmutableList.of(
+                    CqlIdentifier.fromInternal("c1"), CqlIdentifier.fromInternal("C2"))))
+        .isEqualTo("SELECT c1,\"C2\" FROM ks.t WHERE token(k) > ? AND token(k) <= ?");
+  }
+
+  @Test
+  public void should_split_ranges_and_unwrap() {
+    List<TableScanner.Split> splits = TableScanner.computeSplits(tokenMap, KEYSPACE, 4);
+
+    // 2 splits per range, and one of the splits of RANGE2 wraps around the ring
+    assertThat(splits).hasSize(5);
+    for (TableScanner.Split split : splits) {
+      assertThat(split.range.isWrappedAround()).isFalse();
+      assertThat(split.replicas).containsOnly(node1, node2);
+    }
+  }
+
+  @Test
+  public void should_scan_all_splits() {
+    when(session.executeAsync(any(Statement.class)))
+        .thenReturn(CompletableFuture.completedFuture(lastPage));
+
+    TableScan scan = TableScan.builder(KEYSPACE, TABLE).withSplitCount(4).build();
+    assertThatStage(new TableScanner(session, scan, handler).run()).isSuccess();
+
+    assertThat(handler.pages).hasSize(5);
+    assertThat(handler.completedSplits).hasSize(5);
+    verify(session).prepareAsync("SELECT * FROM ks.t WHERE token(k) > ? AND token(k) <= ?");
+  }
+
+  @Test
+  public void should_fetch_next_page_when_handler_is_ready() {
+    AsyncResultSet firstPage = mock(AsyncResultSet.class);
+    when(firstPage.currentPage()).thenReturn(ImmutableList.of(mock(Row.class)));
+    when(firstPage.hasMorePages()).thenReturn(true);
+    when(firstPage.getExecutionInfo()).thenReturn(mock(ExecutionInfo.class));
+    when(session.executeAsync(any(Statement.class)))
+        .thenReturn(CompletableFuture.completedFuture(firstPage))
+        .thenReturn(CompletableFuture.completedFuture(lastPage));
+
+    CompletableFuture<Void> ready = new CompletableFuture<>();
+    handler.nextReady = ready;
+    TableScan scan =
+        TableScan.builder(KEYSPACE, TABLE).withSplitCount(1).withParallelism(1).build();
+    CompletionStage<Void> done = new TableScanner(session, scan, handler).run();
+
+    // The handler is not ready for the second page yet
+    verify(session, times(1)).executeAsync(any(Statement.class));
+    assertThatStage(done).isNotDone();
+
+    ready.complete(null);
+    assertThatStage(done).isSuccess();
+    // 3 splits (RANGE2 is unwrapped), plus the second page of the first one
+    verify(session, times(4)).executeAsync(any(Statement.class));
+  }
+
+  @Test
+  public void should_limit_concurrent_splits_per_node() {
+    when(node2.getState()).thenReturn(NodeState.DOWN);
+    List<CompletableFuture<AsyncResultSet>> queries = new ArrayList<>();
+    when(session.executeAsync(any(Statement.class)))
+        .thenAnswer(
+            invocation -> {
+              CompletableFuture<AsyncResultSet> query = new CompletableFuture<>();
+              queries.add(query);
+              return query;
+            });
+
+    TableScan scan =
+        TableScan.builder(KEYSPACE, TABLE)
+            .withSplitCount(4)
+            .withMaxConcurrentSplitsPerNode(2)
+            .build();
+    CompletionStage<Void> done = new TableScanner(session, scan, handler).run();
+
+    for (int i = 0; i < 5; i++) {
+      // Only node1 is up, so only 2 splits can be in flight
+      assertThat(queries).hasSize(Math.min(i + 2, 5));
+      queries.get(i).complete(lastPage);
+    }
+    assertThatStage(done).isSuccess();
+    verify(boundStatement, times(5)).setNode(node1);
+  }
+
+  @Test
+  public void should_retry_split_on_other_replica() {
+    when(session.executeAsync(any(Statement.class)))
+        .thenReturn(
+            CompletableFutures.failedFuture(mock(ReadTimeoutException.class)),
+            CompletableFuture.completedFuture(lastPage));
+
+    TableScan scan =
+        TableScan.builder(KEYSPACE, TABLE).withSplitCount(1).withParallelism(1).build();
+    // Only scan RANGE1
+    when(tokenMap.getTokenRanges()).thenReturn(ImmutableSet.of(RANGE1));
+    assertThatStage(new TableScanner(session, scan, handler).run()).isSuccess();
+
+    verify(boundStatement).setNode(node1);
+    verify(boundStatement).setNode(node2);
+    assertThat(handler.completedSplits).containsExactly(RANGE1);
+  }
+
+  @Test
+  public void should_fail_if_all_replicas_fail() {
+    ReadTimeoutException error = mock(ReadTimeoutException.class);
+    when(session.executeAsync(any(Statement.class)))
+        .thenReturn(CompletableFutures.failedFuture(error));
+    when(tokenMap.getTokenRanges()).thenReturn(ImmutableSet.of(RANGE1));
+
+    TableScan scan = TableScan.builder(KEYSPACE, TABLE).withSplitCount(1).build();
+    assertThatStage(new TableScanner(session, scan, handler).run())
+        .isFailed(e -> assertThat(e).isEqualTo(error));
+  }
+
+  @Test
+  public void should_fail_if_table_does_not_exist() {
+    when(keyspaceMetadata.getTable(TABLE)).thenReturn(Optional.empty());
+
+    TableScan scan = TableScan.builder(KEYSPACE, TABLE).build();
+    assertThatStage(new TableScanner(session, scan, handler).run())
+        .isFailed(e -> assertThat(e).isInstanceOf(IllegalArgumentException.class));
+  }
+
+  private static TokenRange range(long start, long end) {
+    return new Murmur3TokenRange(new Murmur3Token(start), new Murmur3Token(end));
+  }
+
+  private static class RecordingHandler implements TableScanHandler {
+    private final List<TokenRange> pages = new ArrayList<>();
+    private final List<TokenRange> completedSplits = new ArrayList<>();
+    private CompletableFuture<Void> nextReady;
+
+    @Override
+    public synchronized CompletionStage<Void> onPage(TokenRange split, Iterable<Row> rows) {
+      pages.add(split);
+      if (nextReady != null) {
+        CompletableFuture<Void> ready = nextReady;
+        nextReady = null;
+        return ready;
+      }
+      return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public synchronized void onSplitComplete(TokenRange split) {
+      completedSplits.add(split);
+    }
+  }
+}
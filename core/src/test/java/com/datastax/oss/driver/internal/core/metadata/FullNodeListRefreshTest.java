@@ -21,12 +21,16 @@ import static com.datastax.oss.driver.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
 import com.datastax.oss.driver.api.core.metadata.EndPoint;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
 import com.datastax.oss.driver.api.core.uuid.Uuids;
 import com.datastax.oss.driver.internal.core.channel.ChannelFactory;
 import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.driver.internal.core.metadata.token.Murmur3TokenFactory;
 import com.datastax.oss.driver.internal.core.metrics.MetricsFactory;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableSet;
 import java.util.Collections;
 import java.util.UUID;
 import org.junit.Before;
@@ -177,4 +181,74 @@ public class FullNodeListRefreshTest {
     assertThat(node2.getRack()).isEqualTo("rack2");
     assertThat(result.events).isEmpty();
   }
+
+  @Test
+  public void should_rebuild_token_map_if_tokens_of_existing_node_change() {
+    // Given
+    DefaultMetadata oldMetadata = newMetadataWithTokenMap();
+    Iterable<NodeInfo> newInfos =
+        ImmutableList.of(
+            DefaultNodeInfo.builder()
+                .withEndPoint(node1.getEndPoint())
+                .withHostId(node1.getHostId())
+                .withTokens(ImmutableSet.of("0"))
+                .build(),
+            DefaultNodeInfo.builder()
+                .withEndPoint(node2.getEndPoint())
+                .withHostId(node2.getHostId())
+                .withTokens(ImmutableSet.of("200"))
+                .build());
+    FullNodeListRefresh refresh = new FullNodeListRefresh(newInfos);
+
+    // When
+    MetadataRefresh.Result result = refresh.compute(oldMetadata, true, context);
+
+    // Then
+    assertThat(result.newMetadata.getTokenMap()).isPresent();
+    TokenMap tokenMap = result.newMetadata.getTokenMap().get();
+    assertThat(tokenMap.getTokenRanges(node2))
+        .containsExactly(tokenMap.newTokenRange(tokenMap.parse("0"), tokenMap.parse("200")));
+    assertThat(result.events).isEmpty();
+  }
+
+  @Test
+  public void should_not_rebuild_token_map_if_added_node_owns_no_tokens() {
+    // Given
+    DefaultMetadata oldMetadata = newMetadataWithTokenMap();
+    Iterable<NodeInfo> newInfos =
+        ImmutableList.of(
+            DefaultNodeInfo.builder()
+                .withEndPoint(node1.getEndPoint())
+                .withHostId(node1.getHostId())
+                .withTokens(ImmutableSet.of("0"))
+                .build(),
+            DefaultNodeInfo.builder()
+                .withEndPoint(node2.getEndPoint())
+                .withHostId(node2.getHostId())
+                .withTokens(ImmutableSet.of("100"))
+                .build(),
+            DefaultNodeInfo.builder()
+                .withEndPoint(endPoint3)
+                .withHostId(hostId3)
+                .withTokens(ImmutableSet.of())
+                .build());
+    FullNodeListRefresh refresh = new FullNodeListRefresh(newInfos);
+
+    // When
+    MetadataRefresh.Result result = refresh.compute(oldMetadata, true, context);
+
+    // Then
+    assertThat(result.newMetadata.getNodes())
+        .containsOnlyKeys(node1.getHostId(), node2.getHostId(), hostId3);
+    assertThat(result.newMetadata.getTokenMap().get()).isSameAs(oldMetadata.getTokenMap().get());
+  }
+
+  private DefaultMetadata newMetadataWithTokenMap() {
+    node1.rawTokens = ImmutableSet.of("0");
+    node2.rawTokens = ImmutableSet.of("100");
+    ImmutableMap<UUID, Node> nodes =
+        ImmutableMap.of(node1.getHostId(), node1, node2.getHostId(), node2);
+    return new DefaultMetadata(nodes, Collections.emptyMap(), null, null)
+        .withNodes(nodes, true, true, new Murmur3TokenFactory(), context);
+  }
 }
@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.metadata;
+
+import static com.datastax.oss.driver.Assertions.assertThat;
+import static com.datastax.oss.driver.Assertions.assertThatStage;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
+import com.datastax.oss.driver.api.core.config.DriverConfig;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.internal.core.context.EventBus;
+import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.driver.internal.core.context.NettyOptions;
+import com.datastax.oss.driver.internal.core.control.ControlConnection;
+import com.datastax.oss.driver.internal.core.metadata.schema.parsing.SchemaParser;
+import com.datastax.oss.driver.internal.core.metadata.schema.parsing.SchemaParserFactory;
+import com.datastax.oss.driver.internal.core.metadata.schema.queries.SchemaQueries;
+import com.datastax.oss.driver.internal.core.metadata.schema.queries.SchemaQueriesFactory;
+import com.datastax.oss.driver.internal.core.metadata.schema.queries.SchemaRows;
+import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefresh;
+import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefreshScope;
+import com.datastax.oss.driver.internal.core.metrics.MetricsFactory;
+import com.datastax.oss.driver.internal.core.util.concurrent.BlockingOperation;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
+import io.netty.channel.DefaultEventLoopGroup;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class MetadataManagerLazyKeyspacesTest {
+
+  private static final CqlIdentifier KS1_ID = CqlIdentifier.fromInternal("ks1");
+  private static final CqlIdentifier KS2_ID = CqlIdentifier.fromInternal("ks2");
+
+  @Mock private InternalDriverContext context;
+  @Mock private NettyOptions nettyOptions;
+  @Mock private TopologyMonitor topologyMonitor;
+  @Mock private ControlConnection controlConnection;
+  @Mock private DriverConfig config;
+  @Mock private DriverExecutionProfile defaultProfile;
+  @Mock private EventBus eventBus;
+  @Mock private SchemaQueriesFactory schemaQueriesFactory;
+  @Mock private SchemaQueries schemaQueries;
+  @Mock private SchemaRows schemaRows;
+  @Mock private SchemaParserFactory schemaParserFactory;
+  @Mock private SchemaParser schemaParser;
+  @Mock private SchemaRefresh schemaRefresh;
+  @Mock private MetricsFactory metricsFactory;
+  @Mock private KeyspaceMetadata keyspace1;
+  @Mock private KeyspaceMetadata keyspace2;
+
+  private DefaultEventLoopGroup adminEventLoopGroup;
+  private CompletableFuture<Void> controlConnectionInitFuture;
+  private AtomicReference<SchemaRefreshScope> lastScope;
+
+  private TestMetadataManager metadataManager;
+
+  @Before
+  public void setup() {
+    MockitoAnnotations.initMocks(this);
+
+    adminEventLoopGroup = new DefaultEventLoopGroup(1);
+    when(nettyOptions.adminEventExecutorGroup()).thenReturn(adminEventLoopGroup);
+    when(context.getNettyOptions()).thenReturn(nettyOptions);
+
+    when(defaultProfile.getDuration(DefaultDriverOption.METADATA_SCHEMA_WINDOW))
+        .thenReturn(Duration.ZERO);
+    when(defaultProfile.getInt(DefaultDriverOption.METADATA_SCHEMA_MAX_EVENTS)).thenReturn(1);
+    when(defaultProfile.getInt(DefaultDriverOption.METADATA_SCHEMA_PARSING_THREADS)).thenReturn(1);
+    when(defaultProfile.getBoolean(DefaultDriverOption.METADATA_SCHEMA_ENABLED)).thenReturn(true);
+    when(defaultProfile.getBoolean(DefaultDriverOption.METADATA_SCHEMA_LAZY_ENABLED))
+        .thenReturn(true);
+    when(defaultProfile.getInt(DefaultDriverOption.METADATA_SCHEMA_LAZY_MAX_KEYSPACES))
+        .thenReturn(1);
+    when(config.getDefaultProfile()).thenReturn(defaultProfile);
+    when(context.getConfig()).thenReturn(config);
+
+    when(context.getEventBus()).thenReturn(eventBus);
+    when(context.getMetricsFactory()).thenReturn(metricsFactory);
+
+    // A schema refresh that loads the requested keyspaces
+    when(context.getTopologyMonitor()).thenReturn(topologyMonitor);
+    when(topologyMonitor.refreshNodeList())
+        .thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
+    when(topologyMonitor.checkSchemaAgreement())
+        .thenReturn(CompletableFuture.completedFuture(true));
+    controlConnectionInitFuture = CompletableFuture.completedFuture(null);
+    when(controlConnection.init(false, true, false)).thenAnswer(i -> controlConnectionInitFuture);
+    when(context.getControlConnection()).thenReturn(controlConnection);
+    lastScope = new AtomicReference<>();
+    when(schemaQueriesFactory.newInstance(any(SchemaRefreshScope.class)))
+        .thenAnswer(
+            i -> {
+              lastScope.set(i.getArgument(0));
+              return schemaQueries;
+            });
+    when(schemaQueries.execute()).thenReturn(CompletableFuture.completedFuture(schemaRows));
+    when(schemaRows.scope()).thenAnswer(i -> lastScope.get());
+    when(schemaParserFactory.newInstance(schemaRows)).thenReturn(schemaParser);
+    when(schemaParser.parseAsync(any()))
+        .thenReturn(CompletableFuture.completedFuture(schemaRefresh));
+    when(schemaRefresh.withUnloadedKeyspaces(anySet())).thenReturn(schemaRefresh);
+    when(context.getSchemaQueriesFactory()).thenReturn(schemaQueriesFactory);
+    when(context.getSchemaParserFactory()).thenReturn(schemaParserFactory);
+
+    metadataManager =
+        new TestMetadataManager(
+            context,
+            new DefaultMetadata(
+                Collections.emptyMap(),
+                ImmutableMap.of(KS1_ID, keyspace1, KS2_ID, keyspace2),
+                null,
+                null));
+    // Schema refreshes are ignored until the first node list refresh
+    assertThatStage(metadataManager.refreshNodes()).isSuccess();
+  }
+
+  @After
+  public void teardown() {
+    adminEventLoopGroup.shutdownGracefully(100, 200, TimeUnit.MILLISECONDS);
+  }
+
+  @Test
+  public void should_load_keyspace_when_requested_from_application_thread() {
+    // When
+    Optional<KeyspaceMetadata> keyspace = metadataManager.getMetadata().getKeyspace(KS1_ID);
+
+    // Then
+    // the call blocked until the keyspace was loaded
+    assertThat(keyspace).containsSame(keyspace1);
+    assertThat(lastScope.get().getKeyspaces()).containsExactly("ks1");
+    assertThat(metadataManager.refreshes).contains(schemaRefresh);
+
+    // When
+    metadataManager.getMetadata().getKeyspace(KS1_ID);
+
+    // Then
+    // already loaded, no new refresh
+    verify(schemaQueriesFactory, times(1)).newInstance(any(SchemaRefreshScope.class));
+  }
+
+  @Test
+  public void should_not_block_when_requested_from_driver_thread() throws Exception {
+    // Given
+    controlConnectionInitFuture = new CompletableFuture<>();
+    CompletableFuture<Optional<KeyspaceMetadata>> result = new CompletableFuture<>();
+    Thread driverThread =
+        new BlockingOperation.SafeThreadFactory()
+            .newThread(() -> result.complete(metadataManager.getMetadata().getKeyspace(KS1_ID)));
+
+    // When
+    driverThread.start();
+
+    // Then
+    // the placeholder is returned right away, while the load is still pending
+    assertThat(result.get(500, TimeUnit.MILLISECONDS)).containsSame(keyspace1);
+    assertThat(metadataManager.refreshes).doesNotContain(schemaRefresh);
+
+    // When
+    controlConnectionInitFuture.complete(null);
+
+    // Then
+    await()
+        .atMost(500, TimeUnit.MILLISECONDS)
+        .until(() -> metadataManager.refreshes.contains(schemaRefresh));
+    assertThat(lastScope.get().getKeyspaces()).containsExactly("ks1");
+  }
+
+  @Test
+  public void should_unload_keyspace_when_evicted() {
+    // Given
+    metadataManager.getMetadata().getKeyspace(KS1_ID);
+
+    // When
+    // max-keyspaces is 1
+    metadataManager.getMetadata().getKeyspace(KS2_ID);
+
+    // Then
+    assertThat(lastScope.get().getKeyspaces()).containsExactly("ks2");
+    assertThat(metadataManager.refreshes)
+        .filteredOn(refresh -> refresh instanceof UnloadKeyspaceRefresh)
+        .extracting(refresh -> ((UnloadKeyspaceRefresh) refresh).keyspaceId)
+        .containsExactly(KS1_ID);
+  }
+
+  private static class TestMetadataManager extends MetadataManager {
+
+    private final List<MetadataRefresh> refreshes = new CopyOnWriteArrayList<>();
+
+    private TestMetadataManager(InternalDriverContext context, DefaultMetadata initialMetadata) {
+      super(context, initialMetadata);
+    }
+
+    @Override
+    Void apply(MetadataRefresh refresh) {
+      // Do not execute refreshes, just store them for inspection in the test
+      refreshes.add(refresh);
+      return null;
+    }
+  }
+}
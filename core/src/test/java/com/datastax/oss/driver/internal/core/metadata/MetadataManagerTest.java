@@ -89,6 +89,7 @@ public class MetadataManagerTest {
     when(defaultProfile.getDuration(DefaultDriverOption.METADATA_SCHEMA_WINDOW))
         .thenReturn(Duration.ZERO);
     when(defaultProfile.getInt(DefaultDriverOption.METADATA_SCHEMA_MAX_EVENTS)).thenReturn(1);
+    when(defaultProfile.getInt(DefaultDriverOption.METADATA_SCHEMA_PARSING_THREADS)).thenReturn(1);
     when(config.getDefaultProfile()).thenReturn(defaultProfile);
     when(context.getConfig()).thenReturn(config);
 
@@ -32,11 +32,13 @@ import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
 import com.datastax.oss.driver.api.core.metadata.Metadata;
 import com.datastax.oss.driver.api.core.metadata.Node;
 import com.datastax.oss.driver.api.core.metadata.NodeState;
+import com.datastax.oss.driver.api.core.metrics.DefaultSessionMetric;
 import com.datastax.oss.driver.internal.core.channel.ChannelEvent;
 import com.datastax.oss.driver.internal.core.context.EventBus;
 import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
 import com.datastax.oss.driver.internal.core.context.NettyOptions;
 import com.datastax.oss.driver.internal.core.metrics.MetricsFactory;
+import com.datastax.oss.driver.internal.core.metrics.SessionMetricUpdater;
 import com.datastax.oss.driver.internal.core.util.concurrent.BlockingOperation;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
@@ -66,6 +68,7 @@ public class NodeStateManagerTest {
   @Mock private NettyOptions nettyOptions;
   @Mock private MetadataManager metadataManager;
   @Mock protected MetricsFactory metricsFactory;
+  @Mock private SessionMetricUpdater sessionMetricUpdater;
   private DefaultNode node1, node2;
   private EventBus eventBus;
   private DefaultEventLoopGroup adminEventLoopGroup;
@@ -78,6 +81,9 @@ public class NodeStateManagerTest {
     when(defaultProfile.getDuration(DefaultDriverOption.METADATA_TOPOLOGY_WINDOW))
         .thenReturn(Duration.ofSeconds(0));
     when(defaultProfile.getInt(DefaultDriverOption.METADATA_TOPOLOGY_MAX_EVENTS)).thenReturn(1);
+    when(defaultProfile.getDuration(DefaultDriverOption.METADATA_NODE_STATE_WINDOW))
+        .thenReturn(Duration.ofSeconds(0));
+    when(defaultProfile.getInt(DefaultDriverOption.METADATA_NODE_STATE_MAX_EVENTS)).thenReturn(1);
     when(config.getDefaultProfile()).thenReturn(defaultProfile);
     when(context.getConfig()).thenReturn(config);
 
@@ -89,6 +95,7 @@ public class NodeStateManagerTest {
     when(context.getNettyOptions()).thenReturn(nettyOptions);
 
     when(context.getMetricsFactory()).thenReturn(metricsFactory);
+    when(metricsFactory.getSessionUpdater()).thenReturn(sessionMetricUpdater);
     node1 = TestNodeFactory.newNode(1, context);
     node2 = TestNodeFactory.newNode(2, context);
     ImmutableMap<UUID, Node> nodes =
@@ -518,6 +525,66 @@ public class NodeStateManagerTest {
     verify(eventBus, never()).fire(any(NodeStateEvent.class));
   }
 
+  @Test
+  public void should_coalesce_node_state_events() {
+    // Given
+    when(defaultProfile.getDuration(DefaultDriverOption.METADATA_NODE_STATE_WINDOW))
+        .thenReturn(Duration.ofMinutes(1));
+    when(defaultProfile.getInt(DefaultDriverOption.METADATA_NODE_STATE_MAX_EVENTS)).thenReturn(3);
+    new NodeStateManager(context);
+    node1.state = NodeState.UP;
+    node1.openConnections = 1;
+    node2.state = NodeState.UP;
+    node2.openConnections = 1;
+
+    // When
+    // node1 goes down and back up, node2 goes down. The third change triggers the flush.
+    eventBus.fire(ChannelEvent.reconnectionStarted(node1));
+    eventBus.fire(ChannelEvent.channelClosed(node1));
+    eventBus.fire(ChannelEvent.channelOpened(node1));
+    eventBus.fire(ChannelEvent.reconnectionStarted(node2));
+    eventBus.fire(ChannelEvent.channelClosed(node2));
+    waitForPendingAdminTasks();
+
+    // Then
+    assertThat(node1.state).isEqualTo(NodeState.UP);
+    assertThat(node2.state).isEqualTo(NodeState.DOWN);
+    verify(eventBus).fire(NodeStateEvent.changed(NodeState.UP, NodeState.DOWN, node2));
+    verify(eventBus, times(1)).fire(any(NodeStateEvent.class));
+    verify(sessionMetricUpdater, times(3))
+        .incrementCounter(DefaultSessionMetric.NODE_STATE_EVENTS_RECEIVED, null);
+    verify(sessionMetricUpdater)
+        .incrementCounter(DefaultSessionMetric.NODE_STATE_EVENTS_APPLIED, null, 1);
+  }
+
+  @Test
+  public void should_drop_pending_node_state_events_when_node_removed() {
+    // Given
+    when(defaultProfile.getDuration(DefaultDriverOption.METADATA_NODE_STATE_WINDOW))
+        .thenReturn(Duration.ofMinutes(1));
+    when(defaultProfile.getInt(DefaultDriverOption.METADATA_NODE_STATE_MAX_EVENTS)).thenReturn(2);
+    new NodeStateManager(context);
+    node1.state = NodeState.DOWN;
+    node2.state = NodeState.UP;
+    node2.openConnections = 1;
+
+    // When
+    // node1 comes back up, and gets removed within the same window
+    eventBus.fire(ChannelEvent.channelOpened(node1));
+    eventBus.fire(NodeStateEvent.removed(node1));
+    // node2 goes down and back up, the second change triggers the flush
+    eventBus.fire(ChannelEvent.reconnectionStarted(node2));
+    eventBus.fire(ChannelEvent.channelClosed(node2));
+    eventBus.fire(ChannelEvent.channelOpened(node2));
+    waitForPendingAdminTasks();
+
+    // Then
+    assertThat(node1.state).isEqualTo(NodeState.UP);
+    verify(sessionMetricUpdater)
+        .incrementCounter(DefaultSessionMetric.NODE_STATE_EVENTS_APPLIED, null, 0);
+    verify(eventBus, never()).fire(NodeStateEvent.changed(NodeState.DOWN, NodeState.UP, node1));
+  }
+
   @Test
   public void should_ignore_events_when_closed() throws Exception {
     NodeStateManager manager = new NodeStateManager(context);
@@ -22,6 +22,7 @@ import static com.datastax.oss.driver.Assertions.assertThatStage;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
@@ -33,7 +34,9 @@ import com.datastax.oss.driver.api.core.metadata.NodeState;
 import com.datastax.oss.driver.internal.core.adminrequest.AdminResult;
 import com.datastax.oss.driver.internal.core.adminrequest.AdminRow;
 import com.datastax.oss.driver.internal.core.channel.DriverChannel;
+import com.datastax.oss.driver.internal.core.context.EventBus;
 import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefreshScope;
 import com.datastax.oss.driver.internal.core.metrics.MetricsFactory;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
 import com.datastax.oss.driver.shaded.guava.common.collect.Iterators;
@@ -41,6 +44,7 @@ import com.tngtech.java.junit.dataprovider.DataProvider;
 import com.tngtech.java.junit.dataprovider.DataProviderRunner;
 import com.tngtech.java.junit.dataprovider.UseDataProvider;
 import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.ScheduledFuture;
 import java.time.Duration;
 import java.util.ArrayDeque;
 import java.util.Arrays;
@@ -75,17 +79,23 @@ public class SchemaAgreementCheckerTest {
   @Mock private Metadata metadata;
   @Mock private DefaultNode node1;
   @Mock private DefaultNode node2;
+  private EventBus eventBus;
 
   @Before
   public void setup() {
     MockitoAnnotations.initMocks(this);
     when(context.getMetricsFactory()).thenReturn(metricsFactory);
+    eventBus = new EventBus("test");
+    when(context.getEventBus()).thenReturn(eventBus);
 
     node1 = TestNodeFactory.newNode(1, context);
     node2 = TestNodeFactory.newNode(2, NODE_2_HOST_ID, context);
 
     when(defaultConfig.getDuration(DefaultDriverOption.CONTROL_CONNECTION_TIMEOUT))
         .thenReturn(Duration.ofSeconds(1));
+    when(defaultConfig.getDuration(
+            DefaultDriverOption.CONTROL_CONNECTION_AGREEMENT_INITIAL_INTERVAL))
+        .thenReturn(Duration.ofMillis(10));
     when(defaultConfig.getDuration(DefaultDriverOption.CONTROL_CONNECTION_AGREEMENT_INTERVAL))
         .thenReturn(Duration.ofMillis(200));
     when(defaultConfig.getDuration(DefaultDriverOption.CONTROL_CONNECTION_AGREEMENT_TIMEOUT))
@@ -112,7 +122,7 @@ public class SchemaAgreementCheckerTest {
             invocation -> { // Ignore delay and run immediately:
               Runnable task = invocation.getArgument(0);
               task.run();
-              return null;
+              return mock(ScheduledFuture.class);
             });
     when(channel.eventLoop()).thenReturn(eventLoop);
   }
@@ -243,6 +253,109 @@ public class SchemaAgreementCheckerTest {
     assertThatStage(future).isSuccess(b -> assertThat(b).isTrue());
   }
 
+  @Test
+  public void should_check_again_early_if_schema_change_received() {
+    // Given
+    ScheduledFuture<?> nextAttempt = mock(ScheduledFuture.class);
+    when(nextAttempt.getDelay(TimeUnit.NANOSECONDS)).thenReturn(TimeUnit.SECONDS.toNanos(10));
+    when(nextAttempt.cancel(false)).thenReturn(true);
+    // Never run the first scheduled attempt, it must get cancelled. Run the next ones immediately:
+    when(eventLoop.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class)))
+        .thenAnswer(invocation -> nextAttempt)
+        .thenAnswer(
+            invocation -> {
+              Runnable task = invocation.getArgument(0);
+              task.run();
+              return mock(ScheduledFuture.class);
+            });
+    TestSchemaAgreementChecker checker = new TestSchemaAgreementChecker(channel, context);
+    checker.stubQueries(
+        // First round
+        new StubbedQuery(
+            "SELECT schema_version FROM system.local WHERE key='local'",
+            mockResult(mockLocalRow(VERSION1))),
+        new StubbedQuery("SELECT * FROM system.peers", mockResult(mockValidPeerRow(VERSION2))),
+
+        // Second round
+        new StubbedQuery(
+            "SELECT schema_version FROM system.local WHERE key='local'",
+            mockResult(mockLocalRow(VERSION1))),
+        new StubbedQuery("SELECT * FROM system.peers", mockResult(mockValidPeerRow(VERSION1))));
+    CompletionStage<Boolean> future = checker.run();
+    assertThat(future.toCompletableFuture()).isNotDone();
+
+    // When
+    eventBus.fire(new SchemaChangeReceivedEvent(SchemaRefreshScope.forKeyspace("ks")));
+
+    // Then
+    assertThatStage(future).isSuccess(b -> assertThat(b).isTrue());
+  }
+
+  @Test
+  public void should_wait_initial_interval_after_previous_attempt_if_schema_change_received() {
+    // Given
+    long initialIntervalNs = TimeUnit.SECONDS.toNanos(10);
+    when(defaultConfig.getDuration(
+            DefaultDriverOption.CONTROL_CONNECTION_AGREEMENT_INITIAL_INTERVAL))
+        .thenReturn(Duration.ofNanos(initialIntervalNs));
+    when(defaultConfig.getDuration(DefaultDriverOption.CONTROL_CONNECTION_AGREEMENT_INTERVAL))
+        .thenReturn(Duration.ofMinutes(1));
+    when(defaultConfig.getDuration(DefaultDriverOption.CONTROL_CONNECTION_AGREEMENT_TIMEOUT))
+        .thenReturn(Duration.ofMinutes(5));
+    ScheduledFuture<?> firstAttempt = mock(ScheduledFuture.class);
+    ScheduledFuture<?> secondAttempt = mock(ScheduledFuture.class);
+    when(secondAttempt.getDelay(TimeUnit.NANOSECONDS)).thenReturn(initialIntervalNs * 2);
+    when(secondAttempt.cancel(false)).thenReturn(true);
+    ScheduledFuture<?> expeditedAttempt = mock(ScheduledFuture.class);
+    Queue<ScheduledFuture<?>> attempts =
+        new ArrayDeque<>(Arrays.asList(firstAttempt, secondAttempt, expeditedAttempt));
+    // Record the scheduled attempts instead of running them
+    Queue<Runnable> tasks = new ArrayDeque<>();
+    Queue<Long> delaysNs = new ArrayDeque<>();
+    when(eventLoop.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class)))
+        .thenAnswer(
+            invocation -> {
+              tasks.add(invocation.getArgument(0));
+              delaysNs.add(
+                  invocation.<TimeUnit>getArgument(2).toNanos(invocation.getArgument(1)));
+              return attempts.remove();
+            });
+    TestSchemaAgreementChecker checker = new TestSchemaAgreementChecker(channel, context);
+    checker.stubQueries(
+        // First round
+        new StubbedQuery(
+            "SELECT schema_version FROM system.local WHERE key='local'",
+            mockResult(mockLocalRow(VERSION1))),
+        new StubbedQuery("SELECT * FROM system.peers", mockResult(mockValidPeerRow(VERSION2))),
+        // Second round
+        new StubbedQuery(
+            "SELECT schema_version FROM system.local WHERE key='local'",
+            mockResult(mockLocalRow(VERSION1))),
+        new StubbedQuery("SELECT * FROM system.peers", mockResult(mockValidPeerRow(VERSION2))),
+        // Third round
+        new StubbedQuery(
+            "SELECT schema_version FROM system.local WHERE key='local'",
+            mockResult(mockLocalRow(VERSION1))),
+        new StubbedQuery("SELECT * FROM system.peers", mockResult(mockValidPeerRow(VERSION1))));
+    CompletionStage<Boolean> future = checker.run();
+    tasks.remove().run();
+    assertThat(delaysNs).containsExactly(initialIntervalNs, initialIntervalNs * 2);
+    delaysNs.clear();
+
+    // When
+    eventBus.fire(new SchemaChangeReceivedEvent(SchemaRefreshScope.forKeyspace("ks")));
+
+    // Then
+    // the second attempt was replaced, but not sooner than the initial interval after the first
+    verify(secondAttempt).cancel(false);
+    assertThat(delaysNs).hasSize(1);
+    assertThat(delaysNs.peek()).isBetween(initialIntervalNs / 2, initialIntervalNs);
+    assertThat(future.toCompletableFuture()).isNotDone();
+    tasks.remove(); // the cancelled attempt
+    tasks.remove().run();
+    assertThatStage(future).isSuccess(b -> assertThat(b).isTrue());
+  }
+
   @Test
   public void should_fail_if_versions_do_not_match_after_timeout() {
     // Given
@@ -0,0 +1,353 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.metadata.schema;
+
+import static com.datastax.oss.driver.Assertions.assertThat;
+
+import com.datastax.dse.driver.api.core.metadata.schema.DseGraphKeyspaceMetadata;
+import com.datastax.dse.driver.api.core.metadata.schema.DseGraphTableMetadata;
+import com.datastax.dse.driver.internal.core.metadata.schema.DefaultDseColumnMetadata;
+import com.datastax.dse.driver.internal.core.metadata.schema.DefaultDseFunctionMetadata;
+import com.datastax.dse.driver.internal.core.metadata.schema.DefaultDseKeyspaceMetadata;
+import com.datastax.dse.driver.internal.core.metadata.schema.DefaultDseTableMetadata;
+import com.datastax.dse.driver.internal.core.metadata.schema.DefaultDseVertexMetadata;
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.detach.AttachmentPoint;
+import com.datastax.oss.driver.api.core.metadata.schema.AggregateMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.ClusteringOrder;
+import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.FunctionMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.FunctionSignature;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.ViewMetadata;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.UserDefinedType;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.internal.core.type.UserDefinedTypeBuilder;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
+import com.datastax.oss.protocol.internal.util.Bytes;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SchemaSnapshotTest {
+
+  private static final CqlIdentifier KS_ID = CqlIdentifier.fromInternal("ks");
+  private static final CqlIdentifier K_ID = CqlIdentifier.fromInternal("k");
+  private static final CqlIdentifier V_ID = CqlIdentifier.fromInternal("v");
+  private static final UUID VERSION = UUID.randomUUID();
+
+  @Rule public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  @Mock private AttachmentPoint attachmentPoint;
+
+  private Path file;
+  private SchemaSnapshot snapshot;
+
+  @Before
+  public void setup() throws Exception {
+    file = tempFolder.getRoot().toPath().resolve("snapshots").resolve("schema.snapshot");
+    UserDefinedType type =
+        new UserDefinedTypeBuilder(KS_ID, CqlIdentifier.fromInternal("address"))
+            .withField("street", DataTypes.TEXT)
+            .build();
+    KeyspaceMetadata keyspace =
+        new DefaultKeyspaceMetadata(
+            KS_ID,
+            true,
+            false,
+            ImmutableMap.of("class", "org.apache.cassandra.locator.SimpleStrategy"),
+            ImmutableMap.of(type.getName(), type),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Collections.emptyMap());
+    snapshot =
+        new SchemaSnapshot(
+            "test cluster", ImmutableList.of("ks"), VERSION, ImmutableMap.of(KS_ID, keyspace));
+  }
+
+  @Test
+  public void should_load_saved_snapshot() throws Exception {
+    snapshot.save(file);
+
+    SchemaSnapshot loaded = SchemaSnapshot.load(file, attachmentPoint, "test");
+
+    assertThat(loaded).isNotNull();
+    assertThat(loaded.getSchemaVersion()).isEqualTo(VERSION);
+    assertThat(loaded.getKeyspaces()).isEqualTo(snapshot.getKeyspaces());
+    assertThat(loaded.matches("test cluster", ImmutableList.of("ks"))).isTrue();
+    UserDefinedType loadedType =
+        loaded.getKeyspaces().get(KS_ID).getUserDefinedType("address").orElse(null);
+    assertThat(loadedType).isNotNull();
+    assertThat(loadedType.getAttachmentPoint()).isSameAs(attachmentPoint);
+  }
+
+  @Test
+  public void should_replace_existing_snapshot() throws Exception {
+    snapshot.save(file);
+    UUID newVersion = UUID.randomUUID();
+    new SchemaSnapshot("test cluster", ImmutableList.of("ks"), newVersion, ImmutableMap.of())
+        .save(file);
+
+    SchemaSnapshot loaded = SchemaSnapshot.load(file, attachmentPoint, "test");
+
+    assertThat(loaded).isNotNull();
+    assertThat(loaded.getSchemaVersion()).isEqualTo(newVersion);
+    assertThat(loaded.getKeyspaces()).isEmpty();
+    // No temporary files left behind
+    try (Stream<Path> files = Files.list(file.getParent())) {
+      assertThat(files).containsExactly(file);
+    }
+  }
+
+  @Test
+  public void should_return_null_if_file_does_not_exist() {
+    assertThat(SchemaSnapshot.load(file, attachmentPoint, "test")).isNull();
+  }
+
+  @Test
+  public void should_return_null_if_file_is_corrupt() throws Exception {
+    Files.createDirectories(file.getParent());
+    Files.write(file, "not a snapshot".getBytes(StandardCharsets.UTF_8));
+
+    assertThat(SchemaSnapshot.load(file, attachmentPoint, "test")).isNull();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void should_return_null_if_file_contains_unexpected_class() throws Exception {
+    // Erasure lets us sneak a value of another type into the metadata
+    Map<String, String> replication = new HashMap<>();
+    ((Map<String, Object>) (Map<String, ?>) replication).put("class", new Date());
+    KeyspaceMetadata keyspace =
+        new DefaultKeyspaceMetadata(
+            KS_ID,
+            true,
+            false,
+            replication,
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Collections.emptyMap());
+    new SchemaSnapshot(
+            "test cluster", ImmutableList.of("ks"), VERSION, ImmutableMap.of(KS_ID, keyspace))
+        .save(file);
+
+    assertThat(SchemaSnapshot.load(file, attachmentPoint, "test")).isNull();
+  }
+
+  @Test
+  public void should_round_trip_tables_with_extensions_and_views() throws Exception {
+    CqlIdentifier tableId = CqlIdentifier.fromInternal("foo");
+    CqlIdentifier viewId = CqlIdentifier.fromInternal("foo_by_v");
+    ColumnMetadata k = new DefaultColumnMetadata(KS_ID, tableId, K_ID, DataTypes.INT, false);
+    ColumnMetadata v = new DefaultColumnMetadata(KS_ID, tableId, V_ID, DataTypes.TEXT, false);
+    ByteBuffer extension = Bytes.fromHexString("0xcafebabe");
+    TableMetadata table =
+        new DefaultTableMetadata(
+            KS_ID,
+            tableId,
+            UUID.randomUUID(),
+            false,
+            false,
+            ImmutableList.of(k),
+            ImmutableMap.of(),
+            ImmutableMap.of(K_ID, k, V_ID, v),
+            ImmutableMap.of(
+                CqlIdentifier.fromInternal("extensions"),
+                ImmutableMap.of("ext", extension),
+                CqlIdentifier.fromInternal("comment"),
+                "test table"),
+            ImmutableMap.of());
+    ColumnMetadata viewK = new DefaultColumnMetadata(KS_ID, viewId, K_ID, DataTypes.INT, false);
+    ColumnMetadata viewV = new DefaultColumnMetadata(KS_ID, viewId, V_ID, DataTypes.TEXT, false);
+    ViewMetadata view =
+        new DefaultViewMetadata(
+            KS_ID,
+            viewId,
+            tableId,
+            true,
+            "v IS NOT NULL AND k IS NOT NULL",
+            UUID.randomUUID(),
+            ImmutableList.of(viewV),
+            ImmutableMap.of(viewK, ClusteringOrder.ASC),
+            ImmutableMap.of(K_ID, viewK, V_ID, viewV),
+            ImmutableMap.of());
+    KeyspaceMetadata keyspace =
+        newKeyspace(
+            ImmutableMap.of(tableId, table),
+            ImmutableMap.of(viewId, view),
+            Collections.emptyMap(),
+            Collections.emptyMap());
+
+    KeyspaceMetadata loaded = roundTrip(keyspace);
+
+    assertThat(loaded).isEqualTo(keyspace);
+    Object extensions =
+        loaded.getTable(tableId).get().getOptions().get(CqlIdentifier.fromInternal("extensions"));
+    assertThat(((Map<?, ?>) extensions).get("ext")).isEqualTo(extension);
+    // Saving must not consume the original buffer
+    assertThat(extension.remaining()).isEqualTo(4);
+    assertThat(loaded.getView(viewId)).contains(view);
+  }
+
+  @Test
+  public void should_round_trip_functions_and_aggregates() throws Exception {
+    FunctionSignature plusSignature =
+        new FunctionSignature(CqlIdentifier.fromInternal("plus"), DataTypes.INT, DataTypes.INT);
+    FunctionMetadata plus =
+        new DefaultFunctionMetadata(
+            KS_ID,
+            plusSignature,
+            ImmutableList.of(CqlIdentifier.fromInternal("a"), CqlIdentifier.fromInternal("b")),
+            "return a + b;",
+            false,
+            "java",
+            DataTypes.INT);
+    FunctionSignature sumSignature =
+        new FunctionSignature(CqlIdentifier.fromInternal("sum"), DataTypes.INT);
+    @SuppressWarnings("unchecked")
+    TypeCodec<Object> intCodec = (TypeCodec<Object>) (TypeCodec<?>) TypeCodecs.INT;
+    AggregateMetadata sum =
+        new DefaultAggregateMetadata(
+            KS_ID, sumSignature, null, 0, DataTypes.INT, plusSignature, DataTypes.INT, intCodec);
+    KeyspaceMetadata keyspace =
+        newKeyspace(
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            ImmutableMap.of(plusSignature, plus),
+            ImmutableMap.of(sumSignature, sum));
+
+    KeyspaceMetadata loaded = roundTrip(keyspace);
+
+    assertThat(loaded).isEqualTo(keyspace);
+    assertThat(loaded.getFunction(plusSignature)).contains(plus);
+    AggregateMetadata loadedSum = loaded.getAggregate(sumSignature).orElse(null);
+    assertThat(loadedSum).isEqualTo(sum);
+    assertThat(loadedSum.getInitCond()).contains(0);
+  }
+
+  @Test
+  public void should_round_trip_dse_metadata() throws Exception {
+    CqlIdentifier tableId = CqlIdentifier.fromInternal("person");
+    ColumnMetadata k = new DefaultDseColumnMetadata(KS_ID, tableId, K_ID, DataTypes.INT, false);
+    TableMetadata table =
+        new DefaultDseTableMetadata(
+            KS_ID,
+            tableId,
+            UUID.randomUUID(),
+            false,
+            false,
+            ImmutableList.of(k),
+            ImmutableMap.of(),
+            ImmutableMap.of(K_ID, k),
+            ImmutableMap.of(),
+            ImmutableMap.of(),
+            new DefaultDseVertexMetadata(CqlIdentifier.fromInternal("person_label")),
+            null);
+    FunctionSignature signature =
+        new FunctionSignature(CqlIdentifier.fromInternal("identity"), DataTypes.INT);
+    FunctionMetadata function =
+        new DefaultDseFunctionMetadata(
+            KS_ID,
+            signature,
+            ImmutableList.of(CqlIdentifier.fromInternal("a")),
+            "return a;",
+            false,
+            "java",
+            DataTypes.INT,
+            true,
+            true,
+            ImmutableList.of());
+    KeyspaceMetadata keyspace =
+        new DefaultDseKeyspaceMetadata(
+            KS_ID,
+            true,
+            false,
+            "Core",
+            ImmutableMap.of("class", "org.apache.cassandra.locator.SimpleStrategy"),
+            Collections.emptyMap(),
+            ImmutableMap.of(tableId, table),
+            Collections.emptyMap(),
+            ImmutableMap.of(signature, function),
+            Collections.emptyMap());
+
+    KeyspaceMetadata loaded = roundTrip(keyspace);
+
+    assertThat(loaded).isInstanceOf(DseGraphKeyspaceMetadata.class).isEqualTo(keyspace);
+    assertThat(((DseGraphKeyspaceMetadata) loaded).getGraphEngine()).contains("Core");
+    TableMetadata loadedTable = loaded.getTable(tableId).orElse(null);
+    assertThat(loadedTable).isInstanceOf(DseGraphTableMetadata.class);
+    assertThat(((DseGraphTableMetadata) loadedTable).getVertex())
+        .isEqualTo(((DseGraphTableMetadata) table).getVertex());
+    assertThat(loaded.getFunction(signature)).contains(function);
+  }
+
+  @Test
+  public void should_not_match_other_cluster_or_keyspace_filter() {
+    assertThat(snapshot.matches("other cluster", ImmutableList.of("ks"))).isFalse();
+    assertThat(snapshot.matches("test cluster", ImmutableList.of("ks", "ks2"))).isFalse();
+    assertThat(snapshot.matches("test cluster", Collections.emptyList())).isFalse();
+  }
+
+  private KeyspaceMetadata roundTrip(KeyspaceMetadata keyspace) throws Exception {
+    new SchemaSnapshot(
+            "test cluster", ImmutableList.of("ks"), VERSION, ImmutableMap.of(KS_ID, keyspace))
+        .save(file);
+    SchemaSnapshot loaded = SchemaSnapshot.load(file, attachmentPoint, "test");
+    assertThat(loaded).isNotNull();
+    return loaded.getKeyspaces().get(KS_ID);
+  }
+
+  private static KeyspaceMetadata newKeyspace(
+      Map<CqlIdentifier, TableMetadata> tables,
+      Map<CqlIdentifier, ViewMetadata> views,
+      Map<FunctionSignature, FunctionMetadata> functions,
+      Map<FunctionSignature, AggregateMetadata> aggregates) {
+    return new DefaultKeyspaceMetadata(
+        KS_ID,
+        true,
+        false,
+        ImmutableMap.of("class", "org.apache.cassandra.locator.SimpleStrategy"),
+        Collections.emptyMap(),
+        tables,
+        views,
+        functions,
+        aggregates);
+  }
+}
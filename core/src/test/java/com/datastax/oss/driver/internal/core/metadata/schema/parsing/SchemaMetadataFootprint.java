@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.metadata.schema.parsing;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.driver.internal.core.metadata.schema.queries.SchemaRows;
+import java.util.Map;
+
+/**
+ * Measures the heap retained by the schema metadata of a {@linkplain SyntheticSchema synthetic
+ * multi-tenant schema}.
+ *
+ * <p>To run it, compile the test classes and launch {@code
+ * com.datastax.oss.driver.internal.core.metadata.schema.parsing.SchemaMetadataFootprint [tables]}
+ * with the core module's test classpath (the default is 10,000 tables). It parses the schema twice,
+ * with and without sharing the repeated values, and prints the retained size of each version.
+ */
+public class SchemaMetadataFootprint {
+
+  public static void main(String[] args) throws Exception {
+    int tableCount = (args.length > 0) ? Integer.parseInt(args[0]) : 10_000;
+
+    InternalDriverContext context = SyntheticSchema.context();
+    Node node = SyntheticSchema.node();
+
+    // Warm up class loading and JIT, so that they don't pollute the measurements
+    measure(100, node, context, new SchemaInterner());
+    measure(100, node, context, new NoopInterner());
+
+    long withoutInterning = measure(tableCount, node, context, new NoopInterner());
+    long withInterning = measure(tableCount, node, context, new SchemaInterner());
+    System.out.printf(
+        "%d tables: %,d bytes without interning (%,d per table), %,d bytes with interning "
+            + "(%,d per table)%n",
+        tableCount,
+        withoutInterning,
+        withoutInterning / tableCount,
+        withInterning,
+        withInterning / tableCount);
+  }
+
+  private static long measure(
+      int tableCount, Node node, InternalDriverContext context, SchemaInterner interner)
+      throws InterruptedException {
+    long baseline = usedHeap();
+    SchemaRows rows = SyntheticSchema.rows(tableCount, node);
+    SchemaParser parser = new CassandraSchemaParser(rows, context, interner);
+    Map<CqlIdentifier, KeyspaceMetadata> keyspaces = parser.parse().newKeyspaces;
+    // Release everything but the metadata
+    rows = null;
+    parser = null;
+    long retained = usedHeap() - baseline;
+    int tablesPerKeyspace = SyntheticSchema.TABLES_PER_KEYSPACE;
+    if (keyspaces.size() != (tableCount + tablesPerKeyspace - 1) / tablesPerKeyspace) {
+      throw new AssertionError("Unexpected keyspace count");
+    }
+    return retained;
+  }
+
+  private static long usedHeap() throws InterruptedException {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 5; i++) {
+      System.gc();
+      Thread.sleep(100);
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  /** Reproduces the behavior of the parsers before values were shared. */
+  private static class NoopInterner extends SchemaInterner {
+    @Override
+    public CqlIdentifier identifier(String internal) {
+      return CqlIdentifier.fromInternal(internal);
+    }
+
+    @Override
+    public <T> T intern(T value) {
+      return value;
+    }
+
+    @Override
+    public <K, V> Map<K, V> internMap(Map<K, V> map) {
+      return map;
+    }
+
+    @Override
+    public DataType dataType(DataType type) {
+      return type;
+    }
+  }
+}
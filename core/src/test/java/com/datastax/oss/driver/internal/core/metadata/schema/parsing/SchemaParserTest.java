@@ -25,12 +25,16 @@ import com.datastax.oss.driver.api.core.metadata.schema.FunctionSignature;
 import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
 import com.datastax.oss.driver.api.core.type.DataTypes;
 import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.internal.core.adminrequest.AdminRow;
 import com.datastax.oss.driver.internal.core.metadata.MetadataRefresh;
 import com.datastax.oss.driver.internal.core.metadata.schema.queries.CassandraSchemaRows;
 import com.datastax.oss.driver.internal.core.metadata.schema.queries.SchemaRows;
 import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefresh;
+import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import org.junit.Test;
 
@@ -138,6 +142,30 @@ public class SchemaParserTest extends SchemaParserTestBase {
     assertThat(ks2.getUserDefinedTypes()).hasSize(1).containsKey(CqlIdentifier.fromInternal("t2"));
   }
 
+  @Test
+  public void should_parse_keyspaces_in_parallel() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      CassandraSchemaRows.Builder builder =
+          new CassandraSchemaRows.Builder(NODE_3_0, keyspaceFilter, "test");
+      ImmutableList.Builder<AdminRow> keyspaceRows = ImmutableList.builder();
+      for (int i = 0; i < 10; i++) {
+        keyspaceRows.add(mockModernKeyspaceRow("ks" + i));
+      }
+      builder.withKeyspaces(keyspaceRows.build());
+      CassandraSchemaParser parser = new CassandraSchemaParser(builder.build(), context);
+
+      SchemaRefresh refresh = CompletableFutures.getUninterruptibly(parser.parseAsync(executor));
+
+      // Same result as a sequential parse, including the order
+      assertThat(refresh.newKeyspaces.keySet())
+          .containsExactlyElementsOf(parser.parse().newKeyspaces.keySet());
+      assertThat(refresh.newKeyspaces).hasSize(10);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   private MetadataRefresh parse(Consumer<CassandraSchemaRows.Builder> builderConfig) {
     CassandraSchemaRows.Builder builder =
         new CassandraSchemaRows.Builder(NODE_3_0, keyspaceFilter, "test");
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.metadata.schema.parsing;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.Version;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.internal.core.adminrequest.AdminRow;
+import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.driver.internal.core.metadata.schema.queries.CassandraSchemaRows;
+import com.datastax.oss.driver.internal.core.metadata.schema.queries.KeyspaceFilter;
+import com.datastax.oss.driver.internal.core.metadata.schema.queries.SchemaRows;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableSet;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
+import com.datastax.oss.protocol.internal.response.result.ColumnSpec;
+import com.datastax.oss.protocol.internal.response.result.RawType;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Generates the system rows of a large multi-tenant schema (100 tables per keyspace, all tables
+ * with the same structure and options), for benchmarks.
+ */
+class SyntheticSchema {
+
+  static final int TABLES_PER_KEYSPACE = 100;
+
+  private static final RawType TEXT = RawType.PRIMITIVES.get(ProtocolConstants.DataType.VARCHAR);
+  // Only used to tell strings apart in AdminRow.isString()
+  private static final RawType OTHER = RawType.PRIMITIVES.get(ProtocolConstants.DataType.BLOB);
+
+  // The mocks are stub-only, because recording invocations would skew the measurements
+
+  static InternalDriverContext context() {
+    InternalDriverContext context = mock(InternalDriverContext.class, withSettings().stubOnly());
+    when(context.getSessionName()).thenReturn("synthetic");
+    return context;
+  }
+
+  static Node node() {
+    Node node = mock(Node.class, withSettings().stubOnly());
+    when(node.getCassandraVersion()).thenReturn(Version.V4_0_0);
+    return node;
+  }
+
+  static SchemaRows rows(int tableCount, Node node) {
+    List<AdminRow> keyspaceRows = new ArrayList<>();
+    List<AdminRow> tableRows = new ArrayList<>();
+    List<AdminRow> columnRows = new ArrayList<>();
+    for (int i = 0; i < tableCount; i++) {
+      String keyspace = "tenant_" + (i / TABLES_PER_KEYSPACE);
+      if (i % TABLES_PER_KEYSPACE == 0) {
+        keyspaceRows.add(keyspaceRow(keyspace));
+      }
+      String table = "table_" + (i % TABLES_PER_KEYSPACE);
+      tableRows.add(tableRow(keyspace, table));
+      columnRows.add(columnRow(keyspace, table, "id", "partition_key", 0, "uuid"));
+      columnRows.add(columnRow(keyspace, table, "ts", "clustering", 0, "timestamp"));
+      columnRows.add(columnRow(keyspace, table, "name", "regular", -1, "text"));
+      columnRows.add(columnRow(keyspace, table, "tags", "regular", -1, "set<text>"));
+      columnRows.add(columnRow(keyspace, table, "attributes", "regular", -1, "map<text, text>"));
+      columnRows.add(columnRow(keyspace, table, "counts", "regular", -1, "frozen<list<int>>"));
+      columnRows.add(columnRow(keyspace, table, "payload", "regular", -1, "blob"));
+    }
+    return new CassandraSchemaRows.Builder(
+            node, KeyspaceFilter.newInstance("synthetic", Collections.emptyList()), "synthetic")
+        .withKeyspaces(keyspaceRows)
+        .withTables(tableRows)
+        .withColumns(columnRows)
+        .build();
+  }
+
+  private static AdminRow keyspaceRow(String keyspace) {
+    return new RowBuilder()
+        .with("keyspace_name", TypeCodecs.TEXT, keyspace)
+        .with("durable_writes", TypeCodecs.BOOLEAN, true)
+        .with(
+            "replication",
+            RelationParser.MAP_OF_TEXT_TO_TEXT,
+            ImmutableMap.of(
+                "class", "org.apache.cassandra.locator.NetworkTopologyStrategy", "dc1", "3"))
+        .build();
+  }
+
+  private static AdminRow tableRow(String keyspace, String table) {
+    return new RowBuilder()
+        .with("keyspace_name", TypeCodecs.TEXT, keyspace)
+        .with("table_name", TypeCodecs.TEXT, table)
+        .with("id", TypeCodecs.UUID, UUID.randomUUID())
+        .with("flags", TypeCodecs.setOf(TypeCodecs.TEXT), ImmutableSet.of("compound"))
+        .with("additional_write_policy", TypeCodecs.TEXT, "99p")
+        .with("bloom_filter_fp_chance", TypeCodecs.DOUBLE, 0.01)
+        .with(
+            "caching",
+            RelationParser.MAP_OF_TEXT_TO_TEXT,
+            ImmutableMap.of("keys", "ALL", "rows_per_partition", "NONE"))
+        .with("cdc", TypeCodecs.BOOLEAN, false)
+        .with("comment", TypeCodecs.TEXT, "")
+        .with(
+            "compaction",
+            RelationParser.MAP_OF_TEXT_TO_TEXT,
+            ImmutableMap.of(
+                "class",
+                "org.apache.cassandra.db.compaction.SizeTieredCompactionStrategy",
+                "max_threshold",
+                "32",
+                "min_threshold",
+                "4"))
+        .with(
+            "compression",
+            RelationParser.MAP_OF_TEXT_TO_TEXT,
+            ImmutableMap.of(
+                "chunk_length_in_kb",
+                "16",
+                "class",
+                "org.apache.cassandra.io.compress.LZ4Compressor"))
+        .with("crc_check_chance", TypeCodecs.DOUBLE, 1.0)
+        .with("default_time_to_live", TypeCodecs.INT, 0)
+        .with(
+            "extensions",
+            TypeCodecs.mapOf(TypeCodecs.TEXT, TypeCodecs.BLOB),
+            ImmutableMap.<String, ByteBuffer>of())
+        .with("gc_grace_seconds", TypeCodecs.INT, 864000)
+        .with("max_index_interval", TypeCodecs.INT, 2048)
+        .with("memtable_flush_period_in_ms", TypeCodecs.INT, 0)
+        .with("min_index_interval", TypeCodecs.INT, 128)
+        .with("read_repair", TypeCodecs.TEXT, "BLOCKING")
+        .with("speculative_retry", TypeCodecs.TEXT, "99p")
+        .build();
+  }
+
+  private static AdminRow columnRow(
+      String keyspace, String table, String column, String kind, int position, String type) {
+    return new RowBuilder()
+        .with("keyspace_name", TypeCodecs.TEXT, keyspace)
+        .with("table_name", TypeCodecs.TEXT, table)
+        .with("column_name", TypeCodecs.TEXT, column)
+        .with("kind", TypeCodecs.TEXT, kind)
+        .with("position", TypeCodecs.INT, position)
+        .with("clustering_order", TypeCodecs.TEXT, kind.equals("clustering") ? "asc" : "none")
+        .with("type", TypeCodecs.TEXT, type)
+        .build();
+  }
+
+  private static class RowBuilder {
+    private final Map<String, ColumnSpec> specs = new LinkedHashMap<>();
+    private final List<ByteBuffer> data = new ArrayList<>();
+
+    <T> RowBuilder with(String name, TypeCodec<T> codec, T value) {
+      RawType rawType = codec.equals(TypeCodecs.TEXT) ? TEXT : OTHER;
+      specs.put(name, new ColumnSpec("system_schema", "mock", name, data.size(), rawType));
+      data.add(codec.encode(value, ProtocolVersion.DEFAULT));
+      return this;
+    }
+
+    AdminRow build() {
+      return new AdminRow(specs, data, ProtocolVersion.DEFAULT);
+    }
+  }
+}
@@ -28,6 +28,7 @@ import com.datastax.oss.driver.api.core.metadata.schema.IndexKind;
 import com.datastax.oss.driver.api.core.metadata.schema.IndexMetadata;
 import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
 import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.ListType;
 import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
 import com.datastax.oss.driver.internal.core.adminrequest.AdminRow;
 import com.datastax.oss.driver.internal.core.metadata.schema.queries.CassandraSchemaRows;
@@ -194,6 +195,37 @@ public class TableParserTest extends SchemaParserTestBase {
         .containsEntry("mock_option", "1");
   }
 
+  @Test
+  public void should_share_identical_values_between_tables() {
+    SchemaInterner interner = new SchemaInterner();
+    TableMetadata foo = parseSimilarTable("foo", interner);
+    TableMetadata bar = parseSimilarTable("bar", interner);
+
+    assertThat(foo.getOptions()).isSameAs(bar.getOptions());
+    ColumnMetadata fooV = foo.getColumn("v").orElseThrow(AssertionError::new);
+    ColumnMetadata barV = bar.getColumn("v").orElseThrow(AssertionError::new);
+    assertThat(fooV.getName()).isSameAs(barV.getName());
+    assertThat(fooV.getType()).isSameAs(barV.getType());
+    // Types that only differ by their frozen flag must not be shared
+    ColumnMetadata fooW = foo.getColumn("w").orElseThrow(AssertionError::new);
+    ColumnMetadata barW = bar.getColumn("w").orElseThrow(AssertionError::new);
+    assertThat(fooW.getType()).isSameAs(barW.getType()).isNotSameAs(fooV.getType());
+    assertThat(((ListType) fooV.getType()).isFrozen()).isFalse();
+    assertThat(((ListType) fooW.getType()).isFrozen()).isTrue();
+  }
+
+  private TableMetadata parseSimilarTable(String name, SchemaInterner interner) {
+    AdminRow tableRow = mockModernTableRow("ks", name);
+    ImmutableList<AdminRow> columnRows =
+        ImmutableList.of(
+            mockModernColumnRow("ks", name, "k", "partition_key", "int", "none", 0),
+            mockModernColumnRow("ks", name, "v", "regular", "list<int>", "none", -1),
+            mockModernColumnRow("ks", name, "w", "regular", "frozen<list<int>>", "none", -1));
+    SchemaRows rows = modernRows(tableRow, columnRows, Collections.emptyList());
+    TableParser parser = new TableParser(rows, context, interner);
+    return parser.parseTable(tableRow, KEYSPACE_ID, Collections.emptyMap());
+  }
+
   private SchemaRows legacyRows(AdminRow tableRow, Iterable<AdminRow> columnRows) {
     return rows(tableRow, columnRows, null, NODE_2_2);
   }
@@ -27,6 +27,7 @@ import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
 import com.datastax.oss.driver.api.core.metadata.Node;
 import com.datastax.oss.driver.internal.core.adminrequest.AdminResult;
 import com.datastax.oss.driver.internal.core.channel.DriverChannel;
+import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefreshScope;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
 import java.util.Collections;
 import java.util.Queue;
@@ -328,6 +329,77 @@ public class Cassandra3SchemaQueriesTest extends SchemaQueriesTest {
             });
   }
 
+  @Test
+  public void should_query_targeted_keyspaces_and_tables() {
+    SchemaRefreshScope scope =
+        SchemaRefreshScope.forKeyspace("ks1").merge(SchemaRefreshScope.forTable("ks2", "foo"));
+    SchemaQueriesWithMockedChannel queries =
+        new SchemaQueriesWithMockedChannel(driverChannel, node, config, "test", scope);
+    CompletionStage<SchemaRows> result = queries.execute();
+
+    String whereAll = " WHERE keyspace_name IN ('ks1','ks2')";
+    String whereKs1 = " WHERE keyspace_name IN ('ks1')";
+    String whereFoo = " WHERE keyspace_name = 'ks2' AND table_name IN ('foo')";
+    for (String query :
+        ImmutableList.of(
+            "SELECT * FROM system_schema.keyspaces" + whereAll,
+            "SELECT * FROM system_schema.types" + whereAll,
+            "SELECT * FROM system_schema.tables" + whereKs1,
+            "SELECT * FROM system_schema.columns" + whereKs1,
+            "SELECT * FROM system_schema.indexes" + whereKs1,
+            "SELECT * FROM system_schema.views" + whereKs1,
+            "SELECT * FROM system_schema.functions" + whereKs1,
+            "SELECT * FROM system_schema.aggregates" + whereKs1,
+            "SELECT * FROM system_schema.tables" + whereFoo,
+            "SELECT * FROM system_schema.columns" + whereFoo,
+            "SELECT * FROM system_schema.indexes" + whereFoo,
+            "SELECT * FROM system_schema.views"
+                + " WHERE keyspace_name = 'ks2' AND view_name IN ('foo')")) {
+      Call call = queries.calls.poll();
+      assertThat(call.query).isEqualTo(query);
+      call.result.complete(mockResult(/*empty*/ ));
+    }
+    assertThat(queries.calls).isEmpty();
+
+    channel.runPendingTasks();
+
+    assertThatStage(result).isSuccess(rows -> assertThat(rows.scope()).isEqualTo(scope));
+  }
+
+  @Test
+  public void should_query_keyspace_list_and_targeted_keyspaces() {
+    when(config.getStringList(
+            DefaultDriverOption.METADATA_SCHEMA_REFRESHED_KEYSPACES, Collections.emptyList()))
+        .thenReturn(ImmutableList.of("ks1", "ks2"));
+    SchemaRefreshScope scope =
+        SchemaRefreshScope.KEYSPACE_LIST.merge(SchemaRefreshScope.forKeyspace("ks1"));
+    SchemaQueriesWithMockedChannel queries =
+        new SchemaQueriesWithMockedChannel(driverChannel, node, config, "test", scope);
+    CompletionStage<SchemaRows> result = queries.execute();
+
+    // The list of keyspaces honors the filter, the other queries only target ks1
+    String whereKs1 = " WHERE keyspace_name IN ('ks1')";
+    for (String query :
+        ImmutableList.of(
+            "SELECT * FROM system_schema.keyspaces WHERE keyspace_name IN ('ks1','ks2')",
+            "SELECT * FROM system_schema.types" + whereKs1,
+            "SELECT * FROM system_schema.tables" + whereKs1,
+            "SELECT * FROM system_schema.columns" + whereKs1,
+            "SELECT * FROM system_schema.indexes" + whereKs1,
+            "SELECT * FROM system_schema.views" + whereKs1,
+            "SELECT * FROM system_schema.functions" + whereKs1,
+            "SELECT * FROM system_schema.aggregates" + whereKs1)) {
+      Call call = queries.calls.poll();
+      assertThat(call.query).isEqualTo(query);
+      call.result.complete(mockResult(/*empty*/ ));
+    }
+    assertThat(queries.calls).isEmpty();
+
+    channel.runPendingTasks();
+
+    assertThatStage(result).isSuccess(rows -> assertThat(rows.scope()).isEqualTo(scope));
+  }
+
   @Test
   public void should_abort_if_query_fails() {
     SchemaQueriesWithMockedChannel queries =
@@ -355,6 +427,15 @@ public class Cassandra3SchemaQueriesTest extends SchemaQueriesTest {
       super(channel, node, config, logPrefix);
     }
 
+    SchemaQueriesWithMockedChannel(
+        DriverChannel channel,
+        Node node,
+        DriverExecutionProfile config,
+        String logPrefix,
+        SchemaRefreshScope scope) {
+      super(channel, node, config, logPrefix, scope);
+    }
+
     @Override
     protected CompletionStage<AdminResult> query(String query) {
       Call call = new Call(query);
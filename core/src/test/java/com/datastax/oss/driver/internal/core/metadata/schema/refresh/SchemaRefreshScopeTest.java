@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.metadata.schema.refresh;
+
+import static com.datastax.oss.driver.Assertions.assertThat;
+
+import com.datastax.oss.driver.internal.core.metadata.schema.queries.KeyspaceFilter;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableSet;
+import com.datastax.oss.protocol.internal.ProtocolConstants.SchemaChangeTarget;
+import org.junit.Test;
+
+public class SchemaRefreshScopeTest {
+
+  @Test
+  public void should_build_scope_from_schema_change() {
+    assertThat(SchemaRefreshScope.forChange(SchemaChangeTarget.TABLE, "ks", "foo"))
+        .isEqualTo(SchemaRefreshScope.forTable("ks", "foo"));
+    assertThat(SchemaRefreshScope.forChange(SchemaChangeTarget.TYPE, "ks", "t"))
+        .isEqualTo(SchemaRefreshScope.forKeyspace("ks"));
+    assertThat(SchemaRefreshScope.forChange(SchemaChangeTarget.KEYSPACE, "ks", ""))
+        .isEqualTo(SchemaRefreshScope.forKeyspace("ks"));
+    assertThat(SchemaRefreshScope.forChange(SchemaChangeTarget.KEYSPACE, null, null).isFull())
+        .isTrue();
+  }
+
+  @Test
+  public void should_merge_scopes() {
+    SchemaRefreshScope scope =
+        SchemaRefreshScope.forTable("ks1", "foo")
+            .merge(SchemaRefreshScope.forTable("ks1", "bar"))
+            .merge(SchemaRefreshScope.forTable("ks2", "foo"))
+            .merge(SchemaRefreshScope.forKeyspace("ks2"));
+
+    assertThat(scope.getKeyspaces()).containsExactly("ks2");
+    // the table of ks2 is covered by the keyspace refresh
+    assertThat(scope.getTables()).containsOnlyKeys("ks1");
+    assertThat(scope.getTables().get("ks1")).containsExactly("foo", "bar");
+    assertThat(scope.getAllKeyspaces()).containsExactly("ks2", "ks1");
+
+    assertThat(scope.merge(SchemaRefreshScope.FULL).isFull()).isTrue();
+    assertThat(SchemaRefreshScope.FULL.merge(scope).isFull()).isTrue();
+  }
+
+  @Test
+  public void should_filter_keyspaces() {
+    KeyspaceFilter filter = KeyspaceFilter.newInstance("test", ImmutableList.of("ks1"));
+    SchemaRefreshScope scope =
+        SchemaRefreshScope.forKeyspace("ks2").merge(SchemaRefreshScope.forTable("ks1", "foo"));
+
+    assertThat(scope.filter(filter)).isEqualTo(SchemaRefreshScope.forTable("ks1", "foo"));
+    assertThat(SchemaRefreshScope.forKeyspace("ks2").filter(filter).isEmpty()).isTrue();
+    assertThat(SchemaRefreshScope.FULL.filter(filter).isFull()).isTrue();
+  }
+
+  @Test
+  public void should_promote_tables_of_unknown_keyspaces() {
+    SchemaRefreshScope scope =
+        SchemaRefreshScope.forTable("ks1", "foo").merge(SchemaRefreshScope.forTable("ks2", "foo"));
+
+    SchemaRefreshScope promoted = scope.promoteUnknownKeyspaces(ImmutableSet.of("ks1")::contains);
+
+    assertThat(promoted.getKeyspaces()).containsExactly("ks2");
+    assertThat(promoted.getTables()).containsOnlyKeys("ks1");
+  }
+
+  @Test
+  public void should_demote_targets_in_unloaded_keyspaces() {
+    SchemaRefreshScope scope =
+        SchemaRefreshScope.forKeyspace("ks1")
+            .merge(SchemaRefreshScope.forTable("ks2", "foo"))
+            .merge(SchemaRefreshScope.forKeyspace("ks3"));
+
+    SchemaRefreshScope demoted = scope.demoteUnloadedKeyspaces(ImmutableSet.of("ks2")::contains);
+
+    assertThat(demoted.isKeyspaceList()).isTrue();
+    assertThat(demoted.getKeyspaces()).isEmpty();
+    assertThat(demoted.getTables()).containsOnlyKeys("ks2");
+    assertThat(SchemaRefreshScope.forKeyspace("ks1").demoteUnloadedKeyspaces(ks -> false))
+        .isEqualTo(SchemaRefreshScope.KEYSPACE_LIST);
+    assertThat(scope.demoteUnloadedKeyspaces(ks -> true)).isEqualTo(scope);
+  }
+
+  @Test
+  public void should_merge_keyspace_list() {
+    SchemaRefreshScope scope =
+        SchemaRefreshScope.KEYSPACE_LIST.merge(SchemaRefreshScope.forKeyspace("ks1"));
+
+    assertThat(scope.isKeyspaceList()).isTrue();
+    assertThat(scope.isEmpty()).isFalse();
+    assertThat(scope.getKeyspaces()).containsExactly("ks1");
+    assertThat(SchemaRefreshScope.forKeyspace("ks1").merge(SchemaRefreshScope.KEYSPACE_LIST))
+        .isEqualTo(scope);
+    assertThat(scope.merge(SchemaRefreshScope.FULL).isFull()).isTrue();
+  }
+}
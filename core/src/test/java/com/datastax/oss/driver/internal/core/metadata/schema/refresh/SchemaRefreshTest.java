@@ -18,9 +18,12 @@
 package com.datastax.oss.driver.internal.core.metadata.schema.refresh;
 
 import static com.datastax.oss.driver.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
 import com.datastax.oss.driver.api.core.type.DataTypes;
 import com.datastax.oss.driver.api.core.type.UserDefinedType;
 import com.datastax.oss.driver.internal.core.channel.ChannelFactory;
@@ -29,10 +32,13 @@ import com.datastax.oss.driver.internal.core.metadata.DefaultMetadata;
 import com.datastax.oss.driver.internal.core.metadata.MetadataRefresh;
 import com.datastax.oss.driver.internal.core.metadata.schema.DefaultKeyspaceMetadata;
 import com.datastax.oss.driver.internal.core.metadata.schema.events.KeyspaceChangeEvent;
+import com.datastax.oss.driver.internal.core.metadata.schema.events.TableChangeEvent;
 import com.datastax.oss.driver.internal.core.metadata.schema.events.TypeChangeEvent;
 import com.datastax.oss.driver.internal.core.type.UserDefinedTypeBuilder;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableSet;
 import java.util.Collections;
+import java.util.Map;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -53,6 +59,9 @@ public class SchemaRefreshTest {
           .withField(CqlIdentifier.fromInternal("i"), DataTypes.INT)
           .build();
   private static final DefaultKeyspaceMetadata OLD_KS1 = newKeyspace("ks1", true, OLD_T1, OLD_T2);
+  private static final CqlIdentifier FOO_ID = CqlIdentifier.fromInternal("foo");
+  private static final CqlIdentifier BAR_ID = CqlIdentifier.fromInternal("bar");
+  private static final CqlIdentifier BAZ_ID = CqlIdentifier.fromInternal("baz");
 
   @Mock private InternalDriverContext context;
   @Mock private ChannelFactory channelFactory;
@@ -146,6 +155,126 @@ public class SchemaRefreshTest {
             TypeChangeEvent.created(t3));
   }
 
+  @Test
+  public void should_merge_targeted_tables_into_existing_keyspace() {
+    TableMetadata oldFoo = mock(TableMetadata.class);
+    TableMetadata newFoo = mock(TableMetadata.class);
+    TableMetadata bar = mock(TableMetadata.class);
+    TableMetadata baz = mock(TableMetadata.class);
+    DefaultKeyspaceMetadata oldKs2 =
+        newKeyspace("ks2", ImmutableMap.of(FOO_ID, oldFoo, BAR_ID, bar, BAZ_ID, baz));
+    oldMetadata =
+        DefaultMetadata.EMPTY.withSchema(
+            ImmutableMap.of(OLD_KS1.getName(), OLD_KS1, oldKs2.getName(), oldKs2), false, context);
+    // The rows for the targeted tables: foo was updated, baz was dropped
+    DefaultKeyspaceMetadata refreshedKs2 = newKeyspace("ks2", ImmutableMap.of(FOO_ID, newFoo));
+
+    SchemaRefreshScope scope =
+        SchemaRefreshScope.forTable("ks2", "foo").merge(SchemaRefreshScope.forTable("ks2", "baz"));
+    SchemaRefresh refresh =
+        new SchemaRefresh(ImmutableMap.of(refreshedKs2.getName(), refreshedKs2), scope);
+    MetadataRefresh.Result result = refresh.compute(oldMetadata, false, context);
+
+    assertThat(result.newMetadata.getKeyspaces()).hasSize(2);
+    assertThat(result.newMetadata.getKeyspaces().get(OLD_KS1.getName())).isSameAs(OLD_KS1);
+    assertThat(result.newMetadata.getKeyspaces().get(oldKs2.getName()).getTables())
+        .containsOnlyKeys(FOO_ID, BAR_ID)
+        .containsEntry(FOO_ID, newFoo)
+        .containsEntry(BAR_ID, bar);
+    assertThat(result.events)
+        .containsExactly(TableChangeEvent.dropped(baz), TableChangeEvent.updated(oldFoo, newFoo));
+  }
+
+  @Test
+  public void should_replace_or_drop_targeted_keyspaces() {
+    DefaultKeyspaceMetadata oldKs2 = newKeyspace("ks2", true);
+    oldMetadata =
+        DefaultMetadata.EMPTY.withSchema(
+            ImmutableMap.of(OLD_KS1.getName(), OLD_KS1, oldKs2.getName(), oldKs2), false, context);
+    DefaultKeyspaceMetadata newKs2 = newKeyspace("ks2", false);
+
+    // ks1 is absent from the rows, so it was dropped
+    SchemaRefresh refresh =
+        new SchemaRefresh(
+            ImmutableMap.of(newKs2.getName(), newKs2),
+            SchemaRefreshScope.forKeyspace("ks1").merge(SchemaRefreshScope.forKeyspace("ks2")));
+    MetadataRefresh.Result result = refresh.compute(oldMetadata, false, context);
+
+    assertThat(result.newMetadata.getKeyspaces()).containsOnlyKeys(newKs2.getName());
+    assertThat(result.events)
+        .containsExactly(
+            KeyspaceChangeEvent.dropped(OLD_KS1), KeyspaceChangeEvent.updated(oldKs2, newKs2));
+  }
+
+  @Test
+  public void should_keep_contents_of_untargeted_keyspaces_when_refreshing_keyspace_list() {
+    TableMetadata foo = mock(TableMetadata.class);
+    DefaultKeyspaceMetadata oldKs2 = newKeyspace("ks2", ImmutableMap.of(FOO_ID, foo));
+    oldMetadata =
+        DefaultMetadata.EMPTY.withSchema(
+            ImmutableMap.of(OLD_KS1.getName(), OLD_KS1, oldKs2.getName(), oldKs2), false, context);
+    // The keyspace list: ks1's options changed, ks2 is unchanged, ks3 was created
+    DefaultKeyspaceMetadata listedKs1 = newKeyspace("ks1", false);
+    DefaultKeyspaceMetadata listedKs2 = newKeyspace("ks2", true);
+    DefaultKeyspaceMetadata listedKs3 = newKeyspace("ks3", true);
+
+    SchemaRefresh refresh =
+        new SchemaRefresh(
+            ImmutableMap.of(
+                listedKs1.getName(),
+                listedKs1,
+                listedKs2.getName(),
+                listedKs2,
+                listedKs3.getName(),
+                listedKs3),
+            SchemaRefreshScope.KEYSPACE_LIST);
+    MetadataRefresh.Result result = refresh.compute(oldMetadata, false, context);
+
+    Map<CqlIdentifier, KeyspaceMetadata> newKeyspaces = result.newMetadata.getKeyspaces();
+    assertThat(newKeyspaces)
+        .containsOnlyKeys(OLD_KS1.getName(), oldKs2.getName(), listedKs3.getName());
+    assertThat(newKeyspaces.get(OLD_KS1.getName()).isDurableWrites()).isFalse();
+    assertThat(newKeyspaces.get(OLD_KS1.getName()).getUserDefinedTypes())
+        .isEqualTo(OLD_KS1.getUserDefinedTypes());
+    assertThat(newKeyspaces.get(oldKs2.getName())).isSameAs(oldKs2);
+    assertThat(result.events)
+        .containsExactly(
+            KeyspaceChangeEvent.updated(OLD_KS1, newKeyspaces.get(OLD_KS1.getName())),
+            KeyspaceChangeEvent.created(listedKs3));
+  }
+
+  @Test
+  public void should_not_emit_child_events_for_keyspaces_that_get_loaded() {
+    oldMetadata =
+        DefaultMetadata.EMPTY.withSchema(
+            ImmutableMap.of(OLD_KS1.getName(), SchemaRefresh.placeholder(OLD_KS1)),
+            false,
+            context);
+
+    SchemaRefresh refresh =
+        new SchemaRefresh(
+                ImmutableMap.of(OLD_KS1.getName(), OLD_KS1), SchemaRefreshScope.forKeyspace("ks1"))
+            .withUnloadedKeyspaces(ImmutableSet.of(OLD_KS1.getName()));
+    MetadataRefresh.Result result = refresh.compute(oldMetadata, false, context);
+
+    assertThat(result.newMetadata.getKeyspaces().get(OLD_KS1.getName())).isSameAs(OLD_KS1);
+    assertThat(result.events).isEmpty();
+  }
+
+  private static DefaultKeyspaceMetadata newKeyspace(
+      String name, Map<CqlIdentifier, TableMetadata> tables) {
+    return new DefaultKeyspaceMetadata(
+        CqlIdentifier.fromInternal(name),
+        true,
+        false,
+        Collections.emptyMap(),
+        Collections.emptyMap(),
+        tables,
+        Collections.emptyMap(),
+        Collections.emptyMap(),
+        Collections.emptyMap());
+  }
+
   private static DefaultKeyspaceMetadata newKeyspace(
       String name, boolean durableWrites, UserDefinedType... userTypes) {
     ImmutableMap.Builder<CqlIdentifier, UserDefinedType> typesMapBuilder = ImmutableMap.builder();
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.metadata.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.datastax.oss.protocol.internal.util.Bytes;
+import com.tngtech.java.junit.dataprovider.DataProvider;
+import com.tngtech.java.junit.dataprovider.DataProviderRunner;
+import com.tngtech.java.junit.dataprovider.UseDataProvider;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(DataProviderRunner.class)
+public class Murmur3TokenFactoryTest {
+
+  private static final Murmur3TokenFactory FACTORY = new Murmur3TokenFactory();
+
+  @DataProvider
+  public static Object[][] knownTokens() {
+    // Same values as Cassandra's token() function for the corresponding blobs
+    return new Object[][] {
+      {"0x00000001", -4069959284402364209L}, // int
+      {"0x0000000000000001", 6292367497774912474L}, // bigint
+      {"0xffffffffffffff80", 3704606467661385153L}, // negative bytes in an 8-byte tail
+      {"0x123e4567e89b12d3a456426614174000", -44119901388393997L}, // uuid
+      {"0x666f6f", -2129773440516405919L}, // text
+      {"0x8080808080808080808080808080808080808080", -2331765004752948948L},
+    };
+  }
+
+  @Test
+  @UseDataProvider("knownTokens")
+  public void should_hash_key(String key, long expectedToken) {
+    assertThat(FACTORY.hash(Bytes.fromHexString(key))).isEqualTo(new Murmur3Token(expectedToken));
+  }
+
+  @Test
+  public void should_match_reference_implementation_for_all_key_sizes() {
+    Random random = new Random(0);
+    for (int length = 0; length <= 300; length++) {
+      for (int i = 0; i < 10; i++) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        long expected = referenceMurmur(bytes);
+        assertThat(FACTORY.hash(ByteBuffer.wrap(bytes)))
+            .isEqualTo(new Murmur3Token(expected == Long.MIN_VALUE ? Long.MAX_VALUE : expected));
+      }
+    }
+  }
+
+  @Test
+  public void should_not_depend_on_buffer_position_byte_order_or_type() {
+    byte[] bytes =
+        Bytes.getArray(Bytes.fromHexString("0xcafebabe123e4567e89b12d3a456426614174000ff"));
+    long expected = referenceMurmur(bytes);
+
+    ByteBuffer heap = ByteBuffer.allocate(bytes.length + 3);
+    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 3);
+    for (ByteBuffer buffer : new ByteBuffer[] {heap, direct}) {
+      for (ByteOrder order : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+        buffer.clear();
+        buffer.put((byte) 1).put(bytes).put((byte) 2);
+        buffer.position(1).limit(1 + bytes.length);
+        buffer.order(order);
+
+        assertThat(FACTORY.hash(buffer)).isEqualTo(new Murmur3Token(expected));
+        assertThat(buffer.position()).isEqualTo(1);
+      }
+    }
+  }
+
+  /**
+   * A straightforward port of Cassandra's {@code MurmurHash.hash3_x64_128} (first 64 bits only),
+   * reading the input byte by byte.
+   */
+  private static long referenceMurmur(byte[] key) {
+    int length = key.length;
+    int nblocks = length >> 4;
+    long h1 = 0;
+    long h2 = 0;
+    long c1 = 0x87c37b91114253d5L;
+    long c2 = 0x4cf5ad432745937fL;
+    for (int i = 0; i < nblocks; i++) {
+      long k1 = 0;
+      long k2 = 0;
+      for (int b = 7; b >= 0; b--) {
+        k1 = (k1 << 8) | (key[i * 16 + b] & 0xff);
+        k2 = (k2 << 8) | (key[i * 16 + 8 + b] & 0xff);
+      }
+      k1 *= c1;
+      k1 = Long.rotateLeft(k1, 31);
+      k1 *= c2;
+      h1 ^= k1;
+      h1 = Long.rotateLeft(h1, 27);
+      h1 += h2;
+      h1 = h1 * 5 + 0x52dce729;
+      k2 *= c2;
+      k2 = Long.rotateLeft(k2, 33);
+      k2 *= c1;
+      h2 ^= k2;
+      h2 = Long.rotateLeft(h2, 31);
+      h2 += h1;
+      h2 = h2 * 5 + 0x38495ab5;
+    }
+    int offset = nblocks * 16;
+    int tail = length & 15;
+    long k1 = 0;
+    long k2 = 0;
+    // Cassandra sign-extends the tail bytes
+    for (int b = tail - 1; b >= 8; b--) {
+      k2 ^= ((long) key[offset + b]) << ((b - 8) * 8);
+    }
+    if (tail > 8) {
+      k2 *= c2;
+      k2 = Long.rotateLeft(k2, 33);
+      k2 *= c1;
+      h2 ^= k2;
+    }
+    for (int b = Math.min(tail, 8) - 1; b >= 0; b--) {
+      k1 ^= ((long) key[offset + b]) << (b * 8);
+    }
+    if (tail > 0) {
+      k1 *= c1;
+      k1 = Long.rotateLeft(k1, 31);
+      k1 *= c2;
+      h1 ^= k1;
+    }
+    h1 ^= length;
+    h2 ^= length;
+    h1 += h2;
+    h2 += h1;
+    h1 = fmix(h1);
+    h2 = fmix(h2);
+    return h1 + h2;
+  }
+
+  private static long fmix(long k) {
+    k ^= k >>> 33;
+    k *= 0xff51afd7ed558ccdL;
+    k ^= k >>> 33;
+    k *= 0xc4ceb9fe1a85ec53L;
+    k ^= k >>> 33;
+    return k;
+  }
+}
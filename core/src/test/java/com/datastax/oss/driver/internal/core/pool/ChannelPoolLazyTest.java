@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.pool;
+
+import static com.datastax.oss.driver.Assertions.assertThat;
+import static com.datastax.oss.driver.Assertions.assertThatStage;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
+import com.datastax.oss.driver.api.core.loadbalancing.NodeDistance;
+import com.datastax.oss.driver.internal.core.channel.ChannelEvent;
+import com.datastax.oss.driver.internal.core.channel.DriverChannel;
+import com.datastax.oss.driver.internal.core.channel.MockChannelFactoryHelper;
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+public class ChannelPoolLazyTest extends ChannelPoolTestBase {
+
+  @Test
+  public void should_not_connect_until_first_use() throws Exception {
+    when(defaultProfile.getInt(DefaultDriverOption.CONNECTION_POOL_LOCAL_SIZE)).thenReturn(2);
+    when(defaultProfile.getBoolean(DefaultDriverOption.CONNECTION_POOL_LOCAL_LAZY))
+        .thenReturn(true);
+    when(defaultProfile.getDuration(DefaultDriverOption.CONNECTION_POOL_IDLE_TIMEOUT))
+        .thenReturn(Duration.ofDays(1));
+
+    DriverChannel channel1 = newMockDriverChannel(1);
+    DriverChannel channel2 = newMockDriverChannel(2);
+    MockChannelFactoryHelper factoryHelper =
+        MockChannelFactoryHelper.builder(channelFactory)
+            .success(node, channel1)
+            .success(node, channel2)
+            .build();
+
+    CompletionStage<ChannelPool> poolFuture =
+        ChannelPool.init(node, null, NodeDistance.LOCAL, context, "test");
+
+    assertThatStage(poolFuture).isSuccess();
+    ChannelPool pool = poolFuture.toCompletableFuture().get();
+    assertThat(pool.channels).isEmpty();
+    TimeUnit.MILLISECONDS.sleep(200);
+    factoryHelper.verifyNoMoreCalls();
+
+    // First selection by a query plan
+    assertThat(pool.next()).isNull();
+
+    factoryHelper.waitForCalls(node, 2);
+    await().untilAsserted(() -> assertThat(pool.channels).containsOnly(channel1, channel2));
+    verify(eventBus, VERIFY_TIMEOUT.times(2)).fire(ChannelEvent.channelOpened(node));
+    // Opening the channels must not report the node as reconnecting
+    verify(eventBus, never()).fire(ChannelEvent.reconnectionStarted(node));
+
+    factoryHelper.verifyNoMoreCalls();
+  }
+
+  @Test
+  public void should_close_channels_when_idle_and_reopen_on_next_use() throws Exception {
+    when(defaultProfile.getInt(DefaultDriverOption.CONNECTION_POOL_LOCAL_SIZE)).thenReturn(2);
+    when(defaultProfile.getBoolean(DefaultDriverOption.CONNECTION_POOL_LOCAL_LAZY))
+        .thenReturn(true);
+    when(defaultProfile.getDuration(DefaultDriverOption.CONNECTION_POOL_IDLE_TIMEOUT))
+        .thenReturn(Duration.ofMillis(100));
+
+    DriverChannel channel1 = newMockDriverChannel(1);
+    DriverChannel channel2 = newMockDriverChannel(2);
+    DriverChannel channel3 = newMockDriverChannel(3);
+    DriverChannel channel4 = newMockDriverChannel(4);
+    MockChannelFactoryHelper factoryHelper =
+        MockChannelFactoryHelper.builder(channelFactory)
+            .success(node, channel1)
+            .success(node, channel2)
+            .success(node, channel3)
+            .success(node, channel4)
+            .build();
+    InOrder inOrder = inOrder(eventBus);
+
+    CompletionStage<ChannelPool> poolFuture =
+        ChannelPool.init(node, null, NodeDistance.LOCAL, context, "test");
+    assertThatStage(poolFuture).isSuccess();
+    ChannelPool pool = poolFuture.toCompletableFuture().get();
+
+    pool.next();
+    factoryHelper.waitForCalls(node, 2);
+    inOrder.verify(eventBus, VERIFY_TIMEOUT.times(2)).fire(ChannelEvent.channelOpened(node));
+
+    // Unused for longer than the idle timeout
+    inOrder.verify(eventBus, VERIFY_TIMEOUT.times(2)).fire(ChannelEvent.channelClosed(node));
+    await().untilAsserted(() -> assertThat(pool.channels).isEmpty());
+    verify(channel1).close();
+    verify(channel2).close();
+
+    pool.next();
+    factoryHelper.waitForCalls(node, 2);
+    inOrder.verify(eventBus, VERIFY_TIMEOUT.times(2)).fire(ChannelEvent.channelOpened(node));
+    await().untilAsserted(() -> assertThat(pool.channels).containsOnly(channel3, channel4));
+
+    verify(eventBus, never()).fire(ChannelEvent.reconnectionStarted(node));
+  }
+
+  @Test
+  public void should_connect_immediately_if_not_lazy() throws Exception {
+    when(defaultProfile.getInt(DefaultDriverOption.CONNECTION_POOL_REMOTE_SIZE)).thenReturn(1);
+    when(defaultProfile.getBoolean(DefaultDriverOption.CONNECTION_POOL_LOCAL_LAZY))
+        .thenReturn(true);
+
+    DriverChannel channel1 = newMockDriverChannel(1);
+    MockChannelFactoryHelper factoryHelper =
+        MockChannelFactoryHelper.builder(channelFactory).success(node, channel1).build();
+
+    CompletionStage<ChannelPool> poolFuture =
+        ChannelPool.init(node, null, NodeDistance.REMOTE, context, "test");
+
+    factoryHelper.waitForCalls(node, 1);
+    assertThatStage(poolFuture).isSuccess();
+    ChannelPool pool = poolFuture.toCompletableFuture().get();
+    assertThat(pool.channels).containsOnly(channel1);
+
+    factoryHelper.verifyNoMoreCalls();
+  }
+}
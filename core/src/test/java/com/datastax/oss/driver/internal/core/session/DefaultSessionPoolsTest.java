@@ -22,6 +22,7 @@ import static com.datastax.oss.driver.Assertions.assertThatStage;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
@@ -125,6 +126,8 @@ public class DefaultSessionPoolsTest {
     when(defaultProfile.getDuration(DefaultDriverOption.METADATA_TOPOLOGY_WINDOW))
         .thenReturn(Duration.ZERO);
     when(defaultProfile.getInt(DefaultDriverOption.METADATA_TOPOLOGY_MAX_EVENTS)).thenReturn(1);
+    when(defaultProfile.getDouble(DefaultDriverOption.CONNECTION_POOL_INIT_READY_FRACTION))
+        .thenReturn(1.0);
     when(config.getDefaultProfile()).thenReturn(defaultProfile);
     when(context.getConfig()).thenReturn(config);
 
@@ -228,6 +231,155 @@ public class DefaultSessionPoolsTest {
                     .containsValues(pool1, pool2, pool3));
   }
 
+  @Test
+  public void should_initialize_local_pools_first_with_bounded_concurrency() {
+    when(defaultProfile.getInt(DefaultDriverOption.CONNECTION_POOL_INIT_MAX_CONCURRENT))
+        .thenReturn(1);
+    when(node1.getDistance()).thenReturn(NodeDistance.REMOTE);
+
+    CompletableFuture<ChannelPool> pool1Future = new CompletableFuture<>();
+    CompletableFuture<ChannelPool> pool2Future = new CompletableFuture<>();
+    CompletableFuture<ChannelPool> pool3Future = new CompletableFuture<>();
+    ChannelPool pool1 = mockPool(node1);
+    ChannelPool pool2 = mockPool(node2);
+    ChannelPool pool3 = mockPool(node3);
+    MockChannelPoolFactoryHelper factoryHelper =
+        MockChannelPoolFactoryHelper.builder(channelPoolFactory)
+            .pending(node2, KEYSPACE, NodeDistance.LOCAL, pool2Future)
+            .pending(node3, KEYSPACE, NodeDistance.LOCAL, pool3Future)
+            .pending(node1, KEYSPACE, NodeDistance.REMOTE, pool1Future)
+            .build();
+
+    CompletionStage<CqlSession> initFuture = newSession();
+
+    factoryHelper.waitForCall(node2, KEYSPACE, NodeDistance.LOCAL);
+    factoryHelper.verifyNoMoreCalls();
+
+    pool2Future.complete(pool2);
+    factoryHelper.waitForCall(node3, KEYSPACE, NodeDistance.LOCAL);
+    factoryHelper.verifyNoMoreCalls();
+
+    pool3Future.complete(pool3);
+    factoryHelper.waitForCall(node1, KEYSPACE, NodeDistance.REMOTE);
+    assertThatStage(initFuture).isNotDone();
+
+    pool1Future.complete(pool1);
+    assertThatStage(initFuture)
+        .isSuccess(
+            session ->
+                assertThat(((DefaultSession) session).getPools())
+                    .containsValues(pool1, pool2, pool3));
+  }
+
+  @Test
+  public void should_be_ready_when_enough_local_pools_are_connected() {
+    when(defaultProfile.getDouble(DefaultDriverOption.CONNECTION_POOL_INIT_READY_FRACTION))
+        .thenReturn(0.5);
+
+    CompletableFuture<ChannelPool> pool1Future = new CompletableFuture<>();
+    CompletableFuture<ChannelPool> pool2Future = new CompletableFuture<>();
+    CompletableFuture<ChannelPool> pool3Future = new CompletableFuture<>();
+    ChannelPool pool1 = mockPool(node1);
+    ChannelPool pool2 = mockPool(node2);
+    ChannelPool pool3 = mockPool(node3);
+    when(pool1.size()).thenReturn(1);
+    // pool2 failed to connect
+    when(pool3.size()).thenReturn(1);
+    MockChannelPoolFactoryHelper factoryHelper =
+        MockChannelPoolFactoryHelper.builder(channelPoolFactory)
+            .pending(node1, KEYSPACE, NodeDistance.LOCAL, pool1Future)
+            .pending(node2, KEYSPACE, NodeDistance.LOCAL, pool2Future)
+            .pending(node3, KEYSPACE, NodeDistance.LOCAL, pool3Future)
+            .build();
+
+    CompletionStage<CqlSession> initFuture = newSession();
+
+    factoryHelper.waitForCall(node1, KEYSPACE, NodeDistance.LOCAL);
+    factoryHelper.waitForCall(node2, KEYSPACE, NodeDistance.LOCAL);
+    factoryHelper.waitForCall(node3, KEYSPACE, NodeDistance.LOCAL);
+
+    // 2 out of 3 pools must be connected
+    pool1Future.complete(pool1);
+    pool2Future.complete(pool2);
+    assertThatStage(initFuture).isNotDone();
+
+    pool3Future.complete(pool3);
+    assertThatStage(initFuture).isSuccess();
+  }
+
+  @Test
+  public void should_wait_for_all_local_pools_if_ready_fraction_is_invalid() {
+    when(defaultProfile.getDouble(DefaultDriverOption.CONNECTION_POOL_INIT_READY_FRACTION))
+        .thenReturn(0.0);
+
+    CompletableFuture<ChannelPool> pool1Future = new CompletableFuture<>();
+    CompletableFuture<ChannelPool> pool2Future = new CompletableFuture<>();
+    CompletableFuture<ChannelPool> pool3Future = new CompletableFuture<>();
+    ChannelPool pool1 = mockPool(node1);
+    ChannelPool pool2 = mockPool(node2);
+    ChannelPool pool3 = mockPool(node3);
+    when(pool1.size()).thenReturn(1);
+    when(pool2.size()).thenReturn(1);
+    when(pool3.size()).thenReturn(1);
+    MockChannelPoolFactoryHelper factoryHelper =
+        MockChannelPoolFactoryHelper.builder(channelPoolFactory)
+            .pending(node1, KEYSPACE, NodeDistance.LOCAL, pool1Future)
+            .pending(node2, KEYSPACE, NodeDistance.LOCAL, pool2Future)
+            .pending(node3, KEYSPACE, NodeDistance.LOCAL, pool3Future)
+            .build();
+
+    CompletionStage<CqlSession> initFuture = newSession();
+
+    factoryHelper.waitForCall(node1, KEYSPACE, NodeDistance.LOCAL);
+    factoryHelper.waitForCall(node2, KEYSPACE, NodeDistance.LOCAL);
+    factoryHelper.waitForCall(node3, KEYSPACE, NodeDistance.LOCAL);
+
+    // Falls back to 1: all pools must be connected
+    pool1Future.complete(pool1);
+    pool2Future.complete(pool2);
+    assertThatStage(initFuture).isNotDone();
+
+    pool3Future.complete(pool3);
+    assertThatStage(initFuture).isSuccess();
+  }
+
+  @Test
+  public void should_keep_initializing_pools_in_background_once_ready() {
+    when(defaultProfile.getDouble(DefaultDriverOption.CONNECTION_POOL_INIT_READY_FRACTION))
+        .thenReturn(0.5);
+    when(node3.getDistance()).thenReturn(NodeDistance.REMOTE);
+
+    CompletableFuture<ChannelPool> pool3Future = new CompletableFuture<>();
+    ChannelPool pool1 = mockPool(node1);
+    ChannelPool pool2 = mockPool(node2);
+    ChannelPool pool3 = mockPool(node3);
+    when(pool1.size()).thenReturn(1);
+    when(pool2.size()).thenReturn(1);
+    MockChannelPoolFactoryHelper factoryHelper =
+        MockChannelPoolFactoryHelper.builder(channelPoolFactory)
+            .success(node1, KEYSPACE, NodeDistance.LOCAL, pool1)
+            .success(node2, KEYSPACE, NodeDistance.LOCAL, pool2)
+            .pending(node3, KEYSPACE, NodeDistance.REMOTE, pool3Future)
+            .build();
+
+    CompletionStage<CqlSession> initFuture = newSession();
+
+    factoryHelper.waitForCall(node1, KEYSPACE, NodeDistance.LOCAL);
+    factoryHelper.waitForCall(node2, KEYSPACE, NodeDistance.LOCAL);
+    factoryHelper.waitForCall(node3, KEYSPACE, NodeDistance.REMOTE);
+
+    // The REMOTE pool is not needed to be ready
+    assertThatStage(initFuture).isSuccess();
+    DefaultSession session =
+        (DefaultSession) CompletableFutures.getCompleted(initFuture.toCompletableFuture());
+    assertThat(session.getPools()).containsOnlyKeys(node1, node2);
+
+    pool3Future.complete(pool3);
+    await().untilAsserted(() -> assertThat(session.getPools()).containsValues(pool3));
+    // Not a new node, so no need to wake up the pool if it's lazy
+    verify(pool3, never()).wakeUp();
+  }
+
   @Test
   public void should_not_connect_to_ignored_nodes() {
     when(node2.getDistance()).thenReturn(NodeDistance.IGNORED);
@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.session;
+
+import static com.datastax.oss.driver.Assertions.assertThat;
+import static com.datastax.oss.driver.Assertions.assertThatStage;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.internal.core.cql.DefaultPrepareRequest;
+import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
+import com.datastax.oss.protocol.internal.util.Bytes;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+
+public class PreparedStatementRegistryTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void should_write_and_read_statements_most_executed_first() throws IOException {
+    Path path = folder.getRoot().toPath().resolve("registry.tsv");
+    RepreparePayload cold = payload("0x01", "SELECT * FROM t WHERE k = ?", null, 1);
+    RepreparePayload hot =
+        payload("0x02", "SELECT *\n\tFROM t\r\nWHERE k = '\\' AND c = ?", "MyKs", 10);
+    RepreparePayload withCustomPayload =
+        new RepreparePayload(
+            Bytes.fromHexString("0x03"),
+            "SELECT * FROM t",
+            null,
+            ImmutableMap.of("key", Bytes.fromHexString("0xcafe")));
+
+    PreparedStatementRegistry.write(path, ImmutableList.of(cold, hot, withCustomPayload));
+    List<RepreparePayload> payloads = PreparedStatementRegistry.read(path);
+
+    assertThat(payloads).hasSize(2);
+    assertThat(payloads.get(0).id).isEqualTo(hot.id);
+    assertThat(payloads.get(0).query).isEqualTo(hot.query);
+    assertThat(payloads.get(0).keyspace).isEqualTo(CqlIdentifier.fromInternal("MyKs"));
+    assertThat(payloads.get(1).id).isEqualTo(cold.id);
+    assertThat(payloads.get(1).query).isEqualTo(cold.query);
+    assertThat(payloads.get(1).keyspace).isNull();
+  }
+
+  @Test
+  public void should_read_statements_by_executions_and_skip_malformed_lines() throws IOException {
+    Path path = folder.getRoot().toPath().resolve("registry.tsv");
+    Files.write(
+        path,
+        ImmutableList.of(
+            "# id\tkeyspace\texecutions\tquery",
+            "0x01\t\t1\tmock query 1",
+            "0x02\t\tnot a number\tmock query 2",
+            "0x03\tks\t10\tmock query 3",
+            "0x04\t\t5\tmock query 4"),
+        StandardCharsets.UTF_8);
+
+    List<RepreparePayload> payloads = PreparedStatementRegistry.read(path);
+
+    assertThat(payloads).hasSize(3);
+    assertThat(payloads.get(0).query).isEqualTo("mock query 3");
+    assertThat(payloads.get(1).query).isEqualTo("mock query 4");
+    assertThat(payloads.get(2).query).isEqualTo("mock query 1");
+  }
+
+  @Test
+  public void should_prepare_all_statements_and_ignore_errors() throws IOException {
+    Path path = folder.getRoot().toPath().resolve("registry.tsv");
+    PreparedStatementRegistry.write(
+        path,
+        ImmutableList.of(
+            payload("0x01", "mock query 1", "ks", 3),
+            payload("0x02", "mock query 2", null, 2),
+            payload("0x03", "mock query 3", null, 1)));
+
+    PreparedStatement prepared = mock(PreparedStatement.class);
+    when(prepared.getId()).thenReturn(Bytes.fromHexString("0x01"));
+    CqlSession session = mock(CqlSession.class);
+    when(session.prepareAsync(any(SimpleStatement.class)))
+        .thenReturn(
+            CompletableFuture.completedFuture(prepared),
+            CompletableFutures.failedFuture(new RuntimeException("mock error")),
+            CompletableFuture.completedFuture(prepared));
+
+    PreparedStatementRegistry registry =
+        new PreparedStatementRegistry("test", path, 2, ImmediateEventExecutor.INSTANCE);
+
+    assertThatStage(registry.prepareAll(session)).isSuccess();
+
+    ArgumentCaptor<SimpleStatement> captor = ArgumentCaptor.forClass(SimpleStatement.class);
+    verify(session, times(3)).prepareAsync(captor.capture());
+    List<SimpleStatement> statements = captor.getAllValues();
+    assertThat(statements.get(0).getQuery()).isEqualTo("mock query 1");
+    assertThat(statements.get(0).getKeyspace()).isEqualTo(CqlIdentifier.fromInternal("ks"));
+    assertThat(statements.get(1).getQuery()).isEqualTo("mock query 2");
+    assertThat(statements.get(1).getKeyspace()).isNull();
+    assertThat(statements.get(2).getQuery()).isEqualTo("mock query 3");
+    registry.close();
+  }
+
+  @Test
+  public void should_move_on_if_prepare_throws() throws IOException {
+    Path path = folder.getRoot().toPath().resolve("registry.tsv");
+    PreparedStatementRegistry.write(
+        path,
+        ImmutableList.of(
+            payload("0x01", "mock query 1", null, 2), payload("0x02", "mock query 2", null, 1)));
+    CqlSession session = mock(CqlSession.class);
+    when(session.prepareAsync(any(SimpleStatement.class)))
+        .thenThrow(new RuntimeException("mock error"))
+        .thenReturn(CompletableFuture.completedFuture(mock(PreparedStatement.class)));
+    PreparedStatementRegistry registry =
+        new PreparedStatementRegistry("test", path, 1, ImmediateEventExecutor.INSTANCE);
+
+    assertThatStage(registry.prepareAll(session)).isSuccess();
+    verify(session, times(2)).prepareAsync(any(SimpleStatement.class));
+    assertThat(registry.preparedAtStartup).hasSize(1);
+    registry.close();
+  }
+
+  @Test
+  public void should_fail_if_workers_cannot_start() throws IOException {
+    Path path = folder.getRoot().toPath().resolve("registry.tsv");
+    PreparedStatementRegistry.write(
+        path, ImmutableList.of(payload("0x01", "mock query 1", null, 1)));
+    CqlSession session = mock(CqlSession.class);
+    // Not a valid value for the registry's map, makes startWorkers throw
+    when(session.prepareAsync(any(SimpleStatement.class))).thenReturn(null);
+    PreparedStatementRegistry registry =
+        new PreparedStatementRegistry("test", path, 1, ImmediateEventExecutor.INSTANCE);
+
+    assertThatStage(registry.prepareAll(session))
+        .isFailed(error -> assertThat(error).isInstanceOf(NullPointerException.class));
+    registry.close();
+  }
+
+  @Test
+  public void should_release_statement_when_application_prepares_it() throws IOException {
+    Path path = folder.getRoot().toPath().resolve("registry.tsv");
+    PreparedStatementRegistry.write(
+        path,
+        ImmutableList.of(
+            payload("0x01", "mock query 1", "ks", 2), payload("0x02", "mock query 2", null, 1)));
+    CqlSession session = mock(CqlSession.class);
+    when(session.prepareAsync(any(SimpleStatement.class)))
+        .thenReturn(CompletableFuture.completedFuture(mock(PreparedStatement.class)));
+    PreparedStatementRegistry registry =
+        new PreparedStatementRegistry("test", path, 2, ImmediateEventExecutor.INSTANCE);
+    assertThatStage(registry.prepareAll(session)).isSuccess();
+    assertThat(registry.preparedAtStartup).hasSize(2);
+
+    // Same query in another keyspace: not the same statement
+    registry.release(
+        new DefaultPrepareRequest(SimpleStatement.newInstance("mock query 1").setKeyspace("ks2")));
+    assertThat(registry.preparedAtStartup).hasSize(2);
+
+    registry.release(
+        new DefaultPrepareRequest(SimpleStatement.newInstance("mock query 1").setKeyspace("ks")));
+    assertThat(registry.preparedAtStartup).hasSize(1);
+
+    registry.close();
+    assertThat(registry.preparedAtStartup).isEmpty();
+  }
+
+  @Test
+  public void should_save_statements() throws IOException {
+    Path path = folder.getRoot().toPath().resolve("registry.tsv");
+    PreparedStatementRegistry registry =
+        new PreparedStatementRegistry("test", path, 2, ImmediateEventExecutor.INSTANCE);
+
+    assertThatStage(registry.saveAsync(ImmutableList.of(payload("0x01", "mock query", null, 1))))
+        .isSuccess();
+    registry.close();
+
+    List<RepreparePayload> payloads = PreparedStatementRegistry.read(path);
+    assertThat(payloads).hasSize(1);
+    assertThat(payloads.get(0).query).isEqualTo("mock query");
+  }
+
+  @Test
+  public void should_do_nothing_if_file_does_not_exist() {
+    Path path = folder.getRoot().toPath().resolve("missing.tsv");
+    CqlSession session = mock(CqlSession.class);
+
+    PreparedStatementRegistry registry =
+        new PreparedStatementRegistry("test", path, 2, ImmediateEventExecutor.INSTANCE);
+
+    assertThatStage(registry.prepareAll(session)).isSuccess();
+    verify(session, never()).prepareAsync(any(SimpleStatement.class));
+    registry.close();
+  }
+
+  private static RepreparePayload payload(
+      String id, String query, String keyspace, int executions) {
+    RepreparePayload payload =
+        new RepreparePayload(
+            Bytes.fromHexString(id),
+            query,
+            keyspace == null ? null : CqlIdentifier.fromInternal(keyspace),
+            Collections.emptyMap());
+    for (int i = 0; i < executions; i++) {
+      payload.recordExecution();
+    }
+    return payload;
+  }
+}
@@ -288,6 +288,33 @@ public class ReprepareOnUpTest {
     assertThatStage(done).isSuccess(v -> assertThat(reprepareOnUp.queries).isEmpty());
   }
 
+  @Test
+  public void should_reprepare_most_executed_statements_first() {
+    when(defaultProfile.getBoolean(DefaultDriverOption.REPREPARE_CHECK_SYSTEM_TABLE))
+        .thenReturn(false);
+    when(defaultProfile.getInt(DefaultDriverOption.REPREPARE_MAX_STATEMENTS)).thenReturn(2);
+
+    Map<ByteBuffer, RepreparePayload> payloads = getMockPayloads('a', 'b', 'c');
+    recordExecutions(payloads, 'b', 5);
+    recordExecutions(payloads, 'c', 10);
+
+    MockReprepareOnUp reprepareOnUp =
+        new MockReprepareOnUp(
+            "test", pool, ImmediateEventExecutor.INSTANCE, payloads, context, whenPrepared);
+
+    reprepareOnUp.start();
+
+    for (char c : new char[] {'c', 'b'}) {
+      MockAdminQuery adminQuery = reprepareOnUp.queries.poll();
+      assertThat(adminQuery).isNotNull();
+      assertThat(adminQuery.request).isInstanceOf(Prepare.class);
+      assertThat(((Prepare) adminQuery.request).cqlQuery).isEqualTo("mock query " + c);
+      adminQuery.resultFuture.complete(null);
+    }
+
+    assertThatStage(done).isSuccess(v -> assertThat(reprepareOnUp.queries).isEmpty());
+  }
+
   @Test
   public void should_limit_number_of_statements_reprepared_in_parallel() {
     when(defaultProfile.getInt(DefaultDriverOption.REPREPARE_MAX_PARALLELISM)).thenReturn(3);
@@ -347,6 +374,14 @@ public class ReprepareOnUpTest {
     return builder.build();
   }
 
+  private void recordExecutions(
+      Map<ByteBuffer, RepreparePayload> payloads, char value, int executions) {
+    RepreparePayload payload = payloads.get(Bytes.fromHexString("0x0" + value));
+    for (int i = 0; i < executions; i++) {
+      payload.recordExecution();
+    }
+  }
+
   /** Bypasses the channel to make testing easier. */
   private static class MockReprepareOnUp extends ReprepareOnUp {
 
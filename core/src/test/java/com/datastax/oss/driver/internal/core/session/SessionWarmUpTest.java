@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.session;
+
+import static com.datastax.oss.driver.Assertions.assertThat;
+import static com.datastax.oss.driver.Assertions.assertThatStage;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.DriverTimeoutException;
+import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
+import com.datastax.oss.driver.api.core.config.DriverConfig;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.detach.AttachmentPoint;
+import com.datastax.oss.driver.api.core.loadbalancing.NodeDistance;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.metadata.NodeState;
+import com.datastax.oss.driver.api.core.metrics.DefaultSessionMetric;
+import com.datastax.oss.driver.api.core.servererrors.SyntaxError;
+import com.datastax.oss.driver.api.core.session.WarmUpSpec;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.driver.internal.core.context.NettyOptions;
+import com.datastax.oss.driver.internal.core.cql.DefaultColumnDefinition;
+import com.datastax.oss.driver.internal.core.cql.DefaultColumnDefinitions;
+import com.datastax.oss.driver.internal.core.metadata.MetadataManager;
+import com.datastax.oss.driver.internal.core.metrics.MetricsFactory;
+import com.datastax.oss.driver.internal.core.metrics.SessionMetricUpdater;
+import com.datastax.oss.driver.internal.core.pool.ChannelPool;
+import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
+import com.datastax.oss.protocol.internal.response.result.ColumnSpec;
+import com.datastax.oss.protocol.internal.response.result.RawType;
+import io.netty.channel.DefaultEventLoopGroup;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class SessionWarmUpTest {
+
+  @Mock private CqlSession session;
+  @Mock private InternalDriverContext context;
+  @Mock private NettyOptions nettyOptions;
+  @Mock private DriverConfig config;
+  @Mock private DriverExecutionProfile defaultProfile;
+  @Mock private MetricsFactory metricsFactory;
+  @Mock private SessionMetricUpdater metricUpdater;
+  @Mock private CodecRegistry codecRegistry;
+  @Mock private MetadataManager metadataManager;
+  @Mock private Metadata metadata;
+  @Mock private PoolManager poolManager;
+  @Mock private Node node;
+  @Mock private ChannelPool pool;
+
+  private DefaultEventLoopGroup adminEventLoopGroup;
+
+  @Before
+  public void setup() {
+    MockitoAnnotations.initMocks(this);
+
+    adminEventLoopGroup = new DefaultEventLoopGroup(1);
+    when(nettyOptions.adminEventExecutorGroup()).thenReturn(adminEventLoopGroup);
+    when(context.getNettyOptions()).thenReturn(nettyOptions);
+    when(context.getSessionName()).thenReturn("test");
+    when(context.getConfig()).thenReturn(config);
+    when(config.getDefaultProfile()).thenReturn(defaultProfile);
+    when(defaultProfile.getInt(DefaultDriverOption.CONNECTION_POOL_LOCAL_SIZE)).thenReturn(2);
+    when(context.getMetricsFactory()).thenReturn(metricsFactory);
+    when(metricsFactory.getSessionUpdater()).thenReturn(metricUpdater);
+    when(context.getCodecRegistry()).thenReturn(codecRegistry);
+    when(session.getContext()).thenReturn(context);
+
+    when(node.getDistance()).thenReturn(NodeDistance.LOCAL);
+    when(node.getState()).thenReturn(NodeState.UP);
+    when(metadata.getNodes()).thenReturn(ImmutableMap.of(UUID.randomUUID(), node));
+    when(metadataManager.getMetadata()).thenReturn(metadata);
+    when(context.getMetadataManager()).thenReturn(metadataManager);
+    when(poolManager.getPools()).thenReturn(ImmutableMap.of(node, pool));
+    when(context.getPoolManager()).thenReturn(poolManager);
+  }
+
+  @After
+  public void teardown() {
+    adminEventLoopGroup.shutdownGracefully(100, 200, TimeUnit.MILLISECONDS);
+  }
+
+  @Test
+  public void should_prepare_statements_and_resolve_codecs() {
+    PreparedStatement prepared = mock(PreparedStatement.class);
+    ColumnDefinitions variables =
+        DefaultColumnDefinitions.valueOf(
+            ImmutableList.of(
+                new DefaultColumnDefinition(
+                    new ColumnSpec(
+                        "ks", "t", "c", 0, RawType.PRIMITIVES.get(ProtocolConstants.DataType.INT)),
+                    AttachmentPoint.NONE)));
+    when(prepared.getVariableDefinitions()).thenReturn(variables);
+    when(prepared.getResultSetDefinitions())
+        .thenReturn(DefaultColumnDefinitions.valueOf(ImmutableList.of()));
+    when(session.prepareAsync(any(SimpleStatement.class)))
+        .thenReturn(CompletableFuture.completedFuture(prepared));
+
+    WarmUpSpec spec =
+        WarmUpSpec.builder()
+            .addQuery("SELECT * FROM ks.t WHERE c = ?")
+            .addQuery("DELETE FROM ks.t WHERE c = ?")
+            .withWaitForPools(false)
+            .build();
+
+    assertThatStage(new SessionWarmUp(session, spec).run()).isSuccess();
+
+    verify(session, times(2)).prepareAsync(any(SimpleStatement.class));
+    verify(codecRegistry, times(2)).codecFor(DataTypes.INT);
+    verify(metricUpdater, times(2)).incrementCounter(DefaultSessionMetric.WARM_UP_PREPARED, null);
+  }
+
+  @Test
+  public void should_fail_if_statement_cannot_be_prepared() {
+    SyntaxError error = new SyntaxError(node, "mock syntax error");
+    when(session.prepareAsync(any(SimpleStatement.class)))
+        .thenReturn(CompletableFutures.failedFuture(error));
+
+    WarmUpSpec spec = WarmUpSpec.builder().addQuery("SELEC").withWaitForPools(false).build();
+
+    assertThatStage(new SessionWarmUp(session, spec).run())
+        .isFailed(e -> assertThat(e).isEqualTo(error));
+  }
+
+  @Test
+  public void should_fail_with_shared_error_if_statements_fail_with_same_instance() {
+    // Cached prepare futures are shared, so several statements can fail with the same instance
+    SyntaxError error = new SyntaxError(node, "mock syntax error");
+    when(session.prepareAsync(any(SimpleStatement.class)))
+        .thenReturn(CompletableFutures.failedFuture(error));
+
+    WarmUpSpec spec =
+        WarmUpSpec.builder().addQuery("SELEC").addQuery("SELEC").withWaitForPools(false).build();
+
+    assertThatStage(new SessionWarmUp(session, spec).run())
+        .isFailed(e -> assertThat(e).isSameAs(error));
+    assertThat(error.getSuppressed()).isEmpty();
+  }
+
+  @Test
+  public void should_execute_synthetic_requests_and_ignore_errors() {
+    AsyncResultSet resultSet = mock(AsyncResultSet.class);
+    when(resultSet.getColumnDefinitions())
+        .thenReturn(DefaultColumnDefinitions.valueOf(ImmutableList.of()));
+    when(resultSet.currentPage()).thenReturn(Collections.emptyList());
+    when(session.executeAsync(any(Statement.class)))
+        .thenReturn(
+            CompletableFuture.completedFuture(resultSet),
+            CompletableFutures.failedFuture(new RuntimeException("mock error")),
+            CompletableFuture.completedFuture(resultSet));
+
+    WarmUpSpec spec =
+        WarmUpSpec.builder()
+            .withSyntheticRequests(3)
+            .withConcurrency(2)
+            .withWaitForPools(false)
+            .build();
+
+    assertThatStage(new SessionWarmUp(session, spec).run()).isSuccess();
+
+    verify(session, times(3)).executeAsync(any(Statement.class));
+    verify(metricUpdater, times(2)).incrementCounter(DefaultSessionMetric.WARM_UP_REQUESTS, null);
+  }
+
+  @Test
+  public void should_wait_for_local_pools() {
+    when(pool.size()).thenReturn(1, 1, 2);
+
+    WarmUpSpec spec = WarmUpSpec.builder().build();
+
+    assertThatStage(new SessionWarmUp(session, spec).run()).isSuccess();
+    verify(pool, times(2)).wakeUp();
+  }
+
+  @Test
+  public void should_not_wait_for_down_nodes() {
+    when(node.getState()).thenReturn(NodeState.DOWN);
+
+    WarmUpSpec spec = WarmUpSpec.builder().build();
+
+    assertThatStage(new SessionWarmUp(session, spec).run()).isSuccess();
+    verify(pool, never()).wakeUp();
+  }
+
+  @Test
+  public void should_fail_if_pools_not_connected_in_time() {
+    when(pool.size()).thenReturn(1);
+
+    WarmUpSpec spec = WarmUpSpec.builder().withPoolTimeout(Duration.ofMillis(200)).build();
+
+    assertThatStage(new SessionWarmUp(session, spec).run())
+        .isFailed(e -> assertThat(e).isInstanceOf(DriverTimeoutException.class));
+  }
+
+  @Test
+  public void should_fail_if_session_context_is_not_internal() {
+    CqlSession customSession = mock(CqlSession.class);
+    when(customSession.getName()).thenReturn("custom");
+    when(customSession.getContext()).thenReturn(mock(DriverContext.class));
+    WarmUpSpec spec = WarmUpSpec.builder().withWaitForPools(false).build();
+
+    assertThatStage(SessionWarmUp.warmUp(customSession, spec))
+        .isFailed(e -> assertThat(e).isInstanceOf(UnsupportedOperationException.class));
+    verify(customSession, never()).prepareAsync(any(SimpleStatement.class));
+  }
+}
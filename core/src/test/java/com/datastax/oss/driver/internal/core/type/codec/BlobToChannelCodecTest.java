@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.type.codec.ExtraTypeCodecs;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import com.datastax.oss.protocol.internal.util.Bytes;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import org.junit.Test;
+
+public class BlobToChannelCodecTest extends CodecTestBase<ReadableByteChannel> {
+
+  public BlobToChannelCodecTest() {
+    this.codec = ExtraTypeCodecs.BLOB_TO_CHANNEL;
+  }
+
+  @Test
+  public void should_encode() {
+    assertThat(encode(channel(new byte[] {(byte) 0xca, (byte) 0xfe}))).isEqualTo("0xcafe");
+    assertThat(encode(channel(new byte[0]))).isEqualTo("0x");
+    assertThat(encode(null)).isNull();
+  }
+
+  @Test
+  public void should_encode_large_channel() {
+    byte[] contents = new byte[100_000];
+    new Random(0).nextBytes(contents);
+
+    ByteBuffer encoded = codec.encode(channel(contents), ProtocolVersion.DEFAULT);
+
+    assertThat(encoded).isNotNull();
+    assertThat(Bytes.getArray(encoded)).isEqualTo(contents);
+  }
+
+  @Test
+  public void should_encode_remaining_contents_of_file_channel() throws IOException {
+    byte[] contents = new byte[100_000];
+    new Random(0).nextBytes(contents);
+    Path file = Files.createTempFile("blob", ".bin");
+    try {
+      Files.write(file, contents);
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+        channel.position(10);
+
+        ByteBuffer encoded = codec.encode(channel, ProtocolVersion.DEFAULT);
+
+        assertThat(encoded).isNotNull();
+        assertThat(encoded.remaining()).isEqualTo(contents.length - 10);
+        assertThat(encoded.capacity()).isEqualTo(contents.length - 10);
+        assertThat(encoded).isEqualTo(ByteBuffer.wrap(contents, 10, contents.length - 10));
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void should_decode() throws IOException {
+    ReadableByteChannel decoded = decode("0xcafebabe");
+    assertThat(decoded).isNotNull();
+
+    ByteBuffer target = ByteBuffer.allocate(3);
+    assertThat(decoded.read(target)).isEqualTo(3);
+    target.flip();
+    assertThat(target).isEqualTo(Bytes.fromHexString("0xcafeba"));
+    target.clear();
+    assertThat(decoded.read(target)).isEqualTo(1);
+    assertThat(decoded.read(target)).isEqualTo(-1);
+
+    decoded.close();
+    assertThat(decoded.isOpen()).isFalse();
+    assertThatThrownBy(() -> decoded.read(ByteBuffer.allocate(1)))
+        .isInstanceOf(ClosedChannelException.class);
+
+    assertThat(decode(null)).isNull();
+  }
+
+  @Test
+  public void should_not_share_position_between_decoded_and_input() throws IOException {
+    ByteBuffer input = Bytes.fromHexString("0xcafebabe");
+    ReadableByteChannel decoded = codec.decode(input, ProtocolVersion.DEFAULT);
+
+    assertThat(decoded).isNotNull();
+    assertThat(decoded.read(ByteBuffer.allocate(4))).isEqualTo(4);
+    assertThat(input.remaining()).isEqualTo(4);
+  }
+
+  @Test
+  public void should_accept_generic_type() {
+    assertThat(codec.accepts(GenericType.of(ReadableByteChannel.class))).isTrue();
+  }
+
+  @Test
+  public void should_accept_raw_type() {
+    assertThat(codec.accepts(ReadableByteChannel.class)).isTrue();
+    assertThat(codec.accepts(FileChannel.class)).isTrue();
+  }
+
+  @Test
+  public void should_accept_object() {
+    assertThat(codec.accepts(channel(new byte[0]))).isTrue();
+  }
+
+  private static ReadableByteChannel channel(byte[] contents) {
+    return Channels.newChannel(new ByteArrayInputStream(contents));
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.type.codec.ExtraTypeCodecs;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import com.datastax.oss.protocol.internal.util.Bytes;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import org.junit.Test;
+
+public class BlobToInputStreamCodecTest extends CodecTestBase<InputStream> {
+
+  public BlobToInputStreamCodecTest() {
+    this.codec = ExtraTypeCodecs.BLOB_TO_INPUT_STREAM;
+  }
+
+  @Test
+  public void should_encode() {
+    assertThat(encode(stream("0xcafebabe"))).isEqualTo("0xcafebabe");
+    assertThat(encode(stream("0x"))).isEqualTo("0x");
+    assertThat(encode(null)).isNull();
+  }
+
+  @Test
+  public void should_encode_stream_larger_than_available_bytes() {
+    byte[] contents = new byte[100_000];
+    new Random(0).nextBytes(contents);
+    // Reports no available bytes and returns small chunks
+    InputStream in =
+        new FilterInputStream(new ByteArrayInputStream(contents)) {
+          @Override
+          public int available() {
+            return 0;
+          }
+
+          @Override
+          public int read(byte[] b, int off, int len) throws IOException {
+            return super.read(b, off, Math.min(len, 1000));
+          }
+        };
+
+    ByteBuffer encoded = codec.encode(in, ProtocolVersion.DEFAULT);
+
+    assertThat(encoded).isNotNull();
+    assertThat(Bytes.getArray(encoded)).isEqualTo(contents);
+  }
+
+  @Test
+  public void should_not_retain_unused_capacity_when_encoding_small_stream() {
+    ByteBuffer encoded = codec.encode(stream("0xcafebabe"), ProtocolVersion.DEFAULT);
+
+    assertThat(encoded).isNotNull();
+    assertThat(encoded.remaining()).isEqualTo(4);
+    assertThat(encoded.capacity()).isEqualTo(4);
+
+    // Same if the stream doesn't know its size
+    encoded =
+        codec.encode(
+            new FilterInputStream(stream("0xcafebabe")) {
+              @Override
+              public int available() {
+                return 0;
+              }
+            },
+            ProtocolVersion.DEFAULT);
+
+    assertThat(encoded).isNotNull();
+    assertThat(encoded.remaining()).isEqualTo(4);
+    assertThat(encoded.capacity()).isEqualTo(4);
+  }
+
+  @Test
+  public void should_decode() throws IOException {
+    assertThat(readAll(decode("0xcafebabe"))).isEqualTo(Bytes.fromHexString("0xcafebabe"));
+    assertThat(readAll(decode("0x"))).isEqualTo(Bytes.fromHexString("0x"));
+    assertThat(decode(null)).isNull();
+  }
+
+  @Test
+  public void should_not_share_position_between_decoded_and_input() throws IOException {
+    ByteBuffer input = Bytes.fromHexString("0xcafebabe");
+    InputStream decoded = codec.decode(input, ProtocolVersion.DEFAULT);
+
+    assertThat(decoded).isNotNull();
+    assertThat(decoded.available()).isEqualTo(4);
+    assertThat(decoded.read()).isEqualTo(0xca);
+    assertThat(decoded.skip(2)).isEqualTo(2);
+    assertThat(decoded.read()).isEqualTo(0xbe);
+    assertThat(decoded.read()).isEqualTo(-1);
+    assertThat(input.remaining()).isEqualTo(4);
+  }
+
+  @Test
+  public void should_accept_generic_type() {
+    assertThat(codec.accepts(GenericType.of(InputStream.class))).isTrue();
+  }
+
+  @Test
+  public void should_accept_raw_type() {
+    assertThat(codec.accepts(InputStream.class)).isTrue();
+    assertThat(codec.accepts(ByteArrayInputStream.class)).isTrue();
+  }
+
+  @Test
+  public void should_accept_object() {
+    assertThat(codec.accepts(stream("0xcafebabe"))).isTrue();
+  }
+
+  private static InputStream stream(String hex) {
+    return new ByteArrayInputStream(Bytes.getArray(Bytes.fromHexString(hex)));
+  }
+
+  private static ByteBuffer readAll(InputStream in) throws IOException {
+    byte[] buffer = new byte[16];
+    int length = 0;
+    int read;
+    while ((read = in.read(buffer, length, buffer.length - length)) > 0) {
+      length += read;
+    }
+    return ByteBuffer.wrap(buffer, 0, length);
+  }
+}
@@ -19,8 +19,12 @@ package com.datastax.oss.driver.internal.core.type.codec;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.type.codec.ExtraTypeCodecs;
 import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
 import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import org.junit.Test;
 
 public class TextCodecTest extends CodecTestBase<String> {
@@ -43,6 +47,41 @@ public class TextCodecTest extends CodecTestBase<String> {
     assertThat(decode(null)).isNull();
   }
 
+  @Test
+  public void should_encode_and_decode_non_ascii() {
+    assertThat(encode("hëllo")).isEqualTo("0x68c3ab6c6c6f");
+    assertThat(decode("0x68c3ab6c6c6f")).isEqualTo("hëllo");
+    // Non-ASCII character after the first 8 bytes
+    assertThat(decode("0x616263646566676868c3ab")).isEqualTo("abcdefghhë");
+  }
+
+  @Test
+  public void should_decode_ascii_from_any_buffer() {
+    ByteBuffer heap = ByteBuffer.wrap("__hello world__".getBytes(StandardCharsets.US_ASCII));
+    heap.position(2).limit(13);
+    assertThat(codec.decode(heap, ProtocolVersion.DEFAULT)).isEqualTo("hello world");
+    assertThat(heap.position()).isEqualTo(2);
+
+    ByteBuffer direct = ByteBuffer.allocateDirect(11);
+    direct.put("hello world".getBytes(StandardCharsets.US_ASCII)).flip();
+    assertThat(codec.decode(direct, ProtocolVersion.DEFAULT)).isEqualTo("hello world");
+    assertThat(direct.position()).isZero();
+  }
+
+  @Test
+  public void should_return_cached_instances_if_cache_enabled() {
+    codec = ExtraTypeCodecs.cachedText(16);
+
+    String first = decode("0x68656c6c6f");
+    String second = decode("0x68656c6c6f");
+    String other = decode("0x776f726c64");
+
+    assertThat(first).isEqualTo("hello").isSameAs(second);
+    assertThat(other).isEqualTo("world");
+    // Non-ASCII values are not cached
+    assertThat(decode("0x68c3ab6c6c6f")).isEqualTo("hëllo").isNotSameAs(decode("0x68c3ab6c6c6f"));
+  }
+
   @Test
   public void should_format() {
     assertThat(format("hello")).isEqualTo("'hello'");
@@ -39,6 +39,7 @@ import com.datastax.oss.driver.internal.core.data.DefaultTupleValue;
 import com.datastax.oss.driver.internal.core.type.DefaultTupleType;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
 import com.datastax.oss.protocol.internal.util.Bytes;
+import java.nio.ByteBuffer;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -146,6 +147,36 @@ public class TupleCodecTest extends CodecTestBase<TupleValue> {
     verifyZeroInteractions(textCodec);
   }
 
+  @Test
+  public void should_fail_to_decode_tuple_when_not_enough_bytes() {
+    assertThatThrownBy(() -> decode("0x" + "00000004" + "000000"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Not enough bytes to deserialize a tuple");
+    assertThatThrownBy(() -> decode("0x" + ("00000004" + "00000001") + "ffff"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Not enough bytes to deserialize a tuple");
+  }
+
+  @Test
+  public void should_decode_fields_on_access_and_copy_on_write() {
+    String hex = "0x" + ("00000004" + "00000001") + "ffffffff" + ("00000001" + "61");
+    ByteBuffer bytes = Bytes.fromHexString(hex);
+
+    TupleValue tuple = codec.decode(bytes, ProtocolVersion.DEFAULT);
+    verifyZeroInteractions(intCodec, doubleCodec, textCodec);
+
+    assertThat(tuple.getString(2)).isEqualTo("a");
+    verifyZeroInteractions(intCodec, doubleCodec);
+
+    tuple = tuple.setInt(0, 2);
+    assertThat(tuple.getInt(0)).isEqualTo(2);
+    assertThat(tuple.isNull(1)).isTrue();
+    assertThat(tuple.getString(2)).isEqualTo("a");
+    // The source buffer is left untouched
+    assertThat(bytes).isEqualTo(Bytes.fromHexString(hex));
+    assertThat(codec.decode(bytes, ProtocolVersion.DEFAULT).getInt(0)).isEqualTo(1);
+  }
+
   @Test
   public void should_format_null_tuple() {
     assertThat(format(null)).isEqualTo("NULL");
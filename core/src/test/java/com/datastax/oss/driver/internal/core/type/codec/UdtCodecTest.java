@@ -40,6 +40,7 @@ import com.datastax.oss.driver.internal.core.data.DefaultUdtValue;
 import com.datastax.oss.driver.internal.core.type.DefaultUserDefinedType;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
 import com.datastax.oss.protocol.internal.util.Bytes;
+import java.nio.ByteBuffer;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -183,6 +184,36 @@ public class UdtCodecTest extends CodecTestBase<UdtValue> {
     verifyZeroInteractions(textCodec);
   }
 
+  @Test
+  public void should_fail_to_decode_udt_when_not_enough_bytes() {
+    assertThatThrownBy(() -> decode("0x" + "00000004" + "000000"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Not enough bytes to deserialize a UDT value");
+    assertThatThrownBy(() -> decode("0x" + ("00000004" + "00000001") + "ffff"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Not enough bytes to deserialize a UDT value");
+  }
+
+  @Test
+  public void should_decode_fields_on_access_and_copy_on_write() {
+    String hex = "0x" + ("00000004" + "00000001") + "ffffffff" + ("00000001" + "61");
+    ByteBuffer bytes = Bytes.fromHexString(hex);
+
+    UdtValue udt = codec.decode(bytes, ProtocolVersion.DEFAULT);
+    verifyZeroInteractions(intCodec, doubleCodec, textCodec);
+
+    assertThat(udt.getString(2)).isEqualTo("a");
+    verifyZeroInteractions(intCodec, doubleCodec);
+
+    udt = udt.setInt(0, 2);
+    assertThat(udt.getInt(0)).isEqualTo(2);
+    assertThat(udt.isNull(1)).isTrue();
+    assertThat(udt.getString(2)).isEqualTo("a");
+    // The source buffer is left untouched
+    assertThat(bytes).isEqualTo(Bytes.fromHexString(hex));
+    assertThat(codec.decode(bytes, ProtocolVersion.DEFAULT).getInt(0)).isEqualTo(1);
+  }
+
   @Test
   public void should_format_null_udt() {
     assertThat(format(null)).isEqualTo("NULL");
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec.extras.array;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.codec.ExtraTypeCodecs;
+import com.datastax.oss.driver.internal.core.type.codec.CodecTestBase;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LongSetToArrayCodecTest extends CodecTestBase<long[]> {
+
+  @Before
+  public void setup() {
+    codec = ExtraTypeCodecs.LONG_SET_TO_ARRAY;
+  }
+
+  @Test
+  public void should_have_set_cql_type() {
+    assertThat(codec.getCqlType()).isEqualTo(DataTypes.setOf(DataTypes.BIGINT));
+  }
+
+  @Test
+  public void should_encode_null() {
+    assertThat(encode(null)).isNull();
+  }
+
+  @Test
+  public void should_encode_non_empty_array() {
+    assertThat(encode(new long[] {1, 2}))
+        .isEqualTo(
+            "0x"
+                + "00000002" // number of elements
+                + "00000008" // size of element 1
+                + "0000000000000001" // contents of element 1
+                + "00000008" // size of element 2
+                + "0000000000000002" // contents of element 2
+            );
+  }
+
+  @Test
+  public void should_decode_null_as_empty_array() {
+    assertThat(decode(null)).isEmpty();
+  }
+
+  @Test
+  public void should_decode_non_empty_array() {
+    assertThat(
+            decode(
+                "0x"
+                    + "00000002" // number of elements
+                    + "00000008" // size of element 1
+                    + "0000000000000001" // contents of element 1
+                    + "00000008" // size of element 2
+                    + "0000000000000002" // contents of element 2
+                ))
+        .containsExactly(1L, 2L);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_not_decode_array_with_null_elements() {
+    decode(
+        "0x"
+            + "00000001" // number of elements
+            + "FFFFFFFF" // size of element 1 (-1 for null)
+        );
+  }
+
+  @Test
+  public void should_format_with_set_brackets() {
+    assertThat(format(null)).isEqualTo("NULL");
+    assertThat(format(new long[] {})).isEqualTo("{}");
+    assertThat(format(new long[] {1, 2, 3})).isEqualTo("{1,2,3}");
+  }
+
+  @Test
+  public void should_parse_set_literal() {
+    assertThat(parse(null)).isNull();
+    assertThat(parse("{}")).isEmpty();
+    assertThat(parse(" {1, 2,3} ")).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_to_parse_list_literal() {
+    parse("[1,2,3]");
+  }
+
+  @Test
+  public void should_accept_object() {
+    assertThat(codec.accepts(new long[] {1, 2, 3})).isTrue();
+    assertThat(codec.accepts(new Long[] {1L, 2L, 3L})).isFalse();
+  }
+}
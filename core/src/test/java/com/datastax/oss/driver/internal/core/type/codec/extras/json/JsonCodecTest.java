@@ -29,6 +29,8 @@ import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableSet;
 import com.datastax.oss.protocol.internal.util.Bytes;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Set;
 import org.junit.Before;
@@ -72,6 +74,52 @@ public class JsonCodecTest extends CodecTestBase<Set<InetAddress>> {
     assertThat(decode(null)).isNull();
   }
 
+  @Test
+  public void should_decode_from_any_buffer() {
+    byte[] json = "[\"127.0.0.1\",\"0:0:0:0:0:0:0:1\"]".getBytes(StandardCharsets.UTF_8);
+
+    // Heap buffer that doesn't start at the beginning of its array
+    ByteBuffer heap = ByteBuffer.allocate(json.length + 4);
+    heap.putShort((short) 0).put(json).putShort((short) 0);
+    heap.position(2);
+    heap.limit(2 + json.length);
+    assertThat(codec.decode(heap.slice(), ProtocolVersion.DEFAULT)).isEqualTo(SET_OF_ADDRESSES);
+    assertThat(codec.decode(heap, ProtocolVersion.DEFAULT)).isEqualTo(SET_OF_ADDRESSES);
+    assertThat(heap.position()).isEqualTo(2);
+
+    ByteBuffer direct = ByteBuffer.allocateDirect(json.length);
+    direct.put(json).flip();
+    assertThat(codec.decode(direct, ProtocolVersion.DEFAULT)).isEqualTo(SET_OF_ADDRESSES);
+    assertThat(direct.position()).isEqualTo(0);
+  }
+
+  @Test
+  public void should_encode_and_decode_large_values() throws UnknownHostException {
+    ImmutableSet.Builder<InetAddress> builder = ImmutableSet.builder();
+    for (int i = 0; i < 1000; i++) {
+      builder.add(InetAddress.getByAddress(new byte[] {10, 0, (byte) (i >> 8), (byte) i}));
+    }
+    Set<InetAddress> addresses = builder.build();
+
+    // Twice, the second time with a larger initial buffer
+    for (int i = 0; i < 2; i++) {
+      ByteBuffer bytes = codec.encode(addresses, ProtocolVersion.DEFAULT);
+      assertThat(codec.decode(bytes, ProtocolVersion.DEFAULT)).isEqualTo(addresses);
+    }
+  }
+
+  @Test
+  public void should_not_retain_large_buffer_after_large_value() throws UnknownHostException {
+    ImmutableSet.Builder<InetAddress> builder = ImmutableSet.builder();
+    for (int i = 0; i < 1000; i++) {
+      builder.add(InetAddress.getByAddress(new byte[] {10, 0, (byte) (i >> 8), (byte) i}));
+    }
+    codec.encode(builder.build(), ProtocolVersion.DEFAULT);
+
+    ByteBuffer bytes = codec.encode(SET_OF_ADDRESSES, ProtocolVersion.DEFAULT);
+    assertThat(bytes.capacity()).isEqualTo(bytes.remaining());
+  }
+
   @Test
   public void should_format() {
     assertThat(format(SET_OF_ADDRESSES)).isEqualTo("'[\"127.0.0.1\",\"0:0:0:0:0:0:0:1\"]'");
@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec.extras.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.datastax.oss.driver.api.core.data.ObjectDoubleMap;
+import com.datastax.oss.driver.api.core.data.ObjectIntMap;
+import com.datastax.oss.driver.api.core.data.ObjectLongMap;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.codec.ExtraTypeCodecs;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import com.datastax.oss.driver.internal.core.type.codec.CodecTestBase;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
+import com.tngtech.java.junit.dataprovider.DataProvider;
+import com.tngtech.java.junit.dataprovider.DataProviderRunner;
+import com.tngtech.java.junit.dataprovider.UseDataProvider;
+import java.util.Collections;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(DataProviderRunner.class)
+public class PrimitiveValueMapCodecTest extends CodecTestBase<Object> {
+
+  /**
+   * Each row contains: the codec, the CQL type of the values, the Java type of the maps, the boxed
+   * equivalent of the test map {@code {a:1, b:2}}, its two encoded values (size and contents), and
+   * its formatted representation.
+   */
+  @DataProvider
+  public static Object[][] codecs() {
+    return new Object[][] {
+      {
+        ExtraTypeCodecs.mapToIntValues(TypeCodecs.TEXT),
+        DataTypes.INT,
+        new GenericType<ObjectIntMap<String>>() {},
+        ImmutableMap.of("a", 1, "b", 2),
+        "00000004" + "00000001",
+        "00000004" + "00000002",
+        "{'a':1,'b':2}"
+      },
+      {
+        ExtraTypeCodecs.mapToLongValues(TypeCodecs.TEXT),
+        DataTypes.BIGINT,
+        new GenericType<ObjectLongMap<String>>() {},
+        ImmutableMap.of("a", 1L, "b", 2L),
+        "00000008" + "0000000000000001",
+        "00000008" + "0000000000000002",
+        "{'a':1,'b':2}"
+      },
+      {
+        ExtraTypeCodecs.mapToDoubleValues(TypeCodecs.TEXT),
+        DataTypes.DOUBLE,
+        new GenericType<ObjectDoubleMap<String>>() {},
+        ImmutableMap.of("a", 1.0, "b", 2.0),
+        "00000008" + "3ff0000000000000",
+        "00000008" + "4000000000000000",
+        "{'a':1.0,'b':2.0}"
+      },
+    };
+  }
+
+  @Test
+  @UseDataProvider("codecs")
+  public void should_have_map_cql_and_java_types(
+      TypeCodec<?> codec,
+      DataType valueType,
+      GenericType<?> javaType,
+      Map<String, Object> boxed,
+      String value1,
+      String value2,
+      String formatted) {
+    use(codec);
+    assertThat(codec.getCqlType()).isEqualTo(DataTypes.mapOf(DataTypes.TEXT, valueType));
+    assertThat(codec.getJavaType()).isEqualTo(javaType);
+  }
+
+  @Test
+  @UseDataProvider("codecs")
+  public void should_encode(
+      TypeCodec<?> codec,
+      DataType valueType,
+      GenericType<?> javaType,
+      Map<String, Object> boxed,
+      String value1,
+      String value2,
+      String formatted) {
+    AbstractPrimitiveValueMapCodec<String, Object, Object> mapCodec = use(codec);
+    assertThat(encode(null)).isNull();
+    assertThat(encode(mapCodec.fromBoxed(Collections.emptyMap()))).isEqualTo("0x00000000");
+    assertThat(encode(mapCodec.fromBoxed(boxed))).isEqualTo(encoded(value1, value2));
+  }
+
+  @Test
+  @UseDataProvider("codecs")
+  public void should_decode(
+      TypeCodec<?> codec,
+      DataType valueType,
+      GenericType<?> javaType,
+      Map<String, Object> boxed,
+      String value1,
+      String value2,
+      String formatted) {
+    AbstractPrimitiveValueMapCodec<String, Object, Object> mapCodec = use(codec);
+    assertThat(mapCodec.toBoxed(decode(null))).isEmpty();
+    assertThat(mapCodec.toBoxed(decode("0x00000000"))).isEmpty();
+    Object map = decode(encoded(value1, value2));
+    assertThat(map).isEqualTo(mapCodec.fromBoxed(boxed));
+    assertThat(mapCodec.toBoxed(map)).containsExactlyEntriesOf(boxed);
+  }
+
+  @Test(expected = NullPointerException.class)
+  @UseDataProvider("codecs")
+  public void should_not_decode_null_values(
+      TypeCodec<?> codec,
+      DataType valueType,
+      GenericType<?> javaType,
+      Map<String, Object> boxed,
+      String value1,
+      String value2,
+      String formatted) {
+    use(codec);
+    decode(
+        "0x"
+            + "00000001" // number of entries
+            + "00000001" // size of key 1
+            + "61" // contents of key 1 ("a")
+            + "ffffffff" // size of value 1 (-1 for null)
+        );
+  }
+
+  @Test(expected = NullPointerException.class)
+  @UseDataProvider("codecs")
+  public void should_not_decode_null_keys(
+      TypeCodec<?> codec,
+      DataType valueType,
+      GenericType<?> javaType,
+      Map<String, Object> boxed,
+      String value1,
+      String value2,
+      String formatted) {
+    use(codec);
+    decode(
+        "0x"
+            + "00000001" // number of entries
+            + "ffffffff" // size of key 1 (-1 for null)
+            + value1);
+  }
+
+  @Test
+  @UseDataProvider("codecs")
+  public void should_format_and_parse(
+      TypeCodec<?> codec,
+      DataType valueType,
+      GenericType<?> javaType,
+      Map<String, Object> boxed,
+      String value1,
+      String value2,
+      String formatted) {
+    AbstractPrimitiveValueMapCodec<String, Object, Object> mapCodec = use(codec);
+    assertThat(format(null)).isEqualTo("NULL");
+    assertThat(format(mapCodec.fromBoxed(boxed))).isEqualTo(formatted);
+    assertThat(parse(formatted)).isEqualTo(mapCodec.fromBoxed(boxed));
+    assertThat(parse("NULL")).isNull();
+  }
+
+  @Test
+  @UseDataProvider("codecs")
+  public void should_accept_object(
+      TypeCodec<?> codec,
+      DataType valueType,
+      GenericType<?> javaType,
+      Map<String, Object> boxed,
+      String value1,
+      String value2,
+      String formatted) {
+    AbstractPrimitiveValueMapCodec<String, Object, Object> mapCodec = use(codec);
+    assertThat(codec.accepts(mapCodec.fromBoxed(boxed))).isTrue();
+    assertThat(codec.accepts(boxed)).isFalse();
+  }
+
+  @SuppressWarnings("unchecked")
+  private AbstractPrimitiveValueMapCodec<String, Object, Object> use(TypeCodec<?> codec) {
+    AbstractPrimitiveValueMapCodec<String, Object, Object> mapCodec =
+        (AbstractPrimitiveValueMapCodec<String, Object, Object>) codec;
+    this.codec = mapCodec;
+    return mapCodec;
+  }
+
+  private static String encoded(String value1, String value2) {
+    return "0x"
+        + "00000002" // number of entries
+        + "00000001" // size of key 1
+        + "61" // contents of key 1 ("a")
+        + value1
+        + "00000001" // size of key 2
+        + "62" // contents of key 2 ("b")
+        + value2;
+  }
+}
@@ -153,6 +153,35 @@ public class DebouncerTest {
     assertThat(results).containsExactly("0,1,2,3,4,5,6,7,8,9");
   }
 
+  @Test
+  public void should_discard_pending_events() {
+    Debouncer<Integer, String> debouncer =
+        new Debouncer<>(
+            adminExecutor, this::coalesce, this::flush, DEFAULT_WINDOW, DEFAULT_MAX_EVENTS);
+    debouncer.receive(1);
+    debouncer.receive(2);
+    debouncer.receive(3);
+
+    debouncer.discard(i -> i == 2);
+    debouncer.flushNow();
+
+    assertThat(results).containsExactly("1,3");
+  }
+
+  @Test
+  public void should_cancel_next_flush_when_all_pending_events_discarded() {
+    Debouncer<Integer, String> debouncer =
+        new Debouncer<>(
+            adminExecutor, this::coalesce, this::flush, DEFAULT_WINDOW, DEFAULT_MAX_EVENTS);
+    debouncer.receive(1);
+
+    debouncer.discard(i -> i == 1);
+
+    verify(scheduledFuture).cancel(true);
+    debouncer.flushNow();
+    assertThat(results).isEmpty();
+  }
+
   @Test
   public void should_cancel_next_flush_when_stopped() {
     Debouncer<Integer, String> debouncer =
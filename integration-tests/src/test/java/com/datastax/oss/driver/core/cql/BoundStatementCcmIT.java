@@ -227,6 +227,23 @@ public class BoundStatementCcmIT {
     }
   }
 
+  @Test
+  public void should_bind_values_with_consumer() {
+    try (CqlSession session = SessionUtils.newSession(ccmRule, sessionRule.keyspace())) {
+      PreparedStatement prepared = session.prepare("INSERT INTO test2 (k, v0) values (?, ?)");
+      BoundStatement boundStatement =
+          prepared.bind(builder -> builder.setString(0, name.getMethodName()).setInt(1, VALUE));
+      assertThat(boundStatement.getInt(1)).isEqualTo(VALUE);
+
+      session.execute(boundStatement);
+      ResultSet rs =
+          session.execute(
+              SimpleStatement.newInstance(
+                  "SELECT v0 FROM test2 WHERE k = ?", name.getMethodName()));
+      assertThat(rs.one().getInt(0)).isEqualTo(VALUE);
+    }
+  }
+
   @Test
   public void should_allow_custom_codecs_when_setting_values_in_bulk() {
     // v0 is an int column, but we'll bind a String to it
@@ -113,6 +113,12 @@ public class MicrometerMetricsIT extends MetricsITBase {
           assertThat(m).isInstanceOf(Gauge.class);
           assertThat(((Gauge) m).value()).isZero();
           break;
+        case NODE_STATE_EVENTS_RECEIVED:
+        case NODE_STATE_EVENTS_APPLIED:
+        case WARM_UP_PREPARED:
+        case WARM_UP_REQUESTS:
+          assertThat(m).isInstanceOf(Counter.class);
+          break;
       }
     }
 
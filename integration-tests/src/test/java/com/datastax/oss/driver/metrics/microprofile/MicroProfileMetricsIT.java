@@ -118,6 +118,12 @@ public class MicroProfileMetricsIT extends MetricsITBase {
           assertThat(m).isInstanceOf(Gauge.class);
           assertThat((Integer) ((Gauge<?>) m).getValue()).isZero();
           break;
+        case NODE_STATE_EVENTS_RECEIVED:
+        case NODE_STATE_EVENTS_APPLIED:
+        case WARM_UP_PREPARED:
+        case WARM_UP_REQUESTS:
+          assertThat(m).isInstanceOf(Counter.class);
+          break;
       }
     }
 
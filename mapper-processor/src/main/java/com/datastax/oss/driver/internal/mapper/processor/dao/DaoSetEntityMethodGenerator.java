@@ -18,6 +18,7 @@
 package com.datastax.oss.driver.internal.mapper.processor.dao;
 
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
 import com.datastax.oss.driver.api.core.data.SettableByName;
 import com.datastax.oss.driver.api.mapper.annotations.SetEntity;
 import com.datastax.oss.driver.api.mapper.entity.saving.NullSavingStrategy;
@@ -131,6 +132,21 @@ public class DaoSetEntityMethodGenerator extends DaoMethodGenerator {
             SetEntity.class, SetEntity::nullSavingStrategy, methodElement, enclosingClass);
 
     // Forward to the base injector in the helper:
+    if (!isVoid && context.getClassUtils().isSame(targetParameterType, BoundStatement.class)) {
+      // Each setter of BoundStatement copies all the values, use a mutable builder instead
+      return Optional.of(
+          GeneratedCodePatterns.override(methodElement, typeParameters)
+              .addStatement(
+                  "return $1L.set($2L, new $3T($4L), $5T.$6L, $7L).build()",
+                  helperFieldName,
+                  entityParameterName,
+                  BoundStatementBuilder.class,
+                  targetParameterName,
+                  NullSavingStrategy.class,
+                  nullSavingStrategy,
+                  lenient)
+              .build());
+    }
     return Optional.of(
         GeneratedCodePatterns.override(methodElement, typeParameters)
             .addStatement(
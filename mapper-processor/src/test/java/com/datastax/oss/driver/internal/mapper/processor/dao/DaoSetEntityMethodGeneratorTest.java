@@ -17,15 +17,22 @@
  */
 package com.datastax.oss.driver.internal.mapper.processor.dao;
 
+import static com.google.testing.compile.CompilationSubject.assertThat;
+
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.data.UdtValue;
+import com.datastax.oss.driver.api.mapper.annotations.Dao;
 import com.datastax.oss.driver.api.mapper.annotations.SetEntity;
+import com.google.testing.compile.Compilation;
+import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.TypeSpec;
 import com.tngtech.java.junit.dataprovider.DataProvider;
 import com.tngtech.java.junit.dataprovider.DataProviderRunner;
 import com.tngtech.java.junit.dataprovider.UseDataProvider;
 import javax.lang.model.element.Modifier;
+import javax.tools.StandardLocation;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
@@ -117,4 +124,61 @@ public class DaoSetEntityMethodGeneratorTest extends DaoMethodGeneratorTest {
             .addParameter(ParameterSpec.builder(BoundStatement.class, "target").build())
             .build());
   }
+
+  @Test
+  public void should_set_bound_statement_through_builder() {
+    Compilation compilation =
+        compileWithMapperProcessor(
+            "test",
+            ENTITY_SPEC,
+            daoSpec(
+                MethodSpec.methodBuilder("set")
+                    .addAnnotation(SetEntity.class)
+                    .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                    .addParameter(ParameterSpec.builder(ENTITY_CLASS_NAME, "entity").build())
+                    .addParameter(ParameterSpec.builder(BoundStatement.class, "target").build())
+                    .returns(BoundStatement.class)
+                    .build()));
+
+    assertThat(compilation).succeededWithoutWarnings();
+    assertThat(compilation)
+        .generatedFile(
+            StandardLocation.SOURCE_OUTPUT, "test", "ProductDaoImpl__MapperGenerated.java")
+        .contentsAsUtf8String()
+        .contains(
+            "return productHelper.set(entity, new BoundStatementBuilder(target), "
+                + "NullSavingStrategy.DO_NOT_SET, false).build();");
+  }
+
+  @Test
+  public void should_set_other_settables_directly() {
+    Compilation compilation =
+        compileWithMapperProcessor(
+            "test",
+            ENTITY_SPEC,
+            daoSpec(
+                MethodSpec.methodBuilder("set")
+                    .addAnnotation(SetEntity.class)
+                    .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                    .addParameter(ParameterSpec.builder(ENTITY_CLASS_NAME, "entity").build())
+                    .addParameter(ParameterSpec.builder(UdtValue.class, "target").build())
+                    .returns(UdtValue.class)
+                    .build()));
+
+    assertThat(compilation).succeededWithoutWarnings();
+    assertThat(compilation)
+        .generatedFile(
+            StandardLocation.SOURCE_OUTPUT, "test", "ProductDaoImpl__MapperGenerated.java")
+        .contentsAsUtf8String()
+        .contains(
+            "return productHelper.set(entity, target, NullSavingStrategy.DO_NOT_SET, false);");
+  }
+
+  private static TypeSpec daoSpec(MethodSpec method) {
+    return TypeSpec.interfaceBuilder(ClassName.get("test", "ProductDao"))
+        .addModifiers(Modifier.PUBLIC)
+        .addAnnotation(Dao.class)
+        .addMethod(method)
+        .build();
+  }
 }